@@ -56,6 +56,7 @@ import io.flutter.plugins.camera.features.resolution.ResolutionFeature;
 import io.flutter.plugins.camera.features.resolution.ResolutionPreset;
 import io.flutter.plugins.camera.features.sensororientation.DeviceOrientationManager;
 import io.flutter.plugins.camera.features.zoomlevel.ZoomLevelFeature;
+import io.flutter.plugins.camera.media.ImageStreamOptions;
 import io.flutter.plugins.camera.media.ImageStreamReader;
 import io.flutter.plugins.camera.media.MediaRecorderBuilder;
 import io.flutter.plugins.camera.types.CameraCaptureProperties;
@@ -68,7 +69,14 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @FunctionalInterface
 interface ErrorCallback {
@@ -126,10 +134,49 @@ class Camera
   /** An additional thread for running tasks that shouldn't block the UI. */
   private HandlerThread backgroundHandlerThread;
 
+  /**
+   * Writes captured pictures to disk, so that slow storage doesn't delay capture callbacks on the
+   * background thread. Bounded so that a burst of pictures applies backpressure instead of queueing
+   * images without limit.
+   */
+  private ExecutorService imageSaverExecutor;
+
+  /** Maximum number of pictures waiting for {@link #imageSaverExecutor}. */
+  private static final int IMAGE_SAVER_QUEUE_CAPACITY = 4;
+
+  /**
+   * Maximum number of pictures held by {@link #pictureImageReader}: one being written, the queue of
+   * {@link #imageSaverExecutor}, and one more so that the camera never waits for a free buffer.
+   */
+  private static final int PICTURE_MAX_IMAGES = IMAGE_SAVER_QUEUE_CAPACITY + 2;
+
+  /** Whether saved pictures are flushed to the storage device before they are reported. */
+  private boolean syncPicturesToDisk;
+
+  /** Receives the paths of the pictures of a burst capture, or null when no burst is running. */
+  @Nullable private volatile EventChannel.EventSink burstCaptureSink;
+
+  /** Number of burst pictures still to take, or a negative value to take pictures until stopped. */
+  private int burstPicturesRemaining;
+
+  /** Number of burst pictures acquired from {@link #pictureImageReader} and not yet closed. */
+  private final AtomicInteger burstPicturesInFlight = new AtomicInteger();
+
+  /** A {@link Handler} for sending burst capture events on the main thread. */
+  private final Handler mainHandler = HandlerFactory.create(Looper.getMainLooper());
+
+  /** A {@link Handler} converting streamed frames, when a dedicated thread is requested. */
+  Handler imageStreamHandler;
+
+  /** A thread converting streamed frames without delaying the camera background thread. */
+  private HandlerThread imageStreamHandlerThread;
+
   CameraDeviceWrapper cameraDevice;
   CameraCaptureSession captureSession;
   private ImageReader pictureImageReader;
   ImageStreamReader imageStreamReader;
+  /** The {@link ImageFormat} requested by Dart for image streaming. */
+  private int imageStreamFormat;
   /** {@link CaptureRequest.Builder} for the camera preview */
   CaptureRequest.Builder previewRequestBuilder;
 
@@ -288,13 +335,14 @@ class Camera
       return;
     }
 
-    // Always capture using JPEG format.
+    // Always capture using JPEG format. Buffers are only allocated when needed, so the queue depth
+    // used for burst captures doesn't cost memory for single pictures.
     pictureImageReader =
         ImageReader.newInstance(
             resolutionFeature.getCaptureSize().getWidth(),
             resolutionFeature.getCaptureSize().getHeight(),
             ImageFormat.JPEG,
-            1);
+            PICTURE_MAX_IMAGES);
 
     // For image streaming, use the provided image format or fall back to YUV420.
     Integer imageFormat = supportedImageFormats.get(imageFormatGroup);
@@ -302,12 +350,8 @@ class Camera
       Log.w(TAG, "The selected imageFormatGroup is not supported by Android. Defaulting to yuv420");
       imageFormat = ImageFormat.YUV_420_888;
     }
-    imageStreamReader =
-        new ImageStreamReader(
-            resolutionFeature.getPreviewSize().getWidth(),
-            resolutionFeature.getPreviewSize().getHeight(),
-            imageFormat,
-            1);
+    imageStreamFormat = imageFormat;
+    imageStreamReader = createImageStreamReader(1);
 
     // Open the camera.
     CameraManager cameraManager = CameraUtils.getCameraManager(activity);
@@ -553,7 +597,8 @@ class Camera
 
   public void takePicture(@NonNull final Result result) {
     // Only take one picture at a time.
-    if (cameraCaptureCallback.getCameraState() != CameraState.STATE_PREVIEW) {
+    if (cameraCaptureCallback.getCameraState() != CameraState.STATE_PREVIEW
+        || burstCaptureSink != null) {
       result.error("captureAlreadyActive", "Picture is currently already being captured", null);
       return;
     }
@@ -694,6 +739,110 @@ class Camera
     backgroundHandler = HandlerFactory.create(backgroundHandlerThread.getLooper());
   }
 
+  /**
+   * Creates the {@link ImageStreamReader} for the preview size and the image format requested by
+   * Dart.
+   *
+   * @param maxImages is how many frames the camera may fill before they are acquired.
+   */
+  private ImageStreamReader createImageStreamReader(int maxImages) {
+    final ResolutionFeature resolutionFeature = cameraFeatures.getResolution();
+    ImageStreamReader reader =
+        new ImageStreamReader(
+            resolutionFeature.getPreviewSize().getWidth(),
+            resolutionFeature.getPreviewSize().getHeight(),
+            imageStreamFormat,
+            maxImages);
+    if (BuildConfig.DEBUG) {
+      reader.setBufferPoolMetricsListener(
+          (hits, misses, bytesAllocatedPerSecond) ->
+              Log.d(
+                  TAG,
+                  "Image stream buffer pool | hits: "
+                      + hits
+                      + ", misses: "
+                      + misses
+                      + ", bytes allocated/s: "
+                      + bytesAllocatedPerSecond));
+      reader.setLatencyListener(
+          cameraProperties.getSensorInfoTimestampSource(),
+          (frames, averageLatencyMicros, maxLatencyMicros) ->
+              Log.d(
+                  TAG,
+                  "Image stream latency | frames: "
+                      + frames
+                      + ", average (us): "
+                      + averageLatencyMicros
+                      + ", max (us): "
+                      + maxLatencyMicros));
+    }
+    return reader;
+  }
+
+  /** Starts the dedicated frame-processing thread and its {@link Handler}. */
+  void startImageStreamThread() {
+    if (imageStreamHandlerThread != null) {
+      return;
+    }
+
+    imageStreamHandlerThread = HandlerThreadFactory.create("CameraImageStream");
+    try {
+      imageStreamHandlerThread.start();
+    } catch (IllegalThreadStateException e) {
+      // Ignore exception in case the thread has already started.
+    }
+    imageStreamHandler = HandlerFactory.create(imageStreamHandlerThread.getLooper());
+  }
+
+  /** Stops the dedicated frame-processing thread and its {@link Handler}. */
+  void stopImageStreamThread() {
+    if (imageStreamHandlerThread != null) {
+      imageStreamHandlerThread.quitSafely();
+    }
+    imageStreamHandlerThread = null;
+    imageStreamHandler = null;
+  }
+
+  /** Returns the {@link Handler} on which streamed frames are converted. */
+  private Handler getImageStreamHandler() {
+    return imageStreamHandler != null ? imageStreamHandler : backgroundHandler;
+  }
+
+  /**
+   * Returns the executor writing captured pictures to disk, creating it if needed.
+   *
+   * <p>When the queue is full, the executor throws a {@link RejectedExecutionException} instead of
+   * writing the picture on the calling thread, so pictures are never written on the camera
+   * background thread. Burst captures stay within the capacity through {@link
+   * #burstPicturesInFlight}.
+   */
+  private ExecutorService getImageSaverExecutor() {
+    if (imageSaverExecutor == null) {
+      imageSaverExecutor =
+          new ThreadPoolExecutor(
+              1,
+              1,
+              0L,
+              TimeUnit.MILLISECONDS,
+              new ArrayBlockingQueue<>(IMAGE_SAVER_QUEUE_CAPACITY),
+              runnable -> new Thread(runnable, "CameraImageSaver"),
+              new ThreadPoolExecutor.AbortPolicy());
+    }
+    return imageSaverExecutor;
+  }
+
+  /**
+   * Sets whether saved pictures are flushed to the storage device before their path is reported.
+   *
+   * <p>Flushing makes the picture survive a power loss right after capture, at the cost of capture
+   * latency depending on the speed of the storage device.
+   *
+   * @param syncPicturesToDisk whether to flush saved pictures to the storage device.
+   */
+  public void setSyncPicturesToDisk(boolean syncPicturesToDisk) {
+    this.syncPicturesToDisk = syncPicturesToDisk;
+  }
+
   /** Stops the background thread and its {@link Handler}. */
   public void stopBackgroundThread() {
     if (backgroundHandlerThread != null) {
@@ -1133,9 +1282,34 @@ class Camera
 
   public void startPreviewWithImageStream(EventChannel imageStreamChannel)
       throws CameraAccessException {
+    startPreviewWithImageStream(imageStreamChannel, ImageStreamOptions.DEFAULT);
+  }
+
+  public void startPreviewWithImageStream(
+      EventChannel imageStreamChannel, @NonNull ImageStreamOptions imageStreamOptions)
+      throws CameraAccessException {
+    ImageStreamReader previousImageStreamReader = null;
+    if (imageStreamReader != null) {
+      int maxImages = imageStreamOptions.getMaxImages();
+      if (maxImages > 0 && maxImages != imageStreamReader.getMaxImages()) {
+        // The ring depth of an ImageReader is fixed, so a new reader is needed.
+        previousImageStreamReader = imageStreamReader;
+        imageStreamReader = createImageStreamReader(maxImages);
+      }
+      imageStreamReader.setOptions(imageStreamOptions);
+    }
+    if (imageStreamOptions.isDedicatedProcessingThread()) {
+      startImageStreamThread();
+    } else {
+      stopImageStreamThread();
+    }
     setStreamHandler(imageStreamChannel);
 
     startCapture(false, true);
+    if (previousImageStreamReader != null) {
+      // The new capture session no longer targets the previous reader.
+      previousImageStreamReader.close();
+    }
     Log.i(TAG, "startPreviewWithImageStream");
   }
 
@@ -1147,30 +1321,195 @@ class Camera
   public void onImageAvailable(ImageReader reader) {
     Log.i(TAG, "onImageAvailable");
 
-    // Use acquireNextImage since image reader is only for one image.
+    // Use acquireNextImage since only one picture is taken at a time outside of burst captures.
     Image image = reader.acquireNextImage();
     if (image == null) {
       return;
     }
 
-    backgroundHandler.post(
-        new ImageSaver(
-            image,
-            captureFile,
-            new ImageSaver.Callback() {
-              @Override
-              public void onComplete(String absolutePath) {
-                dartMessenger.finish(flutterResult, absolutePath);
-              }
-
-              @Override
-              public void onError(String errorCode, String errorMessage) {
-                dartMessenger.error(flutterResult, errorCode, errorMessage, null);
-              }
-            }));
+    try {
+      getImageSaverExecutor()
+          .execute(
+              new ImageSaver(
+                  image,
+                  captureFile,
+                  new ImageSaver.Callback() {
+                    @Override
+                    public void onComplete(String absolutePath) {
+                      dartMessenger.finish(flutterResult, absolutePath);
+                    }
+
+                    @Override
+                    public void onError(String errorCode, String errorMessage) {
+                      dartMessenger.error(flutterResult, errorCode, errorMessage, null);
+                    }
+                  },
+                  syncPicturesToDisk));
+    } catch (RejectedExecutionException e) {
+      // All picture buffers wait to be written, e.g. after a burst capture.
+      image.close();
+      dartMessenger.error(
+          flutterResult, "IOError", "Too many pictures are waiting to be saved", null);
+    }
     cameraCaptureCallback.setCameraState(CameraState.STATE_PREVIEW);
   }
 
+  /**
+   * Starts taking pictures continuously, skipping the focus and precapture sequence of {@link
+   * #takePicture(Result)}.
+   *
+   * <p>The picture reader is added to the repeating preview request once Dart listens to the burst
+   * capture channel, so pictures are taken at the preview frame rate while the preview keeps
+   * running. Pictures arriving while all picture buffers wait to be written are skipped, so slow
+   * storage lowers the burst rate instead of stalling the camera.
+   *
+   * @param burstCaptureChannel is the channel the paths of the pictures are sent to.
+   * @param maxPictures is the number of pictures to take, or a negative value for no limit.
+   * @param result is completed once the burst capture is set up.
+   */
+  public void startBurstCapture(
+      @NonNull EventChannel burstCaptureChannel, int maxPictures, @NonNull Result result) {
+    if (cameraCaptureCallback.getCameraState() != CameraState.STATE_PREVIEW
+        || burstCaptureSink != null) {
+      result.error("captureAlreadyActive", "Picture is currently already being captured", null);
+      return;
+    }
+
+    burstCaptureChannel.setStreamHandler(
+        new EventChannel.StreamHandler() {
+          @Override
+          public void onListen(Object o, EventChannel.EventSink sink) {
+            startBurstCaptureRequests(sink, maxPictures);
+          }
+
+          @Override
+          public void onCancel(Object o) {
+            stopBurstCapture();
+          }
+        });
+    result.success(null);
+  }
+
+  private void startBurstCaptureRequests(@NonNull EventChannel.EventSink sink, int maxPictures) {
+    if (captureSession == null || burstCaptureSink != null) {
+      sink.error("captureAlreadyActive", "Burst capture could not be started", null);
+      return;
+    }
+    burstPicturesRemaining = maxPictures;
+    burstPicturesInFlight.set(0);
+    burstCaptureSink = sink;
+    pictureImageReader.setOnImageAvailableListener(this::onBurstImageAvailable, backgroundHandler);
+
+    final PlatformChannel.DeviceOrientation lockedOrientation =
+        cameraFeatures.getSensorOrientation().getLockedCaptureOrientation();
+    previewRequestBuilder.set(
+        CaptureRequest.JPEG_ORIENTATION,
+        lockedOrientation == null
+            ? getDeviceOrientationManager().getPhotoOrientation()
+            : getDeviceOrientationManager().getPhotoOrientation(lockedOrientation));
+    previewRequestBuilder.addTarget(pictureImageReader.getSurface());
+    refreshPreviewCaptureSession(null, (code, message) -> sink.error(code, message, null));
+  }
+
+  /** Stops a running burst capture. Pictures already taken are still written and reported. */
+  public void stopBurstCapture() {
+    if (burstCaptureSink == null) {
+      return;
+    }
+    burstCaptureSink = null;
+    previewRequestBuilder.removeTarget(pictureImageReader.getSurface());
+    refreshPreviewCaptureSession(
+        null, (code, message) -> dartMessenger.sendCameraErrorEvent(message));
+  }
+
+  /** Saves a picture of a burst capture. Runs on the background thread. */
+  @VisibleForTesting
+  void onBurstImageAvailable(@NonNull ImageReader reader) {
+    Image image = reader.acquireNextImage();
+    if (image == null) {
+      return;
+    }
+    final EventChannel.EventSink sink = burstCaptureSink;
+    if (sink == null
+        || burstPicturesRemaining == 0
+        || burstPicturesInFlight.get() >= PICTURE_MAX_IMAGES - 1) {
+      // Skip the picture when no burst is running, it is complete, or all picture buffers but the
+      // one kept free for the camera wait to be written.
+      image.close();
+      return;
+    }
+
+    final File file;
+    try {
+      file = File.createTempFile("CAP", ".jpg", applicationContext.getCacheDir());
+    } catch (IOException | SecurityException e) {
+      image.close();
+      mainHandler.post(() -> sink.error("cannotCreateFile", e.getMessage(), null));
+      return;
+    }
+    if (burstPicturesRemaining > 0) {
+      burstPicturesRemaining--;
+    }
+    final boolean lastPicture = burstPicturesRemaining == 0;
+    if (lastPicture) {
+      mainHandler.post(this::stopBurstCapture);
+    }
+
+    // ImageSaver may report an error after reporting completion when the file fails to close, so
+    // only the first report of each picture is sent.
+    final AtomicBoolean reported = new AtomicBoolean();
+    final ImageSaver.Callback callback =
+        new ImageSaver.Callback() {
+          @Override
+          public void onComplete(@NonNull String absolutePath) {
+            if (!reported.compareAndSet(false, true)) {
+              return;
+            }
+            mainHandler.post(
+                () -> {
+                  sink.success(absolutePath);
+                  if (lastPicture) {
+                    sink.endOfStream();
+                  }
+                });
+          }
+
+          @Override
+          public void onError(@NonNull String errorCode, @NonNull String errorMessage) {
+            if (!reported.compareAndSet(false, true)) {
+              return;
+            }
+            mainHandler.post(
+                () -> {
+                  sink.error(errorCode, errorMessage, null);
+                  if (lastPicture) {
+                    sink.endOfStream();
+                  }
+                });
+          }
+        };
+
+    final ImageSaver imageSaver = new ImageSaver(image, file, callback, syncPicturesToDisk);
+    burstPicturesInFlight.incrementAndGet();
+    try {
+      getImageSaverExecutor()
+          .execute(
+              () -> {
+                try {
+                  imageSaver.run();
+                } finally {
+                  // The picture buffer is free once ImageSaver has closed the image.
+                  burstPicturesInFlight.decrementAndGet();
+                }
+              });
+    } catch (RejectedExecutionException e) {
+      // A single picture taken during the burst holds the last free slot of the queue.
+      image.close();
+      burstPicturesInFlight.decrementAndGet();
+      callback.onError("IOError", "Too many pictures are waiting to be saved");
+    }
+  }
+
   @VisibleForTesting
   void prepareRecording(@NonNull Result result) {
     final File outputDir = applicationContext.getCacheDir();
@@ -1207,7 +1546,7 @@ class Camera
               return;
             }
 
-            imageStreamReader.removeListener(backgroundHandler);
+            imageStreamReader.removeListener(getImageStreamHandler());
           }
         });
   }
@@ -1217,7 +1556,8 @@ class Camera
       return;
     }
 
-    imageStreamReader.subscribeListener(this.captureProps, imageStreamSink, backgroundHandler);
+    imageStreamReader.subscribeListener(
+        this.captureProps, imageStreamSink, getImageStreamHandler());
   }
 
   void closeCaptureSession() {
@@ -1233,6 +1573,7 @@ class Camera
     Log.i(TAG, "close");
 
     stopAndReleaseCamera();
+    burstCaptureSink = null;
 
     if (pictureImageReader != null) {
       pictureImageReader.close();
@@ -1248,7 +1589,13 @@ class Camera
       mediaRecorder = null;
     }
 
+    stopImageStreamThread();
     stopBackgroundThread();
+    if (imageSaverExecutor != null) {
+      // Pending pictures are still written, but no new ones are accepted.
+      imageSaverExecutor.shutdown();
+      imageSaverExecutor = null;
+    }
   }
 
   private void stopAndReleaseCamera() {
@@ -1285,6 +1632,18 @@ class Camera
             resolutionFeature.getCaptureSize().getWidth(),
             resolutionFeature.getCaptureSize().getHeight(),
             videoRendererUncaughtExceptionHandler);
+    if (BuildConfig.DEBUG) {
+      videoRenderer.setFrameTimingListener(
+          (frames, averageRenderMicros, maxRenderMicros) ->
+              Log.d(
+                  TAG,
+                  "Video renderer render time | frames: "
+                      + frames
+                      + ", average (us): "
+                      + averageRenderMicros
+                      + ", max (us): "
+                      + maxRenderMicros));
+    }
   }
 
   public void setDescriptionWhileRecording(
@@ -0,0 +1,162 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import android.hardware.camera2.CameraAccessException;
+import android.hardware.camera2.CameraCharacteristics;
+import android.hardware.camera2.CameraManager;
+import android.hardware.camera2.CameraMetadata;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A process-wide cache of the camera ID list and the {@link CameraCharacteristics} of each camera.
+ *
+ * <p>Querying the camera service is slow, especially on devices with many lenses, while the
+ * characteristics of a camera never change while it is connected. Entries are only invalidated
+ * through a {@link CameraManager.AvailabilityCallback} when an external camera is connected or
+ * disconnected. Built-in cameras also become unavailable whenever they are opened, so their entries
+ * are kept.
+ */
+final class CameraCharacteristicsCache {
+  private static final String TAG = "CameraCharacteristicsCache";
+
+  private static final CameraCharacteristicsCache instance = new CameraCharacteristicsCache();
+
+  private final Map<String, CameraCharacteristics> characteristicsByName =
+      new ConcurrentHashMap<>();
+  @Nullable private volatile String[] cameraIdList;
+  private boolean availabilityCallbackRegistered;
+
+  private final CameraManager.AvailabilityCallback availabilityCallback =
+      new CameraManager.AvailabilityCallback() {
+        @Override
+        public void onCameraAvailable(@NonNull String cameraName) {
+          String[] cameraNames = cameraIdList;
+          if (cameraNames != null && !Arrays.asList(cameraNames).contains(cameraName)) {
+            // A camera was connected.
+            invalidate(cameraName);
+          }
+        }
+
+        @Override
+        public void onCameraUnavailable(@NonNull String cameraName) {
+          CameraCharacteristics characteristics = characteristicsByName.get(cameraName);
+          Integer lensFacing =
+              characteristics == null
+                  ? null
+                  : characteristics.get(CameraCharacteristics.LENS_FACING);
+          if (lensFacing != null && lensFacing == CameraMetadata.LENS_FACING_EXTERNAL) {
+            // The camera may have been disconnected.
+            invalidate(cameraName);
+          }
+        }
+      };
+
+  private CameraCharacteristicsCache() {}
+
+  /** Returns the process-wide cache. */
+  @NonNull
+  static CameraCharacteristicsCache getInstance() {
+    return instance;
+  }
+
+  /**
+   * Returns the IDs of the cameras of the device, querying the camera service on first use.
+   *
+   * @param cameraManager is used to query the camera service.
+   * @return the IDs of the cameras, in the order reported by {@link CameraManager}.
+   * @throws CameraAccessException when the camera service could not be accessed.
+   */
+  @NonNull
+  String[] getCameraIdList(@NonNull CameraManager cameraManager) throws CameraAccessException {
+    registerAvailabilityCallback(cameraManager);
+    String[] cameraNames = cameraIdList;
+    if (cameraNames == null) {
+      cameraNames = cameraManager.getCameraIdList();
+      cameraIdList = cameraNames;
+    }
+    return cameraNames.clone();
+  }
+
+  /**
+   * Returns the characteristics of a camera, querying the camera service on first use.
+   *
+   * @param cameraManager is used to query the camera service.
+   * @param cameraName is the ID of the camera.
+   * @return the characteristics of the camera.
+   * @throws CameraAccessException when the camera service could not be accessed.
+   */
+  @NonNull
+  CameraCharacteristics getCameraCharacteristics(
+      @NonNull CameraManager cameraManager, @NonNull String cameraName)
+      throws CameraAccessException {
+    registerAvailabilityCallback(cameraManager);
+    CameraCharacteristics characteristics = characteristicsByName.get(cameraName);
+    if (characteristics == null) {
+      characteristics = cameraManager.getCameraCharacteristics(cameraName);
+      characteristicsByName.put(cameraName, characteristics);
+    }
+    return characteristics;
+  }
+
+  /**
+   * Fills the cache on a background thread, so that enumerating and creating cameras doesn't wait
+   * for the camera service later on.
+   *
+   * @param cameraManager is used to query the camera service.
+   */
+  void prewarm(@NonNull CameraManager cameraManager) {
+    new Thread(
+            () -> {
+              try {
+                for (String cameraName : getCameraIdList(cameraManager)) {
+                  getCameraCharacteristics(cameraManager, cameraName);
+                }
+              } catch (CameraAccessException | RuntimeException e) {
+                // The cache is filled on demand instead.
+                Log.w(TAG, "Failed to prewarm camera characteristics: " + e.getMessage());
+              }
+            },
+            "CameraCharacteristicsPrewarm")
+        .start();
+  }
+
+  /** Drops the cached ID list and the characteristics of a connected or disconnected camera. */
+  private void invalidate(@NonNull String cameraName) {
+    cameraIdList = null;
+    characteristicsByName.remove(cameraName);
+  }
+
+  private synchronized void registerAvailabilityCallback(@NonNull CameraManager cameraManager) {
+    if (availabilityCallbackRegistered) {
+      return;
+    }
+    cameraManager.registerAvailabilityCallback(
+        availabilityCallback, new Handler(Looper.getMainLooper()));
+    availabilityCallbackRegistered = true;
+  }
+
+  /** Drops all cached entries, so that a test doesn't see the values of a previous one. */
+  @VisibleForTesting
+  synchronized void clear() {
+    cameraIdList = null;
+    characteristicsByName.clear();
+    availabilityCallbackRegistered = false;
+  }
+
+  @VisibleForTesting
+  @NonNull
+  CameraManager.AvailabilityCallback getAvailabilityCallback() {
+    return availabilityCallback;
+  }
+}
@@ -5,6 +5,10 @@
 package io.flutter.plugins.camera;
 
 import android.app.Activity;
+import android.content.pm.ApplicationInfo;
+import android.content.pm.PackageManager;
+import android.os.Bundle;
+import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import io.flutter.embedding.engine.plugins.FlutterPlugin;
@@ -26,6 +30,14 @@ import io.flutter.view.TextureRegistry;
 public final class CameraPlugin implements FlutterPlugin, ActivityAware {
 
   private static final String TAG = "CameraPlugin";
+
+  /**
+   * Name of the application meta-data flag that fills the camera characteristics cache on a
+   * background thread when the plugin is attached, so that the first {@code availableCameras} and
+   * {@code create} calls don't wait for the camera service.
+   */
+  static final String PREWARM_CAMERA_CHARACTERISTICS_KEY =
+      "io.flutter.plugins.camera.PrewarmCameraCharacteristics";
   private @Nullable FlutterPluginBinding flutterPluginBinding;
   private @Nullable MethodCallHandlerImpl methodCallHandler;
 
@@ -100,5 +112,23 @@ public final class CameraPlugin implements FlutterPlugin, ActivityAware {
     methodCallHandler =
         new MethodCallHandlerImpl(
             activity, messenger, new CameraPermissions(), permissionsRegistry, textureRegistry);
+    if (shouldPrewarmCameraCharacteristics(activity)) {
+      CameraCharacteristicsCache.getInstance().prewarm(CameraUtils.getCameraManager(activity));
+    }
+  }
+
+  @SuppressWarnings("deprecation")
+  private static boolean shouldPrewarmCameraCharacteristics(Activity activity) {
+    try {
+      ApplicationInfo applicationInfo =
+          activity
+              .getPackageManager()
+              .getApplicationInfo(activity.getPackageName(), PackageManager.GET_META_DATA);
+      Bundle metaData = applicationInfo.metaData;
+      return metaData != null && metaData.getBoolean(PREWARM_CAMERA_CHARACTERISTICS_KEY, false);
+    } catch (PackageManager.NameNotFoundException e) {
+      Log.w(TAG, "Could not read the application meta-data: " + e.getMessage());
+      return false;
+    }
   }
 }
@@ -240,6 +240,17 @@ public interface CameraProperties {
    */
   int getSensorOrientation();
 
+  /**
+   * Returns the time base of the sensor timestamps of the frames produced by the camera device.
+   *
+   * <p>By default maps to the @see
+   * android.hardware.camera2.CameraCharacteristics#SENSOR_INFO_TIMESTAMP_SOURCE key.
+   *
+   * @return int Time base of the sensor timestamps, either SENSOR_INFO_TIMESTAMP_SOURCE_UNKNOWN or
+   *     SENSOR_INFO_TIMESTAMP_SOURCE_REALTIME.
+   */
+  int getSensorInfoTimestampSource();
+
   /**
    * Returns a level which generally classifies the overall set of the camera device functionality.
    *
@@ -27,7 +27,9 @@ public class CameraPropertiesImpl implements CameraProperties {
   public CameraPropertiesImpl(@NonNull String cameraName, @NonNull CameraManager cameraManager)
       throws CameraAccessException {
     this.cameraName = cameraName;
-    this.cameraCharacteristics = cameraManager.getCameraCharacteristics(cameraName);
+    this.cameraCharacteristics =
+        CameraCharacteristicsCache.getInstance()
+            .getCameraCharacteristics(cameraManager, cameraName);
   }
 
   @NonNull
@@ -153,6 +155,15 @@ public class CameraPropertiesImpl implements CameraProperties {
     return cameraCharacteristics.get(CameraCharacteristics.SENSOR_ORIENTATION);
   }
 
+  @Override
+  public int getSensorInfoTimestampSource() {
+    Integer timestampSource =
+        cameraCharacteristics.get(CameraCharacteristics.SENSOR_INFO_TIMESTAMP_SOURCE);
+    return timestampSource == null
+        ? CameraCharacteristics.SENSOR_INFO_TIMESTAMP_SOURCE_UNKNOWN
+        : timestampSource;
+  }
+
   @Override
   public int getHardwareLevel() {
     return cameraCharacteristics.get(CameraCharacteristics.INFO_SUPPORTED_HARDWARE_LEVEL);
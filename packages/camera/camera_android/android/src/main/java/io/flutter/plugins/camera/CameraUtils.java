@@ -88,6 +88,9 @@ public final class CameraUtils {
   /**
    * Gets all the available cameras for the device.
    *
+   * <p>The camera list and characteristics come from the {@link CameraCharacteristicsCache}, so
+   * only the first call queries the camera service.
+   *
    * @param activity The current Android activity.
    * @return A map of all the available cameras, with their name as their key.
    * @throws CameraAccessException when the camera could not be accessed.
@@ -96,7 +99,8 @@ public final class CameraUtils {
   public static List<Map<String, Object>> getAvailableCameras(@NonNull Activity activity)
       throws CameraAccessException {
     CameraManager cameraManager = (CameraManager) activity.getSystemService(Context.CAMERA_SERVICE);
-    String[] cameraNames = cameraManager.getCameraIdList();
+    CameraCharacteristicsCache cache = CameraCharacteristicsCache.getInstance();
+    String[] cameraNames = cache.getCameraIdList(cameraManager);
     List<Map<String, Object>> cameras = new ArrayList<>();
     for (String cameraName : cameraNames) {
       int cameraId;
@@ -110,7 +114,8 @@ public final class CameraUtils {
       }
 
       HashMap<String, Object> details = new HashMap<>();
-      CameraCharacteristics characteristics = cameraManager.getCameraCharacteristics(cameraName);
+      CameraCharacteristics characteristics =
+          cache.getCameraCharacteristics(cameraManager, cameraName);
       details.put("name", cameraName);
       int sensorOrientation = characteristics.get(CameraCharacteristics.SENSOR_ORIENTATION);
       details.put("sensorOrientation", sensorOrientation);
@@ -12,6 +12,7 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
 /** Saves a JPEG {@link Image} into the specified {@link File}. */
 public class ImageSaver implements Runnable {
@@ -25,6 +26,9 @@ public class ImageSaver implements Runnable {
   /** Used to report the status of the save action. */
   private final Callback callback;
 
+  /** Whether the file is flushed to the storage device before completion is reported. */
+  private final boolean syncToDisk;
+
   /**
    * Creates an instance of the ImageSaver runnable
    *
@@ -33,20 +37,40 @@ public class ImageSaver implements Runnable {
    * @param callback - The callback that is run on completion, or when an error is encountered.
    */
   ImageSaver(@NonNull Image image, @NonNull File file, @NonNull Callback callback) {
+    this(image, file, callback, false);
+  }
+
+  /**
+   * Creates an instance of the ImageSaver runnable
+   *
+   * @param image - The image to save
+   * @param file - The file to save the image to
+   * @param callback - The callback that is run on completion, or when an error is encountered.
+   * @param syncToDisk - Whether to wait for the file to reach the storage device before reporting
+   *     completion. Without it, the file is readable right away but may be lost on power failure.
+   */
+  ImageSaver(
+      @NonNull Image image, @NonNull File file, @NonNull Callback callback, boolean syncToDisk) {
     this.image = image;
     this.file = file;
     this.callback = callback;
+    this.syncToDisk = syncToDisk;
   }
 
   @Override
   public void run() {
+    // The JPEG plane is a direct buffer, so the channel writes it without a copy on the Java heap.
     ByteBuffer buffer = image.getPlanes()[0].getBuffer();
-    byte[] bytes = new byte[buffer.remaining()];
-    buffer.get(bytes);
     FileOutputStream output = null;
     try {
       output = FileOutputStreamFactory.create(file);
-      output.write(bytes);
+      FileChannel channel = output.getChannel();
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      if (syncToDisk) {
+        channel.force(false);
+      }
 
       callback.onComplete(file.getAbsolutePath());
 
@@ -23,6 +23,8 @@ import io.flutter.plugins.camera.features.autofocus.FocusMode;
 import io.flutter.plugins.camera.features.exposurelock.ExposureMode;
 import io.flutter.plugins.camera.features.flash.FlashMode;
 import io.flutter.plugins.camera.features.resolution.ResolutionPreset;
+import io.flutter.plugins.camera.media.ImageStreamBackpressure;
+import io.flutter.plugins.camera.media.ImageStreamOptions;
 import io.flutter.view.TextureRegistry;
 import java.util.HashMap;
 import java.util.Map;
@@ -36,6 +38,7 @@ final class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
   private final TextureRegistry textureRegistry;
   private final MethodChannel methodChannel;
   private final EventChannel imageStreamChannel;
+  private final EventChannel burstCaptureChannel;
   private @Nullable Camera camera;
 
   MethodCallHandlerImpl(
@@ -53,6 +56,8 @@ final class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
     methodChannel = new MethodChannel(messenger, "plugins.flutter.io/camera_android");
     imageStreamChannel =
         new EventChannel(messenger, "plugins.flutter.io/camera_android/imageStream");
+    burstCaptureChannel =
+        new EventChannel(messenger, "plugins.flutter.io/camera_android/burstCapture");
     methodChannel.setMethodCallHandler(this);
   }
 
@@ -111,6 +116,24 @@ final class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
           camera.takePicture(result);
           break;
         }
+      case "startBurstCapture":
+        {
+          camera.startBurstCapture(
+              burstCaptureChannel, intArgument(call, "maxPictures", -1), result);
+          break;
+        }
+      case "stopBurstCapture":
+        {
+          camera.stopBurstCapture();
+          result.success(null);
+          break;
+        }
+      case "setSyncPicturesToDisk":
+        {
+          camera.setSyncPicturesToDisk(Objects.equals(call.argument("sync"), true));
+          result.success(null);
+          break;
+        }
       case "prepareForVideoRecording":
         {
           // This optimization is not required for Android.
@@ -254,8 +277,12 @@ final class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
         }
       case "startImageStream":
         {
+          ImageStreamOptions imageStreamOptions = parseImageStreamOptions(call, result);
+          if (imageStreamOptions == null) {
+            return;
+          }
           try {
-            camera.startPreviewWithImageStream(imageStreamChannel);
+            camera.startPreviewWithImageStream(imageStreamChannel, imageStreamOptions);
             result.success(null);
           } catch (Exception e) {
             handleException(e, result);
@@ -413,6 +440,50 @@ final class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
     result.success(reply);
   }
 
+  /**
+   * Parses the image stream options of a startImageStream call.
+   *
+   * @return the parsed options, or null if an error was sent to the result.
+   */
+  @Nullable
+  private ImageStreamOptions parseImageStreamOptions(MethodCall call, Result result) {
+    String backpressureStr = call.argument("backpressure");
+    ImageStreamBackpressure backpressure =
+        backpressureStr == null
+            ? ImageStreamBackpressure.none
+            : ImageStreamBackpressure.getValueForString(backpressureStr);
+    if (backpressure == null) {
+      result.error(
+          "startImageStreamFailed", "Unknown backpressure strategy " + backpressureStr, null);
+      return null;
+    }
+    try {
+      return new ImageStreamOptions.Builder()
+          .setBackpressure(backpressure)
+          .setMaxFramesInFlight(intArgument(call, "maxFramesInFlight", 1))
+          .setCropRect(
+              intArgument(call, "cropLeft", 0),
+              intArgument(call, "cropTop", 0),
+              intArgument(call, "cropWidth", 0),
+              intArgument(call, "cropHeight", 0))
+          .setTargetSize(intArgument(call, "targetWidth", 0), intArgument(call, "targetHeight", 0))
+          .setStride(intArgument(call, "stride", 0))
+          .setBinaryFrames(Objects.equals(call.argument("binaryFrames"), true))
+          .setMaxImages(intArgument(call, "maxImages", 0))
+          .setDedicatedProcessingThread(
+              Objects.equals(call.argument("dedicatedProcessingThread"), true))
+          .build();
+    } catch (IllegalArgumentException e) {
+      result.error("startImageStreamFailed", e.getMessage(), null);
+      return null;
+    }
+  }
+
+  private static int intArgument(MethodCall call, String key, int defaultValue) {
+    Integer value = call.argument(key);
+    return value == null ? defaultValue : value;
+  }
+
   // We move catching CameraAccessException out of onMethodCall because it causes a crash
   // on plugin registration for sdks incompatible with Camera2 (< 21). We want this plugin to
   // to be able to compile with <21 sdks for apps that want the camera and support earlier version.
@@ -19,9 +19,11 @@ import android.opengl.GLUtils;
 import android.opengl.Matrix;
 import android.os.Handler;
 import android.os.HandlerThread;
+import android.os.SystemClock;
 import android.util.Log;
 import android.view.Surface;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 
@@ -38,8 +40,26 @@ import java.nio.ByteOrder;
  * <p>This leaves the solution to be routing the recording through a surface texture and performing
  * a matrix transformation on it manually to get the correct orientation. This only happens when
  * setDescription is called mid video recording.
+ *
+ * <p>All OpenGL work happens on a single {@link HandlerThread} that also receives the frame
+ * available callbacks of the input surface texture, so frames are drawn as soon as they arrive. The
+ * EGL context, shaders and buffers are created once and kept until {@link #close()}, so switching
+ * cameras again only changes the rotation. Drawing a frame doesn't allocate.
  */
 public class VideoRenderer {
+  /** Receives the render time statistics, at most once per {@link #TIMING_INTERVAL_MS}. */
+  public interface FrameTimingListener {
+    /**
+     * Called with the render time statistics of the last reporting interval.
+     *
+     * @param frames number of frames drawn in the interval.
+     * @param averageRenderMicros average time to draw and swap a frame.
+     * @param maxRenderMicros longest time to draw and swap a frame.
+     */
+    void onFrameTimings(long frames, long averageRenderMicros, long maxRenderMicros);
+  }
+
+  static final long TIMING_INTERVAL_MS = 1000;
 
   static String TAG = "VideoRenderer";
 
@@ -90,22 +110,29 @@ public class VideoRenderer {
   EGLDisplay display;
   EGLContext context;
   EGLSurface surface;
-  private Thread thread;
+  private final HandlerThread renderThread;
+  private final Handler renderHandler;
   private final Surface outputSurface;
   SurfaceTexture inputSurfaceTexture;
   private Surface inputSurface;
 
-  private HandlerThread surfaceTextureFrameAvailableHandler;
-  final Object surfaceTextureAvailableFrameLock = new Object();
-  Boolean surfaceTextureFrameAvailable = false;
-
   final int recordingWidth;
   final int recordingHeight;
-  private int rotation = 0;
+  private volatile int rotation = 0;
 
-  private final Object lock = new Object();
+  /** The rotation {@link #mvpMatrix} was computed for, only accessed on the render thread. */
+  private int mvpRotation = -1;
+
+  private final float[] mvpMatrix = new float[16];
+  private final float[] surfaceTextureMatrix = new float[16];
+
+  @Nullable private volatile FrameTimingListener frameTimingListener;
+  private long timedFrames;
+  private long totalRenderNanos;
+  private long maxRenderNanos;
+  private long timingIntervalStartMs;
 
-  private final Thread.UncaughtExceptionHandler uncaughtExceptionHandler;
+  private final Object lock = new Object();
 
   /** Gets surface for input. Blocks until surface is ready. */
   @NonNull
@@ -126,28 +153,53 @@ public class VideoRenderer {
     this.outputSurface = outputSurface;
     this.recordingHeight = recordingHeight;
     this.recordingWidth = recordingWidth;
-    this.uncaughtExceptionHandler = uncaughtExceptionHandler;
-    startOpenGL();
+
+    Log.d(TAG, "Starting OpenGL Thread");
+    renderThread = new HandlerThread("VideoRenderer");
+    renderThread.setUncaughtExceptionHandler(uncaughtExceptionHandler);
+    renderThread.start();
+    renderHandler = new Handler(renderThread.getLooper());
+    renderHandler.post(this::configureOpenGL);
     Log.d(TAG, "VideoRenderer setup complete");
   }
 
+  /**
+   * Sets the listener receiving the render time statistics, or null to stop reporting.
+   *
+   * @param frameTimingListener is the listener to report to.
+   */
+  public void setFrameTimingListener(@Nullable FrameTimingListener frameTimingListener) {
+    this.frameTimingListener = frameTimingListener;
+  }
+
   /** Stop rendering and cleanup resources. */
   public void close() {
-    thread.interrupt();
-    surfaceTextureFrameAvailableHandler.quitSafely();
-    cleanupOpenGL();
-    inputSurfaceTexture.release();
+    // OpenGL resources must be released on the thread their context is current on.
+    renderHandler.post(
+        () -> {
+          cleanupOpenGL();
+          if (inputSurfaceTexture != null) {
+            inputSurfaceTexture.release();
+          }
+        });
+    renderThread.quitSafely();
   }
 
   private void cleanupOpenGL() {
+    if (display == null) {
+      return;
+    }
     GLES20.glDeleteBuffers(2, bufferHandles, 0);
     GLES20.glDeleteTextures(1, textureHandles, 0);
-    EGL14.eglDestroyContext(display, context);
-    EGL14.eglDestroySurface(display, surface);
     GLES20.glDeleteProgram(program);
+    EGL14.eglMakeCurrent(
+        display, EGL14.EGL_NO_SURFACE, EGL14.EGL_NO_SURFACE, EGL14.EGL_NO_CONTEXT);
+    EGL14.eglDestroySurface(display, surface);
+    EGL14.eglDestroyContext(display, context);
+    EGL14.eglReleaseThread();
   }
 
-  /** Configures openGL. Must be called in same thread as draw is called. */
+  /** Configures openGL. Must be called on the render thread. */
   void configureOpenGL() {
     synchronized (lock) {
       display = EGL14.eglGetDisplay(EGL14.EGL_DEFAULT_DISPLAY);
@@ -259,75 +311,67 @@ public class VideoRenderer {
 
       inputSurfaceTexture = new SurfaceTexture(getTexId());
       inputSurfaceTexture.setDefaultBufferSize(recordingWidth, recordingHeight);
-      surfaceTextureFrameAvailableHandler = new HandlerThread("FrameHandlerThread");
-      surfaceTextureFrameAvailableHandler.start();
       inputSurface = new Surface(inputSurfaceTexture);
 
+      // Frames are drawn on the render thread as soon as they are available. If several frames
+      // arrive while one is drawn, updateTexImage() latches the latest one.
       inputSurfaceTexture.setOnFrameAvailableListener(
-          new SurfaceTexture.OnFrameAvailableListener() {
-            @Override
-            public void onFrameAvailable(SurfaceTexture surfaceTexture) {
-              synchronized (surfaceTextureAvailableFrameLock) {
-                if (surfaceTextureFrameAvailable)
-                  Log.w(TAG, "Frame available before processing other frames. dropping frames");
-                surfaceTextureFrameAvailable = true;
-                surfaceTextureAvailableFrameLock.notifyAll();
-              }
-            }
-          },
-          new Handler(surfaceTextureFrameAvailableHandler.getLooper()));
+          surfaceTexture -> renderFrame(), renderHandler);
       lock.notifyAll();
     }
   }
 
-  /** Starts and configures Video Renderer. */
-  private void startOpenGL() {
-    Log.d(TAG, "Starting OpenGL Thread");
-    thread =
-        new Thread() {
-          @Override
-          public void run() {
-
-            configureOpenGL();
-
-            try {
-              // Continuously pull frames from input surface texture and use videoRenderer to modify
-              // to correct rotation.
-              while (!Thread.interrupted()) {
-
-                synchronized (surfaceTextureAvailableFrameLock) {
-                  while (!surfaceTextureFrameAvailable) {
-                    surfaceTextureAvailableFrameLock.wait(500);
-                  }
-                  surfaceTextureFrameAvailable = false;
-                }
-
-                inputSurfaceTexture.updateTexImage();
-
-                float[] surfaceTextureMatrix = new float[16];
-                inputSurfaceTexture.getTransformMatrix(surfaceTextureMatrix);
-
-                draw(recordingWidth, recordingHeight, surfaceTextureMatrix);
-              }
-            } catch (InterruptedException e) {
-              Log.d(TAG, "thread interrupted while waiting for frames");
-            }
-          }
-        };
-    thread.setUncaughtExceptionHandler(uncaughtExceptionHandler);
-    thread.start();
+  /** Draws the latest frame of the input surface texture. Runs on the render thread. */
+  private void renderFrame() {
+    long startNanos = SystemClock.elapsedRealtimeNanos();
+
+    inputSurfaceTexture.updateTexImage();
+    inputSurfaceTexture.getTransformMatrix(surfaceTextureMatrix);
+    draw(recordingWidth, recordingHeight, surfaceTextureMatrix);
+
+    recordFrameTiming(SystemClock.elapsedRealtimeNanos() - startNanos);
+  }
+
+  private void recordFrameTiming(long renderNanos) {
+    FrameTimingListener listener = frameTimingListener;
+    if (listener == null) {
+      return;
+    }
+    long now = SystemClock.elapsedRealtime();
+    if (timedFrames == 0) {
+      timingIntervalStartMs = now;
+    }
+    timedFrames++;
+    totalRenderNanos += renderNanos;
+    maxRenderNanos = Math.max(maxRenderNanos, renderNanos);
+    if (now - timingIntervalStartMs >= TIMING_INTERVAL_MS) {
+      listener.onFrameTimings(
+          timedFrames, totalRenderNanos / timedFrames / 1000, maxRenderNanos / 1000);
+      timedFrames = 0;
+      totalRenderNanos = 0;
+      maxRenderNanos = 0;
+    }
   }
 
   public int getTexId() {
     return textureHandles[0];
   }
 
+  /**
+   * Returns the model-view-projection matrix rotating the frame by the current rotation.
+   *
+   * <p>The matrix is only recomputed after {@link #setRotation(int)} changed the rotation, and the
+   * returned array is reused for every frame.
+   */
   @NonNull
   public float[] moveMatrix() {
-    float[] m = new float[16];
-    Matrix.setIdentityM(m, 0);
-    Matrix.rotateM(m, 0, rotation, 0, 0, 1);
-    return m;
+    int currentRotation = rotation;
+    if (currentRotation != mvpRotation) {
+      Matrix.setIdentityM(mvpMatrix, 0);
+      Matrix.rotateM(mvpMatrix, 0, currentRotation, 0, 0, 1);
+      mvpRotation = currentRotation;
+    }
+    return mvpMatrix;
   }
 
   public void setRotation(int rotation) {
@@ -0,0 +1,61 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Strategy applied by the {@link ImageStreamReader} when frames arrive faster than Dart consumes
+ * them.
+ */
+// Mirrors ImageStreamBackpressure in image_stream_options.dart
+public enum ImageStreamBackpressure {
+  /** Every frame is copied and queued for delivery, without any limit. */
+  none("none"),
+  /**
+   * Frames arriving while the previous frame has not been delivered yet are closed without being
+   * copied, so Dart receives the most recent frame once it catches up.
+   */
+  keepLatest("keepLatest"),
+  /**
+   * Up to {@link ImageStreamOptions#getMaxFramesInFlight()} frames are queued for delivery, and the
+   * oldest queued frame is dropped to make room for a new one.
+   */
+  dropOldest("dropOldest"),
+  /**
+   * The camera background thread waits until fewer than {@link
+   * ImageStreamOptions#getMaxFramesInFlight()} frames are queued for delivery.
+   */
+  block("block");
+
+  private final String strValue;
+
+  ImageStreamBackpressure(String strValue) {
+    this.strValue = strValue;
+  }
+
+  /**
+   * Tries to convert the supplied string into an {@see ImageStreamBackpressure} enum value.
+   *
+   * <p>When the supplied string doesn't match a valid {@see ImageStreamBackpressure} enum value,
+   * null is returned.
+   *
+   * @param modeStr String value to convert into an {@see ImageStreamBackpressure} enum value.
+   * @return Matching {@see ImageStreamBackpressure} enum value, or null if no match is found.
+   */
+  @Nullable
+  public static ImageStreamBackpressure getValueForString(@NonNull String modeStr) {
+    for (ImageStreamBackpressure value : values()) {
+      if (value.strValue.equals(modeStr)) return value;
+    }
+    return null;
+  }
+
+  @Override
+  public String toString() {
+    return strValue;
+  }
+}
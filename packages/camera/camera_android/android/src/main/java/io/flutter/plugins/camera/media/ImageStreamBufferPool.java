@@ -0,0 +1,155 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A pool of byte arrays, keyed by their exact length, used to hold the plane bytes of streamed
+ * frames.
+ *
+ * <p>Frame sizes are constant for the lifetime of an image stream, so after the first few frames
+ * every {@link #acquire(int)} is served by an array that was handed back with {@link
+ * #release(byte[])} once the previous frame was encoded by the platform channel.
+ *
+ * <p>Arrays are acquired on the camera background thread and released on the main thread, so all
+ * access to the pool is synchronized.
+ */
+public class ImageStreamBufferPool {
+  /** Receives the pool statistics, at most once per {@link #METRICS_INTERVAL_MS}. */
+  public interface MetricsListener {
+    /**
+     * Called with the pool statistics of the last reporting interval.
+     *
+     * @param hits number of acquisitions served from the pool.
+     * @param misses number of acquisitions that required a new allocation.
+     * @param bytesAllocatedPerSecond bytes newly allocated by the pool, per second.
+     */
+    void onMetrics(long hits, long misses, long bytesAllocatedPerSecond);
+  }
+
+  /** Default number of arrays kept around for each array length. */
+  public static final int DEFAULT_MAX_BUFFERS_PER_SIZE = 4;
+
+  @VisibleForTesting static final long METRICS_INTERVAL_MS = 1000;
+
+  private final int maxBuffersPerSize;
+  private final Map<Integer, ArrayDeque<byte[]>> buffersBySize = new HashMap<>();
+
+  @Nullable private MetricsListener metricsListener;
+  private long hits;
+  private long misses;
+  private long bytesAllocated;
+  private long intervalStartMs = -1;
+
+  /** Creates a pool keeping at most {@link #DEFAULT_MAX_BUFFERS_PER_SIZE} arrays per length. */
+  public ImageStreamBufferPool() {
+    this(DEFAULT_MAX_BUFFERS_PER_SIZE);
+  }
+
+  /**
+   * Creates a pool.
+   *
+   * @param maxBuffersPerSize is the maximum number of idle arrays kept for each array length.
+   */
+  public ImageStreamBufferPool(int maxBuffersPerSize) {
+    this.maxBuffersPerSize = maxBuffersPerSize;
+  }
+
+  /**
+   * Sets the listener receiving the pool statistics, or null to stop reporting.
+   *
+   * @param metricsListener is the listener to report to.
+   */
+  public synchronized void setMetricsListener(@Nullable MetricsListener metricsListener) {
+    this.metricsListener = metricsListener;
+    resetInterval(SystemClock.elapsedRealtime());
+  }
+
+  /**
+   * Returns an array of exactly {@code size} bytes, reusing a released one when available.
+   *
+   * <p>The content of the returned array is undefined.
+   *
+   * @param size is the length of the requested array.
+   * @return an array of {@code size} bytes.
+   */
+  @NonNull
+  public synchronized byte[] acquire(int size) {
+    ArrayDeque<byte[]> buffers = buffersBySize.get(size);
+    byte[] buffer = buffers == null ? null : buffers.pollFirst();
+    if (buffer != null) {
+      hits++;
+    } else {
+      misses++;
+      bytesAllocated += size;
+      buffer = new byte[size];
+    }
+    maybeReportMetrics();
+    return buffer;
+  }
+
+  /**
+   * Hands an array back to the pool. The array must not be used by the caller afterwards.
+   *
+   * @param buffer is an array previously returned by {@link #acquire(int)}.
+   */
+  public synchronized void release(@NonNull byte[] buffer) {
+    ArrayDeque<byte[]> buffers = buffersBySize.get(buffer.length);
+    if (buffers == null) {
+      buffers = new ArrayDeque<>(maxBuffersPerSize);
+      buffersBySize.put(buffer.length, buffers);
+    }
+    if (buffers.size() < maxBuffersPerSize) {
+      buffers.addFirst(buffer);
+    }
+  }
+
+  /** Drops all idle arrays, e.g. when the stream stops. */
+  public synchronized void clear() {
+    buffersBySize.clear();
+  }
+
+  @VisibleForTesting
+  synchronized long getHits() {
+    return hits;
+  }
+
+  @VisibleForTesting
+  synchronized long getMisses() {
+    return misses;
+  }
+
+  @VisibleForTesting
+  synchronized long getBytesAllocated() {
+    return bytesAllocated;
+  }
+
+  private void maybeReportMetrics() {
+    if (metricsListener == null) {
+      return;
+    }
+    long now = SystemClock.elapsedRealtime();
+    long elapsedMs = now - intervalStartMs;
+    if (elapsedMs < METRICS_INTERVAL_MS) {
+      return;
+    }
+    metricsListener.onMetrics(hits, misses, bytesAllocated * 1000 / elapsedMs);
+    resetInterval(now);
+  }
+
+  private void resetInterval(long now) {
+    hits = 0;
+    misses = 0;
+    bytesAllocated = 0;
+    intervalStartMs = now;
+  }
+}
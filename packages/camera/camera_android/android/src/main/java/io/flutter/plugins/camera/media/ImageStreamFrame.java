@@ -0,0 +1,180 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import io.flutter.plugins.camera.types.CameraCaptureProperties;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Packs a streamed frame into a single byte array, so that the platform channel encodes one byte
+ * array instead of a tree of maps and boxed values.
+ *
+ * <p>All values are little-endian. The array starts with a header of {@link #HEADER_SIZE} bytes:
+ *
+ * <pre>
+ *  0  int32    magic, {@link #MAGIC}
+ *  4  int32    width
+ *  8  int32    height
+ * 12  int32    format
+ * 16  int32    plane count
+ * 20  float32  lens aperture, NaN if unknown
+ * 24  int64    sensor exposure time in nanoseconds, -1 if unknown
+ * 32  float64  sensor sensitivity, NaN if unknown
+ * 40  int64    delivered frame count
+ * 48  int64    dropped frame count
+ * 56  int32    NV21 conversion strategy, see {@link #writeConversionStrategy}
+ * 60  int32    reserved
+ * </pre>
+ *
+ * <p>The header is followed by one descriptor of {@link #PLANE_DESCRIPTOR_SIZE} bytes per plane
+ * (int32 bytes per row, bytes per pixel, width, height and byte length; width and height are 0 if
+ * unknown) and then by the bytes of all planes, in order.
+ *
+ * <p>The plane bytes are written straight from the {@link android.media.Image} by {@link
+ * ImageStreamReader}. Mirrors cameraImageFromPlatformFrame in type_conversion.dart.
+ */
+public final class ImageStreamFrame {
+  /** The first four bytes of every frame, "CIF1" in ASCII. */
+  public static final int MAGIC = 0x31464943;
+
+  public static final int HEADER_SIZE = 64;
+  public static final int PLANE_DESCRIPTOR_SIZE = 20;
+
+  private static final int DELIVERED_FRAMES_OFFSET = 40;
+  private static final int DROPPED_FRAMES_OFFSET = 48;
+  private static final int CONVERSION_STRATEGY_OFFSET = 56;
+
+  private ImageStreamFrame() {}
+
+  /**
+   * Returns the size of a packed frame.
+   *
+   * @param planeCount is the number of planes.
+   * @param planeBytes is the byte length of all planes together.
+   */
+  public static int getSize(int planeCount, int planeBytes) {
+    return getDataOffset(planeCount) + planeBytes;
+  }
+
+  /**
+   * Returns the position of the first plane byte in a packed frame.
+   *
+   * @param planeCount is the number of planes.
+   */
+  public static int getDataOffset(int planeCount) {
+    return HEADER_SIZE + planeCount * PLANE_DESCRIPTOR_SIZE;
+  }
+
+  /**
+   * Writes the header of a packed frame, with the frame counters and conversion strategy left at 0.
+   *
+   * @param frame is an array of at least {@link #getSize} bytes.
+   * @param width is the frame width.
+   * @param height is the frame height.
+   * @param format is the image format sent to dart.
+   * @param planeCount is the number of planes.
+   * @param captureProps is the last known capture properties.
+   * @return a little-endian buffer over {@code frame}, positioned at the first plane descriptor.
+   */
+  @NonNull
+  public static ByteBuffer writeHeader(
+      @NonNull byte[] frame,
+      int width,
+      int height,
+      int format,
+      int planeCount,
+      @NonNull CameraCaptureProperties captureProps) {
+    ByteBuffer buffer = ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN);
+
+    Float lensAperture = captureProps.getLastLensAperture();
+    Long sensorExposureTime = captureProps.getLastSensorExposureTime();
+    Integer sensorSensitivity = captureProps.getLastSensorSensitivity();
+    buffer
+        .putInt(MAGIC)
+        .putInt(width)
+        .putInt(height)
+        .putInt(format)
+        .putInt(planeCount)
+        .putFloat(lensAperture == null ? Float.NaN : lensAperture)
+        .putLong(sensorExposureTime == null ? -1 : sensorExposureTime)
+        .putDouble(sensorSensitivity == null ? Double.NaN : sensorSensitivity)
+        .putLong(0)
+        .putLong(0)
+        .putLong(0);
+    return buffer;
+  }
+
+  /**
+   * Writes the descriptor of the next plane.
+   *
+   * @param buffer is the buffer returned by {@link #writeHeader}.
+   * @param bytesPerRow is the number of bytes per row of the plane.
+   * @param bytesPerPixel is the number of bytes per pixel of the plane.
+   * @param width is the plane width, or 0 if unknown.
+   * @param height is the plane height, or 0 if unknown.
+   * @param length is the byte length of the plane.
+   */
+  public static void writePlaneDescriptor(
+      @NonNull ByteBuffer buffer,
+      int bytesPerRow,
+      int bytesPerPixel,
+      int width,
+      int height,
+      int length) {
+    buffer.putInt(bytesPerRow).putInt(bytesPerPixel).putInt(width).putInt(height).putInt(length);
+  }
+
+  /**
+   * Writes the frame counters into a packed frame, right before it is delivered.
+   *
+   * @param frame is a packed frame.
+   * @param deliveredFrames is the number of frames delivered so far, including this one.
+   * @param droppedFrames is the number of frames dropped so far.
+   */
+  public static void writeCounters(
+      @NonNull byte[] frame, long deliveredFrames, long droppedFrames) {
+    ByteBuffer buffer = ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putLong(DELIVERED_FRAMES_OFFSET, deliveredFrames);
+    buffer.putLong(DROPPED_FRAMES_OFFSET, droppedFrames);
+  }
+
+  /**
+   * Writes the strategy used to convert the frame to NV21 into a packed frame.
+   *
+   * <p>The strategy is written as 0 if the frame was not converted, and otherwise as 1 for {@link
+   * ImageStreamReaderUtils#CONVERSION_NV21_COPY}, 2 for {@link
+   * ImageStreamReaderUtils#CONVERSION_ROW_COPY}, 3 for {@link
+   * ImageStreamReaderUtils#CONVERSION_PER_PIXEL} and 4 for {@link
+   * ImageStreamReaderUtils#CONVERSION_SAMPLED}.
+   *
+   * @param frame is a packed frame.
+   * @param conversionStrategy is one of the {@link ImageStreamReaderUtils} conversion strategies,
+   *     or null if the frame was not converted.
+   */
+  public static void writeConversionStrategy(
+      @NonNull byte[] frame, @Nullable String conversionStrategy) {
+    int code = 0;
+    if (conversionStrategy != null) {
+      switch (conversionStrategy) {
+        case ImageStreamReaderUtils.CONVERSION_NV21_COPY:
+          code = 1;
+          break;
+        case ImageStreamReaderUtils.CONVERSION_ROW_COPY:
+          code = 2;
+          break;
+        case ImageStreamReaderUtils.CONVERSION_PER_PIXEL:
+          code = 3;
+          break;
+        case ImageStreamReaderUtils.CONVERSION_SAMPLED:
+          code = 4;
+          break;
+      }
+    }
+    ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN).putInt(CONVERSION_STRATEGY_OFFSET, code);
+  }
+}
@@ -0,0 +1,114 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import android.hardware.camera2.CameraCharacteristics;
+import android.os.SystemClock;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+/**
+ * Measures the time between the sensor timestamp of a streamed frame and the moment the frame is
+ * handed to the Dart event channel.
+ *
+ * <p>Sensor timestamps are either in the {@link SystemClock#elapsedRealtimeNanos()} time base or,
+ * when the camera reports {@link CameraCharacteristics#SENSOR_INFO_TIMESTAMP_SOURCE_UNKNOWN},
+ * roughly in the {@link SystemClock#uptimeMillis()} time base, so the matching clock is used to
+ * compute the latency.
+ */
+public class ImageStreamLatencyTracker {
+  /** Receives the latency statistics, at most once per {@link #METRICS_INTERVAL_MS}. */
+  public interface LatencyListener {
+    /**
+     * Called with the latency statistics of the last reporting interval.
+     *
+     * @param frames number of frames delivered in the interval.
+     * @param averageLatencyMicros average latency from sensor timestamp to delivery.
+     * @param maxLatencyMicros largest latency from sensor timestamp to delivery.
+     */
+    void onLatency(long frames, long averageLatencyMicros, long maxLatencyMicros);
+  }
+
+  @VisibleForTesting static final long METRICS_INTERVAL_MS = 1000;
+
+  private boolean realtimeTimestamps;
+  @Nullable private LatencyListener latencyListener;
+  private long lastLatencyNanos = -1;
+  private long frames;
+  private long totalLatencyNanos;
+  private long maxLatencyNanos;
+  private long intervalStartMs = -1;
+
+  /**
+   * Sets the time base of the sensor timestamps.
+   *
+   * @param timestampSource is the {@link CameraCharacteristics#SENSOR_INFO_TIMESTAMP_SOURCE} of the
+   *     camera.
+   */
+  public synchronized void setTimestampSource(int timestampSource) {
+    realtimeTimestamps =
+        timestampSource == CameraCharacteristics.SENSOR_INFO_TIMESTAMP_SOURCE_REALTIME;
+  }
+
+  /**
+   * Sets the listener receiving the latency statistics, or null to stop reporting.
+   *
+   * @param latencyListener is the listener to report to.
+   */
+  public synchronized void setLatencyListener(@Nullable LatencyListener latencyListener) {
+    this.latencyListener = latencyListener;
+    resetInterval(SystemClock.elapsedRealtime());
+  }
+
+  /**
+   * Records the delivery of a frame. Called on the main thread right after the frame was sent.
+   *
+   * @param sensorTimestampNanos is the {@link android.media.Image#getTimestamp()} of the frame.
+   */
+  public synchronized void onFrameDelivered(long sensorTimestampNanos) {
+    // System.nanoTime() uses the same monotonic clock as SystemClock.uptimeMillis().
+    long nowNanos = realtimeTimestamps ? SystemClock.elapsedRealtimeNanos() : System.nanoTime();
+    long latencyNanos = nowNanos - sensorTimestampNanos;
+    if (latencyNanos < 0) {
+      // The camera does not use the expected time base, so the latency can't be measured.
+      return;
+    }
+    lastLatencyNanos = latencyNanos;
+    frames++;
+    totalLatencyNanos += latencyNanos;
+    maxLatencyNanos = Math.max(maxLatencyNanos, latencyNanos);
+    maybeReportLatency();
+  }
+
+  /** Returns the latency of the last delivered frame in nanoseconds, or -1 if unknown. */
+  public synchronized long getLastLatencyNanos() {
+    return lastLatencyNanos;
+  }
+
+  /** Forgets the previous measurements, e.g. when a new stream starts. */
+  public synchronized void reset() {
+    lastLatencyNanos = -1;
+    resetInterval(SystemClock.elapsedRealtime());
+  }
+
+  private void maybeReportLatency() {
+    if (latencyListener == null) {
+      return;
+    }
+    long now = SystemClock.elapsedRealtime();
+    if (now - intervalStartMs < METRICS_INTERVAL_MS) {
+      return;
+    }
+    latencyListener.onLatency(frames, totalLatencyNanos / frames / 1000, maxLatencyNanos / 1000);
+    resetInterval(now);
+  }
+
+  private void resetInterval(long now) {
+    frames = 0;
+    totalLatencyNanos = 0;
+    maxLatencyNanos = 0;
+    intervalStartMs = now;
+  }
+}
@@ -0,0 +1,285 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/** Options controlling how the {@link ImageStreamReader} delivers frames to Dart. */
+public class ImageStreamOptions {
+  /** Options matching the behavior of image streams started without any options. */
+  @NonNull
+  public static final ImageStreamOptions DEFAULT = new Builder().build();
+
+  private final ImageStreamBackpressure backpressure;
+  private final int maxFramesInFlight;
+  private final int cropLeft;
+  private final int cropTop;
+  private final int cropWidth;
+  private final int cropHeight;
+  private final int targetWidth;
+  private final int targetHeight;
+  private final int stride;
+  private final boolean binaryFrames;
+  private final int maxImages;
+  private final boolean dedicatedProcessingThread;
+
+  /**
+   * The part of a YUV_420_888 frame that is sent to Dart, in pixels of the full frame.
+   *
+   * <p>The region starts at ({@link #left}, {@link #top}) and samples every {@link #step}th pixel
+   * horizontally and vertically, producing an image of {@link #width} x {@link #height}. All values
+   * except {@link #step} are even so that the subsampled chroma planes line up with the luma plane.
+   */
+  public static class Region {
+    public final int left;
+    public final int top;
+    public final int width;
+    public final int height;
+    public final int step;
+
+    Region(int left, int top, int width, int height, int step) {
+      this.left = left;
+      this.top = top;
+      this.width = width;
+      this.height = height;
+      this.step = step;
+    }
+  }
+
+  /** Builds {@link ImageStreamOptions}, starting from the defaults of {@link #DEFAULT}. */
+  public static class Builder {
+    private ImageStreamBackpressure backpressure = ImageStreamBackpressure.none;
+    private int maxFramesInFlight = 1;
+    private int cropLeft;
+    private int cropTop;
+    private int cropWidth;
+    private int cropHeight;
+    private int targetWidth;
+    private int targetHeight;
+    private int stride;
+    private boolean binaryFrames;
+    private int maxImages;
+    private boolean dedicatedProcessingThread;
+
+    /**
+     * Sets the strategy applied when Dart falls behind.
+     *
+     * @param backpressure is the {@link ImageStreamBackpressure} to apply.
+     */
+    @NonNull
+    public Builder setBackpressure(@NonNull ImageStreamBackpressure backpressure) {
+      this.backpressure = backpressure;
+      return this;
+    }
+
+    /**
+     * Sets how many copied frames may wait for delivery to Dart, used by {@link
+     * ImageStreamBackpressure#dropOldest} and {@link ImageStreamBackpressure#block}.
+     *
+     * @param maxFramesInFlight is the maximum number of frames waiting for delivery.
+     */
+    @NonNull
+    public Builder setMaxFramesInFlight(int maxFramesInFlight) {
+      this.maxFramesInFlight = maxFramesInFlight;
+      return this;
+    }
+
+    /**
+     * Sets the part of the frame to stream, in pixels. A width or height of 0 uses the full frame.
+     *
+     * @param left is the left edge of the crop rectangle.
+     * @param top is the top edge of the crop rectangle.
+     * @param width is the width of the crop rectangle.
+     * @param height is the height of the crop rectangle.
+     */
+    @NonNull
+    public Builder setCropRect(int left, int top, int width, int height) {
+      this.cropLeft = left;
+      this.cropTop = top;
+      this.cropWidth = width;
+      this.cropHeight = height;
+      return this;
+    }
+
+    /**
+     * Sets the maximum size of the streamed frames. A value of 0 means no limit.
+     *
+     * @param width is the maximum width.
+     * @param height is the maximum height.
+     */
+    @NonNull
+    public Builder setTargetSize(int width, int height) {
+      this.targetWidth = width;
+      this.targetHeight = height;
+      return this;
+    }
+
+    /**
+     * Samples every stride-th pixel of the crop rectangle. A value of 0 derives the stride from the
+     * target size.
+     *
+     * @param stride is the distance between streamed pixels.
+     */
+    @NonNull
+    public Builder setStride(int stride) {
+      this.stride = stride;
+      return this;
+    }
+
+    /**
+     * Sets whether frames are sent as a single packed byte array, see {@link ImageStreamFrame}.
+     *
+     * @param binaryFrames is whether to send packed frames instead of maps.
+     */
+    @NonNull
+    public Builder setBinaryFrames(boolean binaryFrames) {
+      this.binaryFrames = binaryFrames;
+      return this;
+    }
+
+    /**
+     * Sets how many frames the camera may fill before the stream acquires them. A value of 0 keeps
+     * the depth the image reader was created with.
+     *
+     * <p>A deeper ring lets the camera keep producing frames while a slow frame is converted, at
+     * the cost of one preview-sized buffer per frame.
+     *
+     * @param maxImages is the {@link android.media.ImageReader} maxImages of the stream.
+     */
+    @NonNull
+    public Builder setMaxImages(int maxImages) {
+      this.maxImages = maxImages;
+      return this;
+    }
+
+    /**
+     * Sets whether frames are converted on a thread of their own instead of the camera background
+     * thread, so that slow conversions don't delay capture callbacks and still captures.
+     *
+     * @param dedicatedProcessingThread is whether to use a dedicated frame-processing thread.
+     */
+    @NonNull
+    public Builder setDedicatedProcessingThread(boolean dedicatedProcessingThread) {
+      this.dedicatedProcessingThread = dedicatedProcessingThread;
+      return this;
+    }
+
+    /**
+     * Creates the {@link ImageStreamOptions}.
+     *
+     * @throws IllegalArgumentException if any of the values is out of range.
+     */
+    @NonNull
+    public ImageStreamOptions build() {
+      if (maxFramesInFlight < 1) {
+        throw new IllegalArgumentException("maxFramesInFlight must be at least 1.");
+      }
+      if (cropLeft < 0 || cropTop < 0 || cropWidth < 0 || cropHeight < 0) {
+        throw new IllegalArgumentException("The crop rectangle must not be negative.");
+      }
+      if (targetWidth < 0 || targetHeight < 0 || stride < 0) {
+        throw new IllegalArgumentException("The target size and stride must not be negative.");
+      }
+      if (maxImages < 0) {
+        throw new IllegalArgumentException("maxImages must not be negative.");
+      }
+      return new ImageStreamOptions(this);
+    }
+  }
+
+  private ImageStreamOptions(@NonNull Builder builder) {
+    this.backpressure = builder.backpressure;
+    this.maxFramesInFlight = builder.maxFramesInFlight;
+    this.cropLeft = builder.cropLeft;
+    this.cropTop = builder.cropTop;
+    this.cropWidth = builder.cropWidth;
+    this.cropHeight = builder.cropHeight;
+    this.targetWidth = builder.targetWidth;
+    this.targetHeight = builder.targetHeight;
+    this.stride = builder.stride;
+    this.binaryFrames = builder.binaryFrames;
+    this.maxImages = builder.maxImages;
+    this.dedicatedProcessingThread = builder.dedicatedProcessingThread;
+  }
+
+  /** Returns the strategy applied when Dart falls behind. */
+  @NonNull
+  public ImageStreamBackpressure getBackpressure() {
+    return backpressure;
+  }
+
+  /** Returns how many copied frames may wait for delivery to Dart. */
+  public int getMaxFramesInFlight() {
+    return maxFramesInFlight;
+  }
+
+  /** Returns whether frames are sent as a single packed byte array. */
+  public boolean isBinaryFrames() {
+    return binaryFrames;
+  }
+
+  /** Returns the requested ring depth of the image reader, or 0 to keep the current depth. */
+  public int getMaxImages() {
+    return maxImages;
+  }
+
+  /** Returns whether frames are converted on a dedicated frame-processing thread. */
+  public boolean isDedicatedProcessingThread() {
+    return dedicatedProcessingThread;
+  }
+
+  /** Returns whether frames are cropped or downscaled before they are sent to Dart. */
+  public boolean hasRegion() {
+    return cropLeft > 0
+        || cropTop > 0
+        || cropWidth > 0
+        || cropHeight > 0
+        || targetWidth > 0
+        || targetHeight > 0
+        || stride > 1;
+  }
+
+  /**
+   * Computes the part of a frame that is sent to Dart.
+   *
+   * <p>The crop rectangle is clamped to the frame. Unless an explicit stride is set, the smallest
+   * step that fits the cropped frame into the target size is used.
+   *
+   * @param imageWidth is the width of the full frame.
+   * @param imageHeight is the height of the full frame.
+   * @return the region to send, or null when the full frame should be sent as-is.
+   */
+  @Nullable
+  public Region computeRegion(int imageWidth, int imageHeight) {
+    if (!hasRegion()) {
+      return null;
+    }
+
+    // Align the crop rectangle to even coordinates, as chroma is subsampled by 2.
+    int left = Math.min(cropLeft, imageWidth) & ~1;
+    int top = Math.min(cropTop, imageHeight) & ~1;
+    int width = cropWidth > 0 ? Math.min(cropWidth, imageWidth - left) : imageWidth - left;
+    int height = cropHeight > 0 ? Math.min(cropHeight, imageHeight - top) : imageHeight - top;
+
+    int step = stride;
+    if (step == 0) {
+      step = 1;
+      if (targetWidth > 0) {
+        step = Math.max(step, (width + targetWidth - 1) / targetWidth);
+      }
+      if (targetHeight > 0) {
+        step = Math.max(step, (height + targetHeight - 1) / targetHeight);
+      }
+    }
+
+    int outputWidth = (width / step) & ~1;
+    int outputHeight = (height / step) & ~1;
+    if (outputWidth == 0 || outputHeight == 0) {
+      return null;
+    }
+    return new Region(left, top, outputWidth, outputHeight, step);
+  }
+}
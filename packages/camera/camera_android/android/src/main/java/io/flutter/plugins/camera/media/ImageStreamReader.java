@@ -11,14 +11,17 @@ import android.os.Handler;
 import android.os.Looper;
 import android.view.Surface;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugins.camera.types.CameraCaptureProperties;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 // Wraps an ImageReader to allow for testing of the image handler.
 public class ImageStreamReader {
@@ -32,6 +35,46 @@ public class ImageStreamReader {
 
   private final ImageReader imageReader;
   private final ImageStreamReaderUtils imageStreamReaderUtils;
+  private final ImageStreamBufferPool bufferPool;
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+  private final ImageStreamLatencyTracker latencyTracker = new ImageStreamLatencyTracker();
+
+  /** Frames copied on the camera background thread that have not been posted to Dart yet. */
+  private final ArrayDeque<PendingFrame> pendingFrames = new ArrayDeque<>();
+  /** Number of queued frames plus the frame currently being delivered, guarded by pendingFrames. */
+  private int framesInFlight;
+
+  private final AtomicLong deliveredFrames = new AtomicLong();
+  private final AtomicLong droppedFrames = new AtomicLong();
+
+  @NonNull private volatile ImageStreamOptions options = ImageStreamOptions.DEFAULT;
+  private volatile boolean streaming = true;
+
+  /**
+   * A frame waiting on the main thread to be sent to Dart, either as a map of values and planes or
+   * as a packed {@link ImageStreamFrame}.
+   */
+  private static class PendingFrame {
+    @Nullable final Map<String, Object> imageBuffer;
+    @Nullable final List<Map<String, Object>> planes;
+    @Nullable final byte[] packedFrame;
+    final long sensorTimestamp;
+
+    PendingFrame(
+        Map<String, Object> imageBuffer, List<Map<String, Object>> planes, long sensorTimestamp) {
+      this.imageBuffer = imageBuffer;
+      this.planes = planes;
+      this.packedFrame = null;
+      this.sensorTimestamp = sensorTimestamp;
+    }
+
+    PendingFrame(byte[] packedFrame, long sensorTimestamp) {
+      this.imageBuffer = null;
+      this.planes = null;
+      this.packedFrame = packedFrame;
+      this.sensorTimestamp = sensorTimestamp;
+    }
+  }
 
   /**
    * Creates a new instance of the {@link ImageStreamReader}.
@@ -44,9 +87,26 @@ public class ImageStreamReader {
       @NonNull ImageReader imageReader,
       int dartImageFormat,
       @NonNull ImageStreamReaderUtils imageStreamReaderUtils) {
+    this(imageReader, dartImageFormat, imageStreamReaderUtils, new ImageStreamBufferPool());
+  }
+
+  /**
+   * Creates a new instance of the {@link ImageStreamReader}.
+   *
+   * @param imageReader is the image reader that will receive frames
+   * @param imageStreamReaderUtils is an instance of {@link ImageStreamReaderUtils}
+   * @param bufferPool is the pool the plane byte arrays are taken from
+   */
+  @VisibleForTesting
+  public ImageStreamReader(
+      @NonNull ImageReader imageReader,
+      int dartImageFormat,
+      @NonNull ImageStreamReaderUtils imageStreamReaderUtils,
+      @NonNull ImageStreamBufferPool bufferPool) {
     this.imageReader = imageReader;
     this.dartImageFormat = dartImageFormat;
     this.imageStreamReaderUtils = imageStreamReaderUtils;
+    this.bufferPool = bufferPool;
   }
 
   /**
@@ -62,6 +122,77 @@ public class ImageStreamReader {
     this.imageReader =
         ImageReader.newInstance(width, height, computeStreamImageFormat(imageFormat), maxImages);
     this.imageStreamReaderUtils = new ImageStreamReaderUtils();
+    this.bufferPool = new ImageStreamBufferPool();
+  }
+
+  /**
+   * Sets the listener receiving hit/miss and allocation statistics of the plane buffer pool.
+   *
+   * @param metricsListener is the listener to report to, or null to stop reporting.
+   */
+  public void setBufferPoolMetricsListener(
+      @Nullable ImageStreamBufferPool.MetricsListener metricsListener) {
+    bufferPool.setMetricsListener(metricsListener);
+  }
+
+  /**
+   * Sets the listener receiving the latency between the sensor timestamp of the frames and their
+   * delivery to Dart.
+   *
+   * @param timestampSource is the {@link
+   *     android.hardware.camera2.CameraCharacteristics#SENSOR_INFO_TIMESTAMP_SOURCE} of the camera.
+   * @param latencyListener is the listener to report to, or null to stop reporting.
+   */
+  public void setLatencyListener(
+      int timestampSource, @Nullable ImageStreamLatencyTracker.LatencyListener latencyListener) {
+    latencyTracker.setTimestampSource(timestampSource);
+    latencyTracker.setLatencyListener(latencyListener);
+  }
+
+  /**
+   * Returns the time between the sensor timestamp of the last delivered frame and its delivery to
+   * Dart in nanoseconds, or -1 if unknown.
+   */
+  public long getLastFrameLatencyNanos() {
+    return latencyTracker.getLastLatencyNanos();
+  }
+
+  /** Returns how many frames the camera may fill before they are acquired by the stream. */
+  public int getMaxImages() {
+    return imageReader.getMaxImages();
+  }
+
+  /**
+   * Sets the options applied to the frames streamed from now on.
+   *
+   * @param options is the {@link ImageStreamOptions} to apply.
+   */
+  public void setOptions(@NonNull ImageStreamOptions options) {
+    this.options = options;
+    synchronized (pendingFrames) {
+      // Wake up a camera background thread blocked on the previous in-flight limit.
+      pendingFrames.notifyAll();
+    }
+  }
+
+  /**
+   * Returns the number of frames sent to Dart since the listener was subscribed.
+   *
+   * <p>Dart reads the same counter from each delivered frame.
+   */
+  @VisibleForTesting
+  public long getDeliveredFrameCount() {
+    return deliveredFrames.get();
+  }
+
+  /**
+   * Returns the number of frames dropped by the backpressure strategy since subscribing.
+   *
+   * <p>Dart reads the same counter from each delivered frame.
+   */
+  @VisibleForTesting
+  public long getDroppedFrameCount() {
+    return droppedFrames.get();
   }
 
   /**
@@ -95,33 +226,55 @@ public class ImageStreamReader {
       @NonNull Image image,
       @NonNull CameraCaptureProperties captureProps,
       @NonNull EventChannel.EventSink imageStreamSink) {
-    try {
-      Map<String, Object> imageBuffer = new HashMap<>();
+    if (!admitFrame()) {
+      // Dart has not consumed the previous frames yet, so skip copying this one.
+      image.close();
+      return;
+    }
 
-      // Get plane data ready
-      if (dartImageFormat == ImageFormat.NV21) {
-        imageBuffer.put("planes", parsePlanesForNv21(image));
+    try {
+      final ImageStreamOptions.Region region = computeRegion(image);
+      final PendingFrame frame;
+      if (options.isBinaryFrames()) {
+        frame = new PendingFrame(packFrame(image, region, captureProps), image.getTimestamp());
       } else {
-        imageBuffer.put("planes", parsePlanesForYuvOrJpeg(image));
+        // Get plane data ready
+        final List<Map<String, Object>> planes;
+        if (dartImageFormat == ImageFormat.NV21) {
+          planes = parsePlanesForNv21(image, region);
+        } else {
+          planes = parsePlanesForYuvOrJpeg(image, region);
+        }
+        int width = region == null ? image.getWidth() : region.width;
+        int height = region == null ? image.getHeight() : region.height;
+
+        Map<String, Object> imageBuffer = new HashMap<>();
+        imageBuffer.put("planes", planes);
+        if (dartImageFormat == ImageFormat.NV21) {
+          imageBuffer.put("conversionStrategy", getConversionStrategy(region));
+        }
+
+        imageBuffer.put("width", width);
+        imageBuffer.put("height", height);
+        imageBuffer.put("format", dartImageFormat);
+        imageBuffer.put("lensAperture", captureProps.getLastLensAperture());
+        imageBuffer.put("sensorExposureTime", captureProps.getLastSensorExposureTime());
+        Integer sensorSensitivity = captureProps.getLastSensorSensitivity();
+        imageBuffer.put(
+            "sensorSensitivity", sensorSensitivity == null ? null : (double) sensorSensitivity);
+        frame = new PendingFrame(imageBuffer, planes, image.getTimestamp());
       }
 
-      imageBuffer.put("width", image.getWidth());
-      imageBuffer.put("height", image.getHeight());
-      imageBuffer.put("format", dartImageFormat);
-      imageBuffer.put("lensAperture", captureProps.getLastLensAperture());
-      imageBuffer.put("sensorExposureTime", captureProps.getLastSensorExposureTime());
-      Integer sensorSensitivity = captureProps.getLastSensorSensitivity();
-      imageBuffer.put(
-          "sensorSensitivity", sensorSensitivity == null ? null : (double) sensorSensitivity);
-
-      final Handler handler = new Handler(Looper.getMainLooper());
-      handler.post(() -> imageStreamSink.success(imageBuffer));
+      synchronized (pendingFrames) {
+        pendingFrames.addLast(frame);
+        framesInFlight++;
+      }
+      mainHandler.post(() -> deliverNextFrame(imageStreamSink));
       image.close();
 
     } catch (IllegalStateException e) {
       // Handle "buffer is inaccessible" errors that can happen on some devices from ImageStreamReaderUtils.yuv420ThreePlanesToNV21()
-      final Handler handler = new Handler(Looper.getMainLooper());
-      handler.post(
+      mainHandler.post(
           () ->
               imageStreamSink.error(
                   "IllegalStateException",
@@ -131,6 +284,84 @@ public class ImageStreamReader {
     }
   }
 
+  /**
+   * Applies the backpressure strategy before a new frame is copied. Runs on the camera background
+   * thread.
+   *
+   * @return whether the new frame should be copied and queued for delivery.
+   */
+  private boolean admitFrame() {
+    synchronized (pendingFrames) {
+      switch (options.getBackpressure()) {
+        case keepLatest:
+          if (framesInFlight > 0) {
+            droppedFrames.incrementAndGet();
+            return false;
+          }
+          return true;
+        case dropOldest:
+          while (framesInFlight >= options.getMaxFramesInFlight() && !pendingFrames.isEmpty()) {
+            PendingFrame oldest = pendingFrames.pollFirst();
+            framesInFlight--;
+            releaseFrame(oldest);
+            droppedFrames.incrementAndGet();
+          }
+          return true;
+        case block:
+          while (streaming
+              && options.getBackpressure() == ImageStreamBackpressure.block
+              && framesInFlight >= options.getMaxFramesInFlight()) {
+            try {
+              pendingFrames.wait();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+              return false;
+            }
+          }
+          return streaming;
+        case none:
+        default:
+          return true;
+      }
+    }
+  }
+
+  /**
+   * Sends the oldest queued frame to Dart. Runs on the main thread.
+   *
+   * @param imageStreamSink is the image stream sink from dart as a dart {@link
+   *     EventChannel.EventSink}
+   */
+  private void deliverNextFrame(@NonNull EventChannel.EventSink imageStreamSink) {
+    PendingFrame frame;
+    synchronized (pendingFrames) {
+      frame = pendingFrames.pollFirst();
+    }
+    if (frame == null) {
+      // The frame was dropped in favor of a newer one.
+      return;
+    }
+
+    if (frame.packedFrame != null) {
+      ImageStreamFrame.writeCounters(
+          frame.packedFrame, deliveredFrames.incrementAndGet(), droppedFrames.get());
+      imageStreamSink.success(frame.packedFrame);
+    } else {
+      frame.imageBuffer.put("deliveredFrames", deliveredFrames.incrementAndGet());
+      frame.imageBuffer.put("droppedFrames", droppedFrames.get());
+      imageStreamSink.success(frame.imageBuffer);
+    }
+    latencyTracker.onFrameDelivered(frame.sensorTimestamp);
+    // The event has been encoded by the platform channel at this point, so the frame bytes can
+    // be recycled for the next frame.
+    releaseFrame(frame);
+
+    synchronized (pendingFrames) {
+      framesInFlight--;
+      pendingFrames.notifyAll();
+    }
+  }
+
   /**
    * Given an input image, will return a list of maps suitable to send back to dart where each map
    * describes the image plane.
@@ -142,13 +373,60 @@ public class ImageStreamReader {
    */
   @NonNull
   public List<Map<String, Object>> parsePlanesForYuvOrJpeg(@NonNull Image image) {
+    return parsePlanesForYuvOrJpeg(image, computeRegion(image));
+  }
+
+  /**
+   * Given an input image, will return a list of maps suitable to send back to dart where each map
+   * describes the image plane.
+   *
+   * <p>When a region is given, the Y, U and V planes are cropped and downscaled to it and sent
+   * without row or pixel padding.
+   *
+   * @param image - the image to process.
+   * @param region - the region of a YUV420 image to send, or null to send the image as-is.
+   * @return parsed map describing the image planes to be sent to dart.
+   */
+  @NonNull
+  public List<Map<String, Object>> parsePlanesForYuvOrJpeg(
+      @NonNull Image image, @Nullable ImageStreamOptions.Region region) {
     List<Map<String, Object>> planes = new ArrayList<>();
 
+    if (region != null) {
+      Image.Plane[] imagePlanes = image.getPlanes();
+      for (int i = 0; i < imagePlanes.length; i++) {
+        // The U and V planes are subsampled by a factor of 2 in both dimensions.
+        int subsampling = i == 0 ? 1 : 2;
+        int width = region.width / subsampling;
+        int height = region.height / subsampling;
+        byte[] bytes = bufferPool.acquire(width * height);
+        ImageStreamReaderUtils.samplePlane(
+            imagePlanes[i],
+            region.left / subsampling,
+            region.top / subsampling,
+            width,
+            height,
+            region.step,
+            bytes,
+            0,
+            1);
+
+        Map<String, Object> planeBuffer = new HashMap<>();
+        planeBuffer.put("bytesPerRow", width);
+        planeBuffer.put("bytesPerPixel", 1);
+        planeBuffer.put("width", width);
+        planeBuffer.put("height", height);
+        planeBuffer.put("bytes", bytes);
+        planes.add(planeBuffer);
+      }
+      return planes;
+    }
+
     // For YUV420 and JPEG, just send the data as-is for each plane.
     for (Image.Plane plane : image.getPlanes()) {
       ByteBuffer buffer = plane.getBuffer();
 
-      byte[] bytes = new byte[buffer.remaining()];
+      byte[] bytes = bufferPool.acquire(buffer.remaining());
       buffer.get(bytes, 0, bytes.length);
 
       Map<String, Object> planeBuffer = new HashMap<>();
@@ -169,12 +447,44 @@ public class ImageStreamReader {
    */
   @NonNull
   public List<Map<String, Object>> parsePlanesForNv21(@NonNull Image image) {
+    return parsePlanesForNv21(image, computeRegion(image));
+  }
+
+  /**
+   * Given an input image, will return a single-plane NV21 image. Assumes YUV420 as an input type.
+   *
+   * <p>When a region is given, the image is cropped and downscaled to it while being converted.
+   *
+   * @param image - the image to process.
+   * @param region - the region of the image to send, or null to send the full image.
+   * @return parsed map describing the image planes to be sent to dart.
+   */
+  @NonNull
+  public List<Map<String, Object>> parsePlanesForNv21(
+      @NonNull Image image, @Nullable ImageStreamOptions.Region region) {
     List<Map<String, Object>> planes = new ArrayList<>();
 
-    // We will convert the YUV data to NV21 which is a single-plane image
+    if (region != null) {
+      byte[] out =
+          bufferPool.acquire(ImageStreamReaderUtils.getNV21Size(region.width, region.height));
+      sampleNv21(image.getPlanes(), region, out, 0);
+
+      Map<String, Object> planeBuffer = new HashMap<>();
+      planeBuffer.put("bytesPerRow", region.width);
+      planeBuffer.put("bytesPerPixel", 1);
+      planeBuffer.put("bytes", out);
+      planes.add(planeBuffer);
+      return planes;
+    }
+
+    // We will convert the YUV data to NV21 which is a single-plane image. The output array comes
+    // from the buffer pool so that it is reused across frames.
+    byte[] out =
+        bufferPool.acquire(
+            ImageStreamReaderUtils.getNV21Size(image.getWidth(), image.getHeight()));
     ByteBuffer bytes =
         imageStreamReaderUtils.yuv420ThreePlanesToNV21(
-            image.getPlanes(), image.getWidth(), image.getHeight());
+            image.getPlanes(), image.getWidth(), image.getHeight(), out);
 
     Map<String, Object> planeBuffer = new HashMap<>();
     planeBuffer.put("bytesPerRow", image.getWidth());
@@ -184,6 +494,198 @@ public class ImageStreamReader {
     return planes;
   }
 
+  /**
+   * Crops and downscales a YUV420 image to a region while converting it to NV21.
+   *
+   * @param imagePlanes is the planes of the YUV420 image.
+   * @param region is the region of the image to send.
+   * @param out is the destination array.
+   * @param offset is the position of the NV21 image in {@code out}.
+   */
+  private static void sampleNv21(
+      @NonNull Image.Plane[] imagePlanes,
+      @NonNull ImageStreamOptions.Region region,
+      @NonNull byte[] out,
+      int offset) {
+    int imageSize = region.width * region.height;
+    int chromaLeft = region.left / 2;
+    int chromaTop = region.top / 2;
+    int chromaWidth = region.width / 2;
+    int chromaHeight = region.height / 2;
+    // Sample Y.
+    ImageStreamReaderUtils.samplePlane(
+        imagePlanes[0],
+        region.left,
+        region.top,
+        region.width,
+        region.height,
+        region.step,
+        out,
+        offset,
+        1);
+    // Sample U.
+    ImageStreamReaderUtils.samplePlane(
+        imagePlanes[1],
+        chromaLeft,
+        chromaTop,
+        chromaWidth,
+        chromaHeight,
+        region.step,
+        out,
+        offset + imageSize + 1,
+        2);
+    // Sample V.
+    ImageStreamReaderUtils.samplePlane(
+        imagePlanes[2],
+        chromaLeft,
+        chromaTop,
+        chromaWidth,
+        chromaHeight,
+        region.step,
+        out,
+        offset + imageSize,
+        2);
+  }
+
+  /**
+   * Packs a frame into a single array taken from the buffer pool, see {@link ImageStreamFrame}.
+   *
+   * <p>The frame is sized first, and the plane bytes are then copied, sampled or converted from the
+   * image straight into it, so each plane is copied only once.
+   *
+   * @param image is the image to pack.
+   * @param region is the region of a YUV420 image to send, or null to send the image as-is.
+   * @param captureProps is the last known capture properties.
+   * @return the packed frame.
+   */
+  @VisibleForTesting
+  @NonNull
+  byte[] packFrame(
+      @NonNull Image image,
+      @Nullable ImageStreamOptions.Region region,
+      @NonNull CameraCaptureProperties captureProps) {
+    Image.Plane[] imagePlanes = image.getPlanes();
+    int width = region == null ? image.getWidth() : region.width;
+    int height = region == null ? image.getHeight() : region.height;
+
+    if (dartImageFormat == ImageFormat.NV21) {
+      int length = ImageStreamReaderUtils.getNV21Size(width, height);
+      byte[] frame = bufferPool.acquire(ImageStreamFrame.getSize(1, length));
+      ByteBuffer header =
+          ImageStreamFrame.writeHeader(frame, width, height, dartImageFormat, 1, captureProps);
+      ImageStreamFrame.writePlaneDescriptor(header, width, 1, 0, 0, length);
+      int offset = ImageStreamFrame.getDataOffset(1);
+      if (region == null) {
+        imageStreamReaderUtils.yuv420ThreePlanesToNV21(imagePlanes, width, height, frame, offset);
+      } else {
+        sampleNv21(imagePlanes, region, frame, offset);
+      }
+      ImageStreamFrame.writeConversionStrategy(frame, getConversionStrategy(region));
+      return frame;
+    }
+
+    int planeCount = imagePlanes.length;
+    if (region != null) {
+      // The U and V planes are subsampled by a factor of 2 in both dimensions.
+      int chromaLength = (width / 2) * (height / 2);
+      int planeBytes = width * height + (planeCount - 1) * chromaLength;
+      byte[] frame = bufferPool.acquire(ImageStreamFrame.getSize(planeCount, planeBytes));
+      ByteBuffer header =
+          ImageStreamFrame.writeHeader(
+              frame, width, height, dartImageFormat, planeCount, captureProps);
+      int offset = ImageStreamFrame.getDataOffset(planeCount);
+      for (int i = 0; i < planeCount; i++) {
+        int subsampling = i == 0 ? 1 : 2;
+        int planeWidth = width / subsampling;
+        int planeHeight = height / subsampling;
+        ImageStreamFrame.writePlaneDescriptor(
+            header, planeWidth, 1, planeWidth, planeHeight, planeWidth * planeHeight);
+        ImageStreamReaderUtils.samplePlane(
+            imagePlanes[i],
+            region.left / subsampling,
+            region.top / subsampling,
+            planeWidth,
+            planeHeight,
+            region.step,
+            frame,
+            offset,
+            1);
+        offset += planeWidth * planeHeight;
+      }
+      return frame;
+    }
+
+    // For YUV420 and JPEG, just send the data as-is for each plane.
+    int planeBytes = 0;
+    for (Image.Plane plane : imagePlanes) {
+      planeBytes += plane.getBuffer().remaining();
+    }
+    byte[] frame = bufferPool.acquire(ImageStreamFrame.getSize(planeCount, planeBytes));
+    ByteBuffer header =
+        ImageStreamFrame.writeHeader(
+            frame, width, height, dartImageFormat, planeCount, captureProps);
+    int offset = ImageStreamFrame.getDataOffset(planeCount);
+    for (Image.Plane plane : imagePlanes) {
+      ByteBuffer buffer = plane.getBuffer();
+      int length = buffer.remaining();
+      ImageStreamFrame.writePlaneDescriptor(
+          header, plane.getRowStride(), plane.getPixelStride(), 0, 0, length);
+      buffer.get(frame, offset, length);
+      offset += length;
+    }
+    return frame;
+  }
+
+  /**
+   * Returns the strategy used to convert the last NV21 frame, see {@link
+   * ImageStreamReaderUtils#getLastConversionStrategy}.
+   *
+   * @param region is the region the frame was sampled to, or null if the whole frame was converted.
+   */
+  @Nullable
+  private String getConversionStrategy(@Nullable ImageStreamOptions.Region region) {
+    return region == null
+        ? imageStreamReaderUtils.getLastConversionStrategy()
+        : ImageStreamReaderUtils.CONVERSION_SAMPLED;
+  }
+
+  /**
+   * Computes the region of the image to send according to the stream options. JPEG frames can not
+   * be cropped and are always sent as-is.
+   */
+  @Nullable
+  private ImageStreamOptions.Region computeRegion(@NonNull Image image) {
+    if (dartImageFormat == ImageFormat.JPEG) {
+      return null;
+    }
+    return options.computeRegion(image.getWidth(), image.getHeight());
+  }
+
+  /** Hands the byte arrays of a delivered or dropped frame back to the buffer pool. */
+  private void releaseFrame(@NonNull PendingFrame frame) {
+    if (frame.packedFrame != null) {
+      bufferPool.release(frame.packedFrame);
+    } else if (frame.planes != null) {
+      releasePlaneBuffers(frame.planes);
+    }
+  }
+
+  /**
+   * Hands the plane byte arrays of an already delivered frame back to the buffer pool.
+   *
+   * @param planes - the planes returned by {@link #parsePlanesForYuvOrJpeg(Image)} or {@link
+   *     #parsePlanesForNv21(Image)}.
+   */
+  @VisibleForTesting
+  void releasePlaneBuffers(@NonNull List<Map<String, Object>> planes) {
+    for (Map<String, Object> plane : planes) {
+      Object bytes = plane.get("bytes");
+      if (bytes instanceof byte[]) {
+        bufferPool.release((byte[]) bytes);
+      }
+    }
+  }
+
   /** Returns the image reader surface. */
   @NonNull
   public Surface getSurface() {
@@ -196,12 +698,17 @@ public class ImageStreamReader {
    * @param captureProps is the capture props from the camera class as {@link
    *     CameraCaptureProperties}
    * @param imageStreamSink is the image stream sink from dart as {@link EventChannel.EventSink}
-   * @param handler is generally the background handler of the camera as {@link Handler}
+   * @param handler is the background handler of the camera, or the handler of a dedicated
+   *     frame-processing thread, as {@link Handler}
    */
   public void subscribeListener(
       @NonNull CameraCaptureProperties captureProps,
       @NonNull EventChannel.EventSink imageStreamSink,
       @NonNull Handler handler) {
+    deliveredFrames.set(0);
+    droppedFrames.set(0);
+    latencyTracker.reset();
+    streaming = true;
     imageReader.setOnImageAvailableListener(
         reader -> {
           Image image = reader.acquireNextImage();
@@ -219,10 +726,26 @@ public class ImageStreamReader {
    */
   public void removeListener(@NonNull Handler handler) {
     imageReader.setOnImageAvailableListener(null, handler);
+    stopStreaming();
   }
 
   /** Closes the image reader. */
   public void close() {
+    stopStreaming();
     imageReader.close();
+    bufferPool.clear();
+  }
+
+  /** Wakes up a blocked camera background thread and drops frames not yet posted to Dart. */
+  private void stopStreaming() {
+    synchronized (pendingFrames) {
+      streaming = false;
+      framesInFlight -= pendingFrames.size();
+      PendingFrame frame;
+      while ((frame = pendingFrames.pollFirst()) != null) {
+        releaseFrame(frame);
+      }
+      pendingFrames.notifyAll();
+    }
   }
 }
@@ -9,9 +9,34 @@ package io.flutter.plugins.camera.media;
 
 import android.media.Image;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import java.nio.ByteBuffer;
 
 public class ImageStreamReaderUtils {
+  /** The U and V planes were already laid out as NV21 and were copied as a whole. */
+  public static final String CONVERSION_NV21_COPY = "nv21Copy";
+  /** The planes were copied row by row with bulk reads. */
+  public static final String CONVERSION_ROW_COPY = "rowCopy";
+  /** The planes were copied pixel by pixel. */
+  public static final String CONVERSION_PER_PIXEL = "perPixel";
+  /** A region of the planes was cropped and downscaled pixel by pixel. */
+  public static final String CONVERSION_SAMPLED = "sampled";
+
+  /** Scratch row used to de-interleave planes, reused across frames. */
+  private byte[] rowBuffer = new byte[0];
+
+  @Nullable private String lastConversionStrategy;
+
+  /**
+   * Returns the strategy used by the last call to {@link #yuv420ThreePlanesToNV21}, one of {@link
+   * #CONVERSION_NV21_COPY}, {@link #CONVERSION_ROW_COPY} or {@link #CONVERSION_PER_PIXEL}.
+   */
+  @Nullable
+  public String getLastConversionStrategy() {
+    return lastConversionStrategy;
+  }
+
   /**
    * Converts YUV_420_888 to NV21 bytebuffer.
    *
@@ -34,30 +59,208 @@ public class ImageStreamReaderUtils {
   @NonNull
   public ByteBuffer yuv420ThreePlanesToNV21(
       @NonNull Image.Plane[] yuv420888planes, int width, int height) {
+    return yuv420ThreePlanesToNV21(
+        yuv420888planes, width, height, new byte[getNV21Size(width, height)]);
+  }
+
+  /**
+   * Converts YUV_420_888 to NV21 into the supplied array, so callers can reuse it across frames.
+   *
+   * @param yuv420888planes is the planes of the YUV_420_888 image.
+   * @param width is the image width.
+   * @param height is the image height.
+   * @param out is the destination array, of at least {@link #getNV21Size(int, int)} bytes.
+   * @return a {@link ByteBuffer} wrapping {@code out}.
+   */
+  @NonNull
+  public ByteBuffer yuv420ThreePlanesToNV21(
+      @NonNull Image.Plane[] yuv420888planes, int width, int height, @NonNull byte[] out) {
+    return yuv420ThreePlanesToNV21(yuv420888planes, width, height, out, 0);
+  }
+
+  /**
+   * Converts YUV_420_888 to NV21 into the supplied array, starting at {@code offset}, so that the
+   * image can be written straight into a larger array such as a packed {@link ImageStreamFrame}.
+   *
+   * @param yuv420888planes is the planes of the YUV_420_888 image.
+   * @param width is the image width.
+   * @param height is the image height.
+   * @param out is the destination array.
+   * @param offset is the position of the NV21 image in {@code out}, which must have at least
+   *     {@link #getNV21Size(int, int)} bytes after it.
+   * @return a {@link ByteBuffer} wrapping the NV21 image in {@code out}.
+   */
+  @NonNull
+  public ByteBuffer yuv420ThreePlanesToNV21(
+      @NonNull Image.Plane[] yuv420888planes,
+      int width,
+      int height,
+      @NonNull byte[] out,
+      int offset) {
     int imageSize = width * height;
-    byte[] out = new byte[imageSize + 2 * (imageSize / 4)];
 
     if (areUVPlanesNV21(yuv420888planes, width, height)) {
+      lastConversionStrategy = CONVERSION_NV21_COPY;
       // Copy the Y values.
-      yuv420888planes[0].getBuffer().get(out, 0, imageSize);
+      yuv420888planes[0].getBuffer().get(out, offset, imageSize);
 
       ByteBuffer uBuffer = yuv420888planes[1].getBuffer();
       ByteBuffer vBuffer = yuv420888planes[2].getBuffer();
       // Get the first V value from the V buffer, since the U buffer does not contain it.
-      vBuffer.get(out, imageSize, 1);
+      vBuffer.get(out, offset + imageSize, 1);
       // Copy the first U value and the remaining VU values from the U buffer.
-      uBuffer.get(out, imageSize + 1, 2 * imageSize / 4 - 1);
+      uBuffer.get(out, offset + imageSize + 1, 2 * imageSize / 4 - 1);
+    } else if (supportsRowCopy(yuv420888planes)) {
+      lastConversionStrategy = CONVERSION_ROW_COPY;
+      // Copy whole rows with bulk reads and de-interleave them from the scratch row.
+      // Unpack Y.
+      unpackPlaneRows(yuv420888planes[0], width, height, out, offset, 1);
+      // Unpack U.
+      unpackPlaneRows(yuv420888planes[1], width, height, out, offset + imageSize + 1, 2);
+      // Unpack V.
+      unpackPlaneRows(yuv420888planes[2], width, height, out, offset + imageSize, 2);
     } else {
+      lastConversionStrategy = CONVERSION_PER_PIXEL;
       // Fallback to copying the UV values one by one, which is slower but also works.
       // Unpack Y.
-      unpackPlane(yuv420888planes[0], width, height, out, 0, 1);
+      unpackPlane(yuv420888planes[0], width, height, out, offset, 1);
       // Unpack U.
-      unpackPlane(yuv420888planes[1], width, height, out, imageSize + 1, 2);
+      unpackPlane(yuv420888planes[1], width, height, out, offset + imageSize + 1, 2);
       // Unpack V.
-      unpackPlane(yuv420888planes[2], width, height, out, imageSize, 2);
+      unpackPlane(yuv420888planes[2], width, height, out, offset + imageSize, 2);
+    }
+
+    return ByteBuffer.wrap(out, offset, getNV21Size(width, height));
+  }
+
+  /**
+   * Copies a sampled region of an image plane into a byte array.
+   *
+   * <p>Starting at ({@code left}, {@code top}) in plane coordinates, every {@code step}th pixel of
+   * every {@code step}th row is copied, for {@code width} x {@code height} pixels. The output is
+   * written at 'offset' with every pixel spaced by 'pixelStride' and no row padding. Rows that are
+   * copied without sampling or spacing are read with a single bulk read.
+   *
+   * @param plane is the plane to sample.
+   * @param left is the first column to copy, in plane pixels.
+   * @param top is the first row to copy, in plane pixels.
+   * @param width is the number of pixels copied from each row.
+   * @param height is the number of rows copied.
+   * @param step is the distance between copied pixels and rows, in plane pixels.
+   * @param out is the destination array.
+   * @param offset is the position of the first copied pixel in 'out'.
+   * @param pixelStride is the distance between copied pixels in 'out'.
+   */
+  public static void samplePlane(
+      @NonNull Image.Plane plane,
+      int left,
+      int top,
+      int width,
+      int height,
+      int step,
+      @NonNull byte[] out,
+      int offset,
+      int pixelStride)
+      throws IllegalStateException {
+    ByteBuffer buffer = plane.getBuffer();
+    int rowStride = plane.getRowStride();
+    int inputPixelStride = plane.getPixelStride();
+    int inputStep = step * inputPixelStride;
+    boolean bulkRows = inputStep == 1 && pixelStride == 1;
+
+    int outputPos = offset;
+    for (int row = 0; row < height; row++) {
+      int inputPos = (top + row * step) * rowStride + left * inputPixelStride;
+      if (bulkRows) {
+        buffer.position(inputPos);
+        buffer.get(out, outputPos, width);
+        outputPos += width;
+      } else {
+        for (int col = 0; col < width; col++) {
+          out[outputPos] = buffer.get(inputPos);
+          outputPos += pixelStride;
+          inputPos += inputStep;
+        }
+      }
     }
+    buffer.rewind();
+  }
+
+  /**
+   * Returns the size of an NV21 image.
+   *
+   * @param width is the image width.
+   * @param height is the image height.
+   * @return the number of bytes of the NV21 image.
+   */
+  public static int getNV21Size(int width, int height) {
+    int imageSize = width * height;
+    return imageSize + 2 * (imageSize / 4);
+  }
 
-    return ByteBuffer.wrap(out);
+  /** Returns whether all planes use a pixel stride handled by {@link #unpackPlaneRows}. */
+  private static boolean supportsRowCopy(@NonNull Image.Plane[] planes) {
+    for (Image.Plane plane : planes) {
+      int pixelStride = plane.getPixelStride();
+      if (pixelStride != 1 && pixelStride != 2) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Unpacks an image plane into a byte array, like {@link #unpackPlane}, but reads each row of the
+   * plane with a single bulk {@link ByteBuffer#get(byte[], int, int)}.
+   *
+   * <p>Rows of planes with a pixel stride of 1 that are unpacked without spacing are read straight
+   * into 'out'. Other rows are read into a scratch row first and then de-interleaved, which avoids
+   * a bounds-checked {@link ByteBuffer#get(int)} for every pixel.
+   */
+  private void unpackPlaneRows(
+      @NonNull Image.Plane plane, int width, int height, byte[] out, int offset, int pixelStride)
+      throws IllegalStateException {
+    ByteBuffer buffer = plane.getBuffer();
+    buffer.rewind();
+
+    int rowStride = plane.getRowStride();
+    int inputPixelStride = plane.getPixelStride();
+
+    // Compute the size of the current plane.
+    // We assume that it has the aspect ratio as the original image.
+    int numRow = (buffer.limit() + rowStride - 1) / rowStride;
+    if (numRow == 0) {
+      return;
+    }
+    int scaleFactor = height / numRow;
+    int numCol = width / scaleFactor;
+    int rowLength = (numCol - 1) * inputPixelStride + 1;
+
+    int outputPos = offset;
+    int rowStart = 0;
+    if (inputPixelStride == 1 && pixelStride == 1) {
+      for (int row = 0; row < numRow; row++) {
+        buffer.position(rowStart);
+        buffer.get(out, outputPos, Math.min(numCol, buffer.remaining()));
+        outputPos += numCol;
+        rowStart += rowStride;
+      }
+    } else {
+      if (rowBuffer.length < rowLength) {
+        rowBuffer = new byte[rowLength];
+      }
+      byte[] row = rowBuffer;
+      for (int rowIndex = 0; rowIndex < numRow; rowIndex++) {
+        buffer.position(rowStart);
+        buffer.get(row, 0, Math.min(rowLength, buffer.remaining()));
+        for (int inputPos = 0; inputPos < rowLength; inputPos += inputPixelStride) {
+          out[outputPos] = row[inputPos];
+          outputPos += pixelStride;
+        }
+        rowStart += rowStride;
+      }
+    }
+    buffer.rewind();
   }
 
   /**
@@ -123,7 +326,8 @@ public class ImageStreamReaderUtils {
    *
    * <p>https://github.com/googlesamples/mlkit/blob/master/android/vision-quickstart/app/src/main/java/com/google/mlkit/vision/demo/BitmapUtils.java
    */
-  private static void unpackPlane(
+  @VisibleForTesting
+  static void unpackPlane(
       @NonNull Image.Plane plane, int width, int height, byte[] out, int offset, int pixelStride)
       throws IllegalStateException {
     ByteBuffer buffer = plane.getBuffer();
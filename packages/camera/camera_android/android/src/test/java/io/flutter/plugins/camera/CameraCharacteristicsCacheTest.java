@@ -0,0 +1,91 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.hardware.camera2.CameraAccessException;
+import android.hardware.camera2.CameraCharacteristics;
+import android.hardware.camera2.CameraManager;
+import android.hardware.camera2.CameraMetadata;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CameraCharacteristicsCacheTest {
+  private final CameraManager mockCameraManager = mock(CameraManager.class);
+  private final CameraCharacteristics mockCharacteristics = mock(CameraCharacteristics.class);
+  private CameraCharacteristicsCache cache;
+
+  @Before
+  public void before() throws CameraAccessException {
+    cache = CameraCharacteristicsCache.getInstance();
+    cache.clear();
+    when(mockCameraManager.getCameraIdList()).thenReturn(new String[] {"0", "1"});
+    when(mockCameraManager.getCameraCharacteristics("0")).thenReturn(mockCharacteristics);
+  }
+
+  @Test
+  public void getCameraCharacteristics_queriesCameraServiceOnce() throws CameraAccessException {
+    CameraCharacteristics first = cache.getCameraCharacteristics(mockCameraManager, "0");
+    CameraCharacteristics second = cache.getCameraCharacteristics(mockCameraManager, "0");
+
+    assertSame(mockCharacteristics, first);
+    assertSame(first, second);
+    verify(mockCameraManager, times(1)).getCameraCharacteristics("0");
+    verify(mockCameraManager, times(1)).registerAvailabilityCallback(any(), any());
+  }
+
+  @Test
+  public void getCameraIdList_queriesCameraServiceOnce() throws CameraAccessException {
+    cache.getCameraIdList(mockCameraManager);
+    String[] cameraNames = cache.getCameraIdList(mockCameraManager);
+
+    assertArrayEquals(new String[] {"0", "1"}, cameraNames);
+    verify(mockCameraManager, times(1)).getCameraIdList();
+  }
+
+  @Test
+  public void onCameraAvailable_invalidatesIdListForNewCamera() throws CameraAccessException {
+    cache.getCameraIdList(mockCameraManager);
+
+    cache.getAvailabilityCallback().onCameraAvailable("1");
+    cache.getCameraIdList(mockCameraManager);
+    verify(mockCameraManager, times(1)).getCameraIdList();
+
+    cache.getAvailabilityCallback().onCameraAvailable("2");
+    cache.getCameraIdList(mockCameraManager);
+    verify(mockCameraManager, times(2)).getCameraIdList();
+  }
+
+  @Test
+  public void onCameraUnavailable_keepsBuiltInCamera() throws CameraAccessException {
+    when(mockCharacteristics.get(CameraCharacteristics.LENS_FACING))
+        .thenReturn(CameraMetadata.LENS_FACING_BACK);
+    cache.getCameraCharacteristics(mockCameraManager, "0");
+
+    cache.getAvailabilityCallback().onCameraUnavailable("0");
+    cache.getCameraCharacteristics(mockCameraManager, "0");
+
+    verify(mockCameraManager, times(1)).getCameraCharacteristics("0");
+  }
+
+  @Test
+  public void onCameraUnavailable_invalidatesExternalCamera() throws CameraAccessException {
+    when(mockCharacteristics.get(CameraCharacteristics.LENS_FACING))
+        .thenReturn(CameraMetadata.LENS_FACING_EXTERNAL);
+    cache.getCameraCharacteristics(mockCameraManager, "0");
+
+    cache.getAvailabilityCallback().onCameraUnavailable("0");
+    cache.getCameraCharacteristics(mockCameraManager, "0");
+
+    verify(mockCameraManager, times(2)).getCameraCharacteristics("0");
+  }
+}
@@ -32,6 +32,7 @@ public class CameraPropertiesImplTest {
 
   @Before
   public void before() {
+    CameraCharacteristicsCache.getInstance().clear();
     try {
       when(mockCameraManager.getCameraCharacteristics(CAMERA_NAME)).thenReturn(mockCharacteristics);
       cameraProperties = new CameraPropertiesImpl(CAMERA_NAME, mockCameraManager);
@@ -279,6 +280,18 @@ public class CameraPropertiesImplTest {
     assertEquals(actualOrientation, expectedOrientation);
   }
 
+  @Test
+  public void getSensorInfoTimestampSourceTest() {
+    when(mockCharacteristics.get(CameraCharacteristics.SENSOR_INFO_TIMESTAMP_SOURCE))
+        .thenReturn(CameraCharacteristics.SENSOR_INFO_TIMESTAMP_SOURCE_REALTIME);
+
+    int actualTimestampSource = cameraProperties.getSensorInfoTimestampSource();
+
+    verify(mockCharacteristics, times(1)).get(CameraCharacteristics.SENSOR_INFO_TIMESTAMP_SOURCE);
+    assertEquals(
+        CameraCharacteristics.SENSOR_INFO_TIMESTAMP_SOURCE_REALTIME, actualTimestampSource);
+  }
+
   @Test
   public void getHardwareLevelTest() {
     int expectedLevel = 42;
@@ -7,9 +7,12 @@ package io.flutter.plugins.camera;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -21,6 +24,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import android.app.Activity;
+import android.content.Context;
 import android.graphics.SurfaceTexture;
 import android.hardware.camera2.CameraAccessException;
 import android.hardware.camera2.CameraCaptureSession;
@@ -28,6 +32,7 @@ import android.hardware.camera2.CameraDevice;
 import android.hardware.camera2.CameraMetadata;
 import android.hardware.camera2.CaptureRequest;
 import android.hardware.camera2.params.SessionConfiguration;
+import android.media.Image;
 import android.media.ImageReader;
 import android.media.MediaRecorder;
 import android.os.Build;
@@ -63,12 +68,20 @@ import io.flutter.plugins.camera.features.zoomlevel.ZoomLevelFeature;
 import io.flutter.plugins.camera.media.ImageStreamReader;
 import io.flutter.plugins.camera.utils.TestUtils;
 import io.flutter.view.TextureRegistry;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 
 class FakeCameraDeviceWrapper implements CameraDeviceWrapper {
@@ -1057,6 +1070,169 @@ public class CameraTest {
     verify(mockHandlerThread, never()).join();
   }
 
+  @Test
+  public void startImageStreamThread_shouldStartDedicatedThread() {
+    camera.startImageStreamThread();
+
+    mockHandlerThreadFactory.verify(() -> Camera.HandlerThreadFactory.create("CameraImageStream"));
+    assertEquals(mockHandler, camera.imageStreamHandler);
+  }
+
+  @Test
+  public void stopImageStreamThread_quitsSafely() {
+    camera.startImageStreamThread();
+    camera.stopImageStreamThread();
+
+    verify(mockHandlerThread).quitSafely();
+    assertNull(camera.imageStreamHandler);
+  }
+
+  @Test
+  public void setImageStreamImageAvailableListener_shouldUseImageStreamHandlerWhenStarted() {
+    ImageStreamReader mockImageStreamReader = mock(ImageStreamReader.class);
+    EventChannel.EventSink mockEventSink = mock(EventChannel.EventSink.class);
+    Handler mockImageStreamHandler = mock(Handler.class);
+    camera.imageStreamReader = mockImageStreamReader;
+    camera.imageStreamHandler = mockImageStreamHandler;
+
+    camera.setImageStreamImageAvailableListener(mockEventSink);
+
+    verify(mockImageStreamReader)
+        .subscribeListener(any(), eq(mockEventSink), eq(mockImageStreamHandler));
+  }
+
+  @Test
+  public void onImageAvailable_shouldSavePictureOnImageSaverExecutor() {
+    ExecutorService mockImageSaverExecutor = mock(ExecutorService.class);
+    ImageReader mockImageReader = mock(ImageReader.class);
+    when(mockImageReader.acquireNextImage()).thenReturn(mock(Image.class));
+    TestUtils.setPrivateField(camera, "imageSaverExecutor", mockImageSaverExecutor);
+
+    camera.onImageAvailable(mockImageReader);
+
+    verify(mockImageSaverExecutor, times(1)).execute(any(ImageSaver.class));
+    verify(mockHandler, never()).post(any(ImageSaver.class));
+  }
+
+  @Test
+  public void onImageAvailable_shouldFailCaptureWhenImageSaverQueueIsFull() {
+    ExecutorService mockImageSaverExecutor = mock(ExecutorService.class);
+    doThrow(new RejectedExecutionException()).when(mockImageSaverExecutor).execute(any());
+    ImageReader mockImageReader = mock(ImageReader.class);
+    Image mockImage = mock(Image.class);
+    when(mockImageReader.acquireNextImage()).thenReturn(mockImage);
+    TestUtils.setPrivateField(camera, "imageSaverExecutor", mockImageSaverExecutor);
+
+    camera.onImageAvailable(mockImageReader);
+
+    verify(mockImage, times(1)).close();
+    verify(mockDartMessenger, times(1))
+        .error(any(), eq("IOError"), eq("Too many pictures are waiting to be saved"), isNull());
+  }
+
+  @Test
+  public void startBurstCapture_shouldErrorWhenBurstIsAlreadyRunning() {
+    MethodChannel.Result mockResult = mock(MethodChannel.Result.class);
+    EventChannel mockBurstCaptureChannel = mock(EventChannel.class);
+    TestUtils.setPrivateField(camera, "burstCaptureSink", mock(EventChannel.EventSink.class));
+
+    camera.startBurstCapture(mockBurstCaptureChannel, -1, mockResult);
+
+    verify(mockResult, times(1))
+        .error("captureAlreadyActive", "Picture is currently already being captured", null);
+    verify(mockBurstCaptureChannel, never()).setStreamHandler(any());
+  }
+
+  @Test
+  public void startBurstCapture_shouldAddPictureReaderToRepeatingRequestWhileListening()
+      throws CameraAccessException {
+    MethodChannel.Result mockResult = mock(MethodChannel.Result.class);
+    EventChannel mockBurstCaptureChannel = mock(EventChannel.class);
+    ImageReader mockPictureImageReader = mock(ImageReader.class);
+    Surface mockPictureSurface = mock(Surface.class);
+    when(mockPictureImageReader.getSurface()).thenReturn(mockPictureSurface);
+    TestUtils.setPrivateField(camera, "pictureImageReader", mockPictureImageReader);
+    SensorOrientationFeature mockSensorOrientationFeature =
+        mockCameraFeatureFactory.createSensorOrientationFeature(mockCameraProperties, null, null);
+    when(mockSensorOrientationFeature.getDeviceOrientationManager())
+        .thenReturn(mock(DeviceOrientationManager.class));
+    ArgumentCaptor<EventChannel.StreamHandler> streamHandlerCaptor =
+        ArgumentCaptor.forClass(EventChannel.StreamHandler.class);
+
+    camera.startBurstCapture(mockBurstCaptureChannel, -1, mockResult);
+    verify(mockResult, times(1)).success(null);
+    verify(mockBurstCaptureChannel).setStreamHandler(streamHandlerCaptor.capture());
+
+    streamHandlerCaptor.getValue().onListen(null, mock(EventChannel.EventSink.class));
+    verify(mockPreviewRequestBuilder, times(1)).addTarget(mockPictureSurface);
+    verify(mockCaptureSession, times(1)).setRepeatingRequest(any(), any(), any());
+
+    streamHandlerCaptor.getValue().onCancel(null);
+    verify(mockPreviewRequestBuilder, times(1)).removeTarget(mockPictureSurface);
+    verify(mockCaptureSession, times(2)).setRepeatingRequest(any(), any(), any());
+  }
+
+  @Test
+  public void onBurstImageAvailable_shouldSkipPictureWhenNoBurstIsRunning() {
+    ExecutorService mockImageSaverExecutor = mock(ExecutorService.class);
+    ImageReader mockImageReader = mock(ImageReader.class);
+    Image mockImage = mock(Image.class);
+    when(mockImageReader.acquireNextImage()).thenReturn(mockImage);
+    TestUtils.setPrivateField(camera, "imageSaverExecutor", mockImageSaverExecutor);
+
+    camera.onBurstImageAvailable(mockImageReader);
+
+    verify(mockImage, times(1)).close();
+    verify(mockImageSaverExecutor, never()).execute(any());
+  }
+
+  @Test
+  public void onBurstImageAvailable_shouldFreeBufferAfterClosingImageAndReportPictureOnce()
+      throws IOException {
+    ExecutorService mockImageSaverExecutor = mock(ExecutorService.class);
+    ImageReader mockImageReader = mock(ImageReader.class);
+    Image mockImage = mock(Image.class);
+    Image.Plane mockPlane = mock(Image.Plane.class);
+    when(mockPlane.getBuffer()).thenReturn(ByteBuffer.allocate(0));
+    when(mockImage.getPlanes()).thenReturn(new Image.Plane[] {mockPlane});
+    when(mockImageReader.acquireNextImage()).thenReturn(mockImage);
+    AtomicInteger burstPicturesInFlight =
+        (AtomicInteger) TestUtils.getPrivateField(camera, "burstPicturesInFlight");
+    List<Integer> picturesInFlightOnClose = new ArrayList<>();
+    doAnswer(invocation -> picturesInFlightOnClose.add(burstPicturesInFlight.get()))
+        .when(mockImage)
+        .close();
+    EventChannel.EventSink mockSink = mock(EventChannel.EventSink.class);
+    TestUtils.setPrivateField(camera, "imageSaverExecutor", mockImageSaverExecutor);
+    TestUtils.setPrivateField(camera, "applicationContext", mock(Context.class));
+    TestUtils.setPrivateField(camera, "burstCaptureSink", mockSink);
+    TestUtils.setPrivateField(camera, "burstPicturesRemaining", -1);
+    // The picture is written, but closing the file fails.
+    FileOutputStream mockFileOutputStream = mock(FileOutputStream.class);
+    when(mockFileOutputStream.getChannel()).thenReturn(mock(FileChannel.class));
+    doThrow(new IOException()).when(mockFileOutputStream).close();
+    ArgumentCaptor<Runnable> saveCaptor = ArgumentCaptor.forClass(Runnable.class);
+    ArgumentCaptor<Runnable> eventCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+    camera.onBurstImageAvailable(mockImageReader);
+    verify(mockImageSaverExecutor, times(1)).execute(saveCaptor.capture());
+    try (MockedStatic<ImageSaver.FileOutputStreamFactory> mockFileOutputStreamFactory =
+        mockStatic(ImageSaver.FileOutputStreamFactory.class)) {
+      mockFileOutputStreamFactory
+          .when(() -> ImageSaver.FileOutputStreamFactory.create(any()))
+          .thenReturn(mockFileOutputStream);
+      saveCaptor.getValue().run();
+    }
+
+    // The picture buffer stays in use until the image is closed.
+    assertEquals(Collections.singletonList(1), picturesInFlightOnClose);
+    assertEquals(0, burstPicturesInFlight.get());
+    verify(mockHandler, times(1)).post(eventCaptor.capture());
+    eventCaptor.getValue().run();
+    verify(mockSink, times(1)).success(any());
+    verify(mockSink, never()).error(any(), any(), any());
+  }
+
   @Test
   public void onConverge_shouldTakePictureWithoutAbortingSession() throws CameraAccessException {
     ArrayList<CaptureRequest.Builder> mockRequestBuilders = new ArrayList<>();
@@ -19,10 +19,16 @@ import android.hardware.camera2.CameraMetadata;
 import io.flutter.embedding.engine.systemchannels.PlatformChannel;
 import java.util.List;
 import java.util.Map;
+import org.junit.Before;
 import org.junit.Test;
 
 public class CameraUtilsTest {
 
+  @Before
+  public void before() {
+    CameraCharacteristicsCache.getInstance().clear();
+  }
+
   @Test
   public void serializeDeviceOrientation_serializesCorrectly() {
     assertEquals(
@@ -5,6 +5,7 @@
 package io.flutter.plugins.camera;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
@@ -18,6 +19,7 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -32,9 +34,10 @@ public class ImageSaverTests {
   ImageSaver.Callback mockCallback;
   ImageSaver imageSaver;
   Image.Plane mockPlane;
-  ByteBuffer mockBuffer;
+  ByteBuffer buffer;
   MockedStatic<ImageSaver.FileOutputStreamFactory> mockFileOutputStreamFactory;
   FileOutputStream mockFileOutputStream;
+  FileChannel mockFileChannel;
 
   @Before
   public void setup() {
@@ -42,29 +45,20 @@ public class ImageSaverTests {
     mockFile = mock(File.class);
     when(mockFile.getAbsolutePath()).thenReturn("absolute/path");
     mockPlane = mock(Image.Plane.class);
-    mockBuffer = mock(ByteBuffer.class);
-    when(mockBuffer.remaining()).thenReturn(3);
-    when(mockBuffer.get(any()))
-        .thenAnswer(
-            new Answer<Object>() {
-              @Override
-              public Object answer(InvocationOnMock invocation) throws Throwable {
-                byte[] bytes = invocation.getArgument(0);
-                bytes[0] = 0x42;
-                bytes[1] = 0x00;
-                bytes[2] = 0x13;
-                return mockBuffer;
-              }
-            });
+    buffer = ByteBuffer.allocateDirect(3);
+    buffer.put(new byte[] {0x42, 0x00, 0x13});
+    buffer.flip();
 
     // Set up mocked image dependency
     mockImage = mock(Image.class);
-    when(mockPlane.getBuffer()).thenReturn(mockBuffer);
+    when(mockPlane.getBuffer()).thenReturn(buffer);
     when(mockImage.getPlanes()).thenReturn(new Image.Plane[] {mockPlane});
 
     // Set up mocked FileOutputStream
     mockFileOutputStreamFactory = mockStatic(ImageSaver.FileOutputStreamFactory.class);
     mockFileOutputStream = mock(FileOutputStream.class);
+    mockFileChannel = mock(FileChannel.class);
+    when(mockFileOutputStream.getChannel()).thenReturn(mockFileChannel);
     mockFileOutputStreamFactory
         .when(() -> ImageSaver.FileOutputStreamFactory.create(any()))
         .thenReturn(mockFileOutputStream);
@@ -79,18 +73,46 @@ public class ImageSaverTests {
     mockFileOutputStreamFactory.close();
   }
 
+  private void consumeBufferOnWrite() throws IOException {
+    when(mockFileChannel.write(any(ByteBuffer.class)))
+        .thenAnswer(
+            new Answer<Object>() {
+              @Override
+              public Object answer(InvocationOnMock invocation) throws Throwable {
+                ByteBuffer buffer = invocation.getArgument(0);
+                int written = buffer.remaining();
+                buffer.position(buffer.limit());
+                return written;
+              }
+            });
+  }
+
   @Test
   public void runWritesBytesToFileAndFinishesWithPath() throws IOException {
+    consumeBufferOnWrite();
+
     imageSaver.run();
 
-    verify(mockFileOutputStream, times(1)).write(new byte[] {0x42, 0x00, 0x13});
+    verify(mockFileChannel, times(1)).write(buffer);
+    verify(mockFileChannel, never()).force(anyBoolean());
     verify(mockCallback, times(1)).onComplete("absolute/path");
     verify(mockCallback, never()).onError(any(), any());
   }
 
+  @Test
+  public void runSyncsFileToDiskWhenRequested() throws IOException {
+    consumeBufferOnWrite();
+    imageSaver = new ImageSaver(mockImage, mockFile, mockCallback, true);
+
+    imageSaver.run();
+
+    verify(mockFileChannel, times(1)).force(false);
+    verify(mockCallback, times(1)).onComplete("absolute/path");
+  }
+
   @Test
   public void runCallsErrorOnWriteIoexception() throws IOException {
-    doThrow(new IOException()).when(mockFileOutputStream).write(any());
+    doThrow(new IOException()).when(mockFileChannel).write(any(ByteBuffer.class));
     imageSaver.run();
     verify(mockCallback, times(1)).onError("IOError", "Failed saving image");
     verify(mockCallback, never()).onComplete(any());
@@ -98,6 +120,7 @@ public class ImageSaverTests {
 
   @Test
   public void runCallsErrorOnCloseIoexception() throws IOException {
+    consumeBufferOnWrite();
     doThrow(new IOException("message")).when(mockFileOutputStream).close();
     imageSaver.run();
     verify(mockCallback, times(1)).onError("cameraAccess", "message");
@@ -4,7 +4,10 @@
 
 package io.flutter.plugins.camera;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -16,10 +19,15 @@ import androidx.lifecycle.LifecycleObserver;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
+import io.flutter.plugins.camera.media.ImageStreamBackpressure;
+import io.flutter.plugins.camera.media.ImageStreamOptions;
 import io.flutter.plugins.camera.utils.TestUtils;
 import io.flutter.view.TextureRegistry;
+import java.util.HashMap;
+import java.util.Map;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 public class MethodCallHandlerImplTest {
 
@@ -74,4 +82,49 @@ public class MethodCallHandlerImplTest {
     verify(mockCamera, times(1)).resumePreview();
     verify(mockResult, times(1)).success(null);
   }
+
+  @Test
+  public void onMethodCall_startImageStream_shouldPassBackpressureOptions()
+      throws CameraAccessException {
+    Map<String, Object> arguments = new HashMap<>();
+    arguments.put("backpressure", "dropOldest");
+    arguments.put("maxFramesInFlight", 3);
+    ArgumentCaptor<ImageStreamOptions> optionsCaptor =
+        ArgumentCaptor.forClass(ImageStreamOptions.class);
+
+    handler.onMethodCall(new MethodCall("startImageStream", arguments), mockResult);
+
+    verify(mockCamera, times(1)).startPreviewWithImageStream(any(), optionsCaptor.capture());
+    assertEquals(ImageStreamBackpressure.dropOldest, optionsCaptor.getValue().getBackpressure());
+    assertEquals(3, optionsCaptor.getValue().getMaxFramesInFlight());
+    verify(mockResult, times(1)).success(null);
+  }
+
+  @Test
+  public void onMethodCall_startImageStream_shouldPassStreamThreadingOptions()
+      throws CameraAccessException {
+    Map<String, Object> arguments = new HashMap<>();
+    arguments.put("maxImages", 4);
+    arguments.put("dedicatedProcessingThread", true);
+    ArgumentCaptor<ImageStreamOptions> optionsCaptor =
+        ArgumentCaptor.forClass(ImageStreamOptions.class);
+
+    handler.onMethodCall(new MethodCall("startImageStream", arguments), mockResult);
+
+    verify(mockCamera, times(1)).startPreviewWithImageStream(any(), optionsCaptor.capture());
+    assertEquals(4, optionsCaptor.getValue().getMaxImages());
+    assertTrue(optionsCaptor.getValue().isDedicatedProcessingThread());
+    verify(mockResult, times(1)).success(null);
+  }
+
+  @Test
+  public void onMethodCall_startImageStream_shouldSendErrorForUnknownBackpressure() {
+    Map<String, Object> arguments = new HashMap<>();
+    arguments.put("backpressure", "unknown");
+
+    handler.onMethodCall(new MethodCall("startImageStream", arguments), mockResult);
+
+    verify(mockResult, times(1))
+        .error("startImageStreamFailed", "Unknown backpressure strategy unknown", null);
+  }
 }
@@ -0,0 +1,103 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import android.os.SystemClock;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class ImageStreamBufferPoolTest {
+  @Test
+  public void acquire_allocatesWhenPoolIsEmpty() {
+    ImageStreamBufferPool pool = new ImageStreamBufferPool();
+
+    byte[] buffer = pool.acquire(16);
+
+    assertEquals(16, buffer.length);
+    assertEquals(0, pool.getHits());
+    assertEquals(1, pool.getMisses());
+    assertEquals(16, pool.getBytesAllocated());
+  }
+
+  @Test
+  public void acquire_reusesReleasedBufferOfSameSize() {
+    ImageStreamBufferPool pool = new ImageStreamBufferPool();
+    byte[] first = pool.acquire(16);
+    pool.release(first);
+
+    byte[] second = pool.acquire(16);
+
+    assertSame(first, second);
+    assertEquals(1, pool.getHits());
+    assertEquals(1, pool.getMisses());
+    assertEquals(16, pool.getBytesAllocated());
+  }
+
+  @Test
+  public void acquire_doesNotReuseBufferOfDifferentSize() {
+    ImageStreamBufferPool pool = new ImageStreamBufferPool();
+    byte[] first = pool.acquire(16);
+    pool.release(first);
+
+    byte[] second = pool.acquire(32);
+
+    assertNotSame(first, second);
+    assertEquals(32, second.length);
+    assertEquals(2, pool.getMisses());
+  }
+
+  @Test
+  public void release_dropsBuffersBeyondMaxBuffersPerSize() {
+    ImageStreamBufferPool pool = new ImageStreamBufferPool(1);
+    byte[] first = pool.acquire(16);
+    byte[] second = pool.acquire(16);
+    pool.release(first);
+    pool.release(second);
+
+    pool.acquire(16);
+    pool.acquire(16);
+
+    assertEquals(1, pool.getHits());
+    assertEquals(3, pool.getMisses());
+  }
+
+  @Test
+  public void clear_dropsIdleBuffers() {
+    ImageStreamBufferPool pool = new ImageStreamBufferPool();
+    byte[] first = pool.acquire(16);
+    pool.release(first);
+
+    pool.clear();
+
+    assertNotSame(first, pool.acquire(16));
+  }
+
+  @Test
+  public void metricsListener_isNotifiedOncePerInterval() {
+    ImageStreamBufferPool pool = new ImageStreamBufferPool();
+    ImageStreamBufferPool.MetricsListener mockListener =
+        mock(ImageStreamBufferPool.MetricsListener.class);
+    pool.setMetricsListener(mockListener);
+
+    pool.release(pool.acquire(1000));
+    verify(mockListener, never()).onMetrics(anyLong(), anyLong(), anyLong());
+
+    SystemClock.sleep(ImageStreamBufferPool.METRICS_INTERVAL_MS);
+    pool.acquire(1000);
+
+    verify(mockListener).onMetrics(eq(1L), eq(1L), anyLong());
+  }
+}
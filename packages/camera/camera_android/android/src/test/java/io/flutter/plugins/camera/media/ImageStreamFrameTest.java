@@ -0,0 +1,64 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import android.graphics.ImageFormat;
+import io.flutter.plugins.camera.types.CameraCaptureProperties;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.junit.Test;
+
+public class ImageStreamFrameTest {
+  @Test
+  public void writeHeader_packsHeaderAndDescriptors() {
+    CameraCaptureProperties captureProps = new CameraCaptureProperties();
+    captureProps.setLastLensAperture(1.5f);
+    captureProps.setLastSensorExposureTime(9991324L);
+    byte[] frame = new byte[ImageStreamFrame.getSize(2, 6)];
+
+    ByteBuffer header =
+        ImageStreamFrame.writeHeader(frame, 4, 1, ImageFormat.NV21, 2, captureProps);
+    ImageStreamFrame.writePlaneDescriptor(header, 4, 1, 0, 0, 4);
+    ImageStreamFrame.writePlaneDescriptor(header, 2, 1, 0, 0, 2);
+    ImageStreamFrame.writeCounters(frame, 3, 2);
+    ImageStreamFrame.writeConversionStrategy(frame, ImageStreamReaderUtils.CONVERSION_PER_PIXEL);
+
+    ByteBuffer buffer = ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN);
+    assertEquals(
+        ImageStreamFrame.HEADER_SIZE + 2 * ImageStreamFrame.PLANE_DESCRIPTOR_SIZE + 6,
+        frame.length);
+    assertEquals(ImageStreamFrame.getDataOffset(2), header.position());
+    assertEquals(ImageStreamFrame.MAGIC, buffer.getInt(0));
+    assertEquals(4, buffer.getInt(4));
+    assertEquals(1, buffer.getInt(8));
+    assertEquals(ImageFormat.NV21, buffer.getInt(12));
+    assertEquals(2, buffer.getInt(16));
+    assertEquals(1.5f, buffer.getFloat(20), 0);
+    assertEquals(9991324L, buffer.getLong(24));
+    assertTrue(Double.isNaN(buffer.getDouble(32)));
+    assertEquals(3, buffer.getLong(40));
+    assertEquals(2, buffer.getLong(48));
+    assertEquals(3, buffer.getInt(56));
+    assertEquals(0, buffer.getInt(60));
+
+    int descriptor = ImageStreamFrame.HEADER_SIZE + ImageStreamFrame.PLANE_DESCRIPTOR_SIZE;
+    assertEquals(2, buffer.getInt(descriptor));
+    assertEquals(0, buffer.getInt(descriptor + 8));
+    assertEquals(2, buffer.getInt(descriptor + 16));
+  }
+
+  @Test
+  public void writeConversionStrategy_writesZeroForUnconvertedFrames() {
+    byte[] frame = new byte[ImageStreamFrame.getSize(0, 0)];
+    ImageStreamFrame.writeConversionStrategy(frame, ImageStreamReaderUtils.CONVERSION_SAMPLED);
+
+    ImageStreamFrame.writeConversionStrategy(frame, null);
+
+    assertEquals(0, ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN).getInt(56));
+  }
+}
@@ -0,0 +1,59 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import android.hardware.camera2.CameraCharacteristics;
+import android.os.SystemClock;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class ImageStreamLatencyTrackerTest {
+  private static final long FIVE_MS_IN_NANOS = 5_000_000;
+
+  @Test
+  public void onFrameDelivered_measuresLatencyAgainstRealtimeClock() {
+    ImageStreamLatencyTracker tracker = new ImageStreamLatencyTracker();
+    tracker.setTimestampSource(CameraCharacteristics.SENSOR_INFO_TIMESTAMP_SOURCE_REALTIME);
+
+    tracker.onFrameDelivered(SystemClock.elapsedRealtimeNanos() - FIVE_MS_IN_NANOS);
+
+    assertEquals(FIVE_MS_IN_NANOS, tracker.getLastLatencyNanos());
+  }
+
+  @Test
+  public void onFrameDelivered_ignoresTimestampsFromTheFuture() {
+    ImageStreamLatencyTracker tracker = new ImageStreamLatencyTracker();
+    tracker.setTimestampSource(CameraCharacteristics.SENSOR_INFO_TIMESTAMP_SOURCE_REALTIME);
+
+    tracker.onFrameDelivered(SystemClock.elapsedRealtimeNanos() + FIVE_MS_IN_NANOS);
+
+    assertEquals(-1, tracker.getLastLatencyNanos());
+  }
+
+  @Test
+  public void latencyListener_isNotifiedOncePerInterval() {
+    ImageStreamLatencyTracker tracker = new ImageStreamLatencyTracker();
+    tracker.setTimestampSource(CameraCharacteristics.SENSOR_INFO_TIMESTAMP_SOURCE_REALTIME);
+    ImageStreamLatencyTracker.LatencyListener mockListener =
+        mock(ImageStreamLatencyTracker.LatencyListener.class);
+    tracker.setLatencyListener(mockListener);
+
+    tracker.onFrameDelivered(SystemClock.elapsedRealtimeNanos() - FIVE_MS_IN_NANOS);
+    verify(mockListener, never()).onLatency(anyLong(), anyLong(), anyLong());
+
+    SystemClock.sleep(ImageStreamLatencyTracker.METRICS_INTERVAL_MS);
+    tracker.onFrameDelivered(SystemClock.elapsedRealtimeNanos() - FIVE_MS_IN_NANOS);
+
+    verify(mockListener).onLatency(2, 5000, 5000);
+  }
+}
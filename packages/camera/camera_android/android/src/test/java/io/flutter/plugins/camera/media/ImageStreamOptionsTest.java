@@ -0,0 +1,72 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class ImageStreamOptionsTest {
+  @Test
+  public void computeRegion_returnsNullWithoutCropOrTargetSize() {
+    ImageStreamOptions options = ImageStreamOptions.DEFAULT;
+
+    assertNull(options.computeRegion(1920, 1080));
+  }
+
+  @Test
+  public void computeRegion_downscalesToTargetSize() {
+    ImageStreamOptions options = new ImageStreamOptions.Builder().setTargetSize(320, 240).build();
+
+    ImageStreamOptions.Region region = options.computeRegion(1920, 1080);
+
+    assertEquals(0, region.left);
+    assertEquals(0, region.top);
+    assertEquals(6, region.step);
+    assertEquals(320, region.width);
+    assertEquals(180, region.height);
+  }
+
+  @Test
+  public void computeRegion_alignsAndClampsCropRectangle() {
+    ImageStreamOptions options =
+        new ImageStreamOptions.Builder().setCropRect(1601, 901, 640, 480).build();
+
+    ImageStreamOptions.Region region = options.computeRegion(1920, 1080);
+
+    assertEquals(1600, region.left);
+    assertEquals(900, region.top);
+    assertEquals(1, region.step);
+    assertEquals(320, region.width);
+    assertEquals(180, region.height);
+  }
+
+  @Test
+  public void computeRegion_usesExplicitStride() {
+    ImageStreamOptions options =
+        new ImageStreamOptions.Builder()
+            .setCropRect(100, 100, 640, 480)
+            .setTargetSize(64, 64)
+            .setStride(2)
+            .build();
+
+    ImageStreamOptions.Region region = options.computeRegion(1920, 1080);
+
+    assertEquals(2, region.step);
+    assertEquals(320, region.width);
+    assertEquals(240, region.height);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void build_rejectsNegativeCropRectangle() {
+    new ImageStreamOptions.Builder().setCropRect(-1, 0, 10, 10).build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void build_rejectsNegativeMaxImages() {
+    new ImageStreamOptions.Builder().setMaxImages(-1).build();
+  }
+}
@@ -4,20 +4,31 @@
 
 package io.flutter.plugins.camera.media;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.robolectric.Shadows.shadowOf;
 
 import android.graphics.ImageFormat;
 import android.media.Image;
 import android.media.ImageReader;
+import android.os.Handler;
+import android.os.Looper;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugins.camera.types.CameraCaptureProperties;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.robolectric.RobolectricTestRunner;
@@ -58,7 +69,7 @@ public class ImageStreamReaderTest {
         new ImageStreamReader(mockImageReader, dartImageFormat, mockImageStreamReaderUtils);
 
     ByteBuffer mockBytes = ByteBuffer.allocate(0);
-    when(mockImageStreamReaderUtils.yuv420ThreePlanesToNV21(any(), anyInt(), anyInt()))
+    when(mockImageStreamReaderUtils.yuv420ThreePlanesToNV21(any(), anyInt(), anyInt(), any()))
         .thenReturn(mockBytes);
 
     // The image format as streamed from the camera
@@ -102,7 +113,8 @@ public class ImageStreamReaderTest {
 
     // Make sure we processed the frame with parsePlanesForNv21
     verify(mockImageStreamReaderUtils)
-        .yuv420ThreePlanesToNV21(planes, mockImage.getWidth(), mockImage.getHeight());
+        .yuv420ThreePlanesToNV21(
+            eq(planes), eq(mockImage.getWidth()), eq(mockImage.getHeight()), any());
   }
 
   /** If we are requesting YUV420, then we should send the 3-plane image as it is. */
@@ -117,7 +129,7 @@ public class ImageStreamReaderTest {
         new ImageStreamReader(mockImageReader, dartImageFormat, mockImageStreamReaderUtils);
 
     ByteBuffer mockBytes = ByteBuffer.allocate(0);
-    when(mockImageStreamReaderUtils.yuv420ThreePlanesToNV21(any(), anyInt(), anyInt()))
+    when(mockImageStreamReaderUtils.yuv420ThreePlanesToNV21(any(), anyInt(), anyInt(), any()))
         .thenReturn(mockBytes);
 
     // The image format as streamed from the camera
@@ -160,6 +172,249 @@ public class ImageStreamReaderTest {
     imageStreamReader.onImageAvailable(mockImage, mockCaptureProps, mockEventSink);
 
     // Make sure we processed the frame with parsePlanesForYuvOrJpeg
-    verify(mockImageStreamReaderUtils, never()).yuv420ThreePlanesToNV21(any(), anyInt(), anyInt());
+    verify(mockImageStreamReaderUtils, never())
+        .yuv420ThreePlanesToNV21(any(), anyInt(), anyInt(), any());
+  }
+
+  /** Plane bytes of YUV frames come from the buffer pool and are handed back once delivered. */
+  @Test
+  public void parsePlanesForYuvOrJpeg_recyclesPlaneBuffers() {
+    ImageReader mockImageReader = mock(ImageReader.class);
+    ImageStreamReaderUtils mockImageStreamReaderUtils = mock(ImageStreamReaderUtils.class);
+    ImageStreamBufferPool bufferPool = new ImageStreamBufferPool();
+    ImageStreamReader imageStreamReader =
+        new ImageStreamReader(
+            mockImageReader, ImageFormat.YUV_420_888, mockImageStreamReaderUtils, bufferPool);
+
+    Image mockImage = mock(Image.class);
+    Image.Plane planeY = mock(Image.Plane.class);
+    when(planeY.getBuffer()).thenReturn(ByteBuffer.allocate(64));
+    when(planeY.getRowStride()).thenReturn(8);
+    when(planeY.getPixelStride()).thenReturn(1);
+    when(mockImage.getPlanes()).thenReturn(new Image.Plane[] {planeY});
+
+    List<Map<String, Object>> firstPlanes = imageStreamReader.parsePlanesForYuvOrJpeg(mockImage);
+    imageStreamReader.releasePlaneBuffers(firstPlanes);
+    when(planeY.getBuffer()).thenReturn(ByteBuffer.allocate(64));
+    List<Map<String, Object>> secondPlanes = imageStreamReader.parsePlanesForYuvOrJpeg(mockImage);
+
+    assertSame(firstPlanes.get(0).get("bytes"), secondPlanes.get(0).get("bytes"));
+    assertEquals(1, bufferPool.getHits());
+    assertEquals(1, bufferPool.getMisses());
+  }
+
+  private Image createSinglePlaneImage() {
+    Image mockImage = mock(Image.class);
+    Image.Plane planeY = mock(Image.Plane.class);
+    when(planeY.getBuffer()).thenReturn(ByteBuffer.allocate(64));
+    when(planeY.getRowStride()).thenReturn(8);
+    when(planeY.getPixelStride()).thenReturn(1);
+    when(mockImage.getPlanes()).thenReturn(new Image.Plane[] {planeY});
+    return mockImage;
+  }
+
+  /** With keepLatest, frames arriving before the previous one is delivered are not copied. */
+  @Test
+  public void onImageAvailable_keepLatestSkipsFramesWhileOneIsInFlight() {
+    ImageStreamReader imageStreamReader =
+        new ImageStreamReader(
+            mock(ImageReader.class), ImageFormat.YUV_420_888, mock(ImageStreamReaderUtils.class));
+    imageStreamReader.setOptions(
+        new ImageStreamOptions.Builder()
+            .setBackpressure(ImageStreamBackpressure.keepLatest)
+            .build());
+    CameraCaptureProperties mockCaptureProps = mock(CameraCaptureProperties.class);
+    EventChannel.EventSink mockEventSink = mock(EventChannel.EventSink.class);
+
+    Image firstImage = createSinglePlaneImage();
+    Image secondImage = createSinglePlaneImage();
+    imageStreamReader.onImageAvailable(firstImage, mockCaptureProps, mockEventSink);
+    imageStreamReader.onImageAvailable(secondImage, mockCaptureProps, mockEventSink);
+    shadowOf(Looper.getMainLooper()).idle();
+
+    verify(secondImage, never()).getPlanes();
+    verify(secondImage).close();
+    verify(mockEventSink, times(1)).success(any());
+    assertEquals(1, imageStreamReader.getDeliveredFrameCount());
+    assertEquals(1, imageStreamReader.getDroppedFrameCount());
+  }
+
+  /** With dropOldest, only the newest maxFramesInFlight frames are delivered. */
+  @Test
+  public void onImageAvailable_dropOldestDeliversNewestFrames() {
+    ImageStreamReader imageStreamReader =
+        new ImageStreamReader(
+            mock(ImageReader.class), ImageFormat.YUV_420_888, mock(ImageStreamReaderUtils.class));
+    imageStreamReader.setOptions(
+        new ImageStreamOptions.Builder()
+            .setBackpressure(ImageStreamBackpressure.dropOldest)
+            .setMaxFramesInFlight(2)
+            .build());
+    CameraCaptureProperties mockCaptureProps = mock(CameraCaptureProperties.class);
+    EventChannel.EventSink mockEventSink = mock(EventChannel.EventSink.class);
+
+    for (int i = 0; i < 5; i++) {
+      imageStreamReader.onImageAvailable(
+          createSinglePlaneImage(), mockCaptureProps, mockEventSink);
+    }
+    shadowOf(Looper.getMainLooper()).idle();
+
+    verify(mockEventSink, times(2)).success(any());
+    assertEquals(2, imageStreamReader.getDeliveredFrameCount());
+    assertEquals(3, imageStreamReader.getDroppedFrameCount());
+  }
+
+  /** Without a backpressure strategy every frame is delivered. */
+  @Test
+  public void onImageAvailable_deliversEveryFrameByDefault() {
+    ImageStreamReader imageStreamReader =
+        new ImageStreamReader(
+            mock(ImageReader.class), ImageFormat.YUV_420_888, mock(ImageStreamReaderUtils.class));
+    CameraCaptureProperties mockCaptureProps = mock(CameraCaptureProperties.class);
+    EventChannel.EventSink mockEventSink = mock(EventChannel.EventSink.class);
+
+    for (int i = 0; i < 5; i++) {
+      imageStreamReader.onImageAvailable(
+          createSinglePlaneImage(), mockCaptureProps, mockEventSink);
+    }
+    shadowOf(Looper.getMainLooper()).idle();
+
+    verify(mockEventSink, times(5)).success(any());
+    assertEquals(0, imageStreamReader.getDroppedFrameCount());
+  }
+
+  /** Binary NV21 frames are converted from the image straight into the packed frame. */
+  @Test
+  public void packFrame_convertsNv21IntoPackedFrame() {
+    ImageStreamReader imageStreamReader =
+        new ImageStreamReader(
+            mock(ImageReader.class), ImageFormat.NV21, new ImageStreamReaderUtils());
+    Image image = ImageStreamReaderUtilsTest.getSeparatePlanesImage(16, 8, 4, 2);
+    byte[] expected = ImageStreamReaderUtilsTest.convertPerPixel(image);
+
+    byte[] frame = imageStreamReader.packFrame(image, null, new CameraCaptureProperties());
+
+    ByteBuffer buffer = ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN);
+    assertEquals(ImageStreamFrame.getSize(1, expected.length), frame.length);
+    assertEquals(1, buffer.getInt(16));
+    // The planes are converted with ImageStreamReaderUtils.CONVERSION_ROW_COPY.
+    assertEquals(2, buffer.getInt(56));
+    assertEquals(16, buffer.getInt(ImageStreamFrame.HEADER_SIZE));
+    assertEquals(expected.length, buffer.getInt(ImageStreamFrame.HEADER_SIZE + 16));
+    int offset = ImageStreamFrame.getDataOffset(1);
+    assertArrayEquals(expected, Arrays.copyOfRange(frame, offset, offset + expected.length));
+  }
+
+  /** Binary NV21 frames sampled to a region report the sampled conversion strategy. */
+  @Test
+  public void packFrame_reportsSampledConversionForRegion() {
+    ImageStreamReader imageStreamReader =
+        new ImageStreamReader(
+            mock(ImageReader.class), ImageFormat.NV21, new ImageStreamReaderUtils());
+    Image image = ImageStreamReaderUtilsTest.getSeparatePlanesImage(16, 8, 4, 2);
+    ImageStreamOptions.Region region =
+        new ImageStreamOptions.Builder()
+            .setCropRect(4, 2, 8, 4)
+            .setStride(2)
+            .build()
+            .computeRegion(16, 8);
+
+    byte[] frame = imageStreamReader.packFrame(image, region, new CameraCaptureProperties());
+
+    ByteBuffer buffer = ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN);
+    assertEquals(4, buffer.getInt(4));
+    assertEquals(4, buffer.getInt(56));
+  }
+
+  /** Binary YUV frames copy every plane as-is, after one descriptor per plane. */
+  @Test
+  public void packFrame_copiesYuvPlanesIntoPackedFrame() {
+    ImageStreamReader imageStreamReader =
+        new ImageStreamReader(
+            mock(ImageReader.class), ImageFormat.YUV_420_888, mock(ImageStreamReaderUtils.class));
+    Image image = createSinglePlaneImage();
+    image.getPlanes()[0].getBuffer().put(0, (byte) 7).put(63, (byte) 9);
+
+    byte[] frame = imageStreamReader.packFrame(image, null, new CameraCaptureProperties());
+
+    ByteBuffer buffer = ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN);
+    int offset = ImageStreamFrame.getDataOffset(1);
+    assertEquals(offset + 64, frame.length);
+    assertEquals(8, buffer.getInt(ImageStreamFrame.HEADER_SIZE));
+    assertEquals(1, buffer.getInt(ImageStreamFrame.HEADER_SIZE + 4));
+    assertEquals(64, buffer.getInt(ImageStreamFrame.HEADER_SIZE + 16));
+    assertEquals(0, buffer.getInt(56));
+    assertEquals(7, frame[offset]);
+    assertEquals(9, frame[offset + 63]);
+  }
+
+  /** Frames still waiting for delivery hand their plane bytes back when the stream stops. */
+  @Test
+  public void removeListener_recyclesPendingFrames() {
+    ImageStreamBufferPool bufferPool = new ImageStreamBufferPool();
+    ImageStreamReader imageStreamReader =
+        new ImageStreamReader(
+            mock(ImageReader.class),
+            ImageFormat.YUV_420_888,
+            mock(ImageStreamReaderUtils.class),
+            bufferPool);
+    CameraCaptureProperties mockCaptureProps = mock(CameraCaptureProperties.class);
+    EventChannel.EventSink mockEventSink = mock(EventChannel.EventSink.class);
+
+    imageStreamReader.onImageAvailable(createSinglePlaneImage(), mockCaptureProps, mockEventSink);
+    imageStreamReader.onImageAvailable(createSinglePlaneImage(), mockCaptureProps, mockEventSink);
+    imageStreamReader.removeListener(mock(Handler.class));
+    shadowOf(Looper.getMainLooper()).idle();
+
+    verify(mockEventSink, never()).success(any());
+    imageStreamReader.parsePlanesForYuvOrJpeg(createSinglePlaneImage());
+    imageStreamReader.parsePlanesForYuvOrJpeg(createSinglePlaneImage());
+    assertEquals(2, bufferPool.getHits());
+  }
+
+  /** A crop region is applied natively while converting to NV21. */
+  @Test
+  public void parsePlanesForNv21_cropsAndDownscalesToRegion() {
+    ImageStreamReader imageStreamReader =
+        new ImageStreamReader(
+            mock(ImageReader.class), ImageFormat.NV21, mock(ImageStreamReaderUtils.class));
+    imageStreamReader.setOptions(
+        new ImageStreamOptions.Builder().setCropRect(4, 2, 8, 4).setStride(2).build());
+
+    // An 16x8 image whose Y values are the pixel column and UV values are the chroma column.
+    Image mockImage = mock(Image.class);
+    when(mockImage.getWidth()).thenReturn(16);
+    when(mockImage.getHeight()).thenReturn(8);
+    byte[] y = new byte[16 * 8];
+    for (int i = 0; i < y.length; i++) {
+      y[i] = (byte) (i % 16);
+    }
+    byte[] u = new byte[8 * 4];
+    byte[] v = new byte[8 * 4];
+    for (int i = 0; i < u.length; i++) {
+      u[i] = (byte) (100 + i % 8);
+      v[i] = (byte) (200 + i % 8);
+    }
+    Image.Plane planeY = mock(Image.Plane.class);
+    Image.Plane planeU = mock(Image.Plane.class);
+    Image.Plane planeV = mock(Image.Plane.class);
+    when(planeY.getBuffer()).thenReturn(ByteBuffer.wrap(y));
+    when(planeY.getRowStride()).thenReturn(16);
+    when(planeY.getPixelStride()).thenReturn(1);
+    when(planeU.getBuffer()).thenReturn(ByteBuffer.wrap(u));
+    when(planeU.getRowStride()).thenReturn(8);
+    when(planeU.getPixelStride()).thenReturn(1);
+    when(planeV.getBuffer()).thenReturn(ByteBuffer.wrap(v));
+    when(planeV.getRowStride()).thenReturn(8);
+    when(planeV.getPixelStride()).thenReturn(1);
+    when(mockImage.getPlanes()).thenReturn(new Image.Plane[] {planeY, planeU, planeV});
+
+    List<Map<String, Object>> planes = imageStreamReader.parsePlanesForNv21(mockImage);
+
+    // The 8x4 crop at (4, 2) sampled every 2nd pixel is a 4x2 image.
+    byte[] expected = {4, 6, 8, 10, 4, 6, 8, 10, (byte) 202, 102, (byte) 204, 104};
+    assertEquals(1, planes.size());
+    assertEquals(4, planes.get(0).get("bytesPerRow"));
+    assertArrayEquals(expected, (byte[]) planes.get(0).get("bytes"));
   }
 }
@@ -0,0 +1,62 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import android.media.Image;
+import android.util.Log;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+/**
+ * Compares the row copy path of {@link ImageStreamReaderUtils#yuv420ThreePlanesToNV21} with the
+ * per-pixel path on synthetic 1280x720 planes with a pixel stride of 2.
+ *
+ * <p>Timings depend on the host, so this is not part of the unit tests. Remove the {@link Ignore}
+ * annotation to run it locally; the timings are logged under {@link #TAG}.
+ */
+@Ignore("Benchmark, run manually.")
+@RunWith(RobolectricTestRunner.class)
+public class ImageStreamReaderUtilsBenchmark {
+  private static final String TAG = "ImageStreamReaderUtilsBenchmark";
+  private static final int ITERATIONS = 20;
+
+  @Test
+  public void yuv420ThreePlanesToNV21_rowCopyVersusPerPixel() {
+    ImageStreamReaderUtils imageStreamReaderUtils = new ImageStreamReaderUtils();
+    Image mockImage = ImageStreamReaderUtilsTest.getSeparatePlanesImage(1280, 720, 256, 2);
+    Image.Plane[] planes = mockImage.getPlanes();
+    byte[] out = new byte[ImageStreamReaderUtils.getNV21Size(1280, 720)];
+
+    // Warm up both paths.
+    for (int i = 0; i < ITERATIONS; i++) {
+      ImageStreamReaderUtilsTest.convertPerPixel(mockImage);
+      imageStreamReaderUtils.yuv420ThreePlanesToNV21(planes, 1280, 720, out);
+    }
+
+    long perPixelStart = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      ImageStreamReaderUtilsTest.convertPerPixel(mockImage);
+    }
+    long perPixelNanos = (System.nanoTime() - perPixelStart) / ITERATIONS;
+
+    long rowCopyStart = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      imageStreamReaderUtils.yuv420ThreePlanesToNV21(planes, 1280, 720, out);
+    }
+    long rowCopyNanos = (System.nanoTime() - rowCopyStart) / ITERATIONS;
+
+    Log.i(
+        TAG,
+        "1280x720 per pixel: "
+            + perPixelNanos / 1000
+            + " us/frame, row copy: "
+            + rowCopyNanos / 1000
+            + " us/frame");
+    Assert.assertArrayEquals(ImageStreamReaderUtilsTest.convertPerPixel(mockImage), out);
+  }
+}
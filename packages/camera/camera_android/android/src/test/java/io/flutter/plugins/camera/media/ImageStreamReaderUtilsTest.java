@@ -96,4 +96,103 @@ public class ImageStreamReaderUtilsTest {
         ((long) imageWidth * imageHeight) + (2 * ((long) (imageWidth / 2) * (imageHeight / 2))),
         result.limit());
   }
+
+  /**
+   * Creates a YUV_420_888 image whose U and V planes live in separate buffers filled with
+   * distinct values, so they can not be copied as NV21 directly.
+   */
+  static Image getSeparatePlanesImage(
+      int imageWidth, int imageHeight, int padding, int uvPixelStride) {
+    int yRowStride = imageWidth + padding;
+    int uvRowStride = (imageWidth / 2) * uvPixelStride + padding;
+    int ySize = (yRowStride * imageHeight) - padding;
+    int uvSize = (uvRowStride * (imageHeight / 2)) - padding - (uvPixelStride - 1);
+
+    Image mockImage = mock(Image.class);
+    when(mockImage.getWidth()).thenReturn(imageWidth);
+    when(mockImage.getHeight()).thenReturn(imageHeight);
+    when(mockImage.getFormat()).thenReturn(ImageFormat.YUV_420_888);
+
+    Image.Plane planeY = mock(Image.Plane.class);
+    Image.Plane planeU = mock(Image.Plane.class);
+    Image.Plane planeV = mock(Image.Plane.class);
+    when(planeY.getBuffer()).thenReturn(filledBuffer(ySize, 0));
+    when(planeY.getRowStride()).thenReturn(yRowStride);
+    when(planeY.getPixelStride()).thenReturn(1);
+    when(planeU.getBuffer()).thenReturn(filledBuffer(uvSize, 1));
+    when(planeV.getBuffer()).thenReturn(filledBuffer(uvSize, 2));
+    when(planeU.getRowStride()).thenReturn(uvRowStride);
+    when(planeV.getRowStride()).thenReturn(uvRowStride);
+    when(planeU.getPixelStride()).thenReturn(uvPixelStride);
+    when(planeV.getPixelStride()).thenReturn(uvPixelStride);
+
+    Image.Plane[] planes = {planeY, planeU, planeV};
+    when(mockImage.getPlanes()).thenReturn(planes);
+    return mockImage;
+  }
+
+  private static ByteBuffer filledBuffer(int size, int seed) {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(size);
+    for (int i = 0; i < size; i++) {
+      buffer.put((byte) (i * 31 + seed));
+    }
+    buffer.rewind();
+    return buffer;
+  }
+
+  /** Converts the image with the per-pixel reference implementation. */
+  static byte[] convertPerPixel(Image image) {
+    int width = image.getWidth();
+    int height = image.getHeight();
+    int imageSize = width * height;
+    byte[] out = new byte[ImageStreamReaderUtils.getNV21Size(width, height)];
+    Image.Plane[] planes = image.getPlanes();
+    ImageStreamReaderUtils.unpackPlane(planes[0], width, height, out, 0, 1);
+    ImageStreamReaderUtils.unpackPlane(planes[1], width, height, out, imageSize + 1, 2);
+    ImageStreamReaderUtils.unpackPlane(planes[2], width, height, out, imageSize, 2);
+    return out;
+  }
+
+  /** The row copy path must produce the same bytes as the per-pixel path for planar input. */
+  @Test
+  public void yuv420ThreePlanesToNV21_rowCopyMatchesPerPixelForPixelStride1() {
+    Image mockImage = getSeparatePlanesImage(160, 120, 16, 1);
+
+    ByteBuffer result =
+        imageStreamReaderUtils.yuv420ThreePlanesToNV21(
+            mockImage.getPlanes(), mockImage.getWidth(), mockImage.getHeight());
+
+    Assert.assertEquals(
+        ImageStreamReaderUtils.CONVERSION_ROW_COPY,
+        imageStreamReaderUtils.getLastConversionStrategy());
+    Assert.assertArrayEquals(convertPerPixel(mockImage), result.array());
+  }
+
+  /** The row copy path must produce the same bytes as the per-pixel path for interleaved input. */
+  @Test
+  public void yuv420ThreePlanesToNV21_rowCopyMatchesPerPixelForPixelStride2() {
+    Image mockImage = getSeparatePlanesImage(160, 120, 16, 2);
+
+    ByteBuffer result =
+        imageStreamReaderUtils.yuv420ThreePlanesToNV21(
+            mockImage.getPlanes(), mockImage.getWidth(), mockImage.getHeight());
+
+    Assert.assertEquals(
+        ImageStreamReaderUtils.CONVERSION_ROW_COPY,
+        imageStreamReaderUtils.getLastConversionStrategy());
+    Assert.assertArrayEquals(convertPerPixel(mockImage), result.array());
+  }
+
+  /** The supplied output array is filled in place so it can be reused across frames. */
+  @Test
+  public void yuv420ThreePlanesToNV21_writesIntoSuppliedArray() {
+    Image mockImage = getSeparatePlanesImage(160, 120, 0, 2);
+    byte[] out = new byte[ImageStreamReaderUtils.getNV21Size(160, 120)];
+
+    ByteBuffer result =
+        imageStreamReaderUtils.yuv420ThreePlanesToNV21(
+            mockImage.getPlanes(), mockImage.getWidth(), mockImage.getHeight(), out);
+
+    Assert.assertSame(out, result.array());
+  }
 }
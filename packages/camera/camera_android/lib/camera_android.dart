@@ -3,3 +3,5 @@
 // found in the LICENSE file.
 
 export 'src/android_camera.dart';
+export 'src/image_stream_options.dart';
+export 'src/image_stream_stats.dart';
@@ -11,6 +11,8 @@ import 'package:flutter/services.dart';
 import 'package:flutter/widgets.dart';
 import 'package:stream_transform/stream_transform.dart';
 
+import 'image_stream_options.dart';
+import 'image_stream_stats.dart';
 import 'type_conversion.dart';
 import 'utils.dart';
 
@@ -64,6 +66,17 @@ class AndroidCamera extends CameraPlatform {
   // The stream for vending frames to platform interface clients.
   StreamController<CameraImageData>? _frameStreamController;
 
+  // The options of the image stream requested by platform interface clients.
+  CameraImageStreamOptions? _frameStreamOptions;
+
+  /// The statistics sent along with the latest streamed frame, or null if no
+  /// frame has been streamed yet.
+  ///
+  /// This is an Android specific API, available through
+  /// `CameraPlatform.instance as AndroidCamera`.
+  AndroidImageStreamStats? get imageStreamStats => _imageStreamStats;
+  AndroidImageStreamStats? _imageStreamStats;
+
   Stream<CameraEvent> _cameraEvents(int cameraId) =>
       cameraEventStreamController.stream
           .where((CameraEvent event) => event.cameraId == cameraId);
@@ -242,6 +255,71 @@ class AndroidCamera extends CameraPlatform {
     return XFile(path);
   }
 
+  /// Takes pictures continuously until the returned stream is cancelled, or
+  /// until [maxPictures] pictures have been taken.
+  ///
+  /// Unlike [takePicture], the focus and exposure sequence is not run before
+  /// each picture, so pictures are taken at up to the preview frame rate.
+  /// Pictures are skipped while earlier pictures are still being written, so
+  /// the rate also depends on the speed of the storage device.
+  Stream<XFile> captureBurst(int cameraId, {int? maxPictures}) {
+    assert(maxPictures == null || maxPictures > 0);
+    StreamSubscription<dynamic>? platformSubscription;
+    late final StreamController<XFile> controller;
+    controller = StreamController<XFile>(
+      onListen: () async {
+        try {
+          await _channel.invokeMethod<void>(
+            'startBurstCapture',
+            <String, dynamic>{
+              'cameraId': cameraId,
+              if (maxPictures != null) 'maxPictures': maxPictures,
+            },
+          );
+        } on PlatformException catch (e) {
+          controller.addError(CameraException(e.code, e.message));
+          await controller.close();
+          return;
+        }
+        if (!controller.hasListener) {
+          // The stream was cancelled while the burst capture was starting.
+          return;
+        }
+        const EventChannel burstCaptureChannel =
+            EventChannel('plugins.flutter.io/camera_android/burstCapture');
+        platformSubscription = burstCaptureChannel
+            .receiveBroadcastStream()
+            .listen((dynamic path) => controller.add(XFile(path as String)),
+                onError: (Object error) {
+          controller.addError(error is PlatformException
+              ? CameraException(error.code, error.message)
+              : error);
+        }, onDone: controller.close);
+      },
+      onCancel: () async {
+        await platformSubscription?.cancel();
+        await _channel.invokeMethod<void>(
+          'stopBurstCapture',
+          <String, dynamic>{'cameraId': cameraId},
+        );
+      },
+    );
+    return controller.stream;
+  }
+
+  /// Sets whether pictures taken with [takePicture] are flushed to the
+  /// storage device before their file is returned.
+  ///
+  /// Without flushing, the returned file is complete and readable, but may be
+  /// lost if the device loses power right after the capture. Flushing makes
+  /// the capture latency depend on the speed of the storage device, so it is
+  /// disabled by default.
+  Future<void> setSyncPicturesToDisk(int cameraId, bool sync) =>
+      _channel.invokeMethod<void>(
+        'setSyncPicturesToDisk',
+        <String, dynamic>{'cameraId': cameraId, 'sync': sync},
+      );
+
   @override
   Future<void> prepareForVideoRecording() =>
       _channel.invokeMethod<void>('prepareForVideoRecording');
@@ -303,6 +381,7 @@ class AndroidCamera extends CameraPlatform {
   @override
   Stream<CameraImageData> onStreamedFrameAvailable(int cameraId,
       {CameraImageStreamOptions? options}) {
+    _frameStreamOptions = options;
     _installStreamController(onListen: _onFrameStreamListen);
     return _frameStreamController!.stream;
   }
@@ -323,7 +402,12 @@ class AndroidCamera extends CameraPlatform {
   }
 
   Future<void> _startPlatformStream() async {
-    await _channel.invokeMethod<void>('startImageStream');
+    final CameraImageStreamOptions? options = _frameStreamOptions;
+    await _channel.invokeMethod<void>(
+        'startImageStream',
+        options is AndroidCameraImageStreamOptions
+            ? options.toArguments()
+            : null);
     _startStreamListener();
   }
 
@@ -332,8 +416,14 @@ class AndroidCamera extends CameraPlatform {
         EventChannel('plugins.flutter.io/camera_android/imageStream');
     _platformImageStreamSubscription =
         cameraEventChannel.receiveBroadcastStream().listen((dynamic imageData) {
-      _frameStreamController!
-          .add(cameraImageFromPlatformData(imageData as Map<dynamic, dynamic>));
+      if (imageData is Uint8List) {
+        _imageStreamStats = imageStreamStatsFromPlatformFrame(imageData);
+        _frameStreamController!.add(cameraImageFromPlatformFrame(imageData));
+      } else {
+        final Map<dynamic, dynamic> data = imageData as Map<dynamic, dynamic>;
+        _imageStreamStats = imageStreamStatsFromPlatformData(data);
+        _frameStreamController!.add(cameraImageFromPlatformData(data));
+      }
     });
   }
 
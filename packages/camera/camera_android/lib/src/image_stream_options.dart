@@ -0,0 +1,118 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:math';
+import 'dart:ui';
+
+import 'package:camera_platform_interface/camera_platform_interface.dart';
+
+/// The strategy applied by the Android image stream when frames arrive faster
+/// than they are consumed.
+// Mirrors ImageStreamBackpressure.java
+enum ImageStreamBackpressure {
+  /// Every frame is delivered, without any limit on the frames waiting for
+  /// delivery.
+  none,
+
+  /// Frames arriving while the previous frame has not been delivered yet are
+  /// skipped without being copied.
+  keepLatest,
+
+  /// Up to [AndroidCameraImageStreamOptions.maxFramesInFlight] frames wait for
+  /// delivery, and the oldest waiting frame is dropped to make room for a new
+  /// one.
+  dropOldest,
+
+  /// The camera waits until fewer than
+  /// [AndroidCameraImageStreamOptions.maxFramesInFlight] frames wait for
+  /// delivery before copying a new one.
+  block,
+}
+
+/// Android specific options for [CameraPlatform.onStreamedFrameAvailable].
+///
+/// [cropRect], [targetSize] and [stride] are applied natively before the
+/// frame is copied, so only the requested pixels cross the platform channel.
+/// They apply to YUV420 and NV21 streams; JPEG frames are always sent as-is.
+class AndroidCameraImageStreamOptions extends CameraImageStreamOptions {
+  /// Creates a new set of Android image stream options.
+  AndroidCameraImageStreamOptions({
+    this.backpressure = ImageStreamBackpressure.none,
+    this.maxFramesInFlight = 1,
+    this.cropRect,
+    this.targetSize,
+    this.stride,
+    this.binaryFrames = false,
+    this.maxImages,
+    this.dedicatedProcessingThread = false,
+  })  : assert(maxFramesInFlight >= 1),
+        assert(stride == null || stride >= 1),
+        assert(maxImages == null || maxImages >= 1);
+
+  /// The strategy applied when frames arrive faster than they are consumed.
+  final ImageStreamBackpressure backpressure;
+
+  /// How many frames may wait for delivery, used by
+  /// [ImageStreamBackpressure.dropOldest] and [ImageStreamBackpressure.block].
+  final int maxFramesInFlight;
+
+  /// The part of the frame to stream, in pixels of the full frame.
+  ///
+  /// The rectangle is clamped to the frame and its origin is aligned to even
+  /// coordinates. Streams the full frame when null.
+  final Rectangle<int>? cropRect;
+
+  /// The maximum size of the streamed frames.
+  ///
+  /// The (cropped) frame is downscaled by the smallest integer factor that
+  /// fits it into this size. Ignored when [stride] is set.
+  final Size? targetSize;
+
+  /// Streams every [stride]th pixel of every [stride]th row of the (cropped)
+  /// frame.
+  final int? stride;
+
+  /// Whether frames are sent as a single packed byte array instead of a map of
+  /// values and planes.
+  ///
+  /// This avoids encoding a map for every frame on the platform thread. The
+  /// frames are decoded without copying the plane bytes.
+  final bool binaryFrames;
+
+  /// How many frames the camera may fill before they are picked up by the
+  /// stream.
+  ///
+  /// A deeper ring lets the camera keep producing frames while a slow frame is
+  /// converted, at the cost of one preview-sized buffer per frame. Uses a
+  /// single frame when null.
+  final int? maxImages;
+
+  /// Whether frames are converted on a thread of their own, so that slow
+  /// conversions don't delay capture callbacks and still captures.
+  final bool dedicatedProcessingThread;
+
+  /// Returns the arguments of the `startImageStream` platform call.
+  Map<String, Object?> toArguments() {
+    final Rectangle<int>? cropRect = this.cropRect;
+    final Size? targetSize = this.targetSize;
+    return <String, Object?>{
+      'backpressure': backpressure.name,
+      'maxFramesInFlight': maxFramesInFlight,
+      if (cropRect != null) ...<String, Object?>{
+        'cropLeft': cropRect.left,
+        'cropTop': cropRect.top,
+        'cropWidth': cropRect.width,
+        'cropHeight': cropRect.height,
+      },
+      if (targetSize != null) ...<String, Object?>{
+        'targetWidth': targetSize.width.round(),
+        'targetHeight': targetSize.height.round(),
+      },
+      if (stride != null) 'stride': stride,
+      if (binaryFrames) 'binaryFrames': true,
+      if (maxImages != null) 'maxImages': maxImages,
+      if (dedicatedProcessingThread) 'dedicatedProcessingThread': true,
+    };
+  }
+}
@@ -0,0 +1,71 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:camera_platform_interface/camera_platform_interface.dart';
+import 'package:flutter/foundation.dart';
+
+import 'image_stream_options.dart';
+
+/// How the Android image stream converted a frame to
+/// [ImageFormatGroup.nv21].
+// Mirrors the conversion strategies of ImageStreamReaderUtils.java
+enum ImageStreamConversionStrategy {
+  /// The chroma planes were already laid out as NV21 and were copied as a
+  /// whole.
+  nv21Copy,
+
+  /// The planes were copied row by row with bulk reads.
+  rowCopy,
+
+  /// The planes were copied pixel by pixel.
+  perPixel,
+
+  /// A region of the planes was cropped and downscaled pixel by pixel, as
+  /// requested by [AndroidCameraImageStreamOptions.cropRect],
+  /// [AndroidCameraImageStreamOptions.targetSize] or
+  /// [AndroidCameraImageStreamOptions.stride].
+  sampled,
+}
+
+/// Statistics of the Android image stream, sent along with every frame.
+///
+/// The counters restart from zero every time the image stream is started.
+@immutable
+class AndroidImageStreamStats {
+  /// Creates a new set of image stream statistics.
+  const AndroidImageStreamStats({
+    required this.deliveredFrames,
+    required this.droppedFrames,
+    this.conversionStrategy,
+  });
+
+  /// The number of frames delivered so far, including the latest frame.
+  final int deliveredFrames;
+
+  /// The number of frames dropped by the
+  /// [AndroidCameraImageStreamOptions.backpressure] strategy so far.
+  final int droppedFrames;
+
+  /// How the latest frame was converted to [ImageFormatGroup.nv21], or null
+  /// if the stream does not convert frames.
+  final ImageStreamConversionStrategy? conversionStrategy;
+
+  @override
+  bool operator ==(Object other) =>
+      identical(this, other) ||
+      other is AndroidImageStreamStats &&
+          runtimeType == other.runtimeType &&
+          deliveredFrames == other.deliveredFrames &&
+          droppedFrames == other.droppedFrames &&
+          conversionStrategy == other.conversionStrategy;
+
+  @override
+  int get hashCode =>
+      Object.hash(deliveredFrames, droppedFrames, conversionStrategy);
+
+  @override
+  String toString() => 'AndroidImageStreamStats('
+      'deliveredFrames: $deliveredFrames, droppedFrames: $droppedFrames, '
+      'conversionStrategy: $conversionStrategy)';
+}
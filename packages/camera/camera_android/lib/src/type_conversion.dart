@@ -6,6 +6,8 @@ import 'dart:typed_data';
 
 import 'package:camera_platform_interface/camera_platform_interface.dart';
 
+import 'image_stream_stats.dart';
+
 /// Converts method channel call [data] for `receivedImageStreamData` to a
 /// [CameraImageData].
 CameraImageData cameraImageFromPlatformData(Map<dynamic, dynamic> data) {
@@ -22,6 +24,101 @@ CameraImageData cameraImageFromPlatformData(Map<dynamic, dynamic> data) {
                   planeData as Map<dynamic, dynamic>))));
 }
 
+/// Converts the statistics sent along with method channel call [data] for
+/// `receivedImageStreamData` to an [AndroidImageStreamStats].
+AndroidImageStreamStats imageStreamStatsFromPlatformData(
+    Map<dynamic, dynamic> data) {
+  return AndroidImageStreamStats(
+      deliveredFrames: data['deliveredFrames'] as int,
+      droppedFrames: data['droppedFrames'] as int,
+      conversionStrategy: data['conversionStrategy'] == null
+          ? null
+          : ImageStreamConversionStrategy.values
+              .byName(data['conversionStrategy'] as String));
+}
+
+/// The first four bytes of a packed frame, "CIF1" in ASCII.
+const int _packedFrameMagic = 0x31464943;
+const int _packedFrameHeaderSize = 64;
+const int _packedFramePlaneDescriptorSize = 20;
+const int _packedFrameDeliveredFramesOffset = 40;
+const int _packedFrameDroppedFramesOffset = 48;
+const int _packedFrameConversionStrategyOffset = 56;
+
+/// Converts a frame packed by `ImageStreamFrame.java` to a [CameraImageData].
+///
+/// The plane bytes are views into [frame], so no bytes are copied.
+CameraImageData cameraImageFromPlatformFrame(Uint8List frame) {
+  final ByteData data = ByteData.sublistView(frame);
+  if (data.getInt32(0, Endian.little) != _packedFrameMagic) {
+    throw ArgumentError('The data is not a packed camera frame.');
+  }
+
+  final int width = data.getInt32(4, Endian.little);
+  final int height = data.getInt32(8, Endian.little);
+  final int format = data.getInt32(12, Endian.little);
+  final int planeCount = data.getInt32(16, Endian.little);
+  final double lensAperture = data.getFloat32(20, Endian.little);
+  final int sensorExposureTime = data.getInt64(24, Endian.little);
+  final double sensorSensitivity = data.getFloat64(32, Endian.little);
+
+  final List<CameraImagePlane> planes = <CameraImagePlane>[];
+  int bytesOffset =
+      _packedFrameHeaderSize + planeCount * _packedFramePlaneDescriptorSize;
+  for (int i = 0; i < planeCount; i++) {
+    final int descriptorOffset =
+        _packedFrameHeaderSize + i * _packedFramePlaneDescriptorSize;
+    final int planeWidth = data.getInt32(descriptorOffset + 8, Endian.little);
+    final int planeHeight = data.getInt32(descriptorOffset + 12, Endian.little);
+    final int length = data.getInt32(descriptorOffset + 16, Endian.little);
+    planes.add(CameraImagePlane(
+        bytes: Uint8List.sublistView(frame, bytesOffset, bytesOffset + length),
+        bytesPerRow: data.getInt32(descriptorOffset, Endian.little),
+        bytesPerPixel: data.getInt32(descriptorOffset + 4, Endian.little),
+        width: planeWidth == 0 ? null : planeWidth,
+        height: planeHeight == 0 ? null : planeHeight));
+    bytesOffset += length;
+  }
+
+  return CameraImageData(
+      format: _cameraImageFormatFromPlatformData(format),
+      height: height,
+      width: width,
+      lensAperture: lensAperture.isNaN ? null : lensAperture,
+      sensorExposureTime: sensorExposureTime < 0 ? null : sensorExposureTime,
+      sensorSensitivity: sensorSensitivity.isNaN ? null : sensorSensitivity,
+      planes: List<CameraImagePlane>.unmodifiable(planes));
+}
+
+/// Reads the statistics written into a frame packed by `ImageStreamFrame.java`.
+AndroidImageStreamStats imageStreamStatsFromPlatformFrame(Uint8List frame) {
+  final ByteData data = ByteData.sublistView(frame);
+  return AndroidImageStreamStats(
+      deliveredFrames:
+          data.getInt64(_packedFrameDeliveredFramesOffset, Endian.little),
+      droppedFrames:
+          data.getInt64(_packedFrameDroppedFramesOffset, Endian.little),
+      conversionStrategy: _conversionStrategyFromPlatformFrame(
+          data.getInt32(_packedFrameConversionStrategyOffset, Endian.little)));
+}
+
+// Mirrors ImageStreamFrame.writeConversionStrategy, which writes 0 for frames
+// that were not converted.
+ImageStreamConversionStrategy? _conversionStrategyFromPlatformFrame(int code) {
+  switch (code) {
+    case 1:
+      return ImageStreamConversionStrategy.nv21Copy;
+    case 2:
+      return ImageStreamConversionStrategy.rowCopy;
+    case 3:
+      return ImageStreamConversionStrategy.perPixel;
+    case 4:
+      return ImageStreamConversionStrategy.sampled;
+  }
+
+  return null;
+}
+
 CameraImageFormat _cameraImageFormatFromPlatformData(dynamic data) {
   return CameraImageFormat(_imageFormatGroupFromPlatformData(data), raw: data);
 }
@@ -7,6 +7,8 @@ import 'dart:math';
 
 import 'package:async/async.dart';
 import 'package:camera_android/src/android_camera.dart';
+import 'package:camera_android/src/image_stream_options.dart';
+import 'package:camera_android/src/image_stream_stats.dart';
 import 'package:camera_android/src/utils.dart';
 import 'package:camera_platform_interface/camera_platform_interface.dart';
 import 'package:flutter/services.dart';
@@ -560,6 +562,52 @@ void main() {
       expect(file.path, '/test/path.jpg');
     });
 
+    test('Should start and stop a burst capture', () async {
+      // Arrange
+      final MethodChannelMock channel = MethodChannelMock(
+        channelName: _channelName,
+        methods: <String, dynamic>{
+          'startBurstCapture': null,
+          'stopBurstCapture': null,
+        },
+      );
+
+      // Act
+      final StreamSubscription<XFile> subscription = camera
+          .captureBurst(cameraId, maxPictures: 10)
+          .listen((XFile file) {});
+      await subscription.cancel();
+
+      // Assert
+      expect(channel.log, <Matcher>[
+        isMethodCall('startBurstCapture', arguments: <String, Object?>{
+          'cameraId': cameraId,
+          'maxPictures': 10,
+        }),
+        isMethodCall('stopBurstCapture', arguments: <String, Object?>{
+          'cameraId': cameraId,
+        }),
+      ]);
+    });
+
+    test('Should set whether pictures are synced to disk', () async {
+      // Arrange
+      final MethodChannelMock channel = MethodChannelMock(
+          channelName: _channelName,
+          methods: <String, dynamic>{'setSyncPicturesToDisk': null});
+
+      // Act
+      await camera.setSyncPicturesToDisk(cameraId, true);
+
+      // Assert
+      expect(channel.log, <Matcher>[
+        isMethodCall('setSyncPicturesToDisk', arguments: <String, Object?>{
+          'cameraId': cameraId,
+          'sync': true,
+        }),
+      ]);
+    });
+
     test('Should prepare for video recording', () async {
       // Arrange
       final MethodChannelMock channel = MethodChannelMock(
@@ -1122,6 +1170,174 @@ void main() {
       await subscription.cancel();
     });
 
+    test('Should start streaming with Android options', () async {
+      // Arrange
+      final MethodChannelMock channel = MethodChannelMock(
+        channelName: _channelName,
+        methods: <String, dynamic>{
+          'startImageStream': null,
+          'stopImageStream': null,
+        },
+      );
+
+      // Act
+      final StreamSubscription<CameraImageData> subscription = camera
+          .onStreamedFrameAvailable(cameraId,
+              options: AndroidCameraImageStreamOptions(
+                backpressure: ImageStreamBackpressure.dropOldest,
+                maxFramesInFlight: 3,
+              ))
+          .listen((CameraImageData imageData) {});
+
+      // Assert
+      expect(channel.log, <Matcher>[
+        isMethodCall('startImageStream', arguments: <String, Object?>{
+          'backpressure': 'dropOldest',
+          'maxFramesInFlight': 3,
+        }),
+      ]);
+
+      await subscription.cancel();
+    });
+
+    test('Should start streaming a cropped and downscaled region', () async {
+      // Arrange
+      final MethodChannelMock channel = MethodChannelMock(
+        channelName: _channelName,
+        methods: <String, dynamic>{
+          'startImageStream': null,
+          'stopImageStream': null,
+        },
+      );
+
+      // Act
+      final StreamSubscription<CameraImageData> subscription = camera
+          .onStreamedFrameAvailable(cameraId,
+              options: AndroidCameraImageStreamOptions(
+                cropRect: const Rectangle<int>(100, 50, 640, 480),
+                targetSize: const Size(320, 240),
+              ))
+          .listen((CameraImageData imageData) {});
+
+      // Assert
+      expect(channel.log, <Matcher>[
+        isMethodCall('startImageStream', arguments: <String, Object?>{
+          'backpressure': 'none',
+          'maxFramesInFlight': 1,
+          'cropLeft': 100,
+          'cropTop': 50,
+          'cropWidth': 640,
+          'cropHeight': 480,
+          'targetWidth': 320,
+          'targetHeight': 240,
+        }),
+      ]);
+
+      await subscription.cancel();
+    });
+
+    test('Should start streaming with a dedicated processing thread',
+        () async {
+      // Arrange
+      final MethodChannelMock channel = MethodChannelMock(
+        channelName: _channelName,
+        methods: <String, dynamic>{
+          'startImageStream': null,
+          'stopImageStream': null,
+        },
+      );
+
+      // Act
+      final StreamSubscription<CameraImageData> subscription = camera
+          .onStreamedFrameAvailable(cameraId,
+              options: AndroidCameraImageStreamOptions(
+                maxImages: 4,
+                dedicatedProcessingThread: true,
+              ))
+          .listen((CameraImageData imageData) {});
+
+      // Assert
+      expect(channel.log, <Matcher>[
+        isMethodCall('startImageStream', arguments: <String, Object?>{
+          'backpressure': 'none',
+          'maxFramesInFlight': 1,
+          'maxImages': 4,
+          'dedicatedProcessingThread': true,
+        }),
+      ]);
+
+      await subscription.cancel();
+    });
+
+    test('Should expose the statistics of the latest streamed frame',
+        () async {
+      // Arrange
+      const String imageStreamChannelName =
+          'plugins.flutter.io/camera_android/imageStream';
+      MethodChannelMock(
+        channelName: _channelName,
+        methods: <String, dynamic>{
+          'startImageStream': null,
+          'stopImageStream': null,
+        },
+      );
+      MethodChannelMock(
+        channelName: imageStreamChannelName,
+        methods: <String, dynamic>{'listen': null, 'cancel': null},
+      );
+      final ByteData packedFrame = ByteData(64);
+      packedFrame.setInt32(0, 0x31464943, Endian.little);
+      packedFrame.setInt32(4, 1, Endian.little);
+      packedFrame.setInt32(8, 1, Endian.little);
+      packedFrame.setInt32(12, 17, Endian.little);
+      packedFrame.setInt64(40, 3, Endian.little);
+      packedFrame.setInt64(48, 2, Endian.little);
+      packedFrame.setInt32(56, 3, Endian.little);
+      final Map<String, dynamic> mapFrame = <String, dynamic>{
+        'format': 35,
+        'height': 1,
+        'width': 1,
+        'planes': <dynamic>[],
+        'deliveredFrames': 4,
+        'droppedFrames': 5,
+      };
+
+      // Act
+      final StreamQueue<CameraImageData> streamQueue =
+          StreamQueue<CameraImageData>(
+              camera.onStreamedFrameAvailable(cameraId));
+      final Future<bool> hasFrame = streamQueue.hasNext;
+      await pumpEventQueue();
+      final AndroidImageStreamStats? statsBeforeFrames =
+          camera.imageStreamStats;
+      Future<AndroidImageStreamStats?> sendFrame(Object frame) async {
+        await _ambiguate(TestDefaultBinaryMessengerBinding.instance)!
+            .defaultBinaryMessenger
+            .handlePlatformMessage(imageStreamChannelName,
+                const StandardMethodCodec().encodeSuccessEnvelope(frame), null);
+        await streamQueue.next;
+        return camera.imageStreamStats;
+      }
+
+      final AndroidImageStreamStats? packedFrameStats =
+          await sendFrame(packedFrame.buffer.asUint8List());
+      final AndroidImageStreamStats? mapFrameStats = await sendFrame(mapFrame);
+
+      // Assert
+      expect(await hasFrame, isTrue);
+      expect(statsBeforeFrames, isNull);
+      expect(
+          packedFrameStats,
+          const AndroidImageStreamStats(
+              deliveredFrames: 3,
+              droppedFrames: 2,
+              conversionStrategy: ImageStreamConversionStrategy.perPixel));
+      expect(mapFrameStats,
+          const AndroidImageStreamStats(deliveredFrames: 4, droppedFrames: 5));
+
+      await streamQueue.cancel();
+    });
+
     test('Should stop streaming', () async {
       // Arrange
       final MethodChannelMock channel = MethodChannelMock(
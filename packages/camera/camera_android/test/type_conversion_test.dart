@@ -4,6 +4,7 @@
 
 import 'dart:typed_data';
 
+import 'package:camera_android/src/image_stream_stats.dart';
 import 'package:camera_android/src/type_conversion.dart';
 import 'package:camera_platform_interface/camera_platform_interface.dart';
 import 'package:flutter_test/flutter_test.dart';
@@ -77,4 +78,97 @@ void main() {
     });
     expect(cameraImage.format.group, ImageFormatGroup.nv21);
   });
+
+  test('CameraImageData can be decoded from a packed frame', () {
+    final ByteData data = ByteData(64 + 2 * 20 + 6);
+    data.setInt32(0, 0x31464943, Endian.little);
+    data.setInt32(4, 4, Endian.little);
+    data.setInt32(8, 1, Endian.little);
+    data.setInt32(12, 17, Endian.little);
+    data.setInt32(16, 2, Endian.little);
+    data.setFloat32(20, 1.5, Endian.little);
+    data.setInt64(24, 9991324, Endian.little);
+    data.setFloat64(32, double.nan, Endian.little);
+    // First plane: 4 bytes, 4 bytes per row.
+    data.setInt32(64, 4, Endian.little);
+    data.setInt32(68, 1, Endian.little);
+    data.setInt32(72, 4, Endian.little);
+    data.setInt32(76, 1, Endian.little);
+    data.setInt32(80, 4, Endian.little);
+    // Second plane: 2 bytes, unknown size.
+    data.setInt32(84, 2, Endian.little);
+    data.setInt32(88, 1, Endian.little);
+    data.setInt32(100, 2, Endian.little);
+    final Uint8List frame = data.buffer.asUint8List();
+    frame.setAll(104, <int>[1, 2, 3, 4, 5, 6]);
+
+    final CameraImageData cameraImage = cameraImageFromPlatformFrame(frame);
+
+    expect(cameraImage.width, 4);
+    expect(cameraImage.height, 1);
+    expect(cameraImage.format.group, ImageFormatGroup.nv21);
+    expect(cameraImage.lensAperture, 1.5);
+    expect(cameraImage.sensorExposureTime, 9991324);
+    expect(cameraImage.sensorSensitivity, isNull);
+    expect(cameraImage.planes.length, 2);
+    expect(cameraImage.planes[0].bytes, <int>[1, 2, 3, 4]);
+    expect(cameraImage.planes[0].bytesPerRow, 4);
+    expect(cameraImage.planes[0].width, 4);
+    expect(cameraImage.planes[1].bytes, <int>[5, 6]);
+    expect(cameraImage.planes[1].width, isNull);
+  });
+
+  test('AndroidImageStreamStats can be read from method channel data', () {
+    final AndroidImageStreamStats stats =
+        imageStreamStatsFromPlatformData(<dynamic, dynamic>{
+      'format': 35,
+      'height': 1,
+      'width': 4,
+      'planes': <dynamic>[],
+      'deliveredFrames': 12,
+      'droppedFrames': 3,
+      'conversionStrategy': 'rowCopy',
+    });
+
+    expect(stats.deliveredFrames, 12);
+    expect(stats.droppedFrames, 3);
+    expect(stats.conversionStrategy, ImageStreamConversionStrategy.rowCopy);
+  });
+
+  test('AndroidImageStreamStats can be read from a packed frame', () {
+    final ByteData data = ByteData(64);
+    data.setInt32(0, 0x31464943, Endian.little);
+    data.setInt64(40, 12, Endian.little);
+    data.setInt64(48, 3, Endian.little);
+    data.setInt32(56, 4, Endian.little);
+
+    final AndroidImageStreamStats stats =
+        imageStreamStatsFromPlatformFrame(data.buffer.asUint8List());
+
+    expect(stats.deliveredFrames, 12);
+    expect(stats.droppedFrames, 3);
+    expect(stats.conversionStrategy, ImageStreamConversionStrategy.sampled);
+  });
+
+  test('AndroidImageStreamStats has no conversion strategy for frames as-is',
+      () {
+    final ByteData data = ByteData(64);
+    data.setInt32(0, 0x31464943, Endian.little);
+
+    expect(
+        imageStreamStatsFromPlatformFrame(data.buffer.asUint8List())
+            .conversionStrategy,
+        isNull);
+    expect(
+        imageStreamStatsFromPlatformData(<dynamic, dynamic>{
+          'deliveredFrames': 1,
+          'droppedFrames': 0,
+        }).conversionStrategy,
+        isNull);
+  });
+
+  test('Decoding a packed frame rejects other data', () {
+    expect(() => cameraImageFromPlatformFrame(Uint8List(64)),
+        throwsArgumentError);
+  });
 }
@@ -10,6 +10,7 @@ import androidx.camera.core.ImageAnalysis;
 import androidx.camera.core.ImageProxy;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.camerax.GeneratedCameraXLibrary.AnalyzerFlutterApi;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ImageFrameData;
 import java.util.Objects;
 
 /**
@@ -62,6 +63,20 @@ public class AnalyzerFlutterApiImpl {
         callback);
   }
 
+  /**
+   * Sends a message to Dart to call {@code Analyzer.analyzeFrame} on the Dart object representing
+   * `instance`.
+   */
+  public void analyzeFrame(
+      @NonNull ImageAnalysis.Analyzer analyzerInstance,
+      @NonNull ImageFrameData frame,
+      @NonNull AnalyzerFlutterApi.Reply<Void> callback) {
+    api.analyzeFrame(
+        Objects.requireNonNull(instanceManager.getIdentifierForStrongReference(analyzerInstance)),
+        frame,
+        callback);
+  }
+
   /**
    * Sets the Flutter API used to send messages to Dart.
    *
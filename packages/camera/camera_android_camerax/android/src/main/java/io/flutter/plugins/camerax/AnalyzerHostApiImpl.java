@@ -4,12 +4,25 @@
 
 package io.flutter.plugins.camerax;
 
+import android.graphics.ImageFormat;
+import android.graphics.Rect;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import androidx.camera.core.ImageAnalysis;
 import androidx.camera.core.ImageProxy;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.camerax.GeneratedCameraXLibrary.AnalyzerHostApi;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ImageFrameData;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ImagePlaneData;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Host API implementation for {@link ImageAnalysis.Analyzer}.
@@ -29,22 +42,68 @@ public class AnalyzerHostApiImpl implements AnalyzerHostApi {
     /** Creates an instance of {@link AnalyzerImpl}. */
     @NonNull
     public AnalyzerImpl create(
-        @NonNull BinaryMessenger binaryMessenger, @NonNull InstanceManager instanceManager) {
-      return new AnalyzerImpl(binaryMessenger, instanceManager);
+        @NonNull BinaryMessenger binaryMessenger,
+        @NonNull InstanceManager instanceManager,
+        boolean deliverFrames,
+        boolean packNv21,
+        @Nullable Double targetFrameRate,
+        @Nullable Long frameStride) {
+      AnalyzerImpl analyzer = new AnalyzerImpl(binaryMessenger, instanceManager);
+      analyzer.setDeliverFrames(deliverFrames);
+      analyzer.setPackNv21(packNv21);
+      FrameThrottle frameThrottle = new FrameThrottle(targetFrameRate, frameStride);
+      analyzer.setFrameThrottle(frameThrottle.isUnlimited() ? null : frameThrottle);
+      return analyzer;
     }
   }
 
   /**
    * Implementation of {@link ImageAnalysis.Analyzer} that passes arguments of callback methods to
    * Dart.
+   *
+   * <p>{@link #analyze} may run on any thread; only the messages to Dart are sent from the main
+   * thread.
+   *
+   * <p>By default, each image is sent as an {@link ImageProxy} instance whose planes Dart requests
+   * separately. When frame delivery is enabled, the image is instead copied into a single {@link
+   * ImageFrameData} message and closed right away, so no instances are added to the {@link
+   * InstanceManager} per image. YUV_420_888 frames may also be packed into a single NV21 plane.
+   * The copies are made into arrays recycled by {@link CameraXProxy#getBytesFromBuffer(int)}, whose
+   * counters are logged every {@link #POOL_STATS_LOG_INTERVAL_FRAMES} frames in debug builds.
+   *
+   * <p>Images that a {@link FrameThrottle} does not select are closed right away, before they are
+   * copied or sent to Dart. With frame delivery, only one frame is in flight at a time: images that
+   * arrive before Dart has received the previous frame are closed without being copied, just as
+   * CameraX would not deliver them while the previous {@link ImageProxy} is open.
    */
   public static class AnalyzerImpl implements ImageAnalysis.Analyzer {
+    private static final String TAG = "Analyzer";
+
+    /** The number of frames sent between two logs of the array pool counters in debug builds. */
+    @VisibleForTesting static final int POOL_STATS_LOG_INTERVAL_FRAMES = 300;
+
     private BinaryMessenger binaryMessenger;
     private InstanceManager instanceManager;
     private AnalyzerFlutterApiImpl api;
+    private boolean deliverFrames;
+    private boolean packNv21;
+    @Nullable private FrameThrottle frameThrottle;
+    private final AtomicBoolean frameInFlight = new AtomicBoolean();
+    private long sentFrameCount;
+
+    /**
+     * Scratch row used to pack NV21 frames, reused across frames. Only one frame is copied at a
+     * time, so it is never shared between threads.
+     */
+    private byte[] scratchRow = new byte[0];
 
     @VisibleForTesting @NonNull public ImageProxyFlutterApiImpl imageProxyApi;
 
+    @VisibleForTesting @NonNull public CameraXProxy cameraXProxy = new CameraXProxy();
+
+    /** Runs the messages to Dart, which must be sent from the main thread. */
+    @VisibleForTesting @NonNull public Executor mainThreadExecutor;
+
     /**
      * Constructs an instance of {@link ImageAnalysis.Analyzer} that passes arguments of callbacks
      * methods to Dart.
@@ -56,16 +115,167 @@ public class AnalyzerHostApiImpl implements AnalyzerHostApi {
       this.instanceManager = instanceManager;
       api = new AnalyzerFlutterApiImpl(binaryMessenger, instanceManager);
       imageProxyApi = new ImageProxyFlutterApiImpl(binaryMessenger, instanceManager);
+      Handler mainHandler = new Handler(Looper.getMainLooper());
+      mainThreadExecutor = mainHandler::post;
     }
 
     @Override
     public void analyze(@NonNull ImageProxy imageProxy) {
+      if (frameThrottle != null
+          && !frameThrottle.shouldAnalyze(imageProxy.getImageInfo().getTimestamp())) {
+        imageProxy.close();
+        return;
+      }
+
+      if (deliverFrames) {
+        analyzeFrame(imageProxy);
+        return;
+      }
+
       Long imageFormat = Long.valueOf(imageProxy.getFormat());
       Long imageHeight = Long.valueOf(imageProxy.getHeight());
       Long imageWidth = Long.valueOf(imageProxy.getWidth());
-      imageProxyApi.create(imageProxy, imageFormat, imageHeight, imageWidth, reply -> {});
 
-      api.analyze(this, imageProxy, reply -> {});
+      mainThreadExecutor.execute(
+          () -> {
+            imageProxyApi.create(imageProxy, imageFormat, imageHeight, imageWidth, reply -> {});
+            api.analyze(this, imageProxy, reply -> {});
+          });
+    }
+
+    /** Copies the image into an {@link ImageFrameData}, closes it and sends the copy to Dart. */
+    private void analyzeFrame(@NonNull ImageProxy imageProxy) {
+      if (!frameInFlight.compareAndSet(false, true)) {
+        // Dart has not received the previous frame yet.
+        imageProxy.close();
+        return;
+      }
+
+      ImageFrameData frame;
+      try {
+        if (packNv21 && imageProxy.getFormat() == ImageFormat.YUV_420_888) {
+          frame = packNv21Frame(imageProxy);
+        } else {
+          frame = copyFrame(imageProxy);
+        }
+      } catch (RuntimeException e) {
+        frameInFlight.set(false);
+        throw e;
+      } finally {
+        // The bytes were copied, so the camera can reuse the image before Dart receives it.
+        imageProxy.close();
+      }
+
+      mainThreadExecutor.execute(
+          () -> {
+            api.analyzeFrame(this, frame, reply -> frameInFlight.set(false));
+            // The message has been encoded, so the copies can be reused for the next image.
+            for (ImagePlaneData plane : frame.getPlanes()) {
+              cameraXProxy.releaseBytes(plane.getBytes());
+            }
+            if (BuildConfig.DEBUG && ++sentFrameCount % POOL_STATS_LOG_INTERVAL_FRAMES == 0) {
+              Log.d(TAG, "Frame arrays | " + cameraXProxy.getByteArrayPool());
+            }
+          });
+    }
+
+    /** Copies every plane of the image into an {@link ImageFrameData}. */
+    @NonNull
+    private ImageFrameData copyFrame(@NonNull ImageProxy imageProxy) {
+      ImageProxy.PlaneProxy[] planes = imageProxy.getPlanes();
+      List<ImagePlaneData> planeData = new ArrayList<>(planes.length);
+      for (ImageProxy.PlaneProxy plane : planes) {
+        ByteBuffer byteBuffer = plane.getBuffer();
+        byte[] bytes = cameraXProxy.getBytesFromBuffer(byteBuffer.remaining());
+        byteBuffer.get(bytes, 0, bytes.length);
+        planeData.add(
+            new ImagePlaneData.Builder()
+                .setBytes(bytes)
+                .setPixelStride(Long.valueOf(plane.getPixelStride()))
+                .setRowStride(Long.valueOf(plane.getRowStride()))
+                .build());
+      }
+
+      Rect cropRect = imageProxy.getCropRect();
+      return new ImageFrameData.Builder()
+          .setFormat(Long.valueOf(imageProxy.getFormat()))
+          .setWidth(Long.valueOf(imageProxy.getWidth()))
+          .setHeight(Long.valueOf(imageProxy.getHeight()))
+          .setRotationDegrees(Long.valueOf(imageProxy.getImageInfo().getRotationDegrees()))
+          .setCropLeft(Long.valueOf(cropRect.left))
+          .setCropTop(Long.valueOf(cropRect.top))
+          .setCropRight(Long.valueOf(cropRect.right))
+          .setCropBottom(Long.valueOf(cropRect.bottom))
+          .setPlanes(planeData)
+          .build();
+    }
+
+    /**
+     * Packs the cropped region of a YUV_420_888 image into an {@link ImageFrameData} with a single
+     * {@link ImageFormat#NV21} plane.
+     */
+    @NonNull
+    private ImageFrameData packNv21Frame(@NonNull ImageProxy imageProxy) {
+      // Align the crop rectangle to even coordinates so that it covers whole chroma samples.
+      Rect cropRect = imageProxy.getCropRect();
+      int left = cropRect.left & ~1;
+      int top = cropRect.top & ~1;
+      int width = (cropRect.right & ~1) - left;
+      int height = (cropRect.bottom & ~1) - top;
+      ImageProxy.PlaneProxy[] planes = imageProxy.getPlanes();
+      int scratchRowSize = ImageProxyUtils.getScratchRowSize(planes);
+      if (scratchRow.length < scratchRowSize) {
+        scratchRow = new byte[scratchRowSize];
+      }
+      byte[] bytes = cameraXProxy.getBytesFromBuffer(ImageProxyUtils.getNV21Size(width, height));
+      ImageProxyUtils.yuv420888ToNV21(planes, left, top, width, height, bytes, scratchRow);
+
+      List<ImagePlaneData> planeData = new ArrayList<>(1);
+      planeData.add(
+          new ImagePlaneData.Builder()
+              .setBytes(bytes)
+              .setPixelStride(1L)
+              .setRowStride(Long.valueOf(width))
+              .build());
+      return new ImageFrameData.Builder()
+          .setFormat(Long.valueOf(ImageFormat.NV21))
+          .setWidth(Long.valueOf(width))
+          .setHeight(Long.valueOf(height))
+          .setRotationDegrees(Long.valueOf(imageProxy.getImageInfo().getRotationDegrees()))
+          .setCropLeft(0L)
+          .setCropTop(0L)
+          .setCropRight(Long.valueOf(width))
+          .setCropBottom(Long.valueOf(height))
+          .setPlanes(planeData)
+          .build();
+    }
+
+    /**
+     * Sets whether images are sent to Dart as a single {@link ImageFrameData} message.
+     *
+     * @param deliverFrames is whether to copy and close images natively.
+     */
+    public void setDeliverFrames(boolean deliverFrames) {
+      this.deliverFrames = deliverFrames;
+    }
+
+    /**
+     * Sets whether YUV_420_888 frames are packed into a single NV21 plane before they are sent to
+     * Dart. This only applies when frame delivery is enabled.
+     *
+     * @param packNv21 is whether to pack YUV_420_888 frames as NV21.
+     */
+    public void setPackNv21(boolean packNv21) {
+      this.packNv21 = packNv21;
+    }
+
+    /**
+     * Sets the {@link FrameThrottle} that selects which images are analyzed.
+     *
+     * @param frameThrottle is the throttle, or null to analyze every image.
+     */
+    public void setFrameThrottle(@Nullable FrameThrottle frameThrottle) {
+      this.frameThrottle = frameThrottle;
     }
 
     /**
@@ -110,10 +320,29 @@ public class AnalyzerHostApiImpl implements AnalyzerHostApi {
   /**
    * Creates an {@link AnalyzerProxy} that represents an {@link ImageAnalysis.Analyzer} instance
    * with the specified identifier.
+   *
+   * <p>If {@code deliverFrames} is true, images are sent to Dart as {@link ImageFrameData} instead
+   * of {@link ImageProxy} instances. If {@code packNv21} is also true, YUV_420_888 frames are sent
+   * as a single NV21 plane.
+   *
+   * <p>If {@code targetFrameRate} or {@code frameStride} is set, images beyond that rate or between
+   * every {@code frameStride}th image are closed without being analyzed.
    */
   @Override
-  public void create(@NonNull Long identifier) {
+  public void create(
+      @NonNull Long identifier,
+      @NonNull Boolean deliverFrames,
+      @NonNull Boolean packNv21,
+      @Nullable Double targetFrameRate,
+      @Nullable Long frameStride) {
     instanceManager.addDartCreatedInstance(
-        proxy.create(binaryMessenger, instanceManager), identifier);
+        proxy.create(
+            binaryMessenger,
+            instanceManager,
+            deliverFrames,
+            packNv21,
+            targetFrameRate,
+            frameStride),
+        identifier);
   }
 }
@@ -0,0 +1,165 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import androidx.annotation.NonNull;
+import java.util.ArrayDeque;
+
+/**
+ * Recycles the {@code byte} arrays that image planes are copied into before they are sent to Dart.
+ *
+ * <p>Pigeon sends every byte of an array, so an array is only reused for a request of exactly its
+ * size. Arrays are grouped in a bucket per size, and the least recently used bucket is dropped when
+ * a new size is requested and all buckets are taken, e.g. after the resolution changes.
+ *
+ * <p>All methods are thread safe. The allocation counters show whether a steady stream of frames
+ * is copied without allocating new arrays; {@link AnalyzerHostApiImpl.AnalyzerImpl} logs them
+ * periodically in debug builds.
+ */
+public class ByteArrayPool {
+  /** The number of arrays of a single size kept for reuse. */
+  public static final int DEFAULT_MAX_ARRAYS_PER_SIZE = 4;
+
+  /** The number of distinct array sizes kept for reuse. */
+  public static final int DEFAULT_MAX_SIZES = 8;
+
+  private static final class Bucket {
+    final int size;
+    final ArrayDeque<byte[]> arrays;
+    long lastUsed;
+
+    Bucket(int size, int capacity) {
+      this.size = size;
+      this.arrays = new ArrayDeque<>(capacity);
+    }
+  }
+
+  private final int maxArraysPerSize;
+  private final Bucket[] buckets;
+  private long useCount;
+
+  private long allocationCount;
+  private long allocatedBytes;
+  private long reuseCount;
+
+  /** Constructs a {@link ByteArrayPool} with the default limits. */
+  public ByteArrayPool() {
+    this(DEFAULT_MAX_ARRAYS_PER_SIZE, DEFAULT_MAX_SIZES);
+  }
+
+  /**
+   * Constructs a {@link ByteArrayPool}.
+   *
+   * @param maxArraysPerSize is the number of arrays of a single size kept for reuse.
+   * @param maxSizes is the number of distinct array sizes kept for reuse.
+   */
+  public ByteArrayPool(int maxArraysPerSize, int maxSizes) {
+    if (maxArraysPerSize < 1 || maxSizes < 1) {
+      throw new IllegalArgumentException("The pool must keep at least one array.");
+    }
+    this.maxArraysPerSize = maxArraysPerSize;
+    this.buckets = new Bucket[maxSizes];
+  }
+
+  /**
+   * Returns an array of exactly {@code size} bytes, reusing a released array if one is available.
+   *
+   * <p>The contents of a reused array are not cleared.
+   */
+  @NonNull
+  public synchronized byte[] acquire(int size) {
+    final Bucket bucket = findBucket(size);
+    if (bucket != null && !bucket.arrays.isEmpty()) {
+      bucket.lastUsed = ++useCount;
+      reuseCount++;
+      return bucket.arrays.pop();
+    }
+    allocationCount++;
+    allocatedBytes += size;
+    return new byte[size];
+  }
+
+  /**
+   * Returns an array acquired from this pool so that it can be reused.
+   *
+   * <p>The array must not be read or written after it is released. Arrays beyond the limits of
+   * the pool are left to the garbage collector.
+   */
+  public synchronized void release(@NonNull byte[] bytes) {
+    Bucket bucket = findBucket(bytes.length);
+    if (bucket == null) {
+      bucket = addBucket(bytes.length);
+    }
+    bucket.lastUsed = ++useCount;
+    if (bucket.arrays.size() < maxArraysPerSize) {
+      bucket.arrays.push(bytes);
+    }
+  }
+
+  /** Returns the number of arrays the pool had to allocate. */
+  public synchronized long getAllocationCount() {
+    return allocationCount;
+  }
+
+  /** Returns the total size of the arrays the pool had to allocate. */
+  public synchronized long getAllocatedBytes() {
+    return allocatedBytes;
+  }
+
+  /** Returns the number of requests served with a released array. */
+  public synchronized long getReuseCount() {
+    return reuseCount;
+  }
+
+  /** Returns the number of released arrays waiting to be reused. */
+  public synchronized int getPooledArrayCount() {
+    int count = 0;
+    for (Bucket bucket : buckets) {
+      if (bucket != null) {
+        count += bucket.arrays.size();
+      }
+    }
+    return count;
+  }
+
+  @NonNull
+  @Override
+  public synchronized String toString() {
+    return "allocated: "
+        + allocationCount
+        + " ("
+        + allocatedBytes
+        + " bytes), reused: "
+        + reuseCount
+        + ", pooled: "
+        + getPooledArrayCount();
+  }
+
+  private Bucket findBucket(int size) {
+    for (Bucket bucket : buckets) {
+      if (bucket != null && bucket.size == size) {
+        return bucket;
+      }
+    }
+    return null;
+  }
+
+  /** Adds a bucket for arrays of {@code size}, replacing the least recently used one if full. */
+  private Bucket addBucket(int size) {
+    int index = 0;
+    for (int i = 0; i < buckets.length; i++) {
+      if (buckets[i] == null) {
+        index = i;
+        break;
+      }
+      if (buckets[i].lastUsed < buckets[index].lastUsed) {
+        index = i;
+      }
+    }
+    final Bucket bucket = new Bucket(size, maxArraysPerSize);
+    buckets[index] = bucket;
+    return bucket;
+  }
+}
@@ -54,7 +54,7 @@ public final class CameraAndroidCameraxPlugin implements FlutterPlugin, Activity
 
     // Set up Host APIs.
     GeneratedCameraXLibrary.InstanceManagerHostApi.setup(
-        binaryMessenger, () -> instanceManager.clear());
+        binaryMessenger, new InstanceManagerHostApiImpl(instanceManager));
     GeneratedCameraXLibrary.CameraHostApi.setup(
         binaryMessenger, new CameraHostApiImpl(binaryMessenger, instanceManager));
     GeneratedCameraXLibrary.CameraInfoHostApi.setup(
@@ -130,6 +130,9 @@ public final class CameraAndroidCameraxPlugin implements FlutterPlugin, Activity
     setUp(pluginBinding.getBinaryMessenger(), activity, pluginBinding.getTextureRegistry());
     updateContext(activity);
 
+    // Start initializing CameraX now, so that it may be ready by the time the camera is opened.
+    processCameraProviderHostApiImpl.prewarm();
+
     if (activity instanceof LifecycleOwner) {
       processCameraProviderHostApiImpl.setLifecycleOwner((LifecycleOwner) activity);
       liveDataHostApiImpl.setLifecycleOwner((LifecycleOwner) activity);
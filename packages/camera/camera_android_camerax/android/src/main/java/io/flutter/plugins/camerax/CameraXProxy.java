@@ -17,9 +17,16 @@ import androidx.camera.video.Recorder;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ResolutionInfo;
 import java.io.File;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /** Utility class used to create CameraX-related objects primarily for testing purposes. */
 public class CameraXProxy {
+  private final ByteArrayPool byteArrayPool = new ByteArrayPool();
+
   /**
    * Converts a {@link ResolutionInfo} instance to a {@link Size} for setting the target resolution
    * of {@link UseCase}s.
@@ -93,9 +100,50 @@ public class CameraXProxy {
     return new ImageAnalysis.Builder();
   }
 
-  /** Creates an array of {@code byte}s with the size provided. */
+  /**
+   * Creates the executor running an {@link ImageAnalysis.Analyzer} off the main thread.
+   *
+   * <p>Idle threads exit after a second, so the executor doesn't need to be shut down once its
+   * {@link ImageAnalysis} is gone.
+   *
+   * @param threadCount is the maximum number of images analyzed at the same time.
+   */
+  @NonNull
+  public ExecutorService createAnalyzerExecutor(int threadCount) {
+    AtomicInteger threadNumber = new AtomicInteger();
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            threadCount,
+            threadCount,
+            1,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable ->
+                new Thread(runnable, "CameraXImageAnalysis-" + threadNumber.incrementAndGet()));
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /**
+   * Returns an array of {@code byte}s with the size provided, reusing an array passed to {@link
+   * #releaseBytes(byte[])} if possible.
+   */
   @NonNull
   public byte[] getBytesFromBuffer(int size) {
-    return new byte[size];
+    return byteArrayPool.acquire(size);
+  }
+
+  /**
+   * Releases an array returned by {@link #getBytesFromBuffer(int)} once its contents have been
+   * encoded into a message, so that it can be reused for the next image.
+   */
+  public void releaseBytes(@NonNull byte[] bytes) {
+    byteArrayPool.release(bytes);
+  }
+
+  /** Returns the pool of arrays returned by {@link #getBytesFromBuffer(int)}. */
+  @NonNull
+  public ByteArrayPool getByteArrayPool() {
+    return byteArrayPool;
   }
 }
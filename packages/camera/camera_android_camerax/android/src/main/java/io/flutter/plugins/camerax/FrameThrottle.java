@@ -0,0 +1,92 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import androidx.annotation.Nullable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Selects which images of a stream are analyzed, so that skipped images can be closed before
+ * they are copied.
+ *
+ * <p>An image is selected if it is the first of every {@code frameStride} images and if it is due
+ * according to the target frame rate. The rate is measured with the sensor timestamps of the
+ * images, not the time they are delivered at, so delivery delays do not skew it. An image is due
+ * once the time since the last selected image is within half a frame of the target interval,
+ * which keeps the timestamp jitter of the camera from skipping a whole frame.
+ *
+ * <p>{@link #shouldAnalyze(long)} is thread safe.
+ */
+public class FrameThrottle {
+  private final long minIntervalNanos;
+  private final long frameStride;
+
+  private long frameCount;
+  private long skippedFrameCount;
+  private long lastTimestampNanos = -1;
+  private long lastFrameDeltaNanos;
+  private long nextDueTimestampNanos = Long.MIN_VALUE;
+
+  /**
+   * Constructs a {@link FrameThrottle}.
+   *
+   * @param targetFrameRate is the maximum number of images selected per second, or null to not
+   *     limit the rate.
+   * @param frameStride is the number of images for every one that is selected, or null to select
+   *     every image.
+   */
+  public FrameThrottle(@Nullable Double targetFrameRate, @Nullable Long frameStride) {
+    if (targetFrameRate != null && !(targetFrameRate > 0)) {
+      throw new IllegalArgumentException("targetFrameRate must be positive.");
+    }
+    if (frameStride != null && frameStride < 1) {
+      throw new IllegalArgumentException("frameStride must be at least 1.");
+    }
+    this.minIntervalNanos =
+        targetFrameRate == null ? 0 : (long) (TimeUnit.SECONDS.toNanos(1) / targetFrameRate);
+    this.frameStride = frameStride == null ? 1 : frameStride;
+  }
+
+  /** Returns whether the throttle selects every image. */
+  public boolean isUnlimited() {
+    return minIntervalNanos == 0 && frameStride == 1;
+  }
+
+  /**
+   * Returns whether the image with the specified timestamp should be analyzed.
+   *
+   * @param timestampNanos is the sensor timestamp of the image in nanoseconds.
+   */
+  public synchronized boolean shouldAnalyze(long timestampNanos) {
+    if (lastTimestampNanos >= 0 && timestampNanos > lastTimestampNanos) {
+      lastFrameDeltaNanos = timestampNanos - lastTimestampNanos;
+    }
+    lastTimestampNanos = timestampNanos;
+
+    if (frameCount++ % frameStride != 0) {
+      skippedFrameCount++;
+      return false;
+    }
+    if (minIntervalNanos == 0) {
+      return true;
+    }
+    if (timestampNanos + lastFrameDeltaNanos / 2 < nextDueTimestampNanos) {
+      skippedFrameCount++;
+      return false;
+    }
+
+    nextDueTimestampNanos += minIntervalNanos;
+    if (nextDueTimestampNanos <= timestampNanos) {
+      // This is the first image or follows a gap in the stream, so restart the schedule from it.
+      nextDueTimestampNanos = timestampNanos + minIntervalNanos;
+    }
+    return true;
+  }
+
+  /** Returns the number of images that were not selected. */
+  public synchronized long getSkippedFrameCount() {
+    return skippedFrameCount;
+  }
+}
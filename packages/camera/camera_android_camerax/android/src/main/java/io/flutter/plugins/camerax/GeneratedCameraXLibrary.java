@@ -340,6 +340,152 @@ public class GeneratedCameraXLibrary {
     }
   }
 
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class CameraStateData {
+    private @NonNull CameraStateType type;
+
+    public @NonNull CameraStateType getType() {
+      return type;
+    }
+
+    public void setType(@NonNull CameraStateType setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"type\" is null.");
+      }
+      this.type = setterArg;
+    }
+
+    private @Nullable Long errorCode;
+
+    public @Nullable Long getErrorCode() {
+      return errorCode;
+    }
+
+    public void setErrorCode(@Nullable Long setterArg) {
+      this.errorCode = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    CameraStateData() {}
+
+    public static final class Builder {
+
+      private @Nullable CameraStateType type;
+
+      public @NonNull Builder setType(@NonNull CameraStateType setterArg) {
+        this.type = setterArg;
+        return this;
+      }
+
+      private @Nullable Long errorCode;
+
+      public @NonNull Builder setErrorCode(@Nullable Long setterArg) {
+        this.errorCode = setterArg;
+        return this;
+      }
+
+      public @NonNull CameraStateData build() {
+        CameraStateData pigeonReturn = new CameraStateData();
+        pigeonReturn.setType(type);
+        pigeonReturn.setErrorCode(errorCode);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      toListResult.add(type == null ? null : type.index);
+      toListResult.add(errorCode);
+      return toListResult;
+    }
+
+    static @NonNull CameraStateData fromList(@NonNull ArrayList<Object> list) {
+      CameraStateData pigeonResult = new CameraStateData();
+      Object type = list.get(0);
+      pigeonResult.setType(type == null ? null : CameraStateType.values()[(int) type]);
+      Object errorCode = list.get(1);
+      pigeonResult.setErrorCode(
+          (errorCode == null)
+              ? null
+              : ((errorCode instanceof Integer) ? (Integer) errorCode : (Long) errorCode));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class ZoomStateData {
+    private @NonNull Double minZoomRatio;
+
+    public @NonNull Double getMinZoomRatio() {
+      return minZoomRatio;
+    }
+
+    public void setMinZoomRatio(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"minZoomRatio\" is null.");
+      }
+      this.minZoomRatio = setterArg;
+    }
+
+    private @NonNull Double maxZoomRatio;
+
+    public @NonNull Double getMaxZoomRatio() {
+      return maxZoomRatio;
+    }
+
+    public void setMaxZoomRatio(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxZoomRatio\" is null.");
+      }
+      this.maxZoomRatio = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    ZoomStateData() {}
+
+    public static final class Builder {
+
+      private @Nullable Double minZoomRatio;
+
+      public @NonNull Builder setMinZoomRatio(@NonNull Double setterArg) {
+        this.minZoomRatio = setterArg;
+        return this;
+      }
+
+      private @Nullable Double maxZoomRatio;
+
+      public @NonNull Builder setMaxZoomRatio(@NonNull Double setterArg) {
+        this.maxZoomRatio = setterArg;
+        return this;
+      }
+
+      public @NonNull ZoomStateData build() {
+        ZoomStateData pigeonReturn = new ZoomStateData();
+        pigeonReturn.setMinZoomRatio(minZoomRatio);
+        pigeonReturn.setMaxZoomRatio(maxZoomRatio);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      toListResult.add(minZoomRatio);
+      toListResult.add(maxZoomRatio);
+      return toListResult;
+    }
+
+    static @NonNull ZoomStateData fromList(@NonNull ArrayList<Object> list) {
+      ZoomStateData pigeonResult = new ZoomStateData();
+      Object minZoomRatio = list.get(0);
+      pigeonResult.setMinZoomRatio((Double) minZoomRatio);
+      Object maxZoomRatio = list.get(1);
+      pigeonResult.setMaxZoomRatio((Double) maxZoomRatio);
+      return pigeonResult;
+    }
+  }
+
   /** Generated class from Pigeon that represents data sent in messages. */
   public static final class LiveDataSupportedTypeData {
     private @NonNull LiveDataSupportedType value;
@@ -472,12 +618,900 @@ public class GeneratedCameraXLibrary {
     }
   }
 
-  public interface Result<T> {
-    @SuppressWarnings("UnknownNullness")
-    void success(T result);
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class ImagePlaneData {
+    private @NonNull byte[] bytes;
 
-    void error(@NonNull Throwable error);
+    public @NonNull byte[] getBytes() {
+      return bytes;
+    }
+
+    public void setBytes(@NonNull byte[] setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"bytes\" is null.");
+      }
+      this.bytes = setterArg;
+    }
+
+    private @NonNull Long pixelStride;
+
+    public @NonNull Long getPixelStride() {
+      return pixelStride;
+    }
+
+    public void setPixelStride(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"pixelStride\" is null.");
+      }
+      this.pixelStride = setterArg;
+    }
+
+    private @NonNull Long rowStride;
+
+    public @NonNull Long getRowStride() {
+      return rowStride;
+    }
+
+    public void setRowStride(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"rowStride\" is null.");
+      }
+      this.rowStride = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    ImagePlaneData() {}
+
+    public static final class Builder {
+
+      private @Nullable byte[] bytes;
+
+      public @NonNull Builder setBytes(@NonNull byte[] setterArg) {
+        this.bytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long pixelStride;
+
+      public @NonNull Builder setPixelStride(@NonNull Long setterArg) {
+        this.pixelStride = setterArg;
+        return this;
+      }
+
+      private @Nullable Long rowStride;
+
+      public @NonNull Builder setRowStride(@NonNull Long setterArg) {
+        this.rowStride = setterArg;
+        return this;
+      }
+
+      public @NonNull ImagePlaneData build() {
+        ImagePlaneData pigeonReturn = new ImagePlaneData();
+        pigeonReturn.setBytes(bytes);
+        pigeonReturn.setPixelStride(pixelStride);
+        pigeonReturn.setRowStride(rowStride);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(3);
+      toListResult.add(bytes);
+      toListResult.add(pixelStride);
+      toListResult.add(rowStride);
+      return toListResult;
+    }
+
+    static @NonNull ImagePlaneData fromList(@NonNull ArrayList<Object> list) {
+      ImagePlaneData pigeonResult = new ImagePlaneData();
+      Object bytes = list.get(0);
+      pigeonResult.setBytes((byte[]) bytes);
+      Object pixelStride = list.get(1);
+      pigeonResult.setPixelStride(
+          (pixelStride == null)
+              ? null
+              : ((pixelStride instanceof Integer) ? (Integer) pixelStride : (Long) pixelStride));
+      Object rowStride = list.get(2);
+      pigeonResult.setRowStride(
+          (rowStride == null)
+              ? null
+              : ((rowStride instanceof Integer) ? (Integer) rowStride : (Long) rowStride));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class ImageFrameData {
+    private @NonNull Long format;
+
+    public @NonNull Long getFormat() {
+      return format;
+    }
+
+    public void setFormat(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"format\" is null.");
+      }
+      this.format = setterArg;
+    }
+
+    private @NonNull Long width;
+
+    public @NonNull Long getWidth() {
+      return width;
+    }
+
+    public void setWidth(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"width\" is null.");
+      }
+      this.width = setterArg;
+    }
+
+    private @NonNull Long height;
+
+    public @NonNull Long getHeight() {
+      return height;
+    }
+
+    public void setHeight(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"height\" is null.");
+      }
+      this.height = setterArg;
+    }
+
+    private @NonNull Long rotationDegrees;
+
+    public @NonNull Long getRotationDegrees() {
+      return rotationDegrees;
+    }
+
+    public void setRotationDegrees(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"rotationDegrees\" is null.");
+      }
+      this.rotationDegrees = setterArg;
+    }
+
+    private @NonNull Long cropLeft;
+
+    public @NonNull Long getCropLeft() {
+      return cropLeft;
+    }
+
+    public void setCropLeft(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"cropLeft\" is null.");
+      }
+      this.cropLeft = setterArg;
+    }
+
+    private @NonNull Long cropTop;
+
+    public @NonNull Long getCropTop() {
+      return cropTop;
+    }
+
+    public void setCropTop(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"cropTop\" is null.");
+      }
+      this.cropTop = setterArg;
+    }
+
+    private @NonNull Long cropRight;
+
+    public @NonNull Long getCropRight() {
+      return cropRight;
+    }
+
+    public void setCropRight(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"cropRight\" is null.");
+      }
+      this.cropRight = setterArg;
+    }
+
+    private @NonNull Long cropBottom;
+
+    public @NonNull Long getCropBottom() {
+      return cropBottom;
+    }
+
+    public void setCropBottom(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"cropBottom\" is null.");
+      }
+      this.cropBottom = setterArg;
+    }
+
+    private @NonNull List<ImagePlaneData> planes;
+
+    public @NonNull List<ImagePlaneData> getPlanes() {
+      return planes;
+    }
+
+    public void setPlanes(@NonNull List<ImagePlaneData> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"planes\" is null.");
+      }
+      this.planes = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    ImageFrameData() {}
+
+    public static final class Builder {
+
+      private @Nullable Long format;
+
+      public @NonNull Builder setFormat(@NonNull Long setterArg) {
+        this.format = setterArg;
+        return this;
+      }
+
+      private @Nullable Long width;
+
+      public @NonNull Builder setWidth(@NonNull Long setterArg) {
+        this.width = setterArg;
+        return this;
+      }
+
+      private @Nullable Long height;
+
+      public @NonNull Builder setHeight(@NonNull Long setterArg) {
+        this.height = setterArg;
+        return this;
+      }
+
+      private @Nullable Long rotationDegrees;
+
+      public @NonNull Builder setRotationDegrees(@NonNull Long setterArg) {
+        this.rotationDegrees = setterArg;
+        return this;
+      }
+
+      private @Nullable Long cropLeft;
+
+      public @NonNull Builder setCropLeft(@NonNull Long setterArg) {
+        this.cropLeft = setterArg;
+        return this;
+      }
+
+      private @Nullable Long cropTop;
+
+      public @NonNull Builder setCropTop(@NonNull Long setterArg) {
+        this.cropTop = setterArg;
+        return this;
+      }
+
+      private @Nullable Long cropRight;
+
+      public @NonNull Builder setCropRight(@NonNull Long setterArg) {
+        this.cropRight = setterArg;
+        return this;
+      }
+
+      private @Nullable Long cropBottom;
+
+      public @NonNull Builder setCropBottom(@NonNull Long setterArg) {
+        this.cropBottom = setterArg;
+        return this;
+      }
+
+      private @Nullable List<ImagePlaneData> planes;
+
+      public @NonNull Builder setPlanes(@NonNull List<ImagePlaneData> setterArg) {
+        this.planes = setterArg;
+        return this;
+      }
+
+      public @NonNull ImageFrameData build() {
+        ImageFrameData pigeonReturn = new ImageFrameData();
+        pigeonReturn.setFormat(format);
+        pigeonReturn.setWidth(width);
+        pigeonReturn.setHeight(height);
+        pigeonReturn.setRotationDegrees(rotationDegrees);
+        pigeonReturn.setCropLeft(cropLeft);
+        pigeonReturn.setCropTop(cropTop);
+        pigeonReturn.setCropRight(cropRight);
+        pigeonReturn.setCropBottom(cropBottom);
+        pigeonReturn.setPlanes(planes);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(9);
+      toListResult.add(format);
+      toListResult.add(width);
+      toListResult.add(height);
+      toListResult.add(rotationDegrees);
+      toListResult.add(cropLeft);
+      toListResult.add(cropTop);
+      toListResult.add(cropRight);
+      toListResult.add(cropBottom);
+      toListResult.add(planes);
+      return toListResult;
+    }
+
+    static @NonNull ImageFrameData fromList(@NonNull ArrayList<Object> list) {
+      ImageFrameData pigeonResult = new ImageFrameData();
+      Object format = list.get(0);
+      pigeonResult.setFormat(
+          (format == null)
+              ? null
+              : ((format instanceof Integer) ? (Integer) format : (Long) format));
+      Object width = list.get(1);
+      pigeonResult.setWidth(
+          (width == null) ? null : ((width instanceof Integer) ? (Integer) width : (Long) width));
+      Object height = list.get(2);
+      pigeonResult.setHeight(
+          (height == null)
+              ? null
+              : ((height instanceof Integer) ? (Integer) height : (Long) height));
+      Object rotationDegrees = list.get(3);
+      pigeonResult.setRotationDegrees(
+          (rotationDegrees == null)
+              ? null
+              : ((rotationDegrees instanceof Integer)
+                  ? (Integer) rotationDegrees
+                  : (Long) rotationDegrees));
+      Object cropLeft = list.get(4);
+      pigeonResult.setCropLeft(
+          (cropLeft == null)
+              ? null
+              : ((cropLeft instanceof Integer) ? (Integer) cropLeft : (Long) cropLeft));
+      Object cropTop = list.get(5);
+      pigeonResult.setCropTop(
+          (cropTop == null)
+              ? null
+              : ((cropTop instanceof Integer) ? (Integer) cropTop : (Long) cropTop));
+      Object cropRight = list.get(6);
+      pigeonResult.setCropRight(
+          (cropRight == null)
+              ? null
+              : ((cropRight instanceof Integer) ? (Integer) cropRight : (Long) cropRight));
+      Object cropBottom = list.get(7);
+      pigeonResult.setCropBottom(
+          (cropBottom == null)
+              ? null
+              : ((cropBottom instanceof Integer) ? (Integer) cropBottom : (Long) cropBottom));
+      Object planes = list.get(8);
+      pigeonResult.setPlanes((List<ImagePlaneData>) planes);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class InstanceManagerStatsData {
+    private @NonNull Long strongInstanceCount;
+
+    public @NonNull Long getStrongInstanceCount() {
+      return strongInstanceCount;
+    }
+
+    public void setStrongInstanceCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"strongInstanceCount\" is null.");
+      }
+      this.strongInstanceCount = setterArg;
+    }
+
+    private @NonNull Long weakInstanceCount;
+
+    public @NonNull Long getWeakInstanceCount() {
+      return weakInstanceCount;
+    }
+
+    public void setWeakInstanceCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"weakInstanceCount\" is null.");
+      }
+      this.weakInstanceCount = setterArg;
+    }
+
+    private @NonNull Long oldestStrongReferenceAgeMillis;
+
+    public @NonNull Long getOldestStrongReferenceAgeMillis() {
+      return oldestStrongReferenceAgeMillis;
+    }
+
+    public void setOldestStrongReferenceAgeMillis(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException(
+            "Nonnull field \"oldestStrongReferenceAgeMillis\" is null.");
+      }
+      this.oldestStrongReferenceAgeMillis = setterArg;
+    }
+
+    private @NonNull Long finalizationBacklog;
+
+    public @NonNull Long getFinalizationBacklog() {
+      return finalizationBacklog;
+    }
+
+    public void setFinalizationBacklog(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"finalizationBacklog\" is null.");
+      }
+      this.finalizationBacklog = setterArg;
+    }
+
+    private @NonNull Map<String, Long> strongInstanceCountsByClass;
+
+    public @NonNull Map<String, Long> getStrongInstanceCountsByClass() {
+      return strongInstanceCountsByClass;
+    }
+
+    public void setStrongInstanceCountsByClass(@NonNull Map<String, Long> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"strongInstanceCountsByClass\" is null.");
+      }
+      this.strongInstanceCountsByClass = setterArg;
+    }
+
+    private @NonNull Map<String, Long> weakInstanceCountsByClass;
+
+    public @NonNull Map<String, Long> getWeakInstanceCountsByClass() {
+      return weakInstanceCountsByClass;
+    }
+
+    public void setWeakInstanceCountsByClass(@NonNull Map<String, Long> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"weakInstanceCountsByClass\" is null.");
+      }
+      this.weakInstanceCountsByClass = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    InstanceManagerStatsData() {}
+
+    public static final class Builder {
+
+      private @Nullable Long strongInstanceCount;
+
+      public @NonNull Builder setStrongInstanceCount(@NonNull Long setterArg) {
+        this.strongInstanceCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long weakInstanceCount;
+
+      public @NonNull Builder setWeakInstanceCount(@NonNull Long setterArg) {
+        this.weakInstanceCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long oldestStrongReferenceAgeMillis;
+
+      public @NonNull Builder setOldestStrongReferenceAgeMillis(@NonNull Long setterArg) {
+        this.oldestStrongReferenceAgeMillis = setterArg;
+        return this;
+      }
+
+      private @Nullable Long finalizationBacklog;
+
+      public @NonNull Builder setFinalizationBacklog(@NonNull Long setterArg) {
+        this.finalizationBacklog = setterArg;
+        return this;
+      }
+
+      private @Nullable Map<String, Long> strongInstanceCountsByClass;
+
+      public @NonNull Builder setStrongInstanceCountsByClass(@NonNull Map<String, Long> setterArg) {
+        this.strongInstanceCountsByClass = setterArg;
+        return this;
+      }
+
+      private @Nullable Map<String, Long> weakInstanceCountsByClass;
+
+      public @NonNull Builder setWeakInstanceCountsByClass(@NonNull Map<String, Long> setterArg) {
+        this.weakInstanceCountsByClass = setterArg;
+        return this;
+      }
+
+      public @NonNull InstanceManagerStatsData build() {
+        InstanceManagerStatsData pigeonReturn = new InstanceManagerStatsData();
+        pigeonReturn.setStrongInstanceCount(strongInstanceCount);
+        pigeonReturn.setWeakInstanceCount(weakInstanceCount);
+        pigeonReturn.setOldestStrongReferenceAgeMillis(oldestStrongReferenceAgeMillis);
+        pigeonReturn.setFinalizationBacklog(finalizationBacklog);
+        pigeonReturn.setStrongInstanceCountsByClass(strongInstanceCountsByClass);
+        pigeonReturn.setWeakInstanceCountsByClass(weakInstanceCountsByClass);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(6);
+      toListResult.add(strongInstanceCount);
+      toListResult.add(weakInstanceCount);
+      toListResult.add(oldestStrongReferenceAgeMillis);
+      toListResult.add(finalizationBacklog);
+      toListResult.add(strongInstanceCountsByClass);
+      toListResult.add(weakInstanceCountsByClass);
+      return toListResult;
+    }
+
+    static @NonNull InstanceManagerStatsData fromList(@NonNull ArrayList<Object> list) {
+      InstanceManagerStatsData pigeonResult = new InstanceManagerStatsData();
+      Object strongInstanceCount = list.get(0);
+      pigeonResult.setStrongInstanceCount(
+          (strongInstanceCount == null)
+              ? null
+              : ((strongInstanceCount instanceof Integer)
+                  ? (Integer) strongInstanceCount
+                  : (Long) strongInstanceCount));
+      Object weakInstanceCount = list.get(1);
+      pigeonResult.setWeakInstanceCount(
+          (weakInstanceCount == null)
+              ? null
+              : ((weakInstanceCount instanceof Integer)
+                  ? (Integer) weakInstanceCount
+                  : (Long) weakInstanceCount));
+      Object oldestStrongReferenceAgeMillis = list.get(2);
+      pigeonResult.setOldestStrongReferenceAgeMillis(
+          (oldestStrongReferenceAgeMillis == null)
+              ? null
+              : ((oldestStrongReferenceAgeMillis instanceof Integer)
+                  ? (Integer) oldestStrongReferenceAgeMillis
+                  : (Long) oldestStrongReferenceAgeMillis));
+      Object finalizationBacklog = list.get(3);
+      pigeonResult.setFinalizationBacklog(
+          (finalizationBacklog == null)
+              ? null
+              : ((finalizationBacklog instanceof Integer)
+                  ? (Integer) finalizationBacklog
+                  : (Long) finalizationBacklog));
+      Object strongInstanceCountsByClass = list.get(4);
+      pigeonResult.setStrongInstanceCountsByClass((Map<String, Long>) strongInstanceCountsByClass);
+      Object weakInstanceCountsByClass = list.get(5);
+      pigeonResult.setWeakInstanceCountsByClass((Map<String, Long>) weakInstanceCountsByClass);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class OpenCameraResultData {
+    private @NonNull Long processCameraProviderIdentifier;
+
+    public @NonNull Long getProcessCameraProviderIdentifier() {
+      return processCameraProviderIdentifier;
+    }
+
+    public void setProcessCameraProviderIdentifier(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException(
+            "Nonnull field \"processCameraProviderIdentifier\" is null.");
+      }
+      this.processCameraProviderIdentifier = setterArg;
+    }
+
+    private @NonNull Long cameraIdentifier;
+
+    public @NonNull Long getCameraIdentifier() {
+      return cameraIdentifier;
+    }
+
+    public void setCameraIdentifier(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"cameraIdentifier\" is null.");
+      }
+      this.cameraIdentifier = setterArg;
+    }
+
+    private @NonNull Long cameraInfoIdentifier;
+
+    public @NonNull Long getCameraInfoIdentifier() {
+      return cameraInfoIdentifier;
+    }
+
+    public void setCameraInfoIdentifier(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"cameraInfoIdentifier\" is null.");
+      }
+      this.cameraInfoIdentifier = setterArg;
+    }
+
+    private @NonNull Long providerInitializationMillis;
+
+    public @NonNull Long getProviderInitializationMillis() {
+      return providerInitializationMillis;
+    }
+
+    public void setProviderInitializationMillis(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"providerInitializationMillis\" is null.");
+      }
+      this.providerInitializationMillis = setterArg;
+    }
+
+    private @NonNull Long providerWaitMillis;
+
+    public @NonNull Long getProviderWaitMillis() {
+      return providerWaitMillis;
+    }
+
+    public void setProviderWaitMillis(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"providerWaitMillis\" is null.");
+      }
+      this.providerWaitMillis = setterArg;
+    }
+
+    private @NonNull Long bindMillis;
+
+    public @NonNull Long getBindMillis() {
+      return bindMillis;
+    }
+
+    public void setBindMillis(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"bindMillis\" is null.");
+      }
+      this.bindMillis = setterArg;
+    }
+
+    private @NonNull Long totalMillis;
+
+    public @NonNull Long getTotalMillis() {
+      return totalMillis;
+    }
+
+    public void setTotalMillis(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"totalMillis\" is null.");
+      }
+      this.totalMillis = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    OpenCameraResultData() {}
+
+    public static final class Builder {
+
+      private @Nullable Long processCameraProviderIdentifier;
+
+      public @NonNull Builder setProcessCameraProviderIdentifier(@NonNull Long setterArg) {
+        this.processCameraProviderIdentifier = setterArg;
+        return this;
+      }
+
+      private @Nullable Long cameraIdentifier;
+
+      public @NonNull Builder setCameraIdentifier(@NonNull Long setterArg) {
+        this.cameraIdentifier = setterArg;
+        return this;
+      }
+
+      private @Nullable Long cameraInfoIdentifier;
+
+      public @NonNull Builder setCameraInfoIdentifier(@NonNull Long setterArg) {
+        this.cameraInfoIdentifier = setterArg;
+        return this;
+      }
+
+      private @Nullable Long providerInitializationMillis;
+
+      public @NonNull Builder setProviderInitializationMillis(@NonNull Long setterArg) {
+        this.providerInitializationMillis = setterArg;
+        return this;
+      }
+
+      private @Nullable Long providerWaitMillis;
+
+      public @NonNull Builder setProviderWaitMillis(@NonNull Long setterArg) {
+        this.providerWaitMillis = setterArg;
+        return this;
+      }
+
+      private @Nullable Long bindMillis;
+
+      public @NonNull Builder setBindMillis(@NonNull Long setterArg) {
+        this.bindMillis = setterArg;
+        return this;
+      }
+
+      private @Nullable Long totalMillis;
+
+      public @NonNull Builder setTotalMillis(@NonNull Long setterArg) {
+        this.totalMillis = setterArg;
+        return this;
+      }
+
+      public @NonNull OpenCameraResultData build() {
+        OpenCameraResultData pigeonReturn = new OpenCameraResultData();
+        pigeonReturn.setProcessCameraProviderIdentifier(processCameraProviderIdentifier);
+        pigeonReturn.setCameraIdentifier(cameraIdentifier);
+        pigeonReturn.setCameraInfoIdentifier(cameraInfoIdentifier);
+        pigeonReturn.setProviderInitializationMillis(providerInitializationMillis);
+        pigeonReturn.setProviderWaitMillis(providerWaitMillis);
+        pigeonReturn.setBindMillis(bindMillis);
+        pigeonReturn.setTotalMillis(totalMillis);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(7);
+      toListResult.add(processCameraProviderIdentifier);
+      toListResult.add(cameraIdentifier);
+      toListResult.add(cameraInfoIdentifier);
+      toListResult.add(providerInitializationMillis);
+      toListResult.add(providerWaitMillis);
+      toListResult.add(bindMillis);
+      toListResult.add(totalMillis);
+      return toListResult;
+    }
+
+    static @NonNull OpenCameraResultData fromList(@NonNull ArrayList<Object> list) {
+      OpenCameraResultData pigeonResult = new OpenCameraResultData();
+      Object processCameraProviderIdentifier = list.get(0);
+      pigeonResult.setProcessCameraProviderIdentifier(
+          (processCameraProviderIdentifier == null)
+              ? null
+              : ((processCameraProviderIdentifier instanceof Integer)
+                  ? (Integer) processCameraProviderIdentifier
+                  : (Long) processCameraProviderIdentifier));
+      Object cameraIdentifier = list.get(1);
+      pigeonResult.setCameraIdentifier(
+          (cameraIdentifier == null)
+              ? null
+              : ((cameraIdentifier instanceof Integer)
+                  ? (Integer) cameraIdentifier
+                  : (Long) cameraIdentifier));
+      Object cameraInfoIdentifier = list.get(2);
+      pigeonResult.setCameraInfoIdentifier(
+          (cameraInfoIdentifier == null)
+              ? null
+              : ((cameraInfoIdentifier instanceof Integer)
+                  ? (Integer) cameraInfoIdentifier
+                  : (Long) cameraInfoIdentifier));
+      Object providerInitializationMillis = list.get(3);
+      pigeonResult.setProviderInitializationMillis(
+          (providerInitializationMillis == null)
+              ? null
+              : ((providerInitializationMillis instanceof Integer)
+                  ? (Integer) providerInitializationMillis
+                  : (Long) providerInitializationMillis));
+      Object providerWaitMillis = list.get(4);
+      pigeonResult.setProviderWaitMillis(
+          (providerWaitMillis == null)
+              ? null
+              : ((providerWaitMillis instanceof Integer)
+                  ? (Integer) providerWaitMillis
+                  : (Long) providerWaitMillis));
+      Object bindMillis = list.get(5);
+      pigeonResult.setBindMillis(
+          (bindMillis == null)
+              ? null
+              : ((bindMillis instanceof Integer) ? (Integer) bindMillis : (Long) bindMillis));
+      Object totalMillis = list.get(6);
+      pigeonResult.setTotalMillis(
+          (totalMillis == null)
+              ? null
+              : ((totalMillis instanceof Integer) ? (Integer) totalMillis : (Long) totalMillis));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class CapturedImageData {
+    private @NonNull byte[] bytes;
+
+    public @NonNull byte[] getBytes() {
+      return bytes;
+    }
+
+    public void setBytes(@NonNull byte[] setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"bytes\" is null.");
+      }
+      this.bytes = setterArg;
+    }
+
+    private @NonNull Long rotationDegrees;
+
+    public @NonNull Long getRotationDegrees() {
+      return rotationDegrees;
+    }
+
+    public void setRotationDegrees(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"rotationDegrees\" is null.");
+      }
+      this.rotationDegrees = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    CapturedImageData() {}
+
+    public static final class Builder {
+
+      private @Nullable byte[] bytes;
+
+      public @NonNull Builder setBytes(@NonNull byte[] setterArg) {
+        this.bytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long rotationDegrees;
+
+      public @NonNull Builder setRotationDegrees(@NonNull Long setterArg) {
+        this.rotationDegrees = setterArg;
+        return this;
+      }
+
+      public @NonNull CapturedImageData build() {
+        CapturedImageData pigeonReturn = new CapturedImageData();
+        pigeonReturn.setBytes(bytes);
+        pigeonReturn.setRotationDegrees(rotationDegrees);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      toListResult.add(bytes);
+      toListResult.add(rotationDegrees);
+      return toListResult;
+    }
+
+    static @NonNull CapturedImageData fromList(@NonNull ArrayList<Object> list) {
+      CapturedImageData pigeonResult = new CapturedImageData();
+      Object bytes = list.get(0);
+      pigeonResult.setBytes((byte[]) bytes);
+      Object rotationDegrees = list.get(1);
+      pigeonResult.setRotationDegrees(
+          (rotationDegrees == null)
+              ? null
+              : ((rotationDegrees instanceof Integer)
+                  ? (Integer) rotationDegrees
+                  : (Long) rotationDegrees));
+      return pigeonResult;
+    }
+  }
+
+  public interface Result<T> {
+    @SuppressWarnings("UnknownNullness")
+    void success(T result);
+
+    void error(@NonNull Throwable error);
+  }
+
+  private static class InstanceManagerHostApiCodec extends StandardMessageCodec {
+    public static final InstanceManagerHostApiCodec INSTANCE = new InstanceManagerHostApiCodec();
+
+    private InstanceManagerHostApiCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return InstanceManagerStatsData.fromList((ArrayList<Object>) readValue(buffer));
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
+      if (value instanceof InstanceManagerStatsData) {
+        stream.write(128);
+        writeValue(stream, ((InstanceManagerStatsData) value).toList());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
   }
+
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
   public interface InstanceManagerHostApi {
     /**
@@ -486,10 +1520,18 @@ public class GeneratedCameraXLibrary {
      * <p>This is typically only used after a hot restart.
      */
     void clear();
+    /** Counts the instances held by the native `InstanceManager`. */
+    @NonNull
+    InstanceManagerStatsData getStats();
+    /**
+     * Logs the stats of the native `InstanceManager` every [intervalMillis] milliseconds, or stops
+     * logging them when [intervalMillis] is 0.
+     */
+    void setStatsLogInterval(@NonNull Long intervalMillis);
 
     /** The codec used by InstanceManagerHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
-      return new StandardMessageCodec();
+      return InstanceManagerHostApiCodec.INSTANCE;
     }
     /**
      * Sets up an instance of `InstanceManagerHostApi` to handle messages through the
@@ -518,6 +1560,53 @@ public class GeneratedCameraXLibrary {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.InstanceManagerHostApi.getStats", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                try {
+                  InstanceManagerStatsData output = api.getStats();
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.InstanceManagerHostApi.setStatsLogInterval",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number intervalMillisArg = (Number) args.get(0);
+                try {
+                  api.setStatsLogInterval(
+                      (intervalMillisArg == null) ? null : intervalMillisArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
@@ -841,6 +1930,33 @@ public class GeneratedCameraXLibrary {
           channelReply -> callback.reply(null));
     }
   }
+  private static class ProcessCameraProviderHostApiCodec extends StandardMessageCodec {
+    public static final ProcessCameraProviderHostApiCodec INSTANCE =
+        new ProcessCameraProviderHostApiCodec();
+
+    private ProcessCameraProviderHostApiCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return OpenCameraResultData.fromList((ArrayList<Object>) readValue(buffer));
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
+      if (value instanceof OpenCameraResultData) {
+        stream.write(128);
+        writeValue(stream, ((OpenCameraResultData) value).toList());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
+  }
+
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
   public interface ProcessCameraProviderHostApi {
 
@@ -862,9 +1978,14 @@ public class GeneratedCameraXLibrary {
 
     void unbindAll(@NonNull Long identifier);
 
+    void openCamera(
+        @NonNull Long cameraSelectorIdentifier,
+        @NonNull List<Long> useCaseIds,
+        @NonNull Result<OpenCameraResultData> result);
+
     /** The codec used by ProcessCameraProviderHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
-      return new StandardMessageCodec();
+      return ProcessCameraProviderHostApiCodec.INSTANCE;
     }
     /**
      * Sets up an instance of `ProcessCameraProviderHostApi` to handle messages through the
@@ -1042,6 +2163,43 @@ public class GeneratedCameraXLibrary {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.ProcessCameraProviderHostApi.openCamera",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number cameraSelectorIdentifierArg = (Number) args.get(0);
+                List<Long> useCaseIdsArg = (List<Long>) args.get(1);
+                Result<OpenCameraResultData> resultCallback =
+                    new Result<OpenCameraResultData>() {
+                      public void success(OpenCameraResultData result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.openCamera(
+                    (cameraSelectorIdentifierArg == null)
+                        ? null
+                        : cameraSelectorIdentifierArg.longValue(),
+                    useCaseIdsArg,
+                    resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
   /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
@@ -1966,19 +3124,50 @@ public class GeneratedCameraXLibrary {
           channelReply -> callback.reply(null));
     }
   }
+  private static class ImageCaptureHostApiCodec extends StandardMessageCodec {
+    public static final ImageCaptureHostApiCodec INSTANCE = new ImageCaptureHostApiCodec();
+
+    private ImageCaptureHostApiCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return CapturedImageData.fromList((ArrayList<Object>) readValue(buffer));
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
+      if (value instanceof CapturedImageData) {
+        stream.write(128);
+        writeValue(stream, ((CapturedImageData) value).toList());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
+  }
+
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
   public interface ImageCaptureHostApi {
 
     void create(
-        @NonNull Long identifier, @Nullable Long flashMode, @Nullable Long resolutionSelectorId);
+        @NonNull Long identifier,
+        @Nullable Long flashMode,
+        @Nullable Long resolutionSelectorId,
+        @Nullable Long captureMode);
 
     void setFlashMode(@NonNull Long identifier, @NonNull Long flashMode);
 
     void takePicture(@NonNull Long identifier, @NonNull Result<String> result);
 
+    void takePictureToMemory(@NonNull Long identifier, @NonNull Result<CapturedImageData> result);
+
     /** The codec used by ImageCaptureHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
-      return new StandardMessageCodec();
+      return ImageCaptureHostApiCodec.INSTANCE;
     }
     /**
      * Sets up an instance of `ImageCaptureHostApi` to handle messages through the
@@ -1997,13 +3186,15 @@ public class GeneratedCameraXLibrary {
                 Number identifierArg = (Number) args.get(0);
                 Number flashModeArg = (Number) args.get(1);
                 Number resolutionSelectorIdArg = (Number) args.get(2);
+                Number captureModeArg = (Number) args.get(3);
                 try {
                   api.create(
                       (identifierArg == null) ? null : identifierArg.longValue(),
                       (flashModeArg == null) ? null : flashModeArg.longValue(),
                       (resolutionSelectorIdArg == null)
                           ? null
-                          : resolutionSelectorIdArg.longValue());
+                          : resolutionSelectorIdArg.longValue(),
+                      (captureModeArg == null) ? null : captureModeArg.longValue());
                   wrapped.add(0, null);
                 } catch (Throwable exception) {
                   ArrayList<Object> wrappedError = wrapError(exception);
@@ -2071,6 +3262,38 @@ public class GeneratedCameraXLibrary {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.ImageCaptureHostApi.takePictureToMemory",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number identifierArg = (Number) args.get(0);
+                Result<CapturedImageData> resultCallback =
+                    new Result<CapturedImageData>() {
+                      public void success(CapturedImageData result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.takePictureToMemory(
+                    (identifierArg == null) ? null : identifierArg.longValue(), resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 
@@ -2401,7 +3624,14 @@ public class GeneratedCameraXLibrary {
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
   public interface ImageAnalysisHostApi {
 
-    void create(@NonNull Long identifier, @Nullable Long resolutionSelectorId);
+    void create(
+        @NonNull Long identifier,
+        @Nullable Long resolutionSelectorId,
+        @Nullable Long backpressureStrategy,
+        @Nullable Long imageQueueDepth,
+        @Nullable Long analyzerThreadCount,
+        @Nullable Long outputImageFormat,
+        @Nullable Boolean outputImageRotationEnabled);
 
     void setAnalyzer(@NonNull Long identifier, @NonNull Long analyzerIdentifier);
 
@@ -2428,12 +3658,26 @@ public class GeneratedCameraXLibrary {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Number identifierArg = (Number) args.get(0);
                 Number resolutionSelectorIdArg = (Number) args.get(1);
+                Number backpressureStrategyArg = (Number) args.get(2);
+                Number imageQueueDepthArg = (Number) args.get(3);
+                Number analyzerThreadCountArg = (Number) args.get(4);
+                Number outputImageFormatArg = (Number) args.get(5);
+                Boolean outputImageRotationEnabledArg = (Boolean) args.get(6);
                 try {
                   api.create(
                       (identifierArg == null) ? null : identifierArg.longValue(),
                       (resolutionSelectorIdArg == null)
                           ? null
-                          : resolutionSelectorIdArg.longValue());
+                          : resolutionSelectorIdArg.longValue(),
+                      (backpressureStrategyArg == null)
+                          ? null
+                          : backpressureStrategyArg.longValue(),
+                      (imageQueueDepthArg == null) ? null : imageQueueDepthArg.longValue(),
+                      (analyzerThreadCountArg == null)
+                          ? null
+                          : analyzerThreadCountArg.longValue(),
+                      (outputImageFormatArg == null) ? null : outputImageFormatArg.longValue(),
+                      outputImageRotationEnabledArg);
                   wrapped.add(0, null);
                 } catch (Throwable exception) {
                   ArrayList<Object> wrappedError = wrapError(exception);
@@ -2501,7 +3745,12 @@ public class GeneratedCameraXLibrary {
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
   public interface AnalyzerHostApi {
 
-    void create(@NonNull Long identifier);
+    void create(
+        @NonNull Long identifier,
+        @NonNull Boolean deliverFrames,
+        @NonNull Boolean packNv21,
+        @Nullable Double targetFrameRate,
+        @Nullable Long frameStride);
 
     /** The codec used by AnalyzerHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
@@ -2521,8 +3770,17 @@ public class GeneratedCameraXLibrary {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Number identifierArg = (Number) args.get(0);
+                Boolean deliverFramesArg = (Boolean) args.get(1);
+                Boolean packNv21Arg = (Boolean) args.get(2);
+                Double targetFrameRateArg = (Double) args.get(3);
+                Number frameStrideArg = (Number) args.get(4);
                 try {
-                  api.create((identifierArg == null) ? null : identifierArg.longValue());
+                  api.create(
+                      (identifierArg == null) ? null : identifierArg.longValue(),
+                      deliverFramesArg,
+                      packNv21Arg,
+                      targetFrameRateArg,
+                      (frameStrideArg == null) ? null : frameStrideArg.longValue());
                   wrapped.add(0, null);
                 } catch (Throwable exception) {
                   ArrayList<Object> wrappedError = wrapError(exception);
@@ -2541,6 +3799,8 @@ public class GeneratedCameraXLibrary {
 
     void create(@NonNull Long identifier);
 
+    void createCoalescing(@NonNull Long identifier, @NonNull Long intervalMillis);
+
     /** The codec used by ObserverHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
       return new StandardMessageCodec();
@@ -2572,8 +3832,66 @@ public class GeneratedCameraXLibrary {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.ObserverHostApi.createCoalescing", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number identifierArg = (Number) args.get(0);
+                Number intervalMillisArg = (Number) args.get(1);
+                try {
+                  api.createCoalescing(
+                      (identifierArg == null) ? null : identifierArg.longValue(),
+                      (intervalMillisArg == null) ? null : intervalMillisArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
+
+  private static class ObserverFlutterApiCodec extends StandardMessageCodec {
+    public static final ObserverFlutterApiCodec INSTANCE = new ObserverFlutterApiCodec();
+
+    private ObserverFlutterApiCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return CameraStateData.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 129:
+          return ZoomStateData.fromList((ArrayList<Object>) readValue(buffer));
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
+      if (value instanceof CameraStateData) {
+        stream.write(128);
+        writeValue(stream, ((CameraStateData) value).toList());
+      } else if (value instanceof ZoomStateData) {
+        stream.write(129);
+        writeValue(stream, ((ZoomStateData) value).toList());
+      } else {
+        super.writeValue(stream, value);
+      }
     }
   }
+
   /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
   public static class ObserverFlutterApi {
     private final @NonNull BinaryMessenger binaryMessenger;
@@ -2589,7 +3907,7 @@ public class GeneratedCameraXLibrary {
     }
     /** The codec used by ObserverFlutterApi. */
     static @NonNull MessageCodec<Object> getCodec() {
-      return new StandardMessageCodec();
+      return ObserverFlutterApiCodec.INSTANCE;
     }
 
     public void onChanged(
@@ -2603,6 +3921,34 @@ public class GeneratedCameraXLibrary {
           new ArrayList<Object>(Arrays.asList(identifierArg, valueIdentifierArg)),
           channelReply -> callback.reply(null));
     }
+
+    public void onCameraStateChanged(
+        @NonNull Long identifierArg,
+        @NonNull CameraStateData valueArg,
+        @NonNull Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.ObserverFlutterApi.onCameraStateChanged",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(identifierArg, valueArg)),
+          channelReply -> callback.reply(null));
+    }
+
+    public void onZoomStateChanged(
+        @NonNull Long identifierArg,
+        @NonNull ZoomStateData valueArg,
+        @NonNull Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.ObserverFlutterApi.onZoomStateChanged",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(identifierArg, valueArg)),
+          channelReply -> callback.reply(null));
+    }
   }
   /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
   public static class CameraStateErrorFlutterApi {
@@ -2811,6 +4157,38 @@ public class GeneratedCameraXLibrary {
           channelReply -> callback.reply(null));
     }
   }
+
+  private static class AnalyzerFlutterApiCodec extends StandardMessageCodec {
+    public static final AnalyzerFlutterApiCodec INSTANCE = new AnalyzerFlutterApiCodec();
+
+    private AnalyzerFlutterApiCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return ImageFrameData.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 129:
+          return ImagePlaneData.fromList((ArrayList<Object>) readValue(buffer));
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
+      if (value instanceof ImageFrameData) {
+        stream.write(128);
+        writeValue(stream, ((ImageFrameData) value).toList());
+      } else if (value instanceof ImagePlaneData) {
+        stream.write(129);
+        writeValue(stream, ((ImagePlaneData) value).toList());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
+  }
+
   /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
   public static class AnalyzerFlutterApi {
     private final @NonNull BinaryMessenger binaryMessenger;
@@ -2826,7 +4204,7 @@ public class GeneratedCameraXLibrary {
     }
     /** The codec used by AnalyzerFlutterApi. */
     static @NonNull MessageCodec<Object> getCodec() {
-      return new StandardMessageCodec();
+      return AnalyzerFlutterApiCodec.INSTANCE;
     }
 
     public void create(@NonNull Long identifierArg, @NonNull Reply<Void> callback) {
@@ -2849,6 +4227,18 @@ public class GeneratedCameraXLibrary {
           new ArrayList<Object>(Arrays.asList(identifierArg, imageProxyIdentifierArg)),
           channelReply -> callback.reply(null));
     }
+
+    public void analyzeFrame(
+        @NonNull Long identifierArg,
+        @NonNull ImageFrameData frameArg,
+        @NonNull Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.AnalyzerFlutterApi.analyzeFrame", getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(identifierArg, frameArg)),
+          channelReply -> callback.reply(null));
+    }
   }
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
   public interface ImageProxyHostApi {
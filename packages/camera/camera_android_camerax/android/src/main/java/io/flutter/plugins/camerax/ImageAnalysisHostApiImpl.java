@@ -13,7 +13,10 @@ import androidx.camera.core.resolutionselector.ResolutionSelector;
 import androidx.core.content.ContextCompat;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ImageAnalysisHostApi;
+import java.util.Map;
 import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executor;
 
 public class ImageAnalysisHostApiImpl implements ImageAnalysisHostApi {
 
@@ -21,6 +24,12 @@ public class ImageAnalysisHostApiImpl implements ImageAnalysisHostApi {
   private BinaryMessenger binaryMessenger;
   private Context context;
 
+  /**
+   * Executors running the analyzers of the {@link ImageAnalysis} instances created by {@link
+   * #create}. Instances without an entry run their analyzer on the main thread.
+   */
+  private final Map<ImageAnalysis, Executor> analyzerExecutors = new WeakHashMap<>();
+
   @VisibleForTesting @NonNull public CameraXProxy cameraXProxy = new CameraXProxy();
 
   public ImageAnalysisHostApiImpl(
@@ -30,15 +39,29 @@ public class ImageAnalysisHostApiImpl implements ImageAnalysisHostApi {
   }
 
   /**
-   * Sets the context that will be used to run an {@link ImageAnalysis.Analyzer} on the main thread.
+   * Sets the context that will be used to run an {@link ImageAnalysis.Analyzer} on the main thread
+   * when no analyzer threads are requested.
    */
   public void setContext(@NonNull Context context) {
     this.context = context;
   }
 
-  /** Creates an {@link ImageAnalysis} instance with the target resolution if specified. */
+  /**
+   * Creates an {@link ImageAnalysis} instance with the target resolution, backpressure strategy,
+   * image queue depth, output image format and output image rotation if specified.
+   *
+   * <p>The analyzer runs on {@code analyzerThreadCount} background threads, one if not specified.
+   * A count of 0 runs it on the main thread.
+   */
   @Override
-  public void create(@NonNull Long identifier, @Nullable Long resolutionSelectorId) {
+  public void create(
+      @NonNull Long identifier,
+      @Nullable Long resolutionSelectorId,
+      @Nullable Long backpressureStrategy,
+      @Nullable Long imageQueueDepth,
+      @Nullable Long analyzerThreadCount,
+      @Nullable Long outputImageFormat,
+      @Nullable Boolean outputImageRotationEnabled) {
     ImageAnalysis.Builder imageAnalysisBuilder = cameraXProxy.createImageAnalysisBuilder();
 
     if (resolutionSelectorId != null) {
@@ -46,8 +69,24 @@ public class ImageAnalysisHostApiImpl implements ImageAnalysisHostApi {
           Objects.requireNonNull(instanceManager.getInstance(resolutionSelectorId));
       imageAnalysisBuilder.setResolutionSelector(resolutionSelector);
     }
+    if (backpressureStrategy != null) {
+      imageAnalysisBuilder.setBackpressureStrategy(backpressureStrategy.intValue());
+    }
+    if (imageQueueDepth != null) {
+      imageAnalysisBuilder.setImageQueueDepth(imageQueueDepth.intValue());
+    }
+    if (outputImageFormat != null) {
+      imageAnalysisBuilder.setOutputImageFormat(outputImageFormat.intValue());
+    }
+    if (outputImageRotationEnabled != null) {
+      imageAnalysisBuilder.setOutputImageRotationEnabled(outputImageRotationEnabled);
+    }
 
     ImageAnalysis imageAnalysis = imageAnalysisBuilder.build();
+    int threadCount = analyzerThreadCount == null ? 1 : analyzerThreadCount.intValue();
+    if (threadCount > 0) {
+      analyzerExecutors.put(imageAnalysis, cameraXProxy.createAnalyzerExecutor(threadCount));
+    }
     instanceManager.addDartCreatedInstance(imageAnalysis, identifier);
   }
 
@@ -58,10 +97,11 @@ public class ImageAnalysisHostApiImpl implements ImageAnalysisHostApi {
    */
   @Override
   public void setAnalyzer(@NonNull Long identifier, @NonNull Long analyzerIdentifier) {
-    getImageAnalysisInstance(identifier)
-        .setAnalyzer(
-            ContextCompat.getMainExecutor(context),
-            Objects.requireNonNull(instanceManager.getInstance(analyzerIdentifier)));
+    ImageAnalysis imageAnalysis = getImageAnalysisInstance(identifier);
+    Executor executor = analyzerExecutors.get(imageAnalysis);
+    imageAnalysis.setAnalyzer(
+        executor == null ? ContextCompat.getMainExecutor(context) : executor,
+        Objects.requireNonNull(instanceManager.getInstance(analyzerIdentifier)));
   }
 
   /** Clears any analyzer previously set on the specified {@link ImageAnalysis} instance. */
@@ -10,11 +10,14 @@ import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import androidx.camera.core.ImageCapture;
 import androidx.camera.core.ImageCaptureException;
+import androidx.camera.core.ImageProxy;
 import androidx.camera.core.resolutionselector.ResolutionSelector;
 import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.CapturedImageData;
 import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ImageCaptureHostApi;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.concurrent.Executors;
 
@@ -48,12 +51,15 @@ public class ImageCaptureHostApiImpl implements ImageCaptureHostApi {
   }
 
   /**
-   * Creates an {@link ImageCapture} with the requested flash mode and target resolution if
-   * specified.
+   * Creates an {@link ImageCapture} with the requested flash mode, target resolution and capture
+   * mode if specified.
    */
   @Override
   public void create(
-      @NonNull Long identifier, @Nullable Long flashMode, @Nullable Long resolutionSelectorId) {
+      @NonNull Long identifier,
+      @Nullable Long flashMode,
+      @Nullable Long resolutionSelectorId,
+      @Nullable Long captureMode) {
     ImageCapture.Builder imageCaptureBuilder = cameraXProxy.createImageCaptureBuilder();
 
     if (flashMode != null) {
@@ -65,6 +71,10 @@ public class ImageCaptureHostApiImpl implements ImageCaptureHostApi {
           Objects.requireNonNull(instanceManager.getInstance(resolutionSelectorId));
       imageCaptureBuilder.setResolutionSelector(resolutionSelector);
     }
+    if (captureMode != null) {
+      // Cameras that do not support zero shutter lag fall back to minimizing latency.
+      imageCaptureBuilder.setCaptureMode(captureMode.intValue());
+    }
 
     ImageCapture imageCapture = imageCaptureBuilder.build();
     instanceManager.addDartCreatedInstance(imageCapture, identifier);
@@ -102,6 +112,53 @@ public class ImageCaptureHostApiImpl implements ImageCaptureHostApi {
         outputFileOptions, Executors.newSingleThreadExecutor(), onImageSavedCallback);
   }
 
+  /**
+   * Captures a still image and returns its JPEG bytes without writing them to a file.
+   *
+   * <p>The image is not rotated, so its rotation is returned alongside the bytes.
+   */
+  @Override
+  public void takePictureToMemory(
+      @NonNull Long identifier, @NonNull GeneratedCameraXLibrary.Result<CapturedImageData> result) {
+    ImageCapture imageCapture =
+        (ImageCapture) Objects.requireNonNull(instanceManager.getInstance(identifier));
+
+    imageCapture.takePicture(
+        Executors.newSingleThreadExecutor(), createOnImageCapturedCallback(result));
+  }
+
+  /** Creates a callback used when capturing an image in memory. */
+  @VisibleForTesting
+  public @NonNull ImageCapture.OnImageCapturedCallback createOnImageCapturedCallback(
+      @NonNull GeneratedCameraXLibrary.Result<CapturedImageData> result) {
+    return new ImageCapture.OnImageCapturedCallback() {
+      @Override
+      public void onCaptureSuccess(@NonNull ImageProxy image) {
+        CapturedImageData capturedImage;
+        try {
+          // Images captured in memory are JPEG encoded in a single plane.
+          ByteBuffer buffer = image.getPlanes()[0].getBuffer();
+          byte[] bytes = new byte[buffer.remaining()];
+          buffer.get(bytes);
+          capturedImage =
+              new CapturedImageData.Builder()
+                  .setBytes(bytes)
+                  .setRotationDegrees(Long.valueOf(image.getImageInfo().getRotationDegrees()))
+                  .build();
+        } finally {
+          // The bytes were copied, so the camera can reuse the image right away.
+          image.close();
+        }
+        result.success(capturedImage);
+      }
+
+      @Override
+      public void onError(@NonNull ImageCaptureException exception) {
+        result.error(exception);
+      }
+    };
+  }
+
   /** Creates a callback used when saving a captured image. */
   @VisibleForTesting
   public @NonNull ImageCapture.OnImageSavedCallback createOnImageSavedCallback(
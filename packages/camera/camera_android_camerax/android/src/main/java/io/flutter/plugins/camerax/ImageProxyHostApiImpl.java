@@ -43,6 +43,11 @@ public class ImageProxyHostApiImpl implements ImageProxyHostApi {
   /**
    * Returns the array of identifiers for planes of the {@link ImageProxy} instance with the
    * specified identifier.
+   *
+   * <p>The bytes of each plane are copied into an array from {@link
+   * CameraXProxy#getBytesFromBuffer(int)} that is released as soon as the message creating the
+   * plane has been encoded, unless the plane buffer already wraps a whole array that can be sent
+   * without a copy.
    */
   @Override
   @NonNull
@@ -52,13 +57,22 @@ public class ImageProxyHostApiImpl implements ImageProxyHostApi {
 
     for (ImageProxy.PlaneProxy plane : planes) {
       ByteBuffer byteBuffer = plane.getBuffer();
-      byte[] bytes = cameraXProxy.getBytesFromBuffer(byteBuffer.remaining());
-      byteBuffer.get(bytes, 0, bytes.length);
+      byte[] bytes = ImageProxyUtils.getContiguousArray(byteBuffer);
+      boolean isCopy = bytes == null;
+      if (isCopy) {
+        bytes = cameraXProxy.getBytesFromBuffer(byteBuffer.remaining());
+        byteBuffer.get(bytes, 0, bytes.length);
+      }
       Long pixelStride = Long.valueOf(plane.getPixelStride());
       Long rowStride = Long.valueOf(plane.getRowStride());
 
       planeProxyFlutterApiImpl.create(plane, bytes, pixelStride, rowStride, reply -> {});
       planeIdentifiers.add(instanceManager.getIdentifierForStrongReference(plane));
+
+      // The message has been encoded, so the copy can be reused for the next image.
+      if (isCopy) {
+        cameraXProxy.releaseBytes(bytes);
+      }
     }
 
     return planeIdentifiers;
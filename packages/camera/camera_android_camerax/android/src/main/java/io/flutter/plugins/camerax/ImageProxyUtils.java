@@ -0,0 +1,144 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.camera.core.ImageProxy;
+import java.nio.ByteBuffer;
+
+/** Utility methods to convert the images analyzed by an {@link ImageProxy}. */
+public final class ImageProxyUtils {
+  private ImageProxyUtils() {}
+
+  /**
+   * Returns the size of an NV21 image.
+   *
+   * @param width is the image width.
+   * @param height is the image height.
+   * @return the number of bytes of the NV21 image.
+   */
+  public static int getNV21Size(int width, int height) {
+    int imageSize = width * height;
+    return imageSize + 2 * (imageSize / 4);
+  }
+
+  /**
+   * Returns the size of the scratch row {@link #yuv420888ToNV21} needs for the planes of an image.
+   *
+   * @param planes is the Y, U and V planes of the image.
+   * @return the number of bytes of the longest chroma row.
+   */
+  public static int getScratchRowSize(@NonNull ImageProxy.PlaneProxy[] planes) {
+    return Math.max(planes[1].getRowStride(), planes[2].getRowStride());
+  }
+
+  /**
+   * Returns the array backing a buffer if the remaining bytes of the buffer are exactly the whole
+   * array, so that they can be sent without being copied.
+   *
+   * <p>Planes of images acquired from the camera are usually backed by direct buffers, which have
+   * no accessible array.
+   *
+   * @param buffer is the buffer of an image plane.
+   * @return the backing array, or null if the buffer is direct or covers only part of its array.
+   */
+  @Nullable
+  public static byte[] getContiguousArray(@NonNull ByteBuffer buffer) {
+    if (!buffer.hasArray()) {
+      return null;
+    }
+    byte[] array = buffer.array();
+    if (buffer.arrayOffset() + buffer.position() != 0 || buffer.remaining() != array.length) {
+      return null;
+    }
+    return array;
+  }
+
+  /**
+   * Packs a region of a YUV_420_888 image into an NV21 array.
+   *
+   * <p>The Y values of the region are written first, followed by its interleaved V and U values.
+   * The region must start and end on even coordinates, so that it covers whole chroma samples.
+   *
+   * <p>Rows are read with a single bulk {@link ByteBuffer#get(byte[], int, int)} each. Rows of
+   * interleaved chroma planes are read into {@code scratchRow} and then de-interleaved, so that the
+   * caller can reuse the scratch row across frames.
+   *
+   * @param planes is the Y, U and V planes of the image.
+   * @param left is the first column of the region.
+   * @param top is the first row of the region.
+   * @param width is the width of the region.
+   * @param height is the height of the region.
+   * @param out is the destination array, of at least {@link #getNV21Size(int, int)} bytes.
+   * @param scratchRow is an array of at least {@link #getScratchRowSize} bytes.
+   */
+  public static void yuv420888ToNV21(
+      @NonNull ImageProxy.PlaneProxy[] planes,
+      int left,
+      int top,
+      int width,
+      int height,
+      @NonNull byte[] out,
+      @NonNull byte[] scratchRow) {
+    int imageSize = width * height;
+    int chromaLeft = left / 2;
+    int chromaTop = top / 2;
+    int chromaWidth = width / 2;
+    int chromaHeight = height / 2;
+
+    // Copy Y.
+    copyPlane(planes[0], left, top, width, height, out, 0, 1, scratchRow);
+    // Copy V and U, interleaved after the Y values.
+    int vOffset = imageSize;
+    int uOffset = imageSize + 1;
+    copyPlane(
+        planes[1], chromaLeft, chromaTop, chromaWidth, chromaHeight, out, uOffset, 2, scratchRow);
+    copyPlane(
+        planes[2], chromaLeft, chromaTop, chromaWidth, chromaHeight, out, vOffset, 2, scratchRow);
+  }
+
+  /**
+   * Copies a region of an image plane into a byte array.
+   *
+   * <p>The output is written at {@code offset} with every pixel spaced by {@code pixelStride} and
+   * no row padding. {@code scratchRow} must be at least as long as a row of the plane.
+   */
+  private static void copyPlane(
+      @NonNull ImageProxy.PlaneProxy plane,
+      int left,
+      int top,
+      int width,
+      int height,
+      @NonNull byte[] out,
+      int offset,
+      int pixelStride,
+      @NonNull byte[] scratchRow) {
+    ByteBuffer buffer = plane.getBuffer();
+    int bufferStart = buffer.position();
+    int rowStride = plane.getRowStride();
+    int inputPixelStride = plane.getPixelStride();
+    int rowLength = (width - 1) * inputPixelStride + 1;
+
+    int outputPos = offset;
+    if (inputPixelStride == 1 && pixelStride == 1) {
+      for (int row = 0; row < height; row++) {
+        buffer.position(bufferStart + (top + row) * rowStride + left);
+        buffer.get(out, outputPos, width);
+        outputPos += width;
+      }
+    } else {
+      for (int row = 0; row < height; row++) {
+        buffer.position(bufferStart + (top + row) * rowStride + left * inputPixelStride);
+        buffer.get(scratchRow, 0, rowLength);
+        for (int inputPos = 0; inputPos < rowLength; inputPos += inputPixelStride) {
+          out[outputPos] = scratchRow[inputPos];
+          outputPos += pixelStride;
+        }
+      }
+    }
+    buffer.position(bufferStart);
+  }
+}
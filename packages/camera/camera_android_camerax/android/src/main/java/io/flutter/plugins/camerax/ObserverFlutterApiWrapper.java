@@ -12,7 +12,9 @@ import androidx.camera.core.CameraState;
 import androidx.camera.core.ZoomState;
 import androidx.lifecycle.Observer;
 import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.CameraStateData;
 import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ObserverFlutterApi;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ZoomStateData;
 import java.util.Objects;
 
 /**
@@ -69,11 +71,8 @@ public class ObserverFlutterApiWrapper {
           "The type of value that was observed is not handled by this plugin.");
     }
 
-    Long observerIdentifier = instanceManager.getIdentifierForStrongReference(instance);
+    Long observerIdentifier = getObserverIdentifier(instance);
     if (observerIdentifier == null) {
-      Log.e(
-          TAG,
-          "The Observer that received a callback has been garbage collected. Please create a new instance to receive any further data changes.");
       return;
     }
 
@@ -83,6 +82,63 @@ public class ObserverFlutterApiWrapper {
         callback);
   }
 
+  /**
+   * Sends a message to Dart to call {@link Observer.onChanged} on the Dart object representing
+   * {@code instance} with a copy of {@code value}.
+   *
+   * <p>Unlike {@link #onChanged}, {@code value} is sent as plain data and is not added to the
+   * {@link InstanceManager}.
+   */
+  public <T> void onChangedValue(
+      @NonNull Observer<T> instance,
+      @NonNull T value,
+      @NonNull ObserverFlutterApi.Reply<Void> callback) {
+    Long observerIdentifier = getObserverIdentifier(instance);
+    if (observerIdentifier == null) {
+      return;
+    }
+
+    // See onChanged for the supported types.
+    if (value instanceof CameraState) {
+      CameraState cameraState = (CameraState) value;
+      CameraState.StateError error = cameraState.getError();
+      observerFlutterApi.onCameraStateChanged(
+          observerIdentifier,
+          new CameraStateData.Builder()
+              .setType(CameraStateFlutterApiWrapper.getCameraStateType(cameraState.getType()))
+              .setErrorCode(error == null ? null : Long.valueOf(error.getCode()))
+              .build(),
+          callback);
+    } else if (value instanceof ZoomState) {
+      ZoomState zoomState = (ZoomState) value;
+      observerFlutterApi.onZoomStateChanged(
+          observerIdentifier,
+          new ZoomStateData.Builder()
+              .setMinZoomRatio((double) zoomState.getMinZoomRatio())
+              .setMaxZoomRatio((double) zoomState.getMaxZoomRatio())
+              .build(),
+          callback);
+    } else {
+      throw new UnsupportedOperationException(
+          "The type of value that was observed is not handled by this plugin.");
+    }
+  }
+
+  /**
+   * Returns the identifier of {@code instance}, or null and logs an error if it has been garbage
+   * collected on the Dart side.
+   */
+  @Nullable
+  private Long getObserverIdentifier(@NonNull Observer<?> instance) {
+    Long observerIdentifier = instanceManager.getIdentifierForStrongReference(instance);
+    if (observerIdentifier == null) {
+      Log.e(
+          TAG,
+          "The Observer that received a callback has been garbage collected. Please create a new instance to receive any further data changes.");
+    }
+    return observerIdentifier;
+  }
+
   /** Creates a {@link CameraState} on the Dart side. */
   private void createCameraState(CameraState cameraState) {
     if (cameraStateFlutterApiWrapper == null) {
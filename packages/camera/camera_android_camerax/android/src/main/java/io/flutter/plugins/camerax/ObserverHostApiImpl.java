@@ -4,12 +4,17 @@
 
 package io.flutter.plugins.camerax;
 
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import androidx.lifecycle.Observer;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ObserverHostApi;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 /**
  * Host API implementation for {@link Observer}.
@@ -32,6 +37,15 @@ public class ObserverHostApiImpl implements ObserverHostApi {
         @NonNull BinaryMessenger binaryMessenger, @NonNull InstanceManager instanceManager) {
       return new ObserverImpl<T>(binaryMessenger, instanceManager);
     }
+
+    /** Creates an instance of {@link Observer} that coalesces changes. */
+    @NonNull
+    public <T> CoalescingObserverImpl<T> createCoalescing(
+        @NonNull BinaryMessenger binaryMessenger,
+        @NonNull InstanceManager instanceManager,
+        long intervalMillis) {
+      return new CoalescingObserverImpl<T>(binaryMessenger, instanceManager, intervalMillis);
+    }
   }
 
   /** Implementation of {@link Observer} that passes arguments of callback methods to Dart. */
@@ -61,6 +75,74 @@ public class ObserverHostApiImpl implements ObserverHostApi {
     }
   }
 
+  /**
+   * Implementation of {@link Observer} that passes only the latest value to Dart, at most once per
+   * display frame or per interval.
+   *
+   * <p>Values are sent as plain data, so no instances are added to the {@link InstanceManager} per
+   * change. Like any {@link Observer}, it is called on the main thread.
+   */
+  public static class CoalescingObserverImpl<T> implements Observer<T> {
+    private ObserverFlutterApiWrapper observerFlutterApiWrapper;
+    @Nullable private T pendingValue;
+    private boolean flushScheduled;
+
+    /** Runs the flush of the latest value on the next display frame or after the interval. */
+    @VisibleForTesting @NonNull public Executor flushExecutor;
+
+    /**
+     * Constructs an instance of {@link Observer} that passes the latest value of coalesced changes
+     * to Dart.
+     *
+     * @param intervalMillis is the minimum time between values sent to Dart, or 0 to send at most
+     *     one value per display frame.
+     */
+    public CoalescingObserverImpl(
+        @NonNull BinaryMessenger binaryMessenger,
+        @NonNull InstanceManager instanceManager,
+        long intervalMillis) {
+      super();
+      observerFlutterApiWrapper = new ObserverFlutterApiWrapper(binaryMessenger, instanceManager);
+      if (intervalMillis == 0) {
+        flushExecutor =
+            runnable ->
+                Choreographer.getInstance().postFrameCallback(frameTimeNanos -> runnable.run());
+      } else {
+        Handler mainHandler = new Handler(Looper.getMainLooper());
+        flushExecutor = runnable -> mainHandler.postDelayed(runnable, intervalMillis);
+      }
+    }
+
+    /**
+     * Method called when the data in observance is changed to {@code value}.
+     *
+     * <p>Replaces any value that has not been sent to Dart yet.
+     */
+    @Override
+    public void onChanged(T value) {
+      pendingValue = value;
+      if (!flushScheduled) {
+        flushScheduled = true;
+        flushExecutor.execute(this::flush);
+      }
+    }
+
+    private void flush() {
+      flushScheduled = false;
+      final T value = pendingValue;
+      pendingValue = null;
+      if (value != null) {
+        observerFlutterApiWrapper.onChangedValue(this, value, reply -> {});
+      }
+    }
+
+    /** Flutter API used to send messages back to Dart. */
+    @VisibleForTesting
+    void setApi(@NonNull ObserverFlutterApiWrapper api) {
+      this.observerFlutterApiWrapper = api;
+    }
+  }
+
   /**
    * Constructs a {@link ObserverHostApiImpl}.
    *
@@ -96,6 +178,21 @@ public class ObserverHostApiImpl implements ObserverHostApi {
         observerProxy.create(binaryMessenger, instanceManager), identifier);
   }
 
+  /**
+   * Creates an {@link Observer} instance that sends only the latest value to Dart, at most once
+   * per display frame if {@code intervalMillis} is 0 or once per {@code intervalMillis} otherwise.
+   */
+  @Override
+  public void createCoalescing(@NonNull Long identifier, @NonNull Long intervalMillis) {
+    if (intervalMillis < 0) {
+      throw new IllegalArgumentException(
+          String.format("Interval must be >= 0: %d", intervalMillis));
+    }
+    instanceManager.addDartCreatedInstance(
+        observerProxy.createCoalescing(binaryMessenger, instanceManager, intervalMillis),
+        identifier);
+  }
+
   private Observer<?> getObserverInstance(@NonNull Long identifier) {
     return Objects.requireNonNull(instanceManager.getInstance(identifier));
   }
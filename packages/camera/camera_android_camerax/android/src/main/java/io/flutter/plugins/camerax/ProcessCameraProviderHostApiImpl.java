@@ -5,7 +5,9 @@
 package io.flutter.plugins.camerax;
 
 import android.content.Context;
+import android.os.SystemClock;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.camera.core.Camera;
 import androidx.camera.core.CameraInfo;
 import androidx.camera.core.CameraSelector;
@@ -15,6 +17,7 @@ import androidx.core.content.ContextCompat;
 import androidx.lifecycle.LifecycleOwner;
 import com.google.common.util.concurrent.ListenableFuture;
 import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.OpenCameraResultData;
 import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ProcessCameraProviderHostApi;
 import java.util.ArrayList;
 import java.util.List;
@@ -27,6 +30,10 @@ public class ProcessCameraProviderHostApiImpl implements ProcessCameraProviderHo
   private Context context;
   private LifecycleOwner lifecycleOwner;
 
+  @Nullable private ListenableFuture<ProcessCameraProvider> processCameraProviderFuture;
+  private long processCameraProviderRequestedMillis;
+  private long processCameraProviderAvailableMillis;
+
   public ProcessCameraProviderHostApiImpl(
       @NonNull BinaryMessenger binaryMessenger,
       @NonNull InstanceManager instanceManager,
@@ -49,6 +56,38 @@ public class ProcessCameraProviderHostApiImpl implements ProcessCameraProviderHo
    */
   public void setContext(@NonNull Context context) {
     this.context = context;
+    processCameraProviderFuture = null;
+  }
+
+  /**
+   * Starts initializing the {@code ProcessCameraProvider} for the current {@code Context}, so that
+   * it may already be available when the camera is opened.
+   */
+  public void prewarm() {
+    getProcessCameraProviderFuture();
+  }
+
+  /**
+   * Returns the future of the {@code ProcessCameraProvider} for the current {@code Context},
+   * requesting it if it has not been requested since the {@code Context} was set.
+   */
+  @NonNull
+  private ListenableFuture<ProcessCameraProvider> getProcessCameraProviderFuture() {
+    if (processCameraProviderFuture == null) {
+      final ListenableFuture<ProcessCameraProvider> future =
+          ProcessCameraProvider.getInstance(context);
+      processCameraProviderFuture = future;
+      processCameraProviderRequestedMillis = SystemClock.elapsedRealtime();
+      processCameraProviderAvailableMillis = 0;
+      future.addListener(
+          () -> {
+            if (processCameraProviderFuture == future) {
+              processCameraProviderAvailableMillis = SystemClock.elapsedRealtime();
+            }
+          },
+          ContextCompat.getMainExecutor(context));
+    }
+    return processCameraProviderFuture;
   }
 
   /**
@@ -58,20 +97,70 @@ public class ProcessCameraProviderHostApiImpl implements ProcessCameraProviderHo
   @Override
   public void getInstance(@NonNull GeneratedCameraXLibrary.Result<Long> result) {
     ListenableFuture<ProcessCameraProvider> processCameraProviderFuture =
-        ProcessCameraProvider.getInstance(context);
+        getProcessCameraProviderFuture();
 
     processCameraProviderFuture.addListener(
         () -> {
           try {
             // Camera provider is now guaranteed to be available.
             ProcessCameraProvider processCameraProvider = processCameraProviderFuture.get();
+            result.success(getProcessCameraProviderIdentifier(processCameraProvider));
+          } catch (Exception e) {
+            result.error(e);
+          }
+        },
+        ContextCompat.getMainExecutor(context));
+  }
+
+  /**
+   * Unbinds all use cases and binds the specified {@code UseCase}s to the lifecycle of the {@code
+   * LifecycleOwner} that corresponds to this instance once the {@code ProcessCameraProvider} for
+   * the current {@code Context} is available.
+   *
+   * <p>This replaces the separate calls to {@link #getInstance}, {@link #unbindAll}, {@link
+   * #bindToLifecycle} and {@code CameraHostApi#getCameraInfo} needed to open a camera, and reports
+   * the time spent in each phase. The provider is requested ahead of time by {@link #prewarm}.
+   */
+  @Override
+  public void openCamera(
+      @NonNull Long cameraSelectorIdentifier,
+      @NonNull List<Long> useCaseIds,
+      @NonNull GeneratedCameraXLibrary.Result<OpenCameraResultData> result) {
+    final long startMillis = SystemClock.elapsedRealtime();
+    ListenableFuture<ProcessCameraProvider> processCameraProviderFuture =
+        getProcessCameraProviderFuture();
+
+    processCameraProviderFuture.addListener(
+        () -> {
+          try {
+            ProcessCameraProvider processCameraProvider = processCameraProviderFuture.get();
+            final long providerMillis = SystemClock.elapsedRealtime();
+            final long providerAvailableMillis =
+                processCameraProviderAvailableMillis == 0
+                    ? providerMillis
+                    : processCameraProviderAvailableMillis;
 
-            final ProcessCameraProviderFlutterApiImpl flutterApi =
-                new ProcessCameraProviderFlutterApiImpl(binaryMessenger, instanceManager);
-            if (!instanceManager.containsInstance(processCameraProvider)) {
-              flutterApi.create(processCameraProvider, reply -> {});
-            }
-            result.success(instanceManager.getIdentifierForStrongReference(processCameraProvider));
+            CameraSelector cameraSelector =
+                (CameraSelector)
+                    Objects.requireNonNull(instanceManager.getInstance(cameraSelectorIdentifier));
+            UseCase[] useCases = getUseCases(useCaseIds);
+            processCameraProvider.unbindAll();
+            Camera camera =
+                processCameraProvider.bindToLifecycle(lifecycleOwner, cameraSelector, useCases);
+            final long boundMillis = SystemClock.elapsedRealtime();
+
+            result.success(
+                new OpenCameraResultData.Builder()
+                    .setProcessCameraProviderIdentifier(
+                        getProcessCameraProviderIdentifier(processCameraProvider))
+                    .setCameraIdentifier(getCameraIdentifier(camera))
+                    .setCameraInfoIdentifier(getCameraInfoIdentifier(camera.getCameraInfo()))
+                    .setProviderInitializationMillis(
+                        providerAvailableMillis - processCameraProviderRequestedMillis)
+                    .setProviderWaitMillis(providerMillis - startMillis)
+                    .setBindMillis(boundMillis - providerMillis)
+                    .setTotalMillis(boundMillis - startMillis)
+                    .build());
           } catch (Exception e) {
             result.error(e);
           }
@@ -88,14 +177,9 @@ public class ProcessCameraProviderHostApiImpl implements ProcessCameraProviderHo
 
     List<CameraInfo> availableCameras = processCameraProvider.getAvailableCameraInfos();
     List<Long> availableCamerasIds = new ArrayList<>();
-    final CameraInfoFlutterApiImpl cameraInfoFlutterApi =
-        new CameraInfoFlutterApiImpl(binaryMessenger, instanceManager);
 
     for (CameraInfo cameraInfo : availableCameras) {
-      if (!instanceManager.containsInstance(cameraInfo)) {
-        cameraInfoFlutterApi.create(cameraInfo, result -> {});
-      }
-      availableCamerasIds.add(instanceManager.getIdentifierForStrongReference(cameraInfo));
+      availableCamerasIds.add(getCameraInfoIdentifier(cameraInfo));
     }
     return availableCamerasIds;
   }
@@ -115,23 +199,11 @@ public class ProcessCameraProviderHostApiImpl implements ProcessCameraProviderHo
     CameraSelector cameraSelector =
         (CameraSelector)
             Objects.requireNonNull(instanceManager.getInstance(cameraSelectorIdentifier));
-    UseCase[] useCases = new UseCase[useCaseIds.size()];
-    for (int i = 0; i < useCaseIds.size(); i++) {
-      useCases[i] =
-          (UseCase)
-              Objects.requireNonNull(
-                  instanceManager.getInstance(((Number) useCaseIds.get(i)).longValue()));
-    }
+    UseCase[] useCases = getUseCases(useCaseIds);
 
     Camera camera = processCameraProvider.bindToLifecycle(lifecycleOwner, cameraSelector, useCases);
 
-    final CameraFlutterApiImpl cameraFlutterApi =
-        new CameraFlutterApiImpl(binaryMessenger, instanceManager);
-    if (!instanceManager.containsInstance(camera)) {
-      cameraFlutterApi.create(camera, result -> {});
-    }
-
-    return Objects.requireNonNull(instanceManager.getIdentifierForStrongReference(camera));
+    return getCameraIdentifier(camera);
   }
 
   @Override
@@ -147,6 +219,19 @@ public class ProcessCameraProviderHostApiImpl implements ProcessCameraProviderHo
   public void unbind(@NonNull Long identifier, @NonNull List<Long> useCaseIds) {
     ProcessCameraProvider processCameraProvider =
         (ProcessCameraProvider) Objects.requireNonNull(instanceManager.getInstance(identifier));
+    processCameraProvider.unbind(getUseCases(useCaseIds));
+  }
+
+  @Override
+  public void unbindAll(@NonNull Long identifier) {
+    ProcessCameraProvider processCameraProvider =
+        (ProcessCameraProvider) Objects.requireNonNull(instanceManager.getInstance(identifier));
+    processCameraProvider.unbindAll();
+  }
+
+  /** Retrieves the {@code UseCase}s with the specified identifiers. */
+  @NonNull
+  private UseCase[] getUseCases(@NonNull List<Long> useCaseIds) {
     UseCase[] useCases = new UseCase[useCaseIds.size()];
     for (int i = 0; i < useCaseIds.size(); i++) {
       useCases[i] =
@@ -154,13 +239,40 @@ public class ProcessCameraProviderHostApiImpl implements ProcessCameraProviderHo
               Objects.requireNonNull(
                   instanceManager.getInstance(((Number) useCaseIds.get(i)).longValue()));
     }
-    processCameraProvider.unbind(useCases);
+    return useCases;
   }
 
-  @Override
-  public void unbindAll(@NonNull Long identifier) {
-    ProcessCameraProvider processCameraProvider =
-        (ProcessCameraProvider) Objects.requireNonNull(instanceManager.getInstance(identifier));
-    processCameraProvider.unbindAll();
+  /**
+   * Returns the identifier of the {@code ProcessCameraProvider}, creating its Dart instance if
+   * needed.
+   */
+  @NonNull
+  private Long getProcessCameraProviderIdentifier(
+      @NonNull ProcessCameraProvider processCameraProvider) {
+    if (!instanceManager.containsInstance(processCameraProvider)) {
+      new ProcessCameraProviderFlutterApiImpl(binaryMessenger, instanceManager)
+          .create(processCameraProvider, reply -> {});
+    }
+    return Objects.requireNonNull(
+        instanceManager.getIdentifierForStrongReference(processCameraProvider));
+  }
+
+  /** Returns the identifier of the {@code Camera}, creating its Dart instance if needed. */
+  @NonNull
+  private Long getCameraIdentifier(@NonNull Camera camera) {
+    if (!instanceManager.containsInstance(camera)) {
+      new CameraFlutterApiImpl(binaryMessenger, instanceManager).create(camera, reply -> {});
+    }
+    return Objects.requireNonNull(instanceManager.getIdentifierForStrongReference(camera));
+  }
+
+  /** Returns the identifier of the {@code CameraInfo}, creating its Dart instance if needed. */
+  @NonNull
+  private Long getCameraInfoIdentifier(@NonNull CameraInfo cameraInfo) {
+    if (!instanceManager.containsInstance(cameraInfo)) {
+      new CameraInfoFlutterApiImpl(binaryMessenger, instanceManager)
+          .create(cameraInfo, reply -> {});
+    }
+    return Objects.requireNonNull(instanceManager.getIdentifierForStrongReference(cameraInfo));
   }
 }
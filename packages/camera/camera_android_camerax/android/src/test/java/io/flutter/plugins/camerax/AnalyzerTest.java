@@ -4,23 +4,40 @@
 
 package io.flutter.plugins.camerax;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import android.graphics.ImageFormat;
+import android.graphics.Rect;
+import android.util.Log;
+import androidx.camera.core.ImageInfo;
 import androidx.camera.core.ImageProxy;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.camerax.GeneratedCameraXLibrary.AnalyzerFlutterApi;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ImageFrameData;
+import java.nio.ByteBuffer;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 
@@ -49,14 +66,47 @@ public class AnalyzerTest {
         new AnalyzerHostApiImpl(mockBinaryMessenger, instanceManager, mockProxy);
     final long instanceIdentifier = 90;
 
-    when(mockProxy.create(mockBinaryMessenger, instanceManager))
+    when(mockProxy.create(mockBinaryMessenger, instanceManager, false, false, 10.0, 2L))
         .thenReturn(mockImageAnalysisAnalyzer);
 
-    hostApi.create(instanceIdentifier);
+    hostApi.create(instanceIdentifier, false, false, 10.0, 2L);
 
     assertEquals(instanceManager.getInstance(instanceIdentifier), mockImageAnalysisAnalyzer);
   }
 
+  @Test
+  public void analyze_closesImagesSkippedByFrameThrottle() {
+    final AnalyzerFlutterApiImpl flutterApi =
+        new AnalyzerFlutterApiImpl(mockBinaryMessenger, instanceManager);
+    final AnalyzerHostApiImpl.AnalyzerImpl instance =
+        new AnalyzerHostApiImpl.AnalyzerImpl(mockBinaryMessenger, instanceManager);
+    final ImageProxyFlutterApiImpl mockImageProxyApi =
+        spy(new ImageProxyFlutterApiImpl(mockBinaryMessenger, instanceManager));
+    final ImageProxy mockSelectedImageProxy = mock(ImageProxy.class);
+    final ImageProxy mockSkippedImageProxy = mock(ImageProxy.class);
+    final ImageInfo mockImageInfo = mock(ImageInfo.class);
+
+    flutterApi.setApi(mockFlutterApi);
+    instance.setApi(flutterApi);
+    instance.setFrameThrottle(new FrameThrottle(null, 2L));
+    instance.imageProxyApi = mockImageProxyApi;
+    instance.mainThreadExecutor = Runnable::run;
+    instanceManager.addDartCreatedInstance(instance, 20);
+
+    when(mockSelectedImageProxy.getImageInfo()).thenReturn(mockImageInfo);
+    when(mockSkippedImageProxy.getImageInfo()).thenReturn(mockImageInfo);
+
+    instance.analyze(mockSelectedImageProxy);
+    instance.analyze(mockSkippedImageProxy);
+
+    verify(mockSkippedImageProxy).close();
+    verify(mockSelectedImageProxy, never()).close();
+    verify(mockImageProxyApi).create(eq(mockSelectedImageProxy), any(), any(), any(), any());
+    verify(mockImageProxyApi, never())
+        .create(eq(mockSkippedImageProxy), any(), any(), any(), any());
+    verify(mockFlutterApi).analyze(eq(20L), anyLong(), any());
+  }
+
   @Test
   public void flutterApiCreate_makesCallToDartCreate() {
     final AnalyzerFlutterApiImpl flutterApi =
@@ -90,6 +140,7 @@ public class AnalyzerTest {
     flutterApi.setApi(mockFlutterApi);
     instance.setApi(flutterApi);
     instance.imageProxyApi = mockImageProxyApi;
+    instance.mainThreadExecutor = Runnable::run;
 
     instanceManager.addDartCreatedInstance(instance, instanceIdentifier);
     instanceManager.addDartCreatedInstance(mockImageProxy, mockImageProxyIdentifier);
@@ -103,4 +154,279 @@ public class AnalyzerTest {
     verify(mockFlutterApi).analyze(eq(instanceIdentifier), eq(mockImageProxyIdentifier), any());
     verify(mockImageProxyApi).create(eq(mockImageProxy), eq(format), eq(height), eq(width), any());
   }
+
+  @Test
+  public void analyze_sendsMessagesToDartOnMainThreadExecutor() {
+    final AnalyzerFlutterApiImpl flutterApi =
+        new AnalyzerFlutterApiImpl(mockBinaryMessenger, instanceManager);
+    final ImageProxy mockImageProxy = mock(ImageProxy.class);
+    final AnalyzerHostApiImpl.AnalyzerImpl instance =
+        new AnalyzerHostApiImpl.AnalyzerImpl(mockBinaryMessenger, instanceManager);
+    final Executor mockMainThreadExecutor = mock(Executor.class);
+
+    flutterApi.setApi(mockFlutterApi);
+    instance.setApi(flutterApi);
+    instance.mainThreadExecutor = mockMainThreadExecutor;
+    instanceManager.addDartCreatedInstance(instance, 20);
+
+    instance.analyze(mockImageProxy);
+
+    verify(mockFlutterApi, never()).analyze(anyLong(), anyLong(), any());
+
+    final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockMainThreadExecutor).execute(runnableCaptor.capture());
+    runnableCaptor.getValue().run();
+
+    verify(mockFlutterApi)
+        .analyze(
+            eq(20L),
+            eq(instanceManager.getIdentifierForStrongReference(mockImageProxy)),
+            any());
+  }
+
+  @Test
+  public void analyze_withFrameDeliverySendsSingleFrameMessageAndClosesImage() {
+    final AnalyzerFlutterApiImpl flutterApi =
+        new AnalyzerFlutterApiImpl(mockBinaryMessenger, instanceManager);
+    final AnalyzerHostApiImpl.AnalyzerImpl instance =
+        new AnalyzerHostApiImpl.AnalyzerImpl(mockBinaryMessenger, instanceManager);
+    final ImageProxyFlutterApiImpl mockImageProxyApi = mock(ImageProxyFlutterApiImpl.class);
+    final ImageProxy mockImageProxy = mock(ImageProxy.class);
+    final ImageProxy.PlaneProxy mockPlane = mock(ImageProxy.PlaneProxy.class);
+    final ImageInfo mockImageInfo = mock(ImageInfo.class);
+    final ByteBuffer buffer = ByteBuffer.wrap(new byte[] {1, 2, 3});
+    final Rect mockCropRect = mock(Rect.class);
+    final long instanceIdentifier = 20;
+
+    flutterApi.setApi(mockFlutterApi);
+    instance.setApi(flutterApi);
+    instance.setDeliverFrames(true);
+    instance.imageProxyApi = mockImageProxyApi;
+    instance.mainThreadExecutor = Runnable::run;
+    instanceManager.addDartCreatedInstance(instance, instanceIdentifier);
+
+    mockCropRect.left = 1;
+    mockCropRect.top = 2;
+    mockCropRect.right = 3;
+    mockCropRect.bottom = 4;
+    when(mockImageProxy.getPlanes()).thenReturn(new ImageProxy.PlaneProxy[] {mockPlane});
+    when(mockImageProxy.getFormat()).thenReturn(35);
+    when(mockImageProxy.getWidth()).thenReturn(640);
+    when(mockImageProxy.getHeight()).thenReturn(480);
+    when(mockImageProxy.getCropRect()).thenReturn(mockCropRect);
+    when(mockImageProxy.getImageInfo()).thenReturn(mockImageInfo);
+    when(mockImageInfo.getRotationDegrees()).thenReturn(90);
+    when(mockPlane.getBuffer()).thenReturn(buffer);
+    when(mockPlane.getPixelStride()).thenReturn(1);
+    when(mockPlane.getRowStride()).thenReturn(3);
+
+    instance.analyze(mockImageProxy);
+
+    final ArgumentCaptor<ImageFrameData> frameCaptor =
+        ArgumentCaptor.forClass(ImageFrameData.class);
+    verify(mockFlutterApi).analyzeFrame(eq(instanceIdentifier), frameCaptor.capture(), any());
+    verify(mockImageProxy).close();
+    verify(mockImageProxyApi, never()).create(any(), any(), any(), any(), any());
+    assertFalse(instanceManager.containsInstance(mockImageProxy));
+
+    final ImageFrameData frame = frameCaptor.getValue();
+    assertEquals(Long.valueOf(35), frame.getFormat());
+    assertEquals(Long.valueOf(640), frame.getWidth());
+    assertEquals(Long.valueOf(480), frame.getHeight());
+    assertEquals(Long.valueOf(90), frame.getRotationDegrees());
+    assertEquals(Long.valueOf(1), frame.getCropLeft());
+    assertEquals(Long.valueOf(4), frame.getCropBottom());
+    assertEquals(1, frame.getPlanes().size());
+    assertArrayEquals(new byte[] {1, 2, 3}, frame.getPlanes().get(0).getBytes());
+    assertEquals(Long.valueOf(3), frame.getPlanes().get(0).getRowStride());
+    assertEquals(1, instance.cameraXProxy.getByteArrayPool().getPooledArrayCount());
+  }
+
+  @Test
+  public void analyze_withFrameDeliveryReusesPlaneArraysForLaterFrames() {
+    final AnalyzerFlutterApiImpl flutterApi =
+        new AnalyzerFlutterApiImpl(mockBinaryMessenger, instanceManager);
+    final AnalyzerHostApiImpl.AnalyzerImpl instance =
+        new AnalyzerHostApiImpl.AnalyzerImpl(mockBinaryMessenger, instanceManager);
+    final ImageProxy mockImageProxy = mock(ImageProxy.class);
+    final ImageProxy.PlaneProxy mockPlane = mock(ImageProxy.PlaneProxy.class);
+    final ImageInfo mockImageInfo = mock(ImageInfo.class);
+
+    flutterApi.setApi(mockFlutterApi);
+    instance.setApi(flutterApi);
+    instance.setDeliverFrames(true);
+    instance.mainThreadExecutor = Runnable::run;
+    instanceManager.addDartCreatedInstance(instance, 20);
+    replyToAnalyzeFrame();
+
+    when(mockImageProxy.getPlanes()).thenReturn(new ImageProxy.PlaneProxy[] {mockPlane});
+    when(mockImageProxy.getCropRect()).thenReturn(mock(Rect.class));
+    when(mockImageProxy.getImageInfo()).thenReturn(mockImageInfo);
+    when(mockPlane.getBuffer())
+        .thenReturn(ByteBuffer.wrap(new byte[] {1, 2, 3}), ByteBuffer.wrap(new byte[] {4, 5, 6}));
+
+    instance.analyze(mockImageProxy);
+    instance.analyze(mockImageProxy);
+
+    final ArgumentCaptor<ImageFrameData> frameCaptor =
+        ArgumentCaptor.forClass(ImageFrameData.class);
+    verify(mockFlutterApi, times(2)).analyzeFrame(eq(20L), frameCaptor.capture(), any());
+    assertSame(
+        frameCaptor.getAllValues().get(0).getPlanes().get(0).getBytes(),
+        frameCaptor.getAllValues().get(1).getPlanes().get(0).getBytes());
+    assertEquals(1, instance.cameraXProxy.getByteArrayPool().getAllocationCount());
+    assertEquals(1, instance.cameraXProxy.getByteArrayPool().getReuseCount());
+  }
+
+  @Test
+  public void analyze_withFrameDeliveryLogsArrayPoolCountersInDebugBuilds() {
+    final AnalyzerFlutterApiImpl flutterApi =
+        new AnalyzerFlutterApiImpl(mockBinaryMessenger, instanceManager);
+    final AnalyzerHostApiImpl.AnalyzerImpl instance =
+        new AnalyzerHostApiImpl.AnalyzerImpl(mockBinaryMessenger, instanceManager);
+    final ImageProxy mockImageProxy = mock(ImageProxy.class);
+    final ImageProxy.PlaneProxy mockPlane = mock(ImageProxy.PlaneProxy.class);
+
+    flutterApi.setApi(mockFlutterApi);
+    instance.setApi(flutterApi);
+    instance.setDeliverFrames(true);
+    instance.mainThreadExecutor = Runnable::run;
+    instanceManager.addDartCreatedInstance(instance, 20);
+    replyToAnalyzeFrame();
+
+    when(mockImageProxy.getPlanes()).thenReturn(new ImageProxy.PlaneProxy[] {mockPlane});
+    when(mockImageProxy.getCropRect()).thenReturn(mock(Rect.class));
+    when(mockImageProxy.getImageInfo()).thenReturn(mock(ImageInfo.class));
+    when(mockPlane.getBuffer()).thenAnswer(invocation -> ByteBuffer.wrap(new byte[] {1, 2, 3}));
+
+    try (MockedStatic<Log> mockLog = mockStatic(Log.class)) {
+      for (int i = 0; i < AnalyzerHostApiImpl.AnalyzerImpl.POOL_STATS_LOG_INTERVAL_FRAMES; i++) {
+        instance.analyze(mockImageProxy);
+      }
+
+      mockLog.verify(
+          () ->
+              Log.d(
+                  "Analyzer",
+                  "Frame arrays | " + instance.cameraXProxy.getByteArrayPool().toString()),
+          times(BuildConfig.DEBUG ? 1 : 0));
+    }
+  }
+
+  @Test
+  public void analyze_withNv21PackingSendsSingleCroppedNv21Plane() {
+    final AnalyzerFlutterApiImpl flutterApi =
+        new AnalyzerFlutterApiImpl(mockBinaryMessenger, instanceManager);
+    final AnalyzerHostApiImpl.AnalyzerImpl instance =
+        new AnalyzerHostApiImpl.AnalyzerImpl(mockBinaryMessenger, instanceManager);
+    final ImageProxy mockImageProxy = mock(ImageProxy.class);
+    final ImageProxy.PlaneProxy mockYPlane = mock(ImageProxy.PlaneProxy.class);
+    final ImageProxy.PlaneProxy mockUPlane = mock(ImageProxy.PlaneProxy.class);
+    final ImageProxy.PlaneProxy mockVPlane = mock(ImageProxy.PlaneProxy.class);
+    final ImageInfo mockImageInfo = mock(ImageInfo.class);
+    final Rect mockCropRect = mock(Rect.class);
+    final long instanceIdentifier = 20;
+
+    flutterApi.setApi(mockFlutterApi);
+    instance.setApi(flutterApi);
+    instance.setDeliverFrames(true);
+    instance.setPackNv21(true);
+    instance.mainThreadExecutor = Runnable::run;
+    instanceManager.addDartCreatedInstance(instance, instanceIdentifier);
+
+    // A 4x2 image whose chroma planes share one interleaved buffer.
+    mockCropRect.left = 0;
+    mockCropRect.top = 0;
+    mockCropRect.right = 4;
+    mockCropRect.bottom = 2;
+    when(mockImageProxy.getPlanes())
+        .thenReturn(new ImageProxy.PlaneProxy[] {mockYPlane, mockUPlane, mockVPlane});
+    when(mockImageProxy.getFormat()).thenReturn(ImageFormat.YUV_420_888);
+    when(mockImageProxy.getCropRect()).thenReturn(mockCropRect);
+    when(mockImageProxy.getImageInfo()).thenReturn(mockImageInfo);
+    when(mockImageInfo.getRotationDegrees()).thenReturn(270);
+    when(mockYPlane.getBuffer()).thenReturn(ByteBuffer.wrap(new byte[] {0, 1, 2, 3, 4, 5, 6, 7}));
+    when(mockYPlane.getPixelStride()).thenReturn(1);
+    when(mockYPlane.getRowStride()).thenReturn(4);
+    when(mockUPlane.getBuffer()).thenReturn(ByteBuffer.wrap(new byte[] {10, 20, 11}));
+    when(mockUPlane.getPixelStride()).thenReturn(2);
+    when(mockUPlane.getRowStride()).thenReturn(4);
+    when(mockVPlane.getBuffer()).thenReturn(ByteBuffer.wrap(new byte[] {20, 11, 21}));
+    when(mockVPlane.getPixelStride()).thenReturn(2);
+    when(mockVPlane.getRowStride()).thenReturn(4);
+
+    instance.analyze(mockImageProxy);
+
+    final ArgumentCaptor<ImageFrameData> frameCaptor =
+        ArgumentCaptor.forClass(ImageFrameData.class);
+    verify(mockFlutterApi).analyzeFrame(eq(instanceIdentifier), frameCaptor.capture(), any());
+    verify(mockImageProxy).close();
+
+    final ImageFrameData frame = frameCaptor.getValue();
+    assertEquals(Long.valueOf(ImageFormat.NV21), frame.getFormat());
+    assertEquals(Long.valueOf(4), frame.getWidth());
+    assertEquals(Long.valueOf(2), frame.getHeight());
+    assertEquals(Long.valueOf(270), frame.getRotationDegrees());
+    assertEquals(Long.valueOf(4), frame.getCropRight());
+    assertEquals(1, frame.getPlanes().size());
+    assertArrayEquals(
+        new byte[] {0, 1, 2, 3, 4, 5, 6, 7, 20, 10, 21, 11}, frame.getPlanes().get(0).getBytes());
+    assertEquals(Long.valueOf(1), frame.getPlanes().get(0).getPixelStride());
+    assertEquals(Long.valueOf(4), frame.getPlanes().get(0).getRowStride());
+  }
+
+  @Test
+  public void analyze_withFrameDeliveryClosesImagesWhileFrameIsInFlight() {
+    final AnalyzerFlutterApiImpl flutterApi =
+        new AnalyzerFlutterApiImpl(mockBinaryMessenger, instanceManager);
+    final AnalyzerHostApiImpl.AnalyzerImpl instance =
+        new AnalyzerHostApiImpl.AnalyzerImpl(mockBinaryMessenger, instanceManager);
+    final ImageProxy firstImageProxy = mockSinglePlaneImageProxy();
+    final ImageProxy secondImageProxy = mockSinglePlaneImageProxy();
+    final ImageProxy thirdImageProxy = mockSinglePlaneImageProxy();
+
+    flutterApi.setApi(mockFlutterApi);
+    instance.setApi(flutterApi);
+    instance.setDeliverFrames(true);
+    instance.mainThreadExecutor = Runnable::run;
+    instanceManager.addDartCreatedInstance(instance, 20);
+
+    instance.analyze(firstImageProxy);
+    instance.analyze(secondImageProxy);
+
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<AnalyzerFlutterApi.Reply<Void>> replyCaptor =
+        ArgumentCaptor.forClass(AnalyzerFlutterApi.Reply.class);
+    verify(mockFlutterApi).analyzeFrame(eq(20L), any(), replyCaptor.capture());
+    verify(secondImageProxy).close();
+    verify(secondImageProxy, never()).getPlanes();
+
+    replyCaptor.getValue().reply(null);
+    instance.analyze(thirdImageProxy);
+
+    verify(mockFlutterApi, times(2)).analyzeFrame(eq(20L), any(), any());
+    verify(thirdImageProxy).getPlanes();
+  }
+
+  private ImageProxy mockSinglePlaneImageProxy() {
+    final ImageProxy mockImageProxy = mock(ImageProxy.class);
+    final ImageProxy.PlaneProxy mockPlane = mock(ImageProxy.PlaneProxy.class);
+    when(mockImageProxy.getPlanes()).thenReturn(new ImageProxy.PlaneProxy[] {mockPlane});
+    when(mockImageProxy.getCropRect()).thenReturn(mock(Rect.class));
+    when(mockImageProxy.getImageInfo()).thenReturn(mock(ImageInfo.class));
+    when(mockPlane.getBuffer()).thenReturn(ByteBuffer.wrap(new byte[] {1, 2, 3}));
+    return mockImageProxy;
+  }
+
+  /** Makes Dart acknowledge every frame right away, so that no frame is skipped. */
+  @SuppressWarnings("unchecked")
+  private void replyToAnalyzeFrame() {
+    doAnswer(
+            invocation -> {
+              ((AnalyzerFlutterApi.Reply<Void>) invocation.getArgument(2)).reply(null);
+              return null;
+            })
+        .when(mockFlutterApi)
+        .analyzeFrame(anyLong(), any(), any());
+  }
 }
@@ -0,0 +1,100 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+
+public class ByteArrayPoolTest {
+  @Test
+  public void acquire_reusesReleasedArrayOfSameSize() {
+    final ByteArrayPool pool = new ByteArrayPool();
+
+    final byte[] bytes = pool.acquire(16);
+    pool.release(bytes);
+
+    assertSame(bytes, pool.acquire(16));
+    assertEquals(1, pool.getAllocationCount());
+    assertEquals(16, pool.getAllocatedBytes());
+    assertEquals(1, pool.getReuseCount());
+  }
+
+  @Test
+  public void acquire_allocatesArrayOfExactSizeForOtherSizes() {
+    final ByteArrayPool pool = new ByteArrayPool();
+
+    pool.release(pool.acquire(16));
+    final byte[] bytes = pool.acquire(15);
+
+    assertEquals(15, bytes.length);
+    assertEquals(2, pool.getAllocationCount());
+    assertEquals(0, pool.getReuseCount());
+  }
+
+  @Test
+  public void acquire_doesNotAllocateInSteadyState() {
+    final ByteArrayPool pool = new ByteArrayPool();
+    final int[] planeSizes = {640 * 480, 640 * 480 / 2 - 1, 640 * 480 / 2 - 1};
+
+    for (int frame = 0; frame < 100; frame++) {
+      final byte[][] planes = new byte[planeSizes.length][];
+      for (int i = 0; i < planeSizes.length; i++) {
+        planes[i] = pool.acquire(planeSizes[i]);
+      }
+      for (byte[] plane : planes) {
+        pool.release(plane);
+      }
+    }
+
+    assertEquals(3, pool.getAllocationCount());
+    assertEquals(297, pool.getReuseCount());
+  }
+
+  @Test
+  public void toString_reportsCounters() {
+    final ByteArrayPool pool = new ByteArrayPool();
+
+    pool.release(pool.acquire(16));
+    pool.release(pool.acquire(16));
+
+    assertEquals("allocated: 1 (16 bytes), reused: 1, pooled: 1", pool.toString());
+  }
+
+  @Test
+  public void release_keepsAtMostMaxArraysPerSize() {
+    final ByteArrayPool pool = new ByteArrayPool(2, 1);
+
+    for (int i = 0; i < 3; i++) {
+      pool.release(new byte[8]);
+    }
+
+    assertEquals(2, pool.getPooledArrayCount());
+  }
+
+  @Test
+  public void release_dropsLeastRecentlyUsedSizeWhenFull() {
+    final ByteArrayPool pool = new ByteArrayPool(1, 2);
+    final byte[] first = new byte[1];
+    final byte[] second = new byte[2];
+
+    pool.release(first);
+    pool.release(second);
+    pool.release(pool.acquire(1));
+    pool.release(new byte[3]);
+
+    assertSame(first, pool.acquire(1));
+    assertNotSame(second, pool.acquire(2));
+    assertEquals(1, pool.getAllocationCount());
+  }
+
+  @Test
+  public void constructor_throwsExceptionForEmptyPool() {
+    assertThrows(IllegalArgumentException.class, () -> new ByteArrayPool(0, 1));
+  }
+}
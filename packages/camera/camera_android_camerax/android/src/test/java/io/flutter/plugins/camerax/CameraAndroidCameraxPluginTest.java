@@ -52,6 +52,27 @@ public class CameraAndroidCameraxPluginTest {
     verify(mockLiveDataHostApiImpl).setLifecycleOwner(any(LifecycleOwner.class));
   }
 
+  @Test
+  public void onAttachedToActivity_prewarmsProcessCameraProvider() {
+    CameraAndroidCameraxPlugin plugin = spy(new CameraAndroidCameraxPlugin());
+    Activity mockActivity =
+        mock(Activity.class, withSettings().extraInterfaces(LifecycleOwner.class));
+    ProcessCameraProviderHostApiImpl mockProcessCameraProviderHostApiImpl =
+        mock(ProcessCameraProviderHostApiImpl.class);
+
+    doNothing().when(plugin).setUp(any(), any(), any());
+    when(activityPluginBinding.getActivity()).thenReturn(mockActivity);
+
+    plugin.processCameraProviderHostApiImpl = mockProcessCameraProviderHostApiImpl;
+    plugin.liveDataHostApiImpl = mock(LiveDataHostApiImpl.class);
+    plugin.systemServicesHostApiImpl = mock(SystemServicesHostApiImpl.class);
+
+    plugin.onAttachedToEngine(flutterPluginBinding);
+    plugin.onAttachedToActivity(activityPluginBinding);
+
+    verify(mockProcessCameraProviderHostApiImpl).prewarm();
+  }
+
   @Test
   public void
       onAttachedToActivity_setsLifecycleOwnerAsProxyLifecycleProviderIfActivityNotLifecycleOwner() {
@@ -0,0 +1,72 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class FrameThrottleTest {
+  private static final long FRAME_NANOS = 33_333_333L;
+
+  @Test
+  public void shouldAnalyze_selectsEveryImageWithoutLimits() {
+    final FrameThrottle throttle = new FrameThrottle(null, null);
+
+    assertTrue(throttle.isUnlimited());
+    for (int frame = 0; frame < 10; frame++) {
+      assertTrue(throttle.shouldAnalyze(frame * FRAME_NANOS));
+    }
+    assertEquals(0, throttle.getSkippedFrameCount());
+  }
+
+  @Test
+  public void shouldAnalyze_selectsEveryNthImage() {
+    final FrameThrottle throttle = new FrameThrottle(null, 3L);
+
+    assertFalse(throttle.isUnlimited());
+    assertTrue(throttle.shouldAnalyze(0));
+    assertFalse(throttle.shouldAnalyze(FRAME_NANOS));
+    assertFalse(throttle.shouldAnalyze(2 * FRAME_NANOS));
+    assertTrue(throttle.shouldAnalyze(3 * FRAME_NANOS));
+    assertEquals(2, throttle.getSkippedFrameCount());
+  }
+
+  @Test
+  public void shouldAnalyze_limitsRateByTimestampDespiteJitter() {
+    final FrameThrottle throttle = new FrameThrottle(10.0, null);
+    int selectedCount = 0;
+
+    // Three seconds of 30 fps images whose timestamps are up to 1 ms early or late.
+    for (int frame = 0; frame < 90; frame++) {
+      final long jitterNanos = (frame % 3 - 1) * 1_000_000L;
+      if (throttle.shouldAnalyze(frame * FRAME_NANOS + jitterNanos)) {
+        selectedCount++;
+      }
+    }
+
+    assertEquals(30, selectedCount);
+    assertEquals(60, throttle.getSkippedFrameCount());
+  }
+
+  @Test
+  public void shouldAnalyze_restartsScheduleAfterGap() {
+    final FrameThrottle throttle = new FrameThrottle(10.0, null);
+
+    assertTrue(throttle.shouldAnalyze(0));
+    assertTrue(throttle.shouldAnalyze(1_000_000_000L));
+    assertFalse(throttle.shouldAnalyze(1_000_000_000L + FRAME_NANOS));
+    assertTrue(throttle.shouldAnalyze(1_000_000_000L + 3 * FRAME_NANOS));
+  }
+
+  @Test
+  public void constructor_throwsExceptionForInvalidLimits() {
+    assertThrows(IllegalArgumentException.class, () -> new FrameThrottle(0.0, null));
+    assertThrows(IllegalArgumentException.class, () -> new FrameThrottle(null, 0L));
+  }
+}
@@ -6,8 +6,11 @@ package io.flutter.plugins.camerax;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -17,6 +20,7 @@ import androidx.camera.core.resolutionselector.ResolutionSelector;
 import androidx.test.core.app.ApplicationProvider;
 import io.flutter.plugin.common.BinaryMessenger;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -63,12 +67,120 @@ public class ImageAnalysisTest {
     when(mockCameraXProxy.createImageAnalysisBuilder()).thenReturn(mockImageAnalysisBuilder);
     when(mockImageAnalysisBuilder.build()).thenReturn(mockImageAnalysis);
 
-    hostApi.create(instanceIdentifier, mockResolutionSelectorId);
+    hostApi.create(instanceIdentifier, mockResolutionSelectorId, null, null, null, null, null);
 
     verify(mockImageAnalysisBuilder).setResolutionSelector(mockResolutionSelector);
+    verify(mockImageAnalysisBuilder, never()).setBackpressureStrategy(anyInt());
+    verify(mockImageAnalysisBuilder, never()).setImageQueueDepth(anyInt());
+    verify(mockImageAnalysisBuilder, never()).setOutputImageFormat(anyInt());
+    verify(mockImageAnalysisBuilder, never()).setOutputImageRotationEnabled(anyBoolean());
+    verify(mockCameraXProxy).createAnalyzerExecutor(1);
     assertEquals(instanceManager.getInstance(instanceIdentifier), mockImageAnalysis);
   }
 
+  @Test
+  public void hostApiCreate_setsBackpressureStrategyAndImageQueueDepth() {
+    final ImageAnalysisHostApiImpl hostApi =
+        new ImageAnalysisHostApiImpl(mockBinaryMessenger, instanceManager);
+    final CameraXProxy mockCameraXProxy = mock(CameraXProxy.class);
+    final ImageAnalysis.Builder mockImageAnalysisBuilder = mock(ImageAnalysis.Builder.class);
+    final long instanceIdentifier = 3;
+
+    hostApi.cameraXProxy = mockCameraXProxy;
+
+    when(mockCameraXProxy.createImageAnalysisBuilder()).thenReturn(mockImageAnalysisBuilder);
+    when(mockImageAnalysisBuilder.build()).thenReturn(mockImageAnalysis);
+
+    hostApi.create(
+        instanceIdentifier,
+        null,
+        Long.valueOf(ImageAnalysis.STRATEGY_BLOCK_PRODUCER),
+        Long.valueOf(4),
+        Long.valueOf(2),
+        null,
+        null);
+
+    verify(mockImageAnalysisBuilder).setBackpressureStrategy(ImageAnalysis.STRATEGY_BLOCK_PRODUCER);
+    verify(mockImageAnalysisBuilder).setImageQueueDepth(4);
+    verify(mockCameraXProxy).createAnalyzerExecutor(2);
+  }
+
+  @Test
+  public void hostApiCreate_setsOutputImageFormatAndRotation() {
+    final ImageAnalysisHostApiImpl hostApi =
+        new ImageAnalysisHostApiImpl(mockBinaryMessenger, instanceManager);
+    final CameraXProxy mockCameraXProxy = mock(CameraXProxy.class);
+    final ImageAnalysis.Builder mockImageAnalysisBuilder = mock(ImageAnalysis.Builder.class);
+    final long instanceIdentifier = 7;
+
+    hostApi.cameraXProxy = mockCameraXProxy;
+
+    when(mockCameraXProxy.createImageAnalysisBuilder()).thenReturn(mockImageAnalysisBuilder);
+    when(mockImageAnalysisBuilder.build()).thenReturn(mockImageAnalysis);
+
+    hostApi.create(
+        instanceIdentifier,
+        null,
+        null,
+        null,
+        null,
+        Long.valueOf(ImageAnalysis.OUTPUT_IMAGE_FORMAT_RGBA_8888),
+        true);
+
+    verify(mockImageAnalysisBuilder)
+        .setOutputImageFormat(ImageAnalysis.OUTPUT_IMAGE_FORMAT_RGBA_8888);
+    verify(mockImageAnalysisBuilder).setOutputImageRotationEnabled(true);
+  }
+
+  @Test
+  public void setAnalyzer_runsAnalyzerOnAnalyzerExecutorFromCreate() {
+    final ImageAnalysisHostApiImpl hostApi =
+        new ImageAnalysisHostApiImpl(mockBinaryMessenger, instanceManager);
+    final CameraXProxy mockCameraXProxy = mock(CameraXProxy.class);
+    final ImageAnalysis.Builder mockImageAnalysisBuilder = mock(ImageAnalysis.Builder.class);
+    final ExecutorService mockExecutor = mock(ExecutorService.class);
+    final ImageAnalysis.Analyzer mockAnalyzer = mock(ImageAnalysis.Analyzer.class);
+    final long analyzerIdentifier = 10;
+    final long instanceIdentifier = 94;
+
+    hostApi.cameraXProxy = mockCameraXProxy;
+    hostApi.setContext(context);
+    instanceManager.addDartCreatedInstance(mockAnalyzer, analyzerIdentifier);
+
+    when(mockCameraXProxy.createImageAnalysisBuilder()).thenReturn(mockImageAnalysisBuilder);
+    when(mockImageAnalysisBuilder.build()).thenReturn(mockImageAnalysis);
+    when(mockCameraXProxy.createAnalyzerExecutor(1)).thenReturn(mockExecutor);
+
+    hostApi.create(instanceIdentifier, null, null, null, null, null, null);
+    hostApi.setAnalyzer(instanceIdentifier, analyzerIdentifier);
+
+    verify(mockImageAnalysis).setAnalyzer(mockExecutor, mockAnalyzer);
+  }
+
+  @Test
+  public void setAnalyzer_runsAnalyzerOnMainThreadWhenNoAnalyzerThreadsAreRequested() {
+    final ImageAnalysisHostApiImpl hostApi =
+        new ImageAnalysisHostApiImpl(mockBinaryMessenger, instanceManager);
+    final CameraXProxy mockCameraXProxy = mock(CameraXProxy.class);
+    final ImageAnalysis.Builder mockImageAnalysisBuilder = mock(ImageAnalysis.Builder.class);
+    final ImageAnalysis.Analyzer mockAnalyzer = mock(ImageAnalysis.Analyzer.class);
+    final long analyzerIdentifier = 10;
+    final long instanceIdentifier = 94;
+
+    hostApi.cameraXProxy = mockCameraXProxy;
+    hostApi.setContext(context);
+    instanceManager.addDartCreatedInstance(mockAnalyzer, analyzerIdentifier);
+
+    when(mockCameraXProxy.createImageAnalysisBuilder()).thenReturn(mockImageAnalysisBuilder);
+    when(mockImageAnalysisBuilder.build()).thenReturn(mockImageAnalysis);
+
+    hostApi.create(instanceIdentifier, null, null, null, Long.valueOf(0), null, null);
+    hostApi.setAnalyzer(instanceIdentifier, analyzerIdentifier);
+
+    verify(mockCameraXProxy, never()).createAnalyzerExecutor(anyInt());
+    verify(mockImageAnalysis).setAnalyzer(any(Executor.class), eq(mockAnalyzer));
+  }
+
   @Test
   public void setAnalyzer_makesCallToSetAnalyzerOnExpectedImageAnalysisInstance() {
     final ImageAnalysisHostApiImpl hostApi =
@@ -4,6 +4,8 @@
 
 package io.flutter.plugins.camerax;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -16,16 +18,21 @@ import static org.mockito.Mockito.when;
 import android.content.Context;
 import androidx.camera.core.ImageCapture;
 import androidx.camera.core.ImageCaptureException;
+import androidx.camera.core.ImageInfo;
+import androidx.camera.core.ImageProxy;
 import androidx.camera.core.resolutionselector.ResolutionSelector;
 import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.CapturedImageData;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.concurrent.Executor;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.MockitoJUnit;
@@ -66,16 +73,19 @@ public class ImageCaptureTest {
     final Long flashMode = Long.valueOf(ImageCapture.FLASH_MODE_ON);
     final ResolutionSelector mockResolutionSelector = mock(ResolutionSelector.class);
     final long mockResolutionSelectorId = 77;
+    final Long captureMode = Long.valueOf(ImageCapture.CAPTURE_MODE_MINIMIZE_LATENCY);
 
     imageCaptureHostApiImpl.cameraXProxy = mockCameraXProxy;
     testInstanceManager.addDartCreatedInstance(mockResolutionSelector, mockResolutionSelectorId);
     when(mockCameraXProxy.createImageCaptureBuilder()).thenReturn(mockImageCaptureBuilder);
     when(mockImageCaptureBuilder.build()).thenReturn(mockImageCapture);
 
-    imageCaptureHostApiImpl.create(imageCaptureIdentifier, flashMode, mockResolutionSelectorId);
+    imageCaptureHostApiImpl.create(
+        imageCaptureIdentifier, flashMode, mockResolutionSelectorId, captureMode);
 
     verify(mockImageCaptureBuilder).setFlashMode(flashMode.intValue());
     verify(mockImageCaptureBuilder).setResolutionSelector(mockResolutionSelector);
+    verify(mockImageCaptureBuilder).setCaptureMode(captureMode.intValue());
     verify(mockImageCaptureBuilder).build();
     verify(testInstanceManager).addDartCreatedInstance(mockImageCapture, imageCaptureIdentifier);
   }
@@ -197,4 +207,61 @@ public class ImageCaptureTest {
 
     verify(mockResult).error(mockException);
   }
+
+  @Test
+  public void takePictureToMemory_sendsRequestToTakePictureInMemory() {
+    final ImageCaptureHostApiImpl imageCaptureHostApiImpl =
+        spy(new ImageCaptureHostApiImpl(mockBinaryMessenger, testInstanceManager, context));
+    final Long imageCaptureIdentifier = 8L;
+    final ImageCapture.OnImageCapturedCallback mockOnImageCapturedCallback =
+        mock(ImageCapture.OnImageCapturedCallback.class);
+    @SuppressWarnings("unchecked")
+    final GeneratedCameraXLibrary.Result<CapturedImageData> mockResult =
+        mock(GeneratedCameraXLibrary.Result.class);
+
+    testInstanceManager.addDartCreatedInstance(mockImageCapture, imageCaptureIdentifier);
+    when(imageCaptureHostApiImpl.createOnImageCapturedCallback(mockResult))
+        .thenReturn(mockOnImageCapturedCallback);
+
+    imageCaptureHostApiImpl.takePictureToMemory(imageCaptureIdentifier, mockResult);
+
+    verify(mockImageCapture).takePicture(any(Executor.class), eq(mockOnImageCapturedCallback));
+  }
+
+  @Test
+  public void takePictureToMemory_usesExpectedOnImageCapturedCallback() {
+    final ImageCaptureHostApiImpl imageCaptureHostApiImpl =
+        new ImageCaptureHostApiImpl(mockBinaryMessenger, testInstanceManager, context);
+    @SuppressWarnings("unchecked")
+    final GeneratedCameraXLibrary.Result<CapturedImageData> mockResult =
+        mock(GeneratedCameraXLibrary.Result.class);
+    final ImageProxy mockImageProxy = mock(ImageProxy.class);
+    final ImageProxy.PlaneProxy mockPlaneProxy = mock(ImageProxy.PlaneProxy.class);
+    final ImageInfo mockImageInfo = mock(ImageInfo.class);
+    final byte[] jpegBytes = new byte[] {(byte) 0xFF, (byte) 0xD8, 1, 2, (byte) 0xFF, (byte) 0xD9};
+    final ImageCaptureException mockException = mock(ImageCaptureException.class);
+
+    when(mockImageProxy.getPlanes()).thenReturn(new ImageProxy.PlaneProxy[] {mockPlaneProxy});
+    when(mockPlaneProxy.getBuffer()).thenReturn(ByteBuffer.wrap(jpegBytes));
+    when(mockImageProxy.getImageInfo()).thenReturn(mockImageInfo);
+    when(mockImageInfo.getRotationDegrees()).thenReturn(90);
+
+    ImageCapture.OnImageCapturedCallback onImageCapturedCallback =
+        imageCaptureHostApiImpl.createOnImageCapturedCallback(mockResult);
+
+    // Test success case.
+    onImageCapturedCallback.onCaptureSuccess(mockImageProxy);
+
+    final ArgumentCaptor<CapturedImageData> capturedImageCaptor =
+        ArgumentCaptor.forClass(CapturedImageData.class);
+    verify(mockResult).success(capturedImageCaptor.capture());
+    assertArrayEquals(jpegBytes, capturedImageCaptor.getValue().getBytes());
+    assertEquals(Long.valueOf(90), capturedImageCaptor.getValue().getRotationDegrees());
+    verify(mockImageProxy).close();
+
+    // Test error case.
+    onImageCapturedCallback.onError(mockException);
+
+    verify(mockResult).error(mockException);
+  }
 }
@@ -6,8 +6,11 @@ package io.flutter.plugins.camerax;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -84,9 +87,39 @@ public class ImageProxyTest {
             eq(Long.valueOf(pixelStride)),
             eq(Long.valueOf(rowStride)),
             any());
+    verify(mockCameraXProxy).releaseBytes(buffer);
     assertEquals(result.size(), 1);
   }
 
+  @Test
+  public void getPlanes_sendsContiguousArrayWithoutCopy() {
+    final ImageProxyHostApiImpl hostApi =
+        new ImageProxyHostApiImpl(mockBinaryMessenger, instanceManager);
+    final CameraXProxy mockCameraXProxy = mock(CameraXProxy.class);
+    final PlaneProxyFlutterApiImpl mockPlaneProxyFlutterApiImpl =
+        mock(PlaneProxyFlutterApiImpl.class);
+    final long instanceIdentifier = 24;
+    final ImageProxy.PlaneProxy mockPlaneProxy = mock(ImageProxy.PlaneProxy.class);
+    final byte[] bytes = new byte[] {1, 2, 3};
+
+    instanceManager.addDartCreatedInstance(mockImageProxy, instanceIdentifier);
+
+    hostApi.cameraXProxy = mockCameraXProxy;
+    hostApi.planeProxyFlutterApiImpl = mockPlaneProxyFlutterApiImpl;
+
+    when(mockImageProxy.getPlanes()).thenReturn(new ImageProxy.PlaneProxy[] {mockPlaneProxy});
+    when(mockPlaneProxy.getBuffer()).thenReturn(ByteBuffer.wrap(bytes));
+    when(mockPlaneProxy.getPixelStride()).thenReturn(1);
+    when(mockPlaneProxy.getRowStride()).thenReturn(3);
+
+    hostApi.getPlanes(instanceIdentifier);
+
+    verify(mockPlaneProxyFlutterApiImpl)
+        .create(eq(mockPlaneProxy), same(bytes), eq(1L), eq(3L), any());
+    verify(mockCameraXProxy, never()).getBytesFromBuffer(anyInt());
+    verify(mockCameraXProxy, never()).releaseBytes(any());
+  }
+
   @Test
   public void close_makesCallToCloseExpectedImageProxyInstance() {
     final ImageProxyHostApiImpl hostApi =
@@ -0,0 +1,103 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import androidx.camera.core.ImageProxy;
+import java.nio.ByteBuffer;
+import org.junit.Test;
+
+public class ImageProxyUtilsTest {
+  @Test
+  public void getNV21Size_returnsLumaAndChromaSize() {
+    assertEquals(640 * 480 * 3 / 2, ImageProxyUtils.getNV21Size(640, 480));
+  }
+
+  @Test
+  public void yuv420888ToNV21_interleavesPlanarChromaOfCroppedRegion() {
+    // A 6x4 image with rows padded to 8 bytes and planar (pixel stride 1) chroma planes.
+    final byte[] y = new byte[8 * 4];
+    for (int row = 0; row < 4; row++) {
+      for (int col = 0; col < 6; col++) {
+        y[row * 8 + col] = (byte) (row * 10 + col);
+      }
+    }
+    final byte[] u = {50, 51, 52, 0, 53, 54, 55};
+    final byte[] v = {60, 61, 62, 0, 63, 64, 65};
+    final ImageProxy.PlaneProxy[] planes = {
+      createPlane(y, 1, 8), createPlane(u, 1, 4), createPlane(v, 1, 4)
+    };
+    final byte[] out = new byte[ImageProxyUtils.getNV21Size(4, 2)];
+
+    ImageProxyUtils.yuv420888ToNV21(
+        planes, 2, 2, 4, 2, out, new byte[ImageProxyUtils.getScratchRowSize(planes)]);
+
+    assertArrayEquals(new byte[] {22, 23, 24, 25, 32, 33, 34, 35, 64, 54, 65, 55}, out);
+    assertEquals(0, planes[0].getBuffer().position());
+  }
+
+  @Test
+  public void yuv420888ToNV21_deinterleavesSemiPlanarChroma() {
+    // A 4x4 image whose U and V planes share one interleaved buffer, with rows padded to 6 bytes.
+    final byte[] y = new byte[4 * 4];
+    for (int i = 0; i < y.length; i++) {
+      y[i] = (byte) i;
+    }
+    final ByteBuffer uv = ByteBuffer.wrap(new byte[] {50, 60, 51, 61, 0, 0, 52, 62, 53, 63});
+    final ByteBuffer u = uv.duplicate();
+    final ByteBuffer v = uv.duplicate();
+    v.position(1);
+    final ImageProxy.PlaneProxy[] planes = {
+      createPlane(ByteBuffer.wrap(y), 1, 4), createPlane(u, 2, 6), createPlane(v.slice(), 2, 6)
+    };
+    final byte[] out = new byte[ImageProxyUtils.getNV21Size(4, 4)];
+
+    final byte[] scratchRow = new byte[ImageProxyUtils.getScratchRowSize(planes)];
+
+    ImageProxyUtils.yuv420888ToNV21(planes, 0, 0, 4, 4, out, scratchRow);
+
+    final byte[] expected = new byte[24];
+    System.arraycopy(y, 0, expected, 0, 16);
+    System.arraycopy(new byte[] {60, 50, 61, 51, 62, 52, 63, 53}, 0, expected, 16, 8);
+    assertArrayEquals(expected, out);
+    assertEquals(6, scratchRow.length);
+  }
+
+  @Test
+  public void getContiguousArray_returnsArrayOfBufferCoveringWholeArray() {
+    final byte[] bytes = {1, 2, 3};
+
+    assertSame(bytes, ImageProxyUtils.getContiguousArray(ByteBuffer.wrap(bytes)));
+  }
+
+  @Test
+  public void getContiguousArray_returnsNullForPartialOrDirectBuffers() {
+    final ByteBuffer buffer = ByteBuffer.wrap(new byte[] {1, 2, 3});
+    buffer.position(1);
+
+    assertNull(ImageProxyUtils.getContiguousArray(buffer));
+    assertNull(ImageProxyUtils.getContiguousArray(ByteBuffer.wrap(new byte[4], 0, 3)));
+    assertNull(ImageProxyUtils.getContiguousArray(ByteBuffer.allocateDirect(3)));
+  }
+
+  private static ImageProxy.PlaneProxy createPlane(byte[] bytes, int pixelStride, int rowStride) {
+    return createPlane(ByteBuffer.wrap(bytes), pixelStride, rowStride);
+  }
+
+  private static ImageProxy.PlaneProxy createPlane(
+      ByteBuffer buffer, int pixelStride, int rowStride) {
+    final ImageProxy.PlaneProxy plane = mock(ImageProxy.PlaneProxy.class);
+    when(plane.getBuffer()).thenReturn(buffer);
+    when(plane.getPixelStride()).thenReturn(pixelStride);
+    when(plane.getRowStride()).thenReturn(rowStride);
+    return plane;
+  }
+}
@@ -0,0 +1,181 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Compares the {@link InstanceManager} with the boxed map layout it used before on 100000
+ * instances.
+ *
+ * <p>Timings depend on the host and finalization depends on the garbage collector, so this is not
+ * part of the unit tests. Remove the {@link Ignore} annotation to run it locally; the timings are
+ * reported in the assertion messages.
+ */
+@Ignore("Benchmark, run manually.")
+public class InstanceManagerBenchmark {
+  private static final int COUNT = 100000;
+  private static final int ITERATIONS = 5;
+
+  @Test
+  public void insertLookupAndRemove() {
+    long boxedNanos = Long.MAX_VALUE;
+    long primitiveNanos = Long.MAX_VALUE;
+    for (int i = 0; i < ITERATIONS; i++) {
+      final Object[] instances = createInstances(COUNT);
+
+      long start = System.nanoTime();
+      final BoxedMapsInstanceManager boxedManager = new BoxedMapsInstanceManager();
+      for (int j = 0; j < COUNT; j++) {
+        boxedManager.addDartCreatedInstance(instances[j], j);
+      }
+      for (int j = 0; j < COUNT; j++) {
+        assertSame(instances[j], boxedManager.getInstance(j));
+        assertEquals((Long) (long) j, boxedManager.getIdentifierForStrongReference(instances[j]));
+        boxedManager.remove(j);
+      }
+      boxedNanos = Math.min(boxedNanos, System.nanoTime() - start);
+
+      start = System.nanoTime();
+      final InstanceManager instanceManager = InstanceManager.create(identifier -> {});
+      for (int j = 0; j < COUNT; j++) {
+        instanceManager.addDartCreatedInstance(instances[j], j);
+      }
+      for (int j = 0; j < COUNT; j++) {
+        assertSame(instances[j], instanceManager.getInstance(j));
+        assertEquals(
+            (Long) (long) j, instanceManager.getIdentifierForStrongReference(instances[j]));
+        instanceManager.remove(j);
+      }
+      primitiveNanos = Math.min(primitiveNanos, System.nanoTime() - start);
+      instanceManager.stopFinalizationListener();
+    }
+
+    assertTrue(
+        "add/get/remove | boxed maps (us): "
+            + boxedNanos / 1000
+            + ", primitive tables (us): "
+            + primitiveNanos / 1000,
+        primitiveNanos <= boxedNanos);
+  }
+
+  @Test
+  public void releaseFinalizedInstances() throws InterruptedException {
+    int boxedFinalized = 0;
+    final BoxedMapsInstanceManager boxedManager = new BoxedMapsInstanceManager();
+    addAndRemoveInstances(boxedManager::addDartCreatedInstance, boxedManager::remove);
+    long start = System.nanoTime();
+    while (boxedFinalized < COUNT && System.nanoTime() - start < TimeUnit.SECONDS.toNanos(10)) {
+      Runtime.getRuntime().gc();
+      boxedFinalized += boxedManager.releaseAllFinalizedInstances();
+    }
+    final long boxedNanos = System.nanoTime() - start;
+
+    final int[] primitiveFinalized = new int[1];
+    final InstanceManager instanceManager =
+        InstanceManager.create(identifier -> primitiveFinalized[0]++);
+    addAndRemoveInstances(instanceManager::addDartCreatedInstance, instanceManager::remove);
+    start = System.nanoTime();
+    while (primitiveFinalized[0] < COUNT
+        && System.nanoTime() - start < TimeUnit.SECONDS.toNanos(10)) {
+      Runtime.getRuntime().gc();
+      Thread.sleep(1);
+      instanceManager.releaseAllFinalizedInstances();
+    }
+    final long primitiveNanos = System.nanoTime() - start;
+    instanceManager.stopFinalizationListener();
+
+    final String timings =
+        "finalize | boxed maps (us): "
+            + boxedNanos / 1000
+            + ", primitive tables (us): "
+            + primitiveNanos / 1000;
+    assertEquals(timings, COUNT, boxedFinalized);
+    assertEquals(timings, COUNT, primitiveFinalized[0]);
+  }
+
+  private static Object[] createInstances(int count) {
+    final Object[] instances = new Object[count];
+    for (int i = 0; i < count; i++) {
+      instances[i] = new Object();
+    }
+    return instances;
+  }
+
+  private interface AddInstance {
+    void add(Object instance, long identifier);
+  }
+
+  private interface RemoveInstance {
+    Object remove(long identifier);
+  }
+
+  private static void addAndRemoveInstances(AddInstance add, RemoveInstance remove) {
+    for (int i = 0; i < COUNT; i++) {
+      add.add(new Object(), i);
+      remove.remove(i);
+    }
+  }
+
+  /** The boxed map layout the {@link InstanceManager} used before, as a benchmark baseline. */
+  private static class BoxedMapsInstanceManager {
+    private final WeakHashMap<Object, Long> identifiers = new WeakHashMap<>();
+    private final HashMap<Long, WeakReference<Object>> weakInstances = new HashMap<>();
+    private final HashMap<Long, Object> strongInstances = new HashMap<>();
+    private final ReferenceQueue<Object> referenceQueue = new ReferenceQueue<>();
+    private final HashMap<WeakReference<Object>, Long> weakReferencesToIdentifiers =
+        new HashMap<>();
+
+    void addDartCreatedInstance(Object instance, long identifier) {
+      final WeakReference<Object> weakReference = new WeakReference<>(instance, referenceQueue);
+      identifiers.put(instance, identifier);
+      weakInstances.put(identifier, weakReference);
+      weakReferencesToIdentifiers.put(weakReference, identifier);
+      strongInstances.put(identifier, instance);
+    }
+
+    Object remove(long identifier) {
+      return strongInstances.remove(identifier);
+    }
+
+    Long getIdentifierForStrongReference(Object instance) {
+      final Long identifier = identifiers.get(instance);
+      if (identifier != null) {
+        strongInstances.put(identifier, instance);
+      }
+      return identifier;
+    }
+
+    Object getInstance(long identifier) {
+      final WeakReference<Object> instance = weakInstances.get(identifier);
+      return instance != null ? instance.get() : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    int releaseAllFinalizedInstances() {
+      int released = 0;
+      WeakReference<Object> reference;
+      while ((reference = (WeakReference<Object>) referenceQueue.poll()) != null) {
+        final Long identifier = weakReferencesToIdentifiers.remove(reference);
+        if (identifier != null) {
+          weakInstances.remove(identifier);
+          strongInstances.remove(identifier);
+          released++;
+        }
+      }
+      return released;
+    }
+  }
+}
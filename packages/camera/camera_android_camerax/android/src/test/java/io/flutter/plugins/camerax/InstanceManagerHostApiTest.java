@@ -0,0 +1,49 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.InstanceManagerStatsData;
+import org.junit.Test;
+
+public class InstanceManagerHostApiTest {
+  @Test
+  public void clear() {
+    final InstanceManager instanceManager = InstanceManager.create(identifier -> {});
+
+    final InstanceManagerHostApiImpl hostApi = new InstanceManagerHostApiImpl(instanceManager);
+
+    final Object object = new Object();
+    instanceManager.addDartCreatedInstance(object, 0);
+
+    hostApi.clear();
+
+    assertFalse(instanceManager.containsInstance(object));
+
+    instanceManager.stopFinalizationListener();
+  }
+
+  @Test
+  public void getStats() {
+    final InstanceManager instanceManager = InstanceManager.create(identifier -> {});
+
+    final InstanceManagerHostApiImpl hostApi = new InstanceManagerHostApiImpl(instanceManager);
+
+    final Object object = new Object();
+    instanceManager.addDartCreatedInstance(object, 0);
+
+    final InstanceManagerStatsData stats = hostApi.getStats();
+
+    assertEquals((Long) 1L, stats.getStrongInstanceCount());
+    assertEquals((Long) 1L, stats.getWeakInstanceCount());
+    assertEquals((Long) 0L, stats.getFinalizationBacklog());
+    assertEquals((Long) 1L, stats.getStrongInstanceCountsByClass().get(Object.class.getName()));
+    assertEquals((Long) 1L, stats.getWeakInstanceCountsByClass().get(Object.class.getName()));
+
+    instanceManager.stopFinalizationListener();
+  }
+}
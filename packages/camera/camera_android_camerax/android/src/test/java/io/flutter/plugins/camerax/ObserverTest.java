@@ -5,23 +5,33 @@
 package io.flutter.plugins.camerax;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import androidx.camera.core.CameraState;
 import androidx.camera.core.ZoomState;
 import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.CameraStateData;
 import io.flutter.plugins.camerax.GeneratedCameraXLibrary.CameraStateType;
 import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ObserverFlutterApi;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ZoomStateData;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -30,6 +40,7 @@ public class ObserverTest {
   @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
 
   @Mock public ObserverHostApiImpl.ObserverImpl<CameraState> mockObserver;
+  @Mock public ObserverHostApiImpl.CoalescingObserverImpl<ZoomState> mockCoalescingObserver;
 
   @Mock public BinaryMessenger mockBinaryMessenger;
   @Mock public ObserverFlutterApi mockFlutterApi;
@@ -61,6 +72,99 @@ public class ObserverTest {
     assertEquals(instanceManager.getInstance(instanceIdentifier), mockObserver);
   }
 
+  @Test
+  public void createCoalescing_createsCoalescingObserverInstance() {
+    final ObserverHostApiImpl hostApi =
+        new ObserverHostApiImpl(mockBinaryMessenger, instanceManager, mockProxy);
+    final long instanceIdentifier = 4;
+
+    when(mockProxy.<ZoomState>createCoalescing(mockBinaryMessenger, instanceManager, 100))
+        .thenReturn(mockCoalescingObserver);
+
+    hostApi.createCoalescing(instanceIdentifier, 100L);
+
+    assertEquals(instanceManager.getInstance(instanceIdentifier), mockCoalescingObserver);
+  }
+
+  @Test
+  public void createCoalescing_throwsExceptionForNegativeInterval() {
+    final ObserverHostApiImpl hostApi =
+        new ObserverHostApiImpl(mockBinaryMessenger, instanceManager, mockProxy);
+
+    assertThrows(IllegalArgumentException.class, () -> hostApi.createCoalescing(4L, -1L));
+  }
+
+  @Test
+  public void coalescingObserver_sendsOnlyLatestZoomStateAsPlainData() {
+    final ObserverFlutterApiWrapper flutterApi =
+        new ObserverFlutterApiWrapper(mockBinaryMessenger, instanceManager);
+    final ObserverHostApiImpl.CoalescingObserverImpl<ZoomState> instance =
+        new ObserverHostApiImpl.CoalescingObserverImpl<ZoomState>(
+            mockBinaryMessenger, instanceManager, 0);
+    final List<Runnable> scheduledFlushes = new ArrayList<>();
+    final ZoomState firstZoomState = mock(ZoomState.class);
+    final ZoomState latestZoomState = mock(ZoomState.class);
+    final long instanceIdentifier = 12;
+
+    flutterApi.setApi(mockFlutterApi);
+    instance.setApi(flutterApi);
+    instance.flushExecutor = scheduledFlushes::add;
+    instanceManager.addDartCreatedInstance(instance, instanceIdentifier);
+
+    when(latestZoomState.getMinZoomRatio()).thenReturn(1f);
+    when(latestZoomState.getMaxZoomRatio()).thenReturn(8f);
+
+    instance.onChanged(firstZoomState);
+    instance.onChanged(latestZoomState);
+
+    assertEquals(1, scheduledFlushes.size());
+    verify(mockFlutterApi, never()).onZoomStateChanged(anyLong(), any(), any());
+
+    scheduledFlushes.get(0).run();
+
+    final ArgumentCaptor<ZoomStateData> valueCaptor = ArgumentCaptor.forClass(ZoomStateData.class);
+    verify(mockFlutterApi).onZoomStateChanged(eq(instanceIdentifier), valueCaptor.capture(), any());
+    assertEquals(Double.valueOf(1.0), valueCaptor.getValue().getMinZoomRatio());
+    assertEquals(Double.valueOf(8.0), valueCaptor.getValue().getMaxZoomRatio());
+    verify(mockFlutterApi, never()).onChanged(anyLong(), any(), any());
+    assertFalse(instanceManager.containsInstance(latestZoomState));
+
+    instance.onChanged(firstZoomState);
+
+    assertEquals(2, scheduledFlushes.size());
+  }
+
+  @Test
+  public void onChangedValue_sendsCameraStateAsPlainData() {
+    final ObserverFlutterApiWrapper flutterApi =
+        new ObserverFlutterApiWrapper(mockBinaryMessenger, instanceManager);
+    final ObserverHostApiImpl.CoalescingObserverImpl<CameraState> instance =
+        new ObserverHostApiImpl.CoalescingObserverImpl<CameraState>(
+            mockBinaryMessenger, instanceManager, 0);
+    final long instanceIdentifier = 13;
+    final CameraState testCameraState =
+        CameraState.create(
+            CameraState.Type.OPEN, CameraState.StateError.create(CameraState.ERROR_STREAM_CONFIG));
+
+    flutterApi.setApi(mockFlutterApi);
+    instanceManager.addDartCreatedInstance(instance, instanceIdentifier);
+
+    flutterApi.onChangedValue(instance, testCameraState, reply -> {});
+    flutterApi.onChangedValue(instance, CameraState.create(CameraState.Type.CLOSED), reply -> {});
+
+    final ArgumentCaptor<CameraStateData> valueCaptor =
+        ArgumentCaptor.forClass(CameraStateData.class);
+    verify(mockFlutterApi, times(2))
+        .onCameraStateChanged(eq(instanceIdentifier), valueCaptor.capture(), any());
+    assertEquals(CameraStateType.OPEN, valueCaptor.getAllValues().get(0).getType());
+    assertEquals(
+        Long.valueOf(CameraState.ERROR_STREAM_CONFIG),
+        valueCaptor.getAllValues().get(0).getErrorCode());
+    assertEquals(CameraStateType.CLOSED, valueCaptor.getAllValues().get(1).getType());
+    assertNull(valueCaptor.getAllValues().get(1).getErrorCode());
+    assertFalse(instanceManager.containsInstance(testCameraState));
+  }
+
   @Test
   public void onChanged_makesExpectedCallToDartCallbackForCameraState() {
     final ObserverFlutterApiWrapper flutterApi =
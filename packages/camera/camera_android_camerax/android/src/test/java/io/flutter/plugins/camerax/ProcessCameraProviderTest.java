@@ -10,6 +10,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -24,6 +25,7 @@ import androidx.test.core.app.ApplicationProvider;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugins.camerax.GeneratedCameraXLibrary.OpenCameraResultData;
 import java.util.Arrays;
 import java.util.Objects;
 import org.junit.After;
@@ -90,6 +92,88 @@ public class ProcessCameraProviderTest {
     }
   }
 
+  @Test
+  public void prewarm_requestsProcessCameraProviderOnlyOnce() {
+    final ProcessCameraProviderHostApiImpl processCameraProviderHostApi =
+        new ProcessCameraProviderHostApiImpl(mockBinaryMessenger, testInstanceManager, context);
+    @SuppressWarnings("unchecked")
+    final GeneratedCameraXLibrary.Result<Long> mockResult =
+        mock(GeneratedCameraXLibrary.Result.class);
+
+    try (MockedStatic<ProcessCameraProvider> mockedProcessCameraProvider =
+        Mockito.mockStatic(ProcessCameraProvider.class)) {
+      mockedProcessCameraProvider
+          .when(() -> ProcessCameraProvider.getInstance(context))
+          .thenAnswer(
+              (Answer<ListenableFuture<ProcessCameraProvider>>)
+                  invocation -> Futures.immediateFuture(processCameraProvider));
+
+      processCameraProviderHostApi.prewarm();
+      processCameraProviderHostApi.getInstance(mockResult);
+
+      mockedProcessCameraProvider.verify(() -> ProcessCameraProvider.getInstance(context));
+    }
+  }
+
+  @Test
+  public void openCamera_bindsUseCasesAndReportsInstances() {
+    final ProcessCameraProviderHostApiImpl processCameraProviderHostApi =
+        new ProcessCameraProviderHostApiImpl(mockBinaryMessenger, testInstanceManager, context);
+    final ListenableFuture<ProcessCameraProvider> processCameraProviderFuture =
+        spy(Futures.immediateFuture(processCameraProvider));
+    final Camera mockCamera = mock(Camera.class);
+    final CameraInfo mockCameraInfo = mock(CameraInfo.class);
+    final CameraSelector mockCameraSelector = mock(CameraSelector.class);
+    final UseCase mockPreview = mock(UseCase.class);
+    final UseCase mockImageCapture = mock(UseCase.class);
+    final UseCase[] mockUseCases = new UseCase[] {mockPreview, mockImageCapture};
+    final LifecycleOwner mockLifecycleOwner = mock(LifecycleOwner.class);
+    @SuppressWarnings("unchecked")
+    final GeneratedCameraXLibrary.Result<OpenCameraResultData> mockResult =
+        mock(GeneratedCameraXLibrary.Result.class);
+
+    processCameraProviderHostApi.setLifecycleOwner(mockLifecycleOwner);
+    testInstanceManager.addDartCreatedInstance(processCameraProvider, 0);
+    testInstanceManager.addDartCreatedInstance(mockCameraSelector, 1);
+    testInstanceManager.addDartCreatedInstance(mockPreview, 2);
+    testInstanceManager.addDartCreatedInstance(mockImageCapture, 3);
+    testInstanceManager.addDartCreatedInstance(mockCamera, 4);
+    testInstanceManager.addDartCreatedInstance(mockCameraInfo, 5);
+
+    when(processCameraProvider.bindToLifecycle(
+            mockLifecycleOwner, mockCameraSelector, mockUseCases))
+        .thenReturn(mockCamera);
+    when(mockCamera.getCameraInfo()).thenReturn(mockCameraInfo);
+
+    try (MockedStatic<ProcessCameraProvider> mockedProcessCameraProvider =
+        Mockito.mockStatic(ProcessCameraProvider.class)) {
+      mockedProcessCameraProvider
+          .when(() -> ProcessCameraProvider.getInstance(context))
+          .thenAnswer(
+              (Answer<ListenableFuture<ProcessCameraProvider>>)
+                  invocation -> processCameraProviderFuture);
+
+      final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+      processCameraProviderHostApi.prewarm();
+      processCameraProviderHostApi.openCamera(1L, Arrays.asList(2L, 3L), mockResult);
+      verify(processCameraProviderFuture, times(2)).addListener(runnableCaptor.capture(), any());
+      for (Runnable runnable : runnableCaptor.getAllValues()) {
+        runnable.run();
+      }
+    }
+
+    final ArgumentCaptor<OpenCameraResultData> resultCaptor =
+        ArgumentCaptor.forClass(OpenCameraResultData.class);
+    verify(processCameraProvider).unbindAll();
+    verify(processCameraProvider)
+        .bindToLifecycle(mockLifecycleOwner, mockCameraSelector, mockUseCases);
+    verify(mockResult).success(resultCaptor.capture());
+    assertEquals(Long.valueOf(0), resultCaptor.getValue().getProcessCameraProviderIdentifier());
+    assertEquals(Long.valueOf(4), resultCaptor.getValue().getCameraIdentifier());
+    assertEquals(Long.valueOf(5), resultCaptor.getValue().getCameraInfoIdentifier());
+  }
+
   @Test
   public void getAvailableCameraInfosTest() {
     final ProcessCameraProviderHostApiImpl processCameraProviderHostApi =
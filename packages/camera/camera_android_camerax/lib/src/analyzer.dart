@@ -19,11 +19,20 @@ import 'java_object.dart';
 @immutable
 class Analyzer extends JavaObject {
   /// Creates an [Analyzer].
+  ///
+  /// Exactly one of [analyze] and [analyzeFrame] must be provided.
   Analyzer(
       {BinaryMessenger? binaryMessenger,
       InstanceManager? instanceManager,
-      required this.analyze})
-      : super.detached(
+      this.analyze,
+      this.analyzeFrame,
+      this.packNv21 = false,
+      this.targetFrameRate,
+      this.frameStride})
+      : assert((analyze == null) != (analyzeFrame == null)),
+        assert(targetFrameRate == null || targetFrameRate > 0),
+        assert(frameStride == null || frameStride > 0),
+        super.detached(
             binaryMessenger: binaryMessenger,
             instanceManager: instanceManager) {
     _api = _AnalyzerHostApiImpl(
@@ -36,8 +45,13 @@ class Analyzer extends JavaObject {
   Analyzer.detached(
       {BinaryMessenger? binaryMessenger,
       InstanceManager? instanceManager,
-      required this.analyze})
-      : super.detached(
+      this.analyze,
+      this.analyzeFrame,
+      this.packNv21 = false,
+      this.targetFrameRate,
+      this.frameStride})
+      : assert((analyze == null) != (analyzeFrame == null)),
+        super.detached(
             binaryMessenger: binaryMessenger,
             instanceManager: instanceManager) {
     _api = _AnalyzerHostApiImpl(
@@ -48,7 +62,35 @@ class Analyzer extends JavaObject {
   late final _AnalyzerHostApiImpl _api;
 
   /// Analyzes an image to produce a result.
-  final Future<void> Function(ImageProxy imageProxy) analyze;
+  ///
+  /// The [ImageProxy] must be closed once it has been analyzed.
+  final Future<void> Function(ImageProxy imageProxy)? analyze;
+
+  /// Analyzes an image that was copied and closed on the native side.
+  ///
+  /// Each image arrives in a single message, without creating [ImageProxy] and
+  /// `PlaneProxy` instances or further calls to the native side.
+  final Future<void> Function(ImageFrameData frame)? analyzeFrame;
+
+  /// Whether YUV_420_888 images passed to [analyzeFrame] are packed into a
+  /// single NV21 plane on the native side.
+  ///
+  /// Packed images are cropped to their crop rectangle. Other image formats
+  /// are passed unchanged.
+  final bool packNv21;
+
+  /// The maximum number of images per second that are analyzed, or null to
+  /// analyze every image.
+  ///
+  /// The rate is measured with the timestamps of the images. Images beyond it
+  /// are closed on the native side without being copied or sent to Dart.
+  final double? targetFrameRate;
+
+  /// If set, only the first of every [frameStride] images is analyzed.
+  ///
+  /// The other images are closed on the native side without being copied or
+  /// sent to Dart. This can be combined with [targetFrameRate].
+  final int? frameStride;
 }
 
 /// Host API implementation of [Analyzer].
@@ -72,10 +114,18 @@ class _AnalyzerHostApiImpl extends AnalyzerHostApi {
         instance,
         onCopy: (Analyzer original) => Analyzer.detached(
           analyze: original.analyze,
+          analyzeFrame: original.analyzeFrame,
+          packNv21: original.packNv21,
+          targetFrameRate: original.targetFrameRate,
+          frameStride: original.frameStride,
           binaryMessenger: binaryMessenger,
           instanceManager: instanceManager,
         ),
       ),
+      instance.analyzeFrame != null,
+      instance.packNv21,
+      instance.targetFrameRate,
+      instance.frameStride,
     );
   }
 }
@@ -120,6 +170,8 @@ class AnalyzerFlutterApiImpl implements AnalyzerFlutterApi {
       identifier,
       onCopy: (Analyzer original) => Analyzer.detached(
         analyze: original.analyze,
+        analyzeFrame: original.analyzeFrame,
+        packNv21: original.packNv21,
         binaryMessenger: _binaryMessenger,
         instanceManager: _instanceManager,
       ),
@@ -135,8 +187,20 @@ class AnalyzerFlutterApiImpl implements AnalyzerFlutterApi {
         _instanceManager.getInstanceWithWeakReference(identifier)!;
     final ImageProxy imageProxy =
         _instanceManager.getInstanceWithWeakReference(imageProxyIdentifier)!;
-    instance.analyze(
+    instance.analyze!(
       imageProxy,
     );
   }
+
+  @override
+  void analyzeFrame(
+    int identifier,
+    ImageFrameData frame,
+  ) {
+    final Analyzer instance =
+        _instanceManager.getInstanceWithWeakReference(identifier)!;
+    instance.analyzeFrame!(
+      frame,
+    );
+  }
 }
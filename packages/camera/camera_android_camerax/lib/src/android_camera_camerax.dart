@@ -18,11 +18,9 @@ import 'camerax_library.g.dart';
 import 'exposure_state.dart';
 import 'image_analysis.dart';
 import 'image_capture.dart';
-import 'image_proxy.dart';
 import 'live_data.dart';
 import 'observer.dart';
 import 'pending_recording.dart';
-import 'plane_proxy.dart';
 import 'preview.dart';
 import 'process_camera_provider.dart';
 import 'recorder.dart';
@@ -65,6 +63,10 @@ class AndroidCameraCameraX extends CameraPlatform {
   @visibleForTesting
   CameraInfo? cameraInfo;
 
+  /// The result of opening the [camera] in [createCamera], which includes the
+  /// time spent in each phase of opening it.
+  OpenCameraResult? openCameraResult;
+
   /// The [LiveData] of the [CameraState] that represents the state of the
   /// [camera] instance.
   LiveData<CameraState>? liveCameraState;
@@ -107,6 +109,12 @@ class AndroidCameraCameraX extends CameraPlatform {
   /// The flash mode currently configured for [imageCapture].
   int? _currentFlashMode;
 
+  /// The capture mode used to configure [imageCapture] when the camera is
+  /// created, e.g. [ImageCapture.captureModeZeroShutterLag].
+  ///
+  /// If null, CameraX defaults to [ImageCapture.captureModeMinimizeLatency].
+  int? imageCaptureMode;
+
   /// The [ImageAnalysis] instance that can be configured to analyze individual
   /// frames.
   ImageAnalysis? imageAnalysis;
@@ -139,6 +147,27 @@ class AndroidCameraCameraX extends CameraPlatform {
   @visibleForTesting
   StreamController<CameraImageData>? cameraImageDataStreamController;
 
+  /// The image format group requested when the camera was initialized.
+  ///
+  /// When [ImageFormatGroup.nv21] is requested, streamed images are packed
+  /// into a single NV21 plane on the native side.
+  @visibleForTesting
+  ImageFormatGroup imageFormatGroup = ImageFormatGroup.unknown;
+
+  /// The maximum number of images per second streamed by
+  /// [onStreamedFrameAvailable], or null to stream every image.
+  ///
+  /// Images beyond this rate are closed on the native side before they are
+  /// copied. Takes effect the next time the stream is listened to.
+  double? imageStreamFrameRate;
+
+  /// If set, only every [imageStreamFrameStride]th image is streamed by
+  /// [onStreamedFrameAvailable].
+  ///
+  /// The other images are closed on the native side before they are copied.
+  /// Takes effect the next time the stream is listened to.
+  int? imageStreamFrameStride;
+
   /// Constant representing the multi-plane Android YUV 420 image format.
   ///
   /// See https://developer.android.com/reference/android/graphics/ImageFormat#YUV_420_888.
@@ -149,6 +178,11 @@ class AndroidCameraCameraX extends CameraPlatform {
   /// See https://developer.android.com/reference/android/graphics/ImageFormat#JPEG.
   static const int imageFormatJpeg = 256;
 
+  /// Constant representing the single-plane Android NV21 image format.
+  ///
+  /// See https://developer.android.com/reference/android/graphics/ImageFormat#NV21.
+  static const int imageFormatNv21 = 17;
+
   /// Error code indicating a [ZoomState] was requested, but one has not been
   /// set for the camera in use.
   static const String zoomStateNotSetErrorCode = 'zoomStateNotSet';
@@ -225,10 +259,6 @@ class AndroidCameraCameraX extends CameraPlatform {
     startListeningForDeviceOrientationChange(
         cameraIsFrontFacing, cameraDescription.sensorOrientation);
 
-    // Retrieve a fresh ProcessCameraProvider instance.
-    processCameraProvider ??= await ProcessCameraProvider.getInstance();
-    processCameraProvider!.unbindAll();
-
     // TODO(camsim99): Implement resolution configuration for UseCases
     // configured here. https://github.com/flutter/flutter/issues/120462
 
@@ -246,13 +276,16 @@ class AndroidCameraCameraX extends CameraPlatform {
     recorder = createRecorder();
     videoCapture = await createVideoCapture(recorder!);
 
-    // Bind configured UseCases to ProcessCameraProvider instance & mark Preview
-    // instance as bound but not paused. Video capture is bound at first use
-    // instead of here.
-    camera = await processCameraProvider!
-        .bindToLifecycle(cameraSelector!, <UseCase>[preview!, imageCapture!]);
+    // Unbind any previous UseCases and bind the configured UseCases to the
+    // ProcessCameraProvider instance in a single call & mark Preview instance
+    // as bound but not paused. Video capture is bound at first use instead of
+    // here.
+    openCameraResult =
+        await openCamera(cameraSelector!, <UseCase>[preview!, imageCapture!]);
+    processCameraProvider = openCameraResult!.processCameraProvider;
+    camera = openCameraResult!.camera;
+    cameraInfo = openCameraResult!.cameraInfo;
     await _updateLiveCameraState(flutterSurfaceTextureId);
-    cameraInfo = await camera!.getCameraInfo();
     _previewIsPaused = false;
 
     return flutterSurfaceTextureId;
@@ -265,9 +298,9 @@ class AndroidCameraCameraX extends CameraPlatform {
   /// camera and sends a [CameraInitializedEvent].
   ///
   /// [imageFormatGroup] is used to specify the image format used for image
-  /// streaming, but CameraX currently only supports YUV_420_888 (supported by
-  /// Flutter) and RGBA (not supported by Flutter). CameraX uses YUV_420_888
-  /// by default, so [imageFormatGroup] is not used.
+  /// streaming. CameraX produces YUV_420_888 images, which are packed into a
+  /// single NV21 plane natively if [ImageFormatGroup.nv21] is requested. Other
+  /// groups stream YUV_420_888 images.
   @override
   Future<void> initializeCamera(
     int cameraId, {
@@ -298,6 +331,8 @@ class AndroidCameraCameraX extends CameraPlatform {
     const FocusMode focusMode = FocusMode.auto;
     const bool focusPointSupported = false;
 
+    this.imageFormatGroup = imageFormatGroup;
+
     cameraEventStreamController.add(CameraInitializedEvent(
         cameraId,
         previewResolutionInfo.width.toDouble(),
@@ -592,8 +627,8 @@ class AndroidCameraCameraX extends CameraPlatform {
 
     camera = await processCameraProvider!
         .bindToLifecycle(cameraSelector!, <UseCase>[preview!]);
-    await _updateLiveCameraState(cameraId);
     cameraInfo = await camera!.getCameraInfo();
+    await _updateLiveCameraState(cameraId);
   }
 
   /// Configures the [imageAnalysis] instance for image streaming and binds it
@@ -602,17 +637,17 @@ class AndroidCameraCameraX extends CameraPlatform {
     // Create Analyzer that can read image data for image streaming.
     final WeakReference<AndroidCameraCameraX> weakThis =
         WeakReference<AndroidCameraCameraX>(this);
-    Future<void> analyze(ImageProxy imageProxy) async {
-      final List<PlaneProxy> planes = await imageProxy.getPlanes();
+    // Each frame arrives as a single message and is already closed natively.
+    Future<void> analyzeFrame(ImageFrameData frame) async {
       final List<CameraImagePlane> cameraImagePlanes = <CameraImagePlane>[];
-      for (final PlaneProxy plane in planes) {
+      for (final ImagePlaneData? plane in frame.planes) {
         cameraImagePlanes.add(CameraImagePlane(
-            bytes: plane.buffer,
+            bytes: plane!.bytes,
             bytesPerRow: plane.rowStride,
             bytesPerPixel: plane.pixelStride));
       }
 
-      final int format = imageProxy.format;
+      final int format = frame.format;
       final CameraImageFormat cameraImageFormat = CameraImageFormat(
           _imageFormatGroupFromPlatformData(format),
           raw: format);
@@ -620,19 +655,28 @@ class AndroidCameraCameraX extends CameraPlatform {
       final CameraImageData cameraImageData = CameraImageData(
           format: cameraImageFormat,
           planes: cameraImagePlanes,
-          height: imageProxy.height,
-          width: imageProxy.width);
+          height: frame.height,
+          width: frame.width);
 
       weakThis.target!.cameraImageDataStreamController!.add(cameraImageData);
-      unawaited(imageProxy.close());
     }
 
+    final bool packNv21 = imageFormatGroup == ImageFormatGroup.nv21;
+
     // shouldCreateDetachedObjectForTesting is used to create an Analyzer
     // detached from the native sideonly to test the logic of the Analyzer
     // instance that will be used for image streaming.
     final Analyzer analyzer = _shouldCreateDetachedObjectForTesting
-        ? Analyzer.detached(analyze: analyze)
-        : Analyzer(analyze: analyze);
+        ? Analyzer.detached(
+            analyzeFrame: analyzeFrame,
+            packNv21: packNv21,
+            targetFrameRate: imageStreamFrameRate,
+            frameStride: imageStreamFrameStride)
+        : Analyzer(
+            analyzeFrame: analyzeFrame,
+            packNv21: packNv21,
+            targetFrameRate: imageStreamFrameRate,
+            frameStride: imageStreamFrameStride);
 
     // TODO(camsim99): Support resolution configuration.
     // Defaults to YUV_420_888 image format.
@@ -688,6 +732,8 @@ class AndroidCameraCameraX extends CameraPlatform {
         return ImageFormatGroup.yuv420;
       case imageFormatJpeg: // android.graphics.ImageFormat.JPEG
         return ImageFormatGroup.jpeg;
+      case imageFormatNv21: // android.graphics.ImageFormat.NV21
+        return ImageFormatGroup.nv21;
     }
 
     return ImageFormatGroup.unknown;
@@ -701,9 +747,8 @@ class AndroidCameraCameraX extends CameraPlatform {
   /// If a previous [liveCameraState] was stored, existing observers are
   /// removed, as well.
   Future<void> _updateLiveCameraState(int cameraId) async {
-    final CameraInfo cameraInfo = await camera!.getCameraInfo();
     await liveCameraState?.removeObservers();
-    liveCameraState = await cameraInfo.getCameraState();
+    liveCameraState = await cameraInfo!.getCameraState();
     await liveCameraState!.observe(_createCameraClosingObserver(cameraId));
   }
 
@@ -790,6 +835,14 @@ class AndroidCameraCameraX extends CameraPlatform {
         cameraIsFrontFacing, sensorOrientation);
   }
 
+  /// Unbinds all use cases and binds [useCases] to the lifecycle of the camera
+  /// selected by [cameraSelector].
+  @visibleForTesting
+  Future<OpenCameraResult> openCamera(
+      CameraSelector cameraSelector, List<UseCase> useCases) {
+    return ProcessCameraProvider.openCamera(cameraSelector, useCases);
+  }
+
   /// Returns a [CameraSelector] based on the specified camera lens direction.
   @visibleForTesting
   CameraSelector createCameraSelector(int cameraSelectorLensDirection) {
@@ -811,10 +864,11 @@ class AndroidCameraCameraX extends CameraPlatform {
   }
 
   /// Returns an [ImageCapture] configured with specified flash mode and
-  /// target resolution.
+  /// the [imageCaptureMode].
   @visibleForTesting
   ImageCapture createImageCapture(int? flashMode) {
-    return ImageCapture(targetFlashMode: flashMode);
+    return ImageCapture(
+        targetFlashMode: flashMode, targetCaptureMode: imageCaptureMode);
   }
 
   /// Returns a [Recorder] for use in video capture.
@@ -139,6 +139,60 @@ class CameraStateTypeData {
   }
 }
 
+/// A [CameraState] value sent without a managed instance.
+class CameraStateData {
+  CameraStateData({
+    required this.type,
+    this.errorCode,
+  });
+
+  CameraStateType type;
+
+  int? errorCode;
+
+  Object encode() {
+    return <Object?>[
+      type.index,
+      errorCode,
+    ];
+  }
+
+  static CameraStateData decode(Object result) {
+    result as List<Object?>;
+    return CameraStateData(
+      type: CameraStateType.values[result[0]! as int],
+      errorCode: result[1] as int?,
+    );
+  }
+}
+
+/// A [ZoomState] value sent without a managed instance.
+class ZoomStateData {
+  ZoomStateData({
+    required this.minZoomRatio,
+    required this.maxZoomRatio,
+  });
+
+  double minZoomRatio;
+
+  double maxZoomRatio;
+
+  Object encode() {
+    return <Object?>[
+      minZoomRatio,
+      maxZoomRatio,
+    ];
+  }
+
+  static ZoomStateData decode(Object result) {
+    result as List<Object?>;
+    return ZoomStateData(
+      minZoomRatio: result[0]! as double,
+      maxZoomRatio: result[1]! as double,
+    );
+  }
+}
+
 class LiveDataSupportedTypeData {
   LiveDataSupportedTypeData({
     required this.value,
@@ -186,6 +240,262 @@ class ExposureCompensationRange {
   }
 }
 
+/// The bytes and layout of one plane of an analyzed image.
+class ImagePlaneData {
+  ImagePlaneData({
+    required this.bytes,
+    required this.pixelStride,
+    required this.rowStride,
+  });
+
+  Uint8List bytes;
+
+  int pixelStride;
+
+  int rowStride;
+
+  Object encode() {
+    return <Object?>[
+      bytes,
+      pixelStride,
+      rowStride,
+    ];
+  }
+
+  static ImagePlaneData decode(Object result) {
+    result as List<Object?>;
+    return ImagePlaneData(
+      bytes: result[0]! as Uint8List,
+      pixelStride: result[1]! as int,
+      rowStride: result[2]! as int,
+    );
+  }
+}
+
+/// An analyzed image, sent to Dart in a single message.
+///
+/// See https://developer.android.com/reference/androidx/camera/core/ImageProxy.
+class ImageFrameData {
+  ImageFrameData({
+    required this.format,
+    required this.width,
+    required this.height,
+    required this.rotationDegrees,
+    required this.cropLeft,
+    required this.cropTop,
+    required this.cropRight,
+    required this.cropBottom,
+    required this.planes,
+  });
+
+  int format;
+
+  int width;
+
+  int height;
+
+  int rotationDegrees;
+
+  int cropLeft;
+
+  int cropTop;
+
+  int cropRight;
+
+  int cropBottom;
+
+  List<ImagePlaneData?> planes;
+
+  Object encode() {
+    return <Object?>[
+      format,
+      width,
+      height,
+      rotationDegrees,
+      cropLeft,
+      cropTop,
+      cropRight,
+      cropBottom,
+      planes,
+    ];
+  }
+
+  static ImageFrameData decode(Object result) {
+    result as List<Object?>;
+    return ImageFrameData(
+      format: result[0]! as int,
+      width: result[1]! as int,
+      height: result[2]! as int,
+      rotationDegrees: result[3]! as int,
+      cropLeft: result[4]! as int,
+      cropTop: result[5]! as int,
+      cropRight: result[6]! as int,
+      cropBottom: result[7]! as int,
+      planes: (result[8] as List<Object?>?)!.cast<ImagePlaneData?>(),
+    );
+  }
+}
+
+/// The instances held by the native `InstanceManager`.
+class InstanceManagerStatsData {
+  InstanceManagerStatsData({
+    required this.strongInstanceCount,
+    required this.weakInstanceCount,
+    required this.oldestStrongReferenceAgeMillis,
+    required this.finalizationBacklog,
+    required this.strongInstanceCountsByClass,
+    required this.weakInstanceCountsByClass,
+  });
+
+  int strongInstanceCount;
+
+  int weakInstanceCount;
+
+  int oldestStrongReferenceAgeMillis;
+
+  int finalizationBacklog;
+
+  Map<String?, int?> strongInstanceCountsByClass;
+
+  Map<String?, int?> weakInstanceCountsByClass;
+
+  Object encode() {
+    return <Object?>[
+      strongInstanceCount,
+      weakInstanceCount,
+      oldestStrongReferenceAgeMillis,
+      finalizationBacklog,
+      strongInstanceCountsByClass,
+      weakInstanceCountsByClass,
+    ];
+  }
+
+  static InstanceManagerStatsData decode(Object result) {
+    result as List<Object?>;
+    return InstanceManagerStatsData(
+      strongInstanceCount: result[0]! as int,
+      weakInstanceCount: result[1]! as int,
+      oldestStrongReferenceAgeMillis: result[2]! as int,
+      finalizationBacklog: result[3]! as int,
+      strongInstanceCountsByClass:
+          (result[4] as Map<Object?, Object?>?)!.cast<String?, int?>(),
+      weakInstanceCountsByClass:
+          (result[5] as Map<Object?, Object?>?)!.cast<String?, int?>(),
+    );
+  }
+}
+
+/// The instances of a camera opened by
+/// `ProcessCameraProviderHostApi.openCamera` and the time, in milliseconds,
+/// spent in each phase of opening it.
+///
+/// `providerInitializationMillis` is the time from the start of the
+/// `ProcessCameraProvider` initialization, which may have been pre-warmed,
+/// until the provider was available. `providerWaitMillis` is the part of that
+/// time the call spent waiting, `bindMillis` is the time spent unbinding the
+/// previous use cases and binding the new ones and `totalMillis` is the time
+/// from receiving the call until the camera was bound.
+class OpenCameraResultData {
+  OpenCameraResultData({
+    required this.processCameraProviderIdentifier,
+    required this.cameraIdentifier,
+    required this.cameraInfoIdentifier,
+    required this.providerInitializationMillis,
+    required this.providerWaitMillis,
+    required this.bindMillis,
+    required this.totalMillis,
+  });
+
+  int processCameraProviderIdentifier;
+
+  int cameraIdentifier;
+
+  int cameraInfoIdentifier;
+
+  int providerInitializationMillis;
+
+  int providerWaitMillis;
+
+  int bindMillis;
+
+  int totalMillis;
+
+  Object encode() {
+    return <Object?>[
+      processCameraProviderIdentifier,
+      cameraIdentifier,
+      cameraInfoIdentifier,
+      providerInitializationMillis,
+      providerWaitMillis,
+      bindMillis,
+      totalMillis,
+    ];
+  }
+
+  static OpenCameraResultData decode(Object result) {
+    result as List<Object?>;
+    return OpenCameraResultData(
+      processCameraProviderIdentifier: result[0]! as int,
+      cameraIdentifier: result[1]! as int,
+      cameraInfoIdentifier: result[2]! as int,
+      providerInitializationMillis: result[3]! as int,
+      providerWaitMillis: result[4]! as int,
+      bindMillis: result[5]! as int,
+      totalMillis: result[6]! as int,
+    );
+  }
+}
+
+/// A JPEG image captured by `ImageCaptureHostApi.takePictureToMemory`.
+class CapturedImageData {
+  CapturedImageData({
+    required this.bytes,
+    required this.rotationDegrees,
+  });
+
+  Uint8List bytes;
+
+  int rotationDegrees;
+
+  Object encode() {
+    return <Object?>[
+      bytes,
+      rotationDegrees,
+    ];
+  }
+
+  static CapturedImageData decode(Object result) {
+    result as List<Object?>;
+    return CapturedImageData(
+      bytes: result[0]! as Uint8List,
+      rotationDegrees: result[1]! as int,
+    );
+  }
+}
+
+class _InstanceManagerHostApiCodec extends StandardMessageCodec {
+  const _InstanceManagerHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is InstanceManagerStatsData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return InstanceManagerStatsData.decode(readValue(buffer)!);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
 class InstanceManagerHostApi {
   /// Constructor for [InstanceManagerHostApi].  The [binaryMessenger] named argument is
   /// available for dependency injection.  If it is left null, the default
@@ -194,7 +504,7 @@ class InstanceManagerHostApi {
       : _binaryMessenger = binaryMessenger;
   final BinaryMessenger? _binaryMessenger;
 
-  static const MessageCodec<Object?> codec = StandardMessageCodec();
+  static const MessageCodec<Object?> codec = _InstanceManagerHostApiCodec();
 
   /// Clear the native `InstanceManager`.
   ///
@@ -219,6 +529,57 @@ class InstanceManagerHostApi {
       return;
     }
   }
+
+  /// Counts the instances held by the native `InstanceManager`.
+  Future<InstanceManagerStatsData> getStats() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.InstanceManagerHostApi.getStats', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(null) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as InstanceManagerStatsData?)!;
+    }
+  }
+
+  /// Logs the stats of the native `InstanceManager` every [intervalMillis]
+  /// milliseconds, or stops logging them when [intervalMillis] is 0.
+  Future<void> setStatsLogInterval(int arg_intervalMillis) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.InstanceManagerHostApi.setStatsLogInterval', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_intervalMillis]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
 }
 
 class JavaObjectHostApi {
@@ -522,6 +883,29 @@ abstract class CameraSelectorFlutterApi {
   }
 }
 
+class _ProcessCameraProviderHostApiCodec extends StandardMessageCodec {
+  const _ProcessCameraProviderHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is OpenCameraResultData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return OpenCameraResultData.decode(readValue(buffer)!);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
 class ProcessCameraProviderHostApi {
   /// Constructor for [ProcessCameraProviderHostApi].  The [binaryMessenger] named argument is
   /// available for dependency injection.  If it is left null, the default
@@ -530,7 +914,8 @@ class ProcessCameraProviderHostApi {
       : _binaryMessenger = binaryMessenger;
   final BinaryMessenger? _binaryMessenger;
 
-  static const MessageCodec<Object?> codec = StandardMessageCodec();
+  static const MessageCodec<Object?> codec =
+      _ProcessCameraProviderHostApiCodec();
 
   Future<int> getInstance() async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
@@ -689,6 +1074,36 @@ class ProcessCameraProviderHostApi {
       return;
     }
   }
+
+  Future<OpenCameraResultData> openCamera(
+      int arg_cameraSelectorIdentifier, List<int?> arg_useCaseIds) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.ProcessCameraProviderHostApi.openCamera', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(<Object?>[
+      arg_cameraSelectorIdentifier,
+      arg_useCaseIds
+    ]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as OpenCameraResultData?)!;
+    }
+  }
 }
 
 abstract class ProcessCameraProviderFlutterApi {
@@ -1542,6 +1957,29 @@ abstract class RecordingFlutterApi {
   }
 }
 
+class _ImageCaptureHostApiCodec extends StandardMessageCodec {
+  const _ImageCaptureHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is CapturedImageData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return CapturedImageData.decode(readValue(buffer)!);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
 class ImageCaptureHostApi {
   /// Constructor for [ImageCaptureHostApi].  The [binaryMessenger] named argument is
   /// available for dependency injection.  If it is left null, the default
@@ -1550,16 +1988,19 @@ class ImageCaptureHostApi {
       : _binaryMessenger = binaryMessenger;
   final BinaryMessenger? _binaryMessenger;
 
-  static const MessageCodec<Object?> codec = StandardMessageCodec();
+  static const MessageCodec<Object?> codec = _ImageCaptureHostApiCodec();
 
   Future<void> create(int arg_identifier, int? arg_flashMode,
-      int? arg_resolutionSelectorId) async {
+      int? arg_resolutionSelectorId, int? arg_captureMode) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
         'dev.flutter.pigeon.ImageCaptureHostApi.create', codec,
         binaryMessenger: _binaryMessenger);
-    final List<Object?>? replyList = await channel.send(
-            <Object?>[arg_identifier, arg_flashMode, arg_resolutionSelectorId])
-        as List<Object?>?;
+    final List<Object?>? replyList = await channel.send(<Object?>[
+      arg_identifier,
+      arg_flashMode,
+      arg_resolutionSelectorId,
+      arg_captureMode
+    ]) as List<Object?>?;
     if (replyList == null) {
       throw PlatformException(
         code: 'channel-error',
@@ -1624,6 +2065,33 @@ class ImageCaptureHostApi {
       return (replyList[0] as String?)!;
     }
   }
+
+  Future<CapturedImageData> takePictureToMemory(int arg_identifier) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.ImageCaptureHostApi.takePictureToMemory', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_identifier]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as CapturedImageData?)!;
+    }
+  }
 }
 
 class _ResolutionStrategyHostApiCodec extends StandardMessageCodec {
@@ -1923,13 +2391,26 @@ class ImageAnalysisHostApi {
 
   static const MessageCodec<Object?> codec = StandardMessageCodec();
 
-  Future<void> create(int arg_identifier, int? arg_resolutionSelectorId) async {
+  Future<void> create(
+      int arg_identifier,
+      int? arg_resolutionSelectorId,
+      int? arg_backpressureStrategy,
+      int? arg_imageQueueDepth,
+      int? arg_analyzerThreadCount,
+      int? arg_outputImageFormat,
+      bool? arg_outputImageRotationEnabled) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
         'dev.flutter.pigeon.ImageAnalysisHostApi.create', codec,
         binaryMessenger: _binaryMessenger);
-    final List<Object?>? replyList =
-        await channel.send(<Object?>[arg_identifier, arg_resolutionSelectorId])
-            as List<Object?>?;
+    final List<Object?>? replyList = await channel.send(<Object?>[
+      arg_identifier,
+      arg_resolutionSelectorId,
+      arg_backpressureStrategy,
+      arg_imageQueueDepth,
+      arg_analyzerThreadCount,
+      arg_outputImageFormat,
+      arg_outputImageRotationEnabled
+    ]) as List<Object?>?;
     if (replyList == null) {
       throw PlatformException(
         code: 'channel-error',
@@ -2003,12 +2484,22 @@ class AnalyzerHostApi {
 
   static const MessageCodec<Object?> codec = StandardMessageCodec();
 
-  Future<void> create(int arg_identifier) async {
+  Future<void> create(
+      int arg_identifier,
+      bool arg_deliverFrames,
+      bool arg_packNv21,
+      double? arg_targetFrameRate,
+      int? arg_frameStride) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
         'dev.flutter.pigeon.AnalyzerHostApi.create', codec,
         binaryMessenger: _binaryMessenger);
-    final List<Object?>? replyList =
-        await channel.send(<Object?>[arg_identifier]) as List<Object?>?;
+    final List<Object?>? replyList = await channel.send(<Object?>[
+      arg_identifier,
+      arg_deliverFrames,
+      arg_packNv21,
+      arg_targetFrameRate,
+      arg_frameStride
+    ]) as List<Object?>?;
     if (replyList == null) {
       throw PlatformException(
         code: 'channel-error',
@@ -2057,13 +2548,68 @@ class ObserverHostApi {
       return;
     }
   }
+
+  Future<void> createCoalescing(
+      int arg_identifier, int arg_intervalMillis) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.ObserverHostApi.createCoalescing', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel
+        .send(<Object?>[arg_identifier, arg_intervalMillis]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+}
+
+class _ObserverFlutterApiCodec extends StandardMessageCodec {
+  const _ObserverFlutterApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is CameraStateData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else if (value is ZoomStateData) {
+      buffer.putUint8(129);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return CameraStateData.decode(readValue(buffer)!);
+      case 129:
+        return ZoomStateData.decode(readValue(buffer)!);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
 }
 
 abstract class ObserverFlutterApi {
-  static const MessageCodec<Object?> codec = StandardMessageCodec();
+  static const MessageCodec<Object?> codec = _ObserverFlutterApiCodec();
 
   void onChanged(int identifier, int valueIdentifier);
 
+  void onCameraStateChanged(int identifier, CameraStateData value);
+
+  void onZoomStateChanged(int identifier, ZoomStateData value);
+
   static void setup(ObserverFlutterApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -2088,6 +2634,50 @@ abstract class ObserverFlutterApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.ObserverFlutterApi.onCameraStateChanged', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.ObserverFlutterApi.onCameraStateChanged was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.ObserverFlutterApi.onCameraStateChanged was null, expected non-null int.');
+          final CameraStateData? arg_value = (args[1] as CameraStateData?);
+          assert(arg_value != null,
+              'Argument for dev.flutter.pigeon.ObserverFlutterApi.onCameraStateChanged was null, expected non-null CameraStateData.');
+          api.onCameraStateChanged(arg_identifier!, arg_value!);
+          return;
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.ObserverFlutterApi.onZoomStateChanged', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.ObserverFlutterApi.onZoomStateChanged was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.ObserverFlutterApi.onZoomStateChanged was null, expected non-null int.');
+          final ZoomStateData? arg_value = (args[1] as ZoomStateData?);
+          assert(arg_value != null,
+              'Argument for dev.flutter.pigeon.ObserverFlutterApi.onZoomStateChanged was null, expected non-null ZoomStateData.');
+          api.onZoomStateChanged(arg_identifier!, arg_value!);
+          return;
+        });
+      }
+    }
   }
 }
 
@@ -2281,13 +2871,43 @@ abstract class LiveDataFlutterApi {
   }
 }
 
+class _AnalyzerFlutterApiCodec extends StandardMessageCodec {
+  const _AnalyzerFlutterApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is ImageFrameData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else if (value is ImagePlaneData) {
+      buffer.putUint8(129);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return ImageFrameData.decode(readValue(buffer)!);
+      case 129:
+        return ImagePlaneData.decode(readValue(buffer)!);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
 abstract class AnalyzerFlutterApi {
-  static const MessageCodec<Object?> codec = StandardMessageCodec();
+  static const MessageCodec<Object?> codec = _AnalyzerFlutterApiCodec();
 
   void create(int identifier);
 
   void analyze(int identifier, int imageProxyIdentifier);
 
+  void analyzeFrame(int identifier, ImageFrameData frame);
+
   static void setup(AnalyzerFlutterApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -2331,6 +2951,28 @@ abstract class AnalyzerFlutterApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AnalyzerFlutterApi.analyzeFrame', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AnalyzerFlutterApi.analyzeFrame was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.AnalyzerFlutterApi.analyzeFrame was null, expected non-null int.');
+          final ImageFrameData? arg_frame = (args[1] as ImageFrameData?);
+          assert(arg_frame != null,
+              'Argument for dev.flutter.pigeon.AnalyzerFlutterApi.analyzeFrame was null, expected non-null ImageFrameData.');
+          api.analyzeFrame(arg_identifier!, arg_frame!);
+          return;
+        });
+      }
+    }
   }
 }
 
@@ -24,13 +24,25 @@ class ImageAnalysis extends UseCase {
   ImageAnalysis(
       {BinaryMessenger? binaryMessenger,
       InstanceManager? instanceManager,
-      this.resolutionSelector})
+      this.resolutionSelector,
+      this.backpressureStrategy,
+      this.imageQueueDepth,
+      this.analyzerThreadCount,
+      this.outputImageFormat,
+      this.outputImageRotationEnabled})
       : super.detached(
             binaryMessenger: binaryMessenger,
             instanceManager: instanceManager) {
     _api = _ImageAnalysisHostApiImpl(
         binaryMessenger: binaryMessenger, instanceManager: instanceManager);
-    _api.createfromInstances(this, resolutionSelector);
+    _api.createfromInstances(
+        this,
+        resolutionSelector,
+        backpressureStrategy,
+        imageQueueDepth,
+        analyzerThreadCount,
+        outputImageFormat,
+        outputImageRotationEnabled);
     AndroidCameraXCameraFlutterApis.instance.ensureSetUp();
   }
 
@@ -38,7 +50,12 @@ class ImageAnalysis extends UseCase {
   ImageAnalysis.detached(
       {BinaryMessenger? binaryMessenger,
       InstanceManager? instanceManager,
-      this.resolutionSelector})
+      this.resolutionSelector,
+      this.backpressureStrategy,
+      this.imageQueueDepth,
+      this.analyzerThreadCount,
+      this.outputImageFormat,
+      this.outputImageRotationEnabled})
       : super.detached(
             binaryMessenger: binaryMessenger,
             instanceManager: instanceManager) {
@@ -55,6 +72,59 @@ class ImageAnalysis extends UseCase {
   /// https://developer.android.com/reference/androidx/camera/core/ImageAnalysis.Builder#setResolutionSelector(androidx.camera.core.resolutionselector.ResolutionSelector).
   final ResolutionSelector? resolutionSelector;
 
+  /// Strategy used to deliver images when the [Analyzer] falls behind, either
+  /// [strategyKeepOnlyLatest] or [strategyBlockProducer].
+  ///
+  /// If not set, CameraX keeps only the latest image.
+  final int? backpressureStrategy;
+
+  /// Number of images the camera may queue for the [Analyzer] when
+  /// [backpressureStrategy] is [strategyBlockProducer].
+  final int? imageQueueDepth;
+
+  /// Number of background threads the [Analyzer] runs on.
+  ///
+  /// If not set, a single dedicated thread is used. A value of 0 runs the
+  /// [Analyzer] on the main thread. Images are always passed to Dart from the
+  /// main thread.
+  final int? analyzerThreadCount;
+
+  /// Format of the images passed to the [Analyzer], either
+  /// [outputImageFormatYuv420888] or [outputImageFormatRgba8888].
+  ///
+  /// If not set, images are YUV_420_888. RGBA_8888 images are converted on the
+  /// native side and have a single plane.
+  final int? outputImageFormat;
+
+  /// Whether the images passed to the [Analyzer] are rotated to the target
+  /// rotation and cropped to the crop rectangle on the native side.
+  ///
+  /// If not set, images are neither rotated nor cropped and the rotation to
+  /// apply is reported with each image.
+  final bool? outputImageRotationEnabled;
+
+  /// Constant for the strategy that drops all but the latest image while the
+  /// [Analyzer] is busy.
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/core/ImageAnalysis#STRATEGY_KEEP_ONLY_LATEST().
+  static const int strategyKeepOnlyLatest = 0;
+
+  /// Constant for the strategy that queues up to [imageQueueDepth] images and
+  /// then stalls the camera until the [Analyzer] catches up.
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/core/ImageAnalysis#STRATEGY_BLOCK_PRODUCER().
+  static const int strategyBlockProducer = 1;
+
+  /// Constant for the YUV_420_888 output image format.
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/core/ImageAnalysis#OUTPUT_IMAGE_FORMAT_YUV_420_888().
+  static const int outputImageFormatYuv420888 = 1;
+
+  /// Constant for the RGBA_8888 output image format.
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/core/ImageAnalysis#OUTPUT_IMAGE_FORMAT_RGBA_8888().
+  static const int outputImageFormatRgba8888 = 2;
+
   /// Sets an [Analyzer] to receive and analyze images.
   Future<void> setAnalyzer(Analyzer analyzer) =>
       _api.setAnalyzerfromInstances(this, analyzer);
@@ -83,17 +153,28 @@ class _ImageAnalysisHostApiImpl extends ImageAnalysisHostApi {
 
   final InstanceManager instanceManager;
 
-  /// Creates an [ImageAnalysis] instance with the specified target resolution
-  /// on the native side.
+  /// Creates an [ImageAnalysis] instance with the specified target resolution,
+  /// backpressure strategy, image queue depth, analyzer thread count, output
+  /// image format and output image rotation on the native side.
   Future<void> createfromInstances(
     ImageAnalysis instance,
     ResolutionSelector? resolutionSelector,
+    int? backpressureStrategy,
+    int? imageQueueDepth,
+    int? analyzerThreadCount,
+    int? outputImageFormat,
+    bool? outputImageRotationEnabled,
   ) {
     return create(
       instanceManager.addDartCreatedInstance(
         instance,
         onCopy: (ImageAnalysis original) => ImageAnalysis.detached(
           resolutionSelector: original.resolutionSelector,
+          backpressureStrategy: original.backpressureStrategy,
+          imageQueueDepth: original.imageQueueDepth,
+          analyzerThreadCount: original.analyzerThreadCount,
+          outputImageFormat: original.outputImageFormat,
+          outputImageRotationEnabled: original.outputImageRotationEnabled,
           binaryMessenger: binaryMessenger,
           instanceManager: instanceManager,
         ),
@@ -101,6 +182,11 @@ class _ImageAnalysisHostApiImpl extends ImageAnalysisHostApi {
       resolutionSelector == null
           ? null
           : instanceManager.getIdentifier(resolutionSelector),
+      backpressureStrategy,
+      imageQueueDepth,
+      analyzerThreadCount,
+      outputImageFormat,
+      outputImageRotationEnabled,
     );
   }
 
@@ -22,13 +22,15 @@ class ImageCapture extends UseCase {
     InstanceManager? instanceManager,
     this.targetFlashMode,
     this.resolutionSelector,
+    this.targetCaptureMode,
   }) : super.detached(
           binaryMessenger: binaryMessenger,
           instanceManager: instanceManager,
         ) {
     _api = ImageCaptureHostApiImpl(
         binaryMessenger: binaryMessenger, instanceManager: instanceManager);
-    _api.createFromInstance(this, targetFlashMode, resolutionSelector);
+    _api.createFromInstance(
+        this, targetFlashMode, resolutionSelector, targetCaptureMode);
   }
 
   /// Constructs a [ImageCapture] that is not automatically attached to a native object.
@@ -37,6 +39,7 @@ class ImageCapture extends UseCase {
     InstanceManager? instanceManager,
     this.targetFlashMode,
     this.resolutionSelector,
+    this.targetCaptureMode,
   }) : super.detached(
           binaryMessenger: binaryMessenger,
           instanceManager: instanceManager,
@@ -56,6 +59,29 @@ class ImageCapture extends UseCase {
   /// https://developer.android.com/reference/androidx/camera/core/ImageCapture.Builder#setResolutionSelector(androidx.camera.core.resolutionselector.ResolutionSelector).
   final ResolutionSelector? resolutionSelector;
 
+  /// Capture mode used to trade image quality for shutter-to-result latency.
+  ///
+  /// If not set, CameraX defaults to [captureModeMinimizeLatency].
+  final int? targetCaptureMode;
+
+  /// Constant for the capture mode that optimizes for image quality.
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/core/ImageCapture#CAPTURE_MODE_MAXIMIZE_QUALITY().
+  static const int captureModeMaximizeQuality = 0;
+
+  /// Constant for the capture mode that optimizes for latency.
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/core/ImageCapture#CAPTURE_MODE_MINIMIZE_LATENCY().
+  static const int captureModeMinimizeLatency = 1;
+
+  /// Constant for the zero shutter lag capture mode.
+  ///
+  /// Cameras that do not support zero shutter lag, and captures that use the
+  /// flash, fall back to [captureModeMinimizeLatency].
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/core/ImageCapture#CAPTURE_MODE_ZERO_SHUTTER_LAG().
+  static const int captureModeZeroShutterLag = 2;
+
   /// Constant for automatic flash mode.
   ///
   /// See https://developer.android.com/reference/androidx/camera/core/ImageCapture#FLASH_MODE_AUTO().
@@ -96,6 +122,16 @@ class ImageCapture extends UseCase {
   Future<String> takePicture() async {
     return _api.takePictureFromInstance(this);
   }
+
+  /// Takes a picture and returns its JPEG bytes without saving it to a file.
+  ///
+  /// The bytes are not rotated; [CapturedImageData.rotationDegrees] is the
+  /// clockwise rotation needed to display the image upright.
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/core/ImageCapture#takePicture(java.util.concurrent.Executor,androidx.camera.core.ImageCapture.OnImageCapturedCallback).
+  Future<CapturedImageData> takePictureToMemory() async {
+    return _api.takePictureToMemoryFromInstance(this);
+  }
 }
 
 /// Host API implementation of [ImageCapture].
@@ -122,24 +158,26 @@ class ImageCaptureHostApiImpl extends ImageCaptureHostApi {
   /// Maintains instances stored to communicate with native language objects.
   late final InstanceManager instanceManager;
 
-  /// Creates an [ImageCapture] instance with the flash mode and target resolution
-  /// if specified.
+  /// Creates an [ImageCapture] instance with the flash mode, target resolution
+  /// and capture mode if specified.
   void createFromInstance(ImageCapture instance, int? targetFlashMode,
-      ResolutionSelector? resolutionSelector) {
+      ResolutionSelector? resolutionSelector, int? targetCaptureMode) {
     final int identifier = instanceManager.addDartCreatedInstance(instance,
         onCopy: (ImageCapture original) {
       return ImageCapture.detached(
           binaryMessenger: binaryMessenger,
           instanceManager: instanceManager,
           targetFlashMode: original.targetFlashMode,
-          resolutionSelector: original.resolutionSelector);
+          resolutionSelector: original.resolutionSelector,
+          targetCaptureMode: original.targetCaptureMode);
     });
     create(
         identifier,
         targetFlashMode,
         resolutionSelector == null
             ? null
-            : instanceManager.getIdentifier(resolutionSelector));
+            : instanceManager.getIdentifier(resolutionSelector),
+        targetCaptureMode);
   }
 
   /// Sets the flash mode for the specified [ImageCapture] instance to take
@@ -162,4 +200,14 @@ class ImageCaptureHostApiImpl extends ImageCaptureHostApi {
     final String picturePath = await takePicture(identifier!);
     return picturePath;
   }
+
+  /// Takes a picture in memory with the specified [ImageCapture] instance.
+  Future<CapturedImageData> takePictureToMemoryFromInstance(
+      ImageCapture instance) async {
+    final int? identifier = instanceManager.getIdentifier(instance);
+    assert(identifier != null,
+        'No ImageCapture has the identifer of that requested to take a picture with.');
+
+    return takePictureToMemory(identifier!);
+  }
 }
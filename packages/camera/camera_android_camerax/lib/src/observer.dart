@@ -6,10 +6,13 @@ import 'package:flutter/services.dart';
 import 'package:meta/meta.dart';
 
 import 'android_camera_camerax_flutter_api_impls.dart';
+import 'camera_state.dart';
+import 'camera_state_error.dart';
 import 'camerax_library.g.dart';
 import 'instance_manager.dart';
 import 'java_object.dart';
 import 'live_data.dart';
+import 'zoom_state.dart';
 
 /// Callback that can receive from [LiveData].
 ///
@@ -17,11 +20,18 @@ import 'live_data.dart';
 @immutable
 class Observer<T> extends JavaObject {
   /// Constructor for [Observer].
+  ///
+  /// If [coalesceIntervalMillis] is set, the native side only passes the
+  /// latest value of the changes made within each interval, or within each
+  /// display frame if it is 0. Such values are plain copies that are not
+  /// attached to native objects.
   Observer(
       {super.binaryMessenger,
       super.instanceManager,
-      required void Function(Object value) onChanged})
-      : _api = _ObserverHostApiImpl(
+      required void Function(Object value) onChanged,
+      this.coalesceIntervalMillis})
+      : assert(coalesceIntervalMillis == null || coalesceIntervalMillis >= 0),
+        _api = _ObserverHostApiImpl(
             binaryMessenger: binaryMessenger, instanceManager: instanceManager),
         super.detached() {
     AndroidCameraXCameraFlutterApis.instance.ensureSetUp();
@@ -39,7 +49,8 @@ class Observer<T> extends JavaObject {
   Observer.detached(
       {super.binaryMessenger,
       super.instanceManager,
-      required void Function(Object value) onChanged})
+      required void Function(Object value) onChanged,
+      this.coalesceIntervalMillis})
       : _api = _ObserverHostApiImpl(
             binaryMessenger: binaryMessenger, instanceManager: instanceManager),
         super.detached() {
@@ -56,6 +67,12 @@ class Observer<T> extends JavaObject {
   /// The callback parameter cannot take type [T] directly due to the issue
   /// described in https://github.com/dart-lang/sdk/issues/51461.
   late final void Function(Object value) onChanged;
+
+  /// The interval in milliseconds over which changes are coalesced on the
+  /// native side, or 0 to coalesce changes per display frame.
+  ///
+  /// If null, every change is passed to [onChanged].
+  final int? coalesceIntervalMillis;
 }
 
 class _ObserverHostApiImpl extends ObserverHostApi {
@@ -82,16 +99,20 @@ class _ObserverHostApiImpl extends ObserverHostApi {
   Future<void> createFromInstance<T>(
     Observer<T> instance,
   ) {
-    return create(
-      instanceManager.addDartCreatedInstance(
-        instance,
-        onCopy: (Observer<T> original) => Observer<T>.detached(
-          onChanged: original.onChanged,
-          binaryMessenger: binaryMessenger,
-          instanceManager: instanceManager,
-        ),
+    final int identifier = instanceManager.addDartCreatedInstance(
+      instance,
+      onCopy: (Observer<T> original) => Observer<T>.detached(
+        onChanged: original.onChanged,
+        coalesceIntervalMillis: original.coalesceIntervalMillis,
+        binaryMessenger: binaryMessenger,
+        instanceManager: instanceManager,
       ),
     );
+    final int? coalesceIntervalMillis = instance.coalesceIntervalMillis;
+    if (coalesceIntervalMillis != null) {
+      return createCoalescing(identifier, coalesceIntervalMillis);
+    }
+    return create(identifier);
   }
 }
 
@@ -129,4 +150,43 @@ class ObserverFlutterApiImpl implements ObserverFlutterApi {
       _instanceManager.getInstanceWithWeakReference<Object>(valueIdentifier)!,
     );
   }
+
+  @override
+  void onCameraStateChanged(
+    int identifier,
+    CameraStateData value,
+  ) {
+    final Observer<dynamic> instance =
+        _instanceManager.getInstanceWithWeakReference(identifier)!;
+    final int? errorCode = value.errorCode;
+
+    // The value is a plain copy, so it is not added to the InstanceManager.
+    // ignore: avoid_dynamic_calls, void_checks
+    instance.onChanged(
+      CameraState.detached(
+        type: value.type,
+        error: errorCode == null
+            ? null
+            : CameraStateError.detached(code: errorCode),
+      ),
+    );
+  }
+
+  @override
+  void onZoomStateChanged(
+    int identifier,
+    ZoomStateData value,
+  ) {
+    final Observer<dynamic> instance =
+        _instanceManager.getInstanceWithWeakReference(identifier)!;
+
+    // The value is a plain copy, so it is not added to the InstanceManager.
+    // ignore: avoid_dynamic_calls, void_checks
+    instance.onChanged(
+      ZoomState.detached(
+        minZoomRatio: value.minZoomRatio,
+        maxZoomRatio: value.maxZoomRatio,
+      ),
+    );
+  }
 }
@@ -43,6 +43,24 @@ class ProcessCameraProvider extends JavaObject {
     return api.getInstancefromInstances();
   }
 
+  /// Unbinds all [UseCase]s and binds the specified [useCases] to the
+  /// lifecycle of the camera selected by [cameraSelector] in a single call.
+  ///
+  /// This avoids the separate calls to [getInstance], [unbindAll],
+  /// [bindToLifecycle] and [Camera.getCameraInfo] needed to open a camera.
+  /// The native [ProcessCameraProvider] starts initializing when the plugin
+  /// is attached to an activity, so it may already be available.
+  static Future<OpenCameraResult> openCamera(
+      CameraSelector cameraSelector, List<UseCase> useCases,
+      {BinaryMessenger? binaryMessenger, InstanceManager? instanceManager}) {
+    AndroidCameraXCameraFlutterApis.instance.ensureSetUp();
+    final ProcessCameraProviderHostApiImpl api =
+        ProcessCameraProviderHostApiImpl(
+            binaryMessenger: binaryMessenger, instanceManager: instanceManager);
+
+    return api.openCameraFromInstances(cameraSelector, useCases);
+  }
+
   /// Retrieves the cameras available to the device.
   Future<List<CameraInfo>> getAvailableCameraInfos() {
     return _api.getAvailableCameraInfosFromInstances(this);
@@ -74,6 +92,48 @@ class ProcessCameraProvider extends JavaObject {
   }
 }
 
+/// The camera opened by [ProcessCameraProvider.openCamera] and the time spent
+/// in each phase of opening it.
+@immutable
+class OpenCameraResult {
+  /// Constructs an [OpenCameraResult].
+  const OpenCameraResult({
+    required this.processCameraProvider,
+    required this.camera,
+    required this.cameraInfo,
+    required this.providerInitializationDuration,
+    required this.providerWaitDuration,
+    required this.bindDuration,
+    required this.totalDuration,
+  });
+
+  /// The [ProcessCameraProvider] that the use cases were bound with.
+  final ProcessCameraProvider processCameraProvider;
+
+  /// The [Camera] whose lifecycle the use cases were bound to.
+  final Camera camera;
+
+  /// The [CameraInfo] of [camera].
+  final CameraInfo cameraInfo;
+
+  /// The time from the start of the native [ProcessCameraProvider]
+  /// initialization until it was available.
+  ///
+  /// The initialization may have started before
+  /// [ProcessCameraProvider.openCamera] was called.
+  final Duration providerInitializationDuration;
+
+  /// The time the native call spent waiting for the [ProcessCameraProvider].
+  final Duration providerWaitDuration;
+
+  /// The time spent unbinding the previous use cases and binding the new ones.
+  final Duration bindDuration;
+
+  /// The time from the native call being received until the use cases were
+  /// bound.
+  final Duration totalDuration;
+}
+
 /// Host API implementation of [ProcessCameraProvider].
 class ProcessCameraProviderHostApiImpl extends ProcessCameraProviderHostApi {
   /// Constructs an [ProcessCameraProviderHostApiImpl].
@@ -145,6 +205,36 @@ class ProcessCameraProviderHostApiImpl extends ProcessCameraProviderHostApi {
         .getInstanceWithWeakReference<Camera>(cameraIdentifier)!;
   }
 
+  /// Unbinds all [UseCase]s and binds the specified [UseCase]s to the
+  /// lifecycle of the camera selected by [cameraSelector].
+  Future<OpenCameraResult> openCameraFromInstances(
+    CameraSelector cameraSelector,
+    List<UseCase> useCases,
+  ) async {
+    final List<int> useCaseIds = useCases
+        .map<int>((UseCase useCase) => instanceManager.getIdentifier(useCase)!)
+        .toList();
+
+    final OpenCameraResultData result = await openCamera(
+      instanceManager.getIdentifier(cameraSelector)!,
+      useCaseIds,
+    );
+    return OpenCameraResult(
+      processCameraProvider:
+          instanceManager.getInstanceWithWeakReference<ProcessCameraProvider>(
+              result.processCameraProviderIdentifier)!,
+      camera: instanceManager
+          .getInstanceWithWeakReference<Camera>(result.cameraIdentifier)!,
+      cameraInfo: instanceManager.getInstanceWithWeakReference<CameraInfo>(
+          result.cameraInfoIdentifier)!,
+      providerInitializationDuration:
+          Duration(milliseconds: result.providerInitializationMillis),
+      providerWaitDuration: Duration(milliseconds: result.providerWaitMillis),
+      bindDuration: Duration(milliseconds: result.bindMillis),
+      totalDuration: Duration(milliseconds: result.totalMillis),
+    );
+  }
+
   /// Returns whether or not the specified [UseCase] has been bound to the
   /// lifecycle of the camera that this instance tracks.
   Future<bool> isBoundFromInstances(
@@ -61,6 +61,20 @@ class CameraStateTypeData {
   late CameraStateType value;
 }
 
+/// A [CameraState] value sent without a managed instance.
+class CameraStateData {
+  late CameraStateType type;
+
+  late int? errorCode;
+}
+
+/// A [ZoomState] value sent without a managed instance.
+class ZoomStateData {
+  late double minZoomRatio;
+
+  late double maxZoomRatio;
+}
+
 /// The types (T) properly wrapped to be used as a LiveData<T>.
 ///
 /// If you need to add another type to support a type S to use a LiveData<S> in
@@ -96,6 +110,106 @@ class ExposureCompensationRange {
   int maxCompensation;
 }
 
+/// The bytes and layout of one plane of an analyzed image.
+class ImagePlaneData {
+  ImagePlaneData({
+    required this.bytes,
+    required this.pixelStride,
+    required this.rowStride,
+  });
+
+  Uint8List bytes;
+  int pixelStride;
+  int rowStride;
+}
+
+/// An analyzed image, sent to Dart in a single message.
+///
+/// See https://developer.android.com/reference/androidx/camera/core/ImageProxy.
+class ImageFrameData {
+  ImageFrameData({
+    required this.format,
+    required this.width,
+    required this.height,
+    required this.rotationDegrees,
+    required this.cropLeft,
+    required this.cropTop,
+    required this.cropRight,
+    required this.cropBottom,
+    required this.planes,
+  });
+
+  int format;
+  int width;
+  int height;
+  int rotationDegrees;
+  int cropLeft;
+  int cropTop;
+  int cropRight;
+  int cropBottom;
+  List<ImagePlaneData?> planes;
+}
+
+/// The instances held by the native `InstanceManager`.
+class InstanceManagerStatsData {
+  InstanceManagerStatsData({
+    required this.strongInstanceCount,
+    required this.weakInstanceCount,
+    required this.oldestStrongReferenceAgeMillis,
+    required this.finalizationBacklog,
+    required this.strongInstanceCountsByClass,
+    required this.weakInstanceCountsByClass,
+  });
+
+  int strongInstanceCount;
+  int weakInstanceCount;
+  int oldestStrongReferenceAgeMillis;
+  int finalizationBacklog;
+  Map<String?, int?> strongInstanceCountsByClass;
+  Map<String?, int?> weakInstanceCountsByClass;
+}
+
+/// The instances of a camera opened by
+/// `ProcessCameraProviderHostApi.openCamera` and the time, in milliseconds,
+/// spent in each phase of opening it.
+///
+/// `providerInitializationMillis` is the time from the start of the
+/// `ProcessCameraProvider` initialization, which may have been pre-warmed,
+/// until the provider was available. `providerWaitMillis` is the part of that
+/// time the call spent waiting, `bindMillis` is the time spent unbinding the
+/// previous use cases and binding the new ones and `totalMillis` is the time
+/// from receiving the call until the camera was bound.
+class OpenCameraResultData {
+  OpenCameraResultData({
+    required this.processCameraProviderIdentifier,
+    required this.cameraIdentifier,
+    required this.cameraInfoIdentifier,
+    required this.providerInitializationMillis,
+    required this.providerWaitMillis,
+    required this.bindMillis,
+    required this.totalMillis,
+  });
+
+  int processCameraProviderIdentifier;
+  int cameraIdentifier;
+  int cameraInfoIdentifier;
+  int providerInitializationMillis;
+  int providerWaitMillis;
+  int bindMillis;
+  int totalMillis;
+}
+
+/// A JPEG image captured by `ImageCaptureHostApi.takePictureToMemory`.
+class CapturedImageData {
+  CapturedImageData({
+    required this.bytes,
+    required this.rotationDegrees,
+  });
+
+  Uint8List bytes;
+  int rotationDegrees;
+}
+
 /// Video quality constraints that will be used by a QualitySelector to choose
 /// an appropriate video resolution.
 ///
@@ -127,6 +241,13 @@ abstract class InstanceManagerHostApi {
   ///
   /// This is typically only used after a hot restart.
   void clear();
+
+  /// Counts the instances held by the native `InstanceManager`.
+  InstanceManagerStatsData getStats();
+
+  /// Logs the stats of the native `InstanceManager` every [intervalMillis]
+  /// milliseconds, or stops logging them when [intervalMillis] is 0.
+  void setStatsLogInterval(int intervalMillis);
 }
 
 @HostApi(dartHostTestHandler: 'TestJavaObjectHostApi')
@@ -182,6 +303,10 @@ abstract class ProcessCameraProviderHostApi {
   void unbind(int identifier, List<int> useCaseIds);
 
   void unbindAll(int identifier);
+
+  @async
+  OpenCameraResultData openCamera(
+      int cameraSelectorIdentifier, List<int> useCaseIds);
 }
 
 @FlutterApi()
@@ -287,12 +412,16 @@ abstract class RecordingFlutterApi {
 
 @HostApi(dartHostTestHandler: 'TestImageCaptureHostApi')
 abstract class ImageCaptureHostApi {
-  void create(int identifier, int? flashMode, int? resolutionSelectorId);
+  void create(int identifier, int? flashMode, int? resolutionSelectorId,
+      int? captureMode);
 
   void setFlashMode(int identifier, int flashMode);
 
   @async
   String takePicture(int identifier);
+
+  @async
+  CapturedImageData takePictureToMemory(int identifier);
 }
 
 @HostApi(dartHostTestHandler: 'TestResolutionStrategyHostApi')
@@ -334,7 +463,15 @@ abstract class ZoomStateFlutterApi {
 
 @HostApi(dartHostTestHandler: 'TestImageAnalysisHostApi')
 abstract class ImageAnalysisHostApi {
-  void create(int identifier, int? resolutionSelectorId);
+  void create(
+    int identifier,
+    int? resolutionSelectorId,
+    int? backpressureStrategy,
+    int? imageQueueDepth,
+    int? analyzerThreadCount,
+    int? outputImageFormat,
+    bool? outputImageRotationEnabled,
+  );
 
   void setAnalyzer(int identifier, int analyzerIdentifier);
 
@@ -343,17 +480,24 @@ abstract class ImageAnalysisHostApi {
 
 @HostApi(dartHostTestHandler: 'TestAnalyzerHostApi')
 abstract class AnalyzerHostApi {
-  void create(int identifier);
+  void create(int identifier, bool deliverFrames, bool packNv21,
+      double? targetFrameRate, int? frameStride);
 }
 
 @HostApi(dartHostTestHandler: 'TestObserverHostApi')
 abstract class ObserverHostApi {
   void create(int identifier);
+
+  void createCoalescing(int identifier, int intervalMillis);
 }
 
 @FlutterApi()
 abstract class ObserverFlutterApi {
   void onChanged(int identifier, int valueIdentifier);
+
+  void onCameraStateChanged(int identifier, CameraStateData value);
+
+  void onZoomStateChanged(int identifier, ZoomStateData value);
 }
 
 @FlutterApi()
@@ -380,6 +524,8 @@ abstract class AnalyzerFlutterApi {
   void create(int identifier);
 
   void analyze(int identifier, int imageProxyIdentifier);
+
+  void analyzeFrame(int identifier, ImageFrameData frame);
 }
 
 @HostApi(dartHostTestHandler: 'TestImageProxyHostApi')
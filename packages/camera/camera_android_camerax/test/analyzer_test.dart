@@ -2,7 +2,10 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:typed_data';
+
 import 'package:camera_android_camerax/src/analyzer.dart';
+import 'package:camera_android_camerax/src/camerax_library.g.dart';
 import 'package:camera_android_camerax/src/image_proxy.dart';
 import 'package:camera_android_camerax/src/instance_manager.dart';
 import 'package:flutter_test/flutter_test.dart';
@@ -41,6 +44,79 @@ void main() {
 
       verify(mockApi.create(
         instanceManager.getIdentifier(instance),
+        false,
+        false,
+        null,
+        null,
+      ));
+    });
+
+    test('HostApi create with analyzeFrame requests frame delivery', () {
+      final MockTestAnalyzerHostApi mockApi = MockTestAnalyzerHostApi();
+      TestAnalyzerHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+
+      final Analyzer instance = Analyzer(
+        analyzeFrame: (ImageFrameData frame) async {},
+        instanceManager: instanceManager,
+      );
+
+      verify(mockApi.create(
+        instanceManager.getIdentifier(instance),
+        true,
+        false,
+        null,
+        null,
+      ));
+    });
+
+    test('HostApi create with packNv21 requests NV21 packing', () {
+      final MockTestAnalyzerHostApi mockApi = MockTestAnalyzerHostApi();
+      TestAnalyzerHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+
+      final Analyzer instance = Analyzer(
+        analyzeFrame: (ImageFrameData frame) async {},
+        packNv21: true,
+        instanceManager: instanceManager,
+      );
+
+      verify(mockApi.create(
+        instanceManager.getIdentifier(instance),
+        true,
+        true,
+        null,
+        null,
+      ));
+    });
+
+    test('HostApi create with frame limits requests native throttling', () {
+      final MockTestAnalyzerHostApi mockApi = MockTestAnalyzerHostApi();
+      TestAnalyzerHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+
+      final Analyzer instance = Analyzer(
+        analyzeFrame: (ImageFrameData frame) async {},
+        targetFrameRate: 7.5,
+        frameStride: 2,
+        instanceManager: instanceManager,
+      );
+
+      verify(mockApi.create(
+        instanceManager.getIdentifier(instance),
+        true,
+        false,
+        7.5,
+        2,
       ));
     });
 
@@ -112,5 +188,54 @@ void main() {
         imageProxy,
       );
     });
+
+    test('analyzeFrame', () {
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+
+      const int instanceIdentifier = 0;
+      late final ImageFrameData callbackParameter;
+      final Analyzer instance = Analyzer.detached(
+        analyzeFrame: (ImageFrameData frame) async {
+          callbackParameter = frame;
+        },
+        instanceManager: instanceManager,
+      );
+      instanceManager.addHostCreatedInstance(
+        instance,
+        instanceIdentifier,
+        onCopy: (Analyzer original) => Analyzer.detached(
+          analyzeFrame: original.analyzeFrame,
+          instanceManager: instanceManager,
+        ),
+      );
+      final ImageFrameData frame = ImageFrameData(
+          format: 35,
+          width: 4,
+          height: 2,
+          rotationDegrees: 0,
+          cropLeft: 0,
+          cropTop: 0,
+          cropRight: 4,
+          cropBottom: 2,
+          planes: <ImagePlaneData>[
+            ImagePlaneData(bytes: Uint8List(8), pixelStride: 1, rowStride: 4),
+          ]);
+
+      final AnalyzerFlutterApiImpl flutterApi = AnalyzerFlutterApiImpl(
+        instanceManager: instanceManager,
+      );
+
+      flutterApi.analyzeFrame(
+        instanceIdentifier,
+        frame,
+      );
+
+      expect(
+        callbackParameter,
+        frame,
+      );
+    });
   });
 }
@@ -180,14 +180,10 @@ void main() {
 
     when(camera.testPreview.setSurfaceProvider())
         .thenAnswer((_) async => testSurfaceTextureId);
-    when(mockProcessCameraProvider.bindToLifecycle(
-            camera.mockBackCameraSelector,
-            <UseCase>[camera.testPreview, camera.testImageCapture]))
-        .thenAnswer((_) async => mockCamera);
-    when(mockCamera.getCameraInfo()).thenAnswer((_) async => mockCameraInfo);
     when(mockCameraInfo.getCameraState())
         .thenAnswer((_) async => mockLiveCameraState);
-    camera.processCameraProvider = mockProcessCameraProvider;
+    camera.testOpenCameraResult = createTestOpenCameraResult(
+        mockProcessCameraProvider, mockCamera, mockCameraInfo);
 
     expect(
         await camera.createCamera(testCameraDescription, testResolutionPreset,
@@ -225,7 +221,7 @@ void main() {
   });
 
   test(
-      'createCamera binds Preview and ImageCapture use cases to ProcessCameraProvider instance',
+      'createCamera opens the camera with Preview and ImageCapture use cases in a single call',
       () async {
     final FakeAndroidCameraCameraX camera =
         FakeAndroidCameraCameraX(shouldCreateDetachedObjectForTesting: true);
@@ -242,26 +238,27 @@ void main() {
     final MockCamera mockCamera = MockCamera();
     final MockCameraInfo mockCameraInfo = MockCameraInfo();
 
-    camera.processCameraProvider = mockProcessCameraProvider;
+    final OpenCameraResult testOpenCameraResult = createTestOpenCameraResult(
+        mockProcessCameraProvider, mockCamera, mockCameraInfo);
 
-    when(mockProcessCameraProvider.bindToLifecycle(
-            camera.mockBackCameraSelector,
-            <UseCase>[camera.testPreview, camera.testImageCapture]))
-        .thenAnswer((_) async => mockCamera);
-    when(mockCamera.getCameraInfo()).thenAnswer((_) async => mockCameraInfo);
     when(mockCameraInfo.getCameraState())
         .thenAnswer((_) async => MockLiveCameraState());
-    camera.processCameraProvider = mockProcessCameraProvider;
+    camera.testOpenCameraResult = testOpenCameraResult;
 
     await camera.createCamera(testCameraDescription, testResolutionPreset,
         enableAudio: enableAudio);
 
     // Verify expected UseCases were bound.
-    verify(camera.processCameraProvider!.bindToLifecycle(camera.cameraSelector!,
-        <UseCase>[camera.testPreview, camera.testImageCapture]));
+    expect(camera.openedCameraSelector, equals(camera.mockBackCameraSelector));
+    expect(camera.openedUseCases,
+        equals(<UseCase>[camera.testPreview, camera.testImageCapture]));
 
-    // Verify the camera's CameraInfo instance got updated.
+    // Verify the instances and timings of the opened camera were saved.
+    expect(camera.processCameraProvider, equals(mockProcessCameraProvider));
+    expect(camera.camera, equals(mockCamera));
     expect(camera.cameraInfo, equals(mockCameraInfo));
+    expect(camera.openCameraResult, equals(testOpenCameraResult));
+    verifyNever(mockProcessCameraProvider.unbindAll());
   });
 
   test(
@@ -306,17 +303,13 @@ void main() {
             FocusMode.auto,
             false);
 
-    camera.processCameraProvider = mockProcessCameraProvider;
+    camera.testOpenCameraResult = createTestOpenCameraResult(
+        mockProcessCameraProvider, mockCamera, mockCameraInfo);
 
     // Call createCamera.
     when(camera.testPreview.setSurfaceProvider())
         .thenAnswer((_) async => cameraId);
 
-    when(camera.processCameraProvider!.bindToLifecycle(
-            camera.mockBackCameraSelector,
-            <UseCase>[camera.testPreview, camera.testImageCapture]))
-        .thenAnswer((_) async => mockCamera);
-    when(mockCamera.getCameraInfo()).thenAnswer((_) async => mockCameraInfo);
     when(mockCameraInfo.getCameraState())
         .thenAnswer((_) async => MockLiveCameraState());
     when(camera.testPreview.getResolutionInfo())
@@ -990,15 +983,25 @@ void main() {
     final CameraSelector mockCameraSelector = MockCameraSelector();
     final Camera mockCamera = MockCamera();
     final CameraInfo mockCameraInfo = MockCameraInfo();
-    final MockImageProxy mockImageProxy = MockImageProxy();
-    final MockPlaneProxy mockPlane = MockPlaneProxy();
-    final List<MockPlaneProxy> mockPlanes = <MockPlaneProxy>[mockPlane];
     final Uint8List buffer = Uint8List(0);
     const int pixelStride = 27;
     const int rowStride = 58;
     const int imageFormat = 582;
     const int imageHeight = 100;
     const int imageWidth = 200;
+    final ImageFrameData frame = ImageFrameData(
+        format: imageFormat,
+        width: imageWidth,
+        height: imageHeight,
+        rotationDegrees: 90,
+        cropLeft: 0,
+        cropTop: 0,
+        cropRight: imageWidth,
+        cropBottom: imageHeight,
+        planes: <ImagePlaneData>[
+          ImagePlaneData(
+              bytes: buffer, pixelStride: pixelStride, rowStride: rowStride)
+        ]);
 
     camera.processCameraProvider = mockProcessCameraProvider;
     camera.cameraSelector = mockCameraSelector;
@@ -1009,14 +1012,6 @@ void main() {
             mockCameraSelector, <UseCase>[camera.mockImageAnalysis]))
         .thenAnswer((_) async => mockCamera);
     when(mockCamera.getCameraInfo()).thenAnswer((_) async => mockCameraInfo);
-    when(mockImageProxy.getPlanes())
-        .thenAnswer((_) => Future<List<PlaneProxy>>.value(mockPlanes));
-    when(mockPlane.buffer).thenReturn(buffer);
-    when(mockPlane.rowStride).thenReturn(rowStride);
-    when(mockPlane.pixelStride).thenReturn(pixelStride);
-    when(mockImageProxy.format).thenReturn(imageFormat);
-    when(mockImageProxy.height).thenReturn(imageHeight);
-    when(mockImageProxy.width).thenReturn(imageWidth);
 
     final Completer<CameraImageData> imageDataCompleter =
         Completer<CameraImageData>();
@@ -1036,10 +1031,10 @@ void main() {
     await untilCalled(mockProcessCameraProvider.bindToLifecycle(
         mockCameraSelector, <UseCase>[camera.mockImageAnalysis]));
 
-    await capturedAnalyzer.analyze(mockImageProxy);
+    await capturedAnalyzer.analyzeFrame!(frame);
     final CameraImageData imageData = await imageDataCompleter.future;
 
-    // Test Analyzer correctly process ImageProxy instances.
+    // Test Analyzer correctly process ImageFrameData instances.
     expect(imageData.planes.length, equals(1));
     expect(imageData.planes[0].bytes, equals(buffer));
     expect(imageData.planes[0].bytesPerRow, equals(rowStride));
@@ -1054,6 +1049,91 @@ void main() {
     await onStreamedFrameAvailableSubscription.cancel();
   });
 
+  test(
+      'onStreamedFrameAvailable requests NV21 packing and reports NV21 frames when the nv21 image format group is requested',
+      () async {
+    final FakeAndroidCameraCameraX camera =
+        FakeAndroidCameraCameraX(shouldCreateDetachedObjectForTesting: true);
+    const int cameraId = 34;
+    final ProcessCameraProvider mockProcessCameraProvider =
+        MockProcessCameraProvider();
+    final CameraSelector mockCameraSelector = MockCameraSelector();
+    final Camera mockCamera = MockCamera();
+    final Uint8List buffer = Uint8List(6);
+    final ImageFrameData frame = ImageFrameData(
+        format: AndroidCameraCameraX.imageFormatNv21,
+        width: 2,
+        height: 2,
+        rotationDegrees: 0,
+        cropLeft: 0,
+        cropTop: 0,
+        cropRight: 2,
+        cropBottom: 2,
+        planes: <ImagePlaneData>[
+          ImagePlaneData(bytes: buffer, pixelStride: 1, rowStride: 2)
+        ]);
+
+    camera.processCameraProvider = mockProcessCameraProvider;
+    camera.cameraSelector = mockCameraSelector;
+    camera.imageFormatGroup = ImageFormatGroup.nv21;
+
+    when(mockProcessCameraProvider.isBound(camera.mockImageAnalysis))
+        .thenAnswer((_) async => Future<bool>.value(false));
+    when(mockProcessCameraProvider.bindToLifecycle(
+            mockCameraSelector, <UseCase>[camera.mockImageAnalysis]))
+        .thenAnswer((_) async => mockCamera);
+    when(mockCamera.getCameraInfo()).thenAnswer((_) async => MockCameraInfo());
+
+    final Completer<CameraImageData> imageDataCompleter =
+        Completer<CameraImageData>();
+    final StreamSubscription<CameraImageData>
+        onStreamedFrameAvailableSubscription = camera
+            .onStreamedFrameAvailable(cameraId)
+            .listen((CameraImageData imageData) {
+      imageDataCompleter.complete(imageData);
+    });
+
+    final Analyzer capturedAnalyzer =
+        verify(camera.mockImageAnalysis.setAnalyzer(captureAny)).captured.single
+            as Analyzer;
+    expect(capturedAnalyzer.packNv21, isTrue);
+
+    await capturedAnalyzer.analyzeFrame!(frame);
+    final CameraImageData imageData = await imageDataCompleter.future;
+
+    expect(imageData.format.group, equals(ImageFormatGroup.nv21));
+    expect(imageData.planes.length, equals(1));
+    await onStreamedFrameAvailableSubscription.cancel();
+  });
+
+  test(
+      'onStreamedFrameAvailable configures Analyzer with image stream frame limits',
+      () async {
+    final FakeAndroidCameraCameraX camera =
+        FakeAndroidCameraCameraX(shouldCreateDetachedObjectForTesting: true);
+    final MockProcessCameraProvider mockProcessCameraProvider =
+        MockProcessCameraProvider();
+
+    camera.processCameraProvider = mockProcessCameraProvider;
+    camera.imageStreamFrameRate = 10;
+    camera.imageStreamFrameStride = 3;
+
+    when(mockProcessCameraProvider.isBound(camera.mockImageAnalysis))
+        .thenAnswer((_) async => true);
+
+    final StreamSubscription<CameraImageData>
+        onStreamedFrameAvailableSubscription = camera
+            .onStreamedFrameAvailable(22)
+            .listen((CameraImageData imageData) {});
+
+    final Analyzer capturedAnalyzer =
+        verify(camera.mockImageAnalysis.setAnalyzer(captureAny)).captured.single
+            as Analyzer;
+    expect(capturedAnalyzer.targetFrameRate, equals(10));
+    expect(capturedAnalyzer.frameStride, equals(3));
+    await onStreamedFrameAvailableSubscription.cancel();
+  });
+
   test(
       'onStreamedFrameAvailable returns stream that responds expectedly to being canceled',
       () async {
@@ -1103,6 +1183,11 @@ class FakeAndroidCameraCameraX extends AndroidCameraCameraX {
   final MockVideoCapture testVideoCapture = MockVideoCapture();
   final MockImageAnalysis mockImageAnalysis = MockImageAnalysis();
 
+  // Result returned by openCamera and the arguments it was last called with.
+  OpenCameraResult? testOpenCameraResult;
+  CameraSelector? openedCameraSelector;
+  List<UseCase>? openedUseCases;
+
   @override
   Future<void> requestCameraPermissions(bool enableAudio) async {
     cameraPermissionsRequested = true;
@@ -1115,6 +1200,14 @@ class FakeAndroidCameraCameraX extends AndroidCameraCameraX {
     return;
   }
 
+  @override
+  Future<OpenCameraResult> openCamera(
+      CameraSelector cameraSelector, List<UseCase> useCases) async {
+    openedCameraSelector = cameraSelector;
+    openedUseCases = useCases;
+    return testOpenCameraResult!;
+  }
+
   @override
   CameraSelector createCameraSelector(int cameraSelectorLensDirection) {
     switch (cameraSelectorLensDirection) {
@@ -1151,3 +1244,19 @@ class FakeAndroidCameraCameraX extends AndroidCameraCameraX {
     return mockImageAnalysis;
   }
 }
+
+/// Returns an [OpenCameraResult] for the specified instances.
+OpenCameraResult createTestOpenCameraResult(
+    ProcessCameraProvider processCameraProvider,
+    Camera camera,
+    CameraInfo cameraInfo) {
+  return OpenCameraResult(
+    processCameraProvider: processCameraProvider,
+    camera: camera,
+    cameraInfo: cameraInfo,
+    providerInitializationDuration: const Duration(milliseconds: 40),
+    providerWaitDuration: Duration.zero,
+    bindDuration: const Duration(milliseconds: 25),
+    totalDuration: const Duration(milliseconds: 25),
+  );
+}
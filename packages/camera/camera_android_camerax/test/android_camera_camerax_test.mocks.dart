@@ -103,9 +103,20 @@ class _FakeExposureCompensationRange_4 extends _i1.SmartFake
         );
 }
 
-class _FakeResolutionInfo_5 extends _i1.SmartFake
+class _FakeCapturedImageData_5 extends _i1.SmartFake
+    implements _i6.CapturedImageData {
+  _FakeCapturedImageData_5(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
+class _FakeResolutionInfo_6 extends _i1.SmartFake
     implements _i6.ResolutionInfo {
-  _FakeResolutionInfo_5(
+  _FakeResolutionInfo_6(
     Object parent,
     Invocation parentInvocation,
   ) : super(
@@ -114,8 +125,8 @@ class _FakeResolutionInfo_5 extends _i1.SmartFake
         );
 }
 
-class _FakeCamera_6 extends _i1.SmartFake implements _i7.Camera {
-  _FakeCamera_6(
+class _FakeCamera_7 extends _i1.SmartFake implements _i7.Camera {
+  _FakeCamera_7(
     Object parent,
     Invocation parentInvocation,
   ) : super(
@@ -124,9 +135,9 @@ class _FakeCamera_6 extends _i1.SmartFake implements _i7.Camera {
         );
 }
 
-class _FakePendingRecording_7 extends _i1.SmartFake
+class _FakePendingRecording_8 extends _i1.SmartFake
     implements _i8.PendingRecording {
-  _FakePendingRecording_7(
+  _FakePendingRecording_8(
     Object parent,
     Invocation parentInvocation,
   ) : super(
@@ -135,8 +146,8 @@ class _FakePendingRecording_7 extends _i1.SmartFake
         );
 }
 
-class _FakeRecording_8 extends _i1.SmartFake implements _i9.Recording {
-  _FakeRecording_8(
+class _FakeRecording_9 extends _i1.SmartFake implements _i9.Recording {
+  _FakeRecording_9(
     Object parent,
     Invocation parentInvocation,
   ) : super(
@@ -145,8 +156,8 @@ class _FakeRecording_8 extends _i1.SmartFake implements _i9.Recording {
         );
 }
 
-class _FakeRecorder_9 extends _i1.SmartFake implements _i10.Recorder {
-  _FakeRecorder_9(
+class _FakeRecorder_10 extends _i1.SmartFake implements _i10.Recorder {
+  _FakeRecorder_10(
     Object parent,
     Invocation parentInvocation,
   ) : super(
@@ -155,8 +166,8 @@ class _FakeRecorder_9 extends _i1.SmartFake implements _i10.Recorder {
         );
 }
 
-class _FakeWidget_10 extends _i1.SmartFake implements _i11.Widget {
-  _FakeWidget_10(
+class _FakeWidget_11 extends _i1.SmartFake implements _i11.Widget {
+  _FakeWidget_11(
     Object parent,
     Invocation parentInvocation,
   ) : super(
@@ -170,9 +181,9 @@ class _FakeWidget_10 extends _i1.SmartFake implements _i11.Widget {
       super.toString();
 }
 
-class _FakeInheritedWidget_11 extends _i1.SmartFake
+class _FakeInheritedWidget_12 extends _i1.SmartFake
     implements _i11.InheritedWidget {
-  _FakeInheritedWidget_11(
+  _FakeInheritedWidget_12(
     Object parent,
     Invocation parentInvocation,
   ) : super(
@@ -186,9 +197,9 @@ class _FakeInheritedWidget_11 extends _i1.SmartFake
       super.toString();
 }
 
-class _FakeDiagnosticsNode_12 extends _i1.SmartFake
+class _FakeDiagnosticsNode_13 extends _i1.SmartFake
     implements _i13.DiagnosticsNode {
-  _FakeDiagnosticsNode_12(
+  _FakeDiagnosticsNode_13(
     Object parent,
     Invocation parentInvocation,
   ) : super(
@@ -204,6 +215,17 @@ class _FakeDiagnosticsNode_12 extends _i1.SmartFake
       super.toString();
 }
 
+class _FakeInstanceManagerStatsData_14 extends _i1.SmartFake
+    implements _i6.InstanceManagerStatsData {
+  _FakeInstanceManagerStatsData_14(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
 /// A class which mocks [Camera].
 ///
 /// See the documentation for Mockito's code generation for more information.
@@ -451,6 +473,30 @@ class MockImageCapture extends _i1.Mock implements _i20.ImageCapture {
         returnValue: _i14.Future<String>.value(''),
         returnValueForMissingStub: _i14.Future<String>.value(''),
       ) as _i14.Future<String>);
+  @override
+  _i14.Future<_i6.CapturedImageData> takePictureToMemory() =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #takePictureToMemory,
+          [],
+        ),
+        returnValue:
+            _i14.Future<_i6.CapturedImageData>.value(_FakeCapturedImageData_5(
+          this,
+          Invocation.method(
+            #takePictureToMemory,
+            [],
+          ),
+        )),
+        returnValueForMissingStub:
+            _i14.Future<_i6.CapturedImageData>.value(_FakeCapturedImageData_5(
+          this,
+          Invocation.method(
+            #takePictureToMemory,
+            [],
+          ),
+        )),
+      ) as _i14.Future<_i6.CapturedImageData>);
 }
 
 /// A class which mocks [ImageProxy].
@@ -552,7 +598,7 @@ class MockPreview extends _i1.Mock implements _i24.Preview {
           [],
         ),
         returnValue:
-            _i14.Future<_i6.ResolutionInfo>.value(_FakeResolutionInfo_5(
+            _i14.Future<_i6.ResolutionInfo>.value(_FakeResolutionInfo_6(
           this,
           Invocation.method(
             #getResolutionInfo,
@@ -560,7 +606,7 @@ class MockPreview extends _i1.Mock implements _i24.Preview {
           ),
         )),
         returnValueForMissingStub:
-            _i14.Future<_i6.ResolutionInfo>.value(_FakeResolutionInfo_5(
+            _i14.Future<_i6.ResolutionInfo>.value(_FakeResolutionInfo_6(
           this,
           Invocation.method(
             #getResolutionInfo,
@@ -601,7 +647,7 @@ class MockProcessCameraProvider extends _i1.Mock
             useCases,
           ],
         ),
-        returnValue: _i14.Future<_i7.Camera>.value(_FakeCamera_6(
+        returnValue: _i14.Future<_i7.Camera>.value(_FakeCamera_7(
           this,
           Invocation.method(
             #bindToLifecycle,
@@ -611,7 +657,7 @@ class MockProcessCameraProvider extends _i1.Mock
             ],
           ),
         )),
-        returnValueForMissingStub: _i14.Future<_i7.Camera>.value(_FakeCamera_6(
+        returnValueForMissingStub: _i14.Future<_i7.Camera>.value(_FakeCamera_7(
           this,
           Invocation.method(
             #bindToLifecycle,
@@ -662,7 +708,7 @@ class MockRecorder extends _i1.Mock implements _i10.Recorder {
           [path],
         ),
         returnValue:
-            _i14.Future<_i8.PendingRecording>.value(_FakePendingRecording_7(
+            _i14.Future<_i8.PendingRecording>.value(_FakePendingRecording_8(
           this,
           Invocation.method(
             #prepareRecording,
@@ -670,7 +716,7 @@ class MockRecorder extends _i1.Mock implements _i10.Recorder {
           ),
         )),
         returnValueForMissingStub:
-            _i14.Future<_i8.PendingRecording>.value(_FakePendingRecording_7(
+            _i14.Future<_i8.PendingRecording>.value(_FakePendingRecording_8(
           this,
           Invocation.method(
             #prepareRecording,
@@ -691,7 +737,7 @@ class MockPendingRecording extends _i1.Mock implements _i8.PendingRecording {
           #start,
           [],
         ),
-        returnValue: _i14.Future<_i9.Recording>.value(_FakeRecording_8(
+        returnValue: _i14.Future<_i9.Recording>.value(_FakeRecording_9(
           this,
           Invocation.method(
             #start,
@@ -699,7 +745,7 @@ class MockPendingRecording extends _i1.Mock implements _i8.PendingRecording {
           ),
         )),
         returnValueForMissingStub:
-            _i14.Future<_i9.Recording>.value(_FakeRecording_8(
+            _i14.Future<_i9.Recording>.value(_FakeRecording_9(
           this,
           Invocation.method(
             #start,
@@ -763,7 +809,7 @@ class MockVideoCapture extends _i1.Mock implements _i27.VideoCapture {
           #getOutput,
           [],
         ),
-        returnValue: _i14.Future<_i10.Recorder>.value(_FakeRecorder_9(
+        returnValue: _i14.Future<_i10.Recorder>.value(_FakeRecorder_10(
           this,
           Invocation.method(
             #getOutput,
@@ -771,7 +817,7 @@ class MockVideoCapture extends _i1.Mock implements _i27.VideoCapture {
           ),
         )),
         returnValueForMissingStub:
-            _i14.Future<_i10.Recorder>.value(_FakeRecorder_9(
+            _i14.Future<_i10.Recorder>.value(_FakeRecorder_10(
           this,
           Invocation.method(
             #getOutput,
@@ -788,11 +834,11 @@ class MockBuildContext extends _i1.Mock implements _i11.BuildContext {
   @override
   _i11.Widget get widget => (super.noSuchMethod(
         Invocation.getter(#widget),
-        returnValue: _FakeWidget_10(
+        returnValue: _FakeWidget_11(
           this,
           Invocation.getter(#widget),
         ),
-        returnValueForMissingStub: _FakeWidget_10(
+        returnValueForMissingStub: _FakeWidget_11(
           this,
           Invocation.getter(#widget),
         ),
@@ -820,7 +866,7 @@ class MockBuildContext extends _i1.Mock implements _i11.BuildContext {
           [ancestor],
           {#aspect: aspect},
         ),
-        returnValue: _FakeInheritedWidget_11(
+        returnValue: _FakeInheritedWidget_12(
           this,
           Invocation.method(
             #dependOnInheritedElement,
@@ -828,7 +874,7 @@ class MockBuildContext extends _i1.Mock implements _i11.BuildContext {
             {#aspect: aspect},
           ),
         ),
-        returnValueForMissingStub: _FakeInheritedWidget_11(
+        returnValueForMissingStub: _FakeInheritedWidget_12(
           this,
           Invocation.method(
             #dependOnInheritedElement,
@@ -874,7 +920,7 @@ class MockBuildContext extends _i1.Mock implements _i11.BuildContext {
           [name],
           {#style: style},
         ),
-        returnValue: _FakeDiagnosticsNode_12(
+        returnValue: _FakeDiagnosticsNode_13(
           this,
           Invocation.method(
             #describeElement,
@@ -882,7 +928,7 @@ class MockBuildContext extends _i1.Mock implements _i11.BuildContext {
             {#style: style},
           ),
         ),
-        returnValueForMissingStub: _FakeDiagnosticsNode_12(
+        returnValueForMissingStub: _FakeDiagnosticsNode_13(
           this,
           Invocation.method(
             #describeElement,
@@ -902,7 +948,7 @@ class MockBuildContext extends _i1.Mock implements _i11.BuildContext {
           [name],
           {#style: style},
         ),
-        returnValue: _FakeDiagnosticsNode_12(
+        returnValue: _FakeDiagnosticsNode_13(
           this,
           Invocation.method(
             #describeWidget,
@@ -910,7 +956,7 @@ class MockBuildContext extends _i1.Mock implements _i11.BuildContext {
             {#style: style},
           ),
         ),
-        returnValueForMissingStub: _FakeDiagnosticsNode_12(
+        returnValueForMissingStub: _FakeDiagnosticsNode_13(
           this,
           Invocation.method(
             #describeWidget,
@@ -938,14 +984,14 @@ class MockBuildContext extends _i1.Mock implements _i11.BuildContext {
           #describeOwnershipChain,
           [name],
         ),
-        returnValue: _FakeDiagnosticsNode_12(
+        returnValue: _FakeDiagnosticsNode_13(
           this,
           Invocation.method(
             #describeOwnershipChain,
             [name],
           ),
         ),
-        returnValueForMissingStub: _FakeDiagnosticsNode_12(
+        returnValueForMissingStub: _FakeDiagnosticsNode_13(
           this,
           Invocation.method(
             #describeOwnershipChain,
@@ -968,6 +1014,28 @@ class MockTestInstanceManagerHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+  @override
+  _i6.InstanceManagerStatsData getStats() => (super.noSuchMethod(
+        Invocation.method(
+          #getStats,
+          [],
+        ),
+        returnValue: _FakeInstanceManagerStatsData_14(
+          this,
+          Invocation.method(
+            #getStats,
+            [],
+          ),
+        ),
+      ) as _i6.InstanceManagerStatsData);
+  @override
+  void setStatsLogInterval(int? intervalMillis) => super.noSuchMethod(
+        Invocation.method(
+          #setStatsLogInterval,
+          [intervalMillis],
+        ),
+        returnValueForMissingStub: null,
+      );
 }
 
 /// A class which mocks [TestSystemServicesHostApi].
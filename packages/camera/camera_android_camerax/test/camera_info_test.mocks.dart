@@ -5,15 +5,16 @@
 // @dart=2.19
 
 // ignore_for_file: no_leading_underscores_for_library_prefixes
-import 'dart:async' as _i5;
+import 'dart:async' as _i6;
 
-import 'package:camera_android_camerax/src/camera_state.dart' as _i4;
-import 'package:camera_android_camerax/src/live_data.dart' as _i3;
-import 'package:camera_android_camerax/src/observer.dart' as _i6;
-import 'package:camera_android_camerax/src/zoom_state.dart' as _i7;
+import 'package:camera_android_camerax/src/camera_state.dart' as _i5;
+import 'package:camera_android_camerax/src/camerax_library.g.dart' as _i2;
+import 'package:camera_android_camerax/src/live_data.dart' as _i4;
+import 'package:camera_android_camerax/src/observer.dart' as _i7;
+import 'package:camera_android_camerax/src/zoom_state.dart' as _i8;
 import 'package:mockito/mockito.dart' as _i1;
 
-import 'test_camerax_library.g.dart' as _i2;
+import 'test_camerax_library.g.dart' as _i3;
 
 // ignore_for_file: type=lint
 // ignore_for_file: avoid_redundant_argument_values
@@ -26,11 +27,22 @@ import 'test_camerax_library.g.dart' as _i2;
 // ignore_for_file: camel_case_types
 // ignore_for_file: subtype_of_sealed_class
 
+class _FakeInstanceManagerStatsData_0 extends _i1.SmartFake
+    implements _i2.InstanceManagerStatsData {
+  _FakeInstanceManagerStatsData_0(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
 /// A class which mocks [TestCameraInfoHostApi].
 ///
 /// See the documentation for Mockito's code generation for more information.
 class MockTestCameraInfoHostApi extends _i1.Mock
-    implements _i2.TestCameraInfoHostApi {
+    implements _i3.TestCameraInfoHostApi {
   MockTestCameraInfoHostApi() {
     _i1.throwOnMissingStub(this);
   }
@@ -73,7 +85,7 @@ class MockTestCameraInfoHostApi extends _i1.Mock
 ///
 /// See the documentation for Mockito's code generation for more information.
 class MockTestInstanceManagerHostApi extends _i1.Mock
-    implements _i2.TestInstanceManagerHostApi {
+    implements _i3.TestInstanceManagerHostApi {
   MockTestInstanceManagerHostApi() {
     _i1.throwOnMissingStub(this);
   }
@@ -86,6 +98,28 @@ class MockTestInstanceManagerHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+  @override
+  _i2.InstanceManagerStatsData getStats() => (super.noSuchMethod(
+        Invocation.method(
+          #getStats,
+          [],
+        ),
+        returnValue: _FakeInstanceManagerStatsData_0(
+          this,
+          Invocation.method(
+            #getStats,
+            [],
+          ),
+        ),
+      ) as _i2.InstanceManagerStatsData);
+  @override
+  void setStatsLogInterval(int? intervalMillis) => super.noSuchMethod(
+        Invocation.method(
+          #setStatsLogInterval,
+          [intervalMillis],
+        ),
+        returnValueForMissingStub: null,
+      );
 }
 
 /// A class which mocks [LiveData].
@@ -93,30 +127,30 @@ class MockTestInstanceManagerHostApi extends _i1.Mock
 /// See the documentation for Mockito's code generation for more information.
 // ignore: must_be_immutable
 class MockLiveCameraState extends _i1.Mock
-    implements _i3.LiveData<_i4.CameraState> {
+    implements _i4.LiveData<_i5.CameraState> {
   MockLiveCameraState() {
     _i1.throwOnMissingStub(this);
   }
 
   @override
-  _i5.Future<void> observe(_i6.Observer<_i4.CameraState>? observer) =>
+  _i6.Future<void> observe(_i7.Observer<_i5.CameraState>? observer) =>
       (super.noSuchMethod(
         Invocation.method(
           #observe,
           [observer],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
   @override
-  _i5.Future<void> removeObservers() => (super.noSuchMethod(
+  _i6.Future<void> removeObservers() => (super.noSuchMethod(
         Invocation.method(
           #removeObservers,
           [],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 }
 
 /// A class which mocks [LiveData].
@@ -124,28 +158,28 @@ class MockLiveCameraState extends _i1.Mock
 /// See the documentation for Mockito's code generation for more information.
 // ignore: must_be_immutable
 class MockLiveZoomState extends _i1.Mock
-    implements _i3.LiveData<_i7.ZoomState> {
+    implements _i4.LiveData<_i8.ZoomState> {
   MockLiveZoomState() {
     _i1.throwOnMissingStub(this);
   }
 
   @override
-  _i5.Future<void> observe(_i6.Observer<_i7.ZoomState>? observer) =>
+  _i6.Future<void> observe(_i7.Observer<_i8.ZoomState>? observer) =>
       (super.noSuchMethod(
         Invocation.method(
           #observe,
           [observer],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
   @override
-  _i5.Future<void> removeObservers() => (super.noSuchMethod(
+  _i6.Future<void> removeObservers() => (super.noSuchMethod(
         Invocation.method(
           #removeObservers,
           [],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 }
@@ -5,9 +5,10 @@
 // @dart=2.19
 
 // ignore_for_file: no_leading_underscores_for_library_prefixes
+import 'package:camera_android_camerax/src/camerax_library.g.dart' as _i2;
 import 'package:mockito/mockito.dart' as _i1;
 
-import 'test_camerax_library.g.dart' as _i2;
+import 'test_camerax_library.g.dart' as _i3;
 
 // ignore_for_file: type=lint
 // ignore_for_file: avoid_redundant_argument_values
@@ -20,11 +21,22 @@ import 'test_camerax_library.g.dart' as _i2;
 // ignore_for_file: camel_case_types
 // ignore_for_file: subtype_of_sealed_class
 
+class _FakeInstanceManagerStatsData_0 extends _i1.SmartFake
+    implements _i2.InstanceManagerStatsData {
+  _FakeInstanceManagerStatsData_0(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
 /// A class which mocks [TestCameraSelectorHostApi].
 ///
 /// See the documentation for Mockito's code generation for more information.
 class MockTestCameraSelectorHostApi extends _i1.Mock
-    implements _i2.TestCameraSelectorHostApi {
+    implements _i3.TestCameraSelectorHostApi {
   MockTestCameraSelectorHostApi() {
     _i1.throwOnMissingStub(this);
   }
@@ -65,7 +77,7 @@ class MockTestCameraSelectorHostApi extends _i1.Mock
 ///
 /// See the documentation for Mockito's code generation for more information.
 class MockTestInstanceManagerHostApi extends _i1.Mock
-    implements _i2.TestInstanceManagerHostApi {
+    implements _i3.TestInstanceManagerHostApi {
   MockTestInstanceManagerHostApi() {
     _i1.throwOnMissingStub(this);
   }
@@ -78,4 +90,26 @@ class MockTestInstanceManagerHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+  @override
+  _i2.InstanceManagerStatsData getStats() => (super.noSuchMethod(
+        Invocation.method(
+          #getStats,
+          [],
+        ),
+        returnValue: _FakeInstanceManagerStatsData_0(
+          this,
+          Invocation.method(
+            #getStats,
+            [],
+          ),
+        ),
+      ) as _i2.InstanceManagerStatsData);
+  @override
+  void setStatsLogInterval(int? intervalMillis) => super.noSuchMethod(
+        Invocation.method(
+          #setStatsLogInterval,
+          [intervalMillis],
+        ),
+        returnValueForMissingStub: null,
+      );
 }
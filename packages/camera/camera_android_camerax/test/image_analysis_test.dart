@@ -56,7 +56,63 @@ void main() {
 
       verify(mockApi.create(
           argThat(equals(instanceManager.getIdentifier(instance))),
-          argThat(equals(mockResolutionSelectorId))));
+          argThat(equals(mockResolutionSelectorId)),
+          null,
+          null,
+          null,
+          null,
+          null));
+    });
+
+    test('create passes analysis options to the Java side', () {
+      final MockTestImageAnalysisHostApi mockApi =
+          MockTestImageAnalysisHostApi();
+      TestImageAnalysisHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+
+      final ImageAnalysis instance = ImageAnalysis(
+        backpressureStrategy: ImageAnalysis.strategyBlockProducer,
+        imageQueueDepth: 4,
+        analyzerThreadCount: 2,
+        instanceManager: instanceManager,
+      );
+
+      verify(mockApi.create(
+          argThat(equals(instanceManager.getIdentifier(instance))),
+          null,
+          ImageAnalysis.strategyBlockProducer,
+          4,
+          2,
+          null,
+          null));
+    });
+
+    test('create passes output image options to the Java side', () {
+      final MockTestImageAnalysisHostApi mockApi =
+          MockTestImageAnalysisHostApi();
+      TestImageAnalysisHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+
+      final ImageAnalysis instance = ImageAnalysis(
+        outputImageFormat: ImageAnalysis.outputImageFormatRgba8888,
+        outputImageRotationEnabled: true,
+        instanceManager: instanceManager,
+      );
+
+      verify(mockApi.create(
+          argThat(equals(instanceManager.getIdentifier(instance))),
+          null,
+          null,
+          null,
+          null,
+          ImageAnalysis.outputImageFormatRgba8888,
+          true));
     });
 
     test('setAnalyzer makes call to set analyzer on ImageAnalysis instance',
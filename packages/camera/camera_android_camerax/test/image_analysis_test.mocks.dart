@@ -5,10 +5,11 @@
 // @dart=2.19
 
 // ignore_for_file: no_leading_underscores_for_library_prefixes
-import 'package:camera_android_camerax/src/resolution_selector.dart' as _i3;
+import 'package:camera_android_camerax/src/camerax_library.g.dart' as _i2;
+import 'package:camera_android_camerax/src/resolution_selector.dart' as _i4;
 import 'package:mockito/mockito.dart' as _i1;
 
-import 'test_camerax_library.g.dart' as _i2;
+import 'test_camerax_library.g.dart' as _i3;
 
 // ignore_for_file: type=lint
 // ignore_for_file: avoid_redundant_argument_values
@@ -21,11 +22,22 @@ import 'test_camerax_library.g.dart' as _i2;
 // ignore_for_file: camel_case_types
 // ignore_for_file: subtype_of_sealed_class
 
+class _FakeInstanceManagerStatsData_0 extends _i1.SmartFake
+    implements _i2.InstanceManagerStatsData {
+  _FakeInstanceManagerStatsData_0(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
 /// A class which mocks [TestImageAnalysisHostApi].
 ///
 /// See the documentation for Mockito's code generation for more information.
 class MockTestImageAnalysisHostApi extends _i1.Mock
-    implements _i2.TestImageAnalysisHostApi {
+    implements _i3.TestImageAnalysisHostApi {
   MockTestImageAnalysisHostApi() {
     _i1.throwOnMissingStub(this);
   }
@@ -34,6 +46,11 @@ class MockTestImageAnalysisHostApi extends _i1.Mock
   void create(
     int? identifier,
     int? resolutionSelectorId,
+    int? backpressureStrategy,
+    int? imageQueueDepth,
+    int? analyzerThreadCount,
+    int? outputImageFormat,
+    bool? outputImageRotationEnabled,
   ) =>
       super.noSuchMethod(
         Invocation.method(
@@ -41,6 +58,11 @@ class MockTestImageAnalysisHostApi extends _i1.Mock
           [
             identifier,
             resolutionSelectorId,
+            backpressureStrategy,
+            imageQueueDepth,
+            analyzerThreadCount,
+            outputImageFormat,
+            outputImageRotationEnabled,
           ],
         ),
         returnValueForMissingStub: null,
@@ -74,7 +96,7 @@ class MockTestImageAnalysisHostApi extends _i1.Mock
 ///
 /// See the documentation for Mockito's code generation for more information.
 class MockTestInstanceManagerHostApi extends _i1.Mock
-    implements _i2.TestInstanceManagerHostApi {
+    implements _i3.TestInstanceManagerHostApi {
   MockTestInstanceManagerHostApi() {
     _i1.throwOnMissingStub(this);
   }
@@ -87,6 +109,28 @@ class MockTestInstanceManagerHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+  @override
+  _i2.InstanceManagerStatsData getStats() => (super.noSuchMethod(
+        Invocation.method(
+          #getStats,
+          [],
+        ),
+        returnValue: _FakeInstanceManagerStatsData_0(
+          this,
+          Invocation.method(
+            #getStats,
+            [],
+          ),
+        ),
+      ) as _i2.InstanceManagerStatsData);
+  @override
+  void setStatsLogInterval(int? intervalMillis) => super.noSuchMethod(
+        Invocation.method(
+          #setStatsLogInterval,
+          [intervalMillis],
+        ),
+        returnValueForMissingStub: null,
+      );
 }
 
 /// A class which mocks [ResolutionSelector].
@@ -94,7 +138,7 @@ class MockTestInstanceManagerHostApi extends _i1.Mock
 /// See the documentation for Mockito's code generation for more information.
 // ignore: must_be_immutable
 class MockResolutionSelector extends _i1.Mock
-    implements _i3.ResolutionSelector {
+    implements _i4.ResolutionSelector {
   MockResolutionSelector() {
     _i1.throwOnMissingStub(this);
   }
@@ -2,6 +2,9 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:typed_data';
+
+import 'package:camera_android_camerax/src/camerax_library.g.dart';
 import 'package:camera_android_camerax/src/image_capture.dart';
 import 'package:camera_android_camerax/src/instance_manager.dart';
 import 'package:camera_android_camerax/src/resolution_selector.dart';
@@ -40,7 +43,7 @@ void main() {
       );
 
       verifyNever(mockApi.create(argThat(isA<int>()), argThat(isA<int>()),
-          argThat(isA<ResolutionSelector>())));
+          argThat(isA<ResolutionSelector>()), argThat(isA<int>())));
     });
 
     test('create calls create on the Java side', () async {
@@ -51,6 +54,7 @@ void main() {
         onWeakReferenceRemoved: (_) {},
       );
       const int targetFlashMode = ImageCapture.flashModeAuto;
+      const int targetCaptureMode = ImageCapture.captureModeZeroShutterLag;
       final MockResolutionSelector mockResolutionSelector =
           MockResolutionSelector();
       const int mockResolutionSelectorId = 24;
@@ -65,12 +69,14 @@ void main() {
         instanceManager: instanceManager,
         targetFlashMode: targetFlashMode,
         resolutionSelector: mockResolutionSelector,
+        targetCaptureMode: targetCaptureMode,
       );
 
       verify(mockApi.create(
           argThat(isA<int>()),
           argThat(equals(targetFlashMode)),
-          argThat(equals(mockResolutionSelectorId))));
+          argThat(equals(mockResolutionSelectorId)),
+          argThat(equals(targetCaptureMode))));
     });
 
     test('setFlashMode makes call to set flash mode for ImageCapture instance',
@@ -119,5 +125,34 @@ void main() {
       expect(await imageCapture.takePicture(), equals(expectedPicturePath));
       verify(mockApi.takePicture(instanceManager.getIdentifier(imageCapture)));
     });
+
+    test('takePictureToMemory makes call to capture still image in memory',
+        () async {
+      final MockTestImageCaptureHostApi mockApi = MockTestImageCaptureHostApi();
+      TestImageCaptureHostApi.setup(mockApi);
+
+      final CapturedImageData expectedImage = CapturedImageData(
+          bytes: Uint8List.fromList(<int>[1, 2, 3]), rotationDegrees: 90);
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+      final ImageCapture imageCapture = ImageCapture.detached(
+        instanceManager: instanceManager,
+      );
+      instanceManager.addHostCreatedInstance(
+        imageCapture,
+        0,
+        onCopy: (_) => ImageCapture.detached(),
+      );
+
+      when(mockApi
+              .takePictureToMemory(instanceManager.getIdentifier(imageCapture)))
+          .thenAnswer((_) async => expectedImage);
+      final CapturedImageData image = await imageCapture.takePictureToMemory();
+      expect(image.bytes, equals(expectedImage.bytes));
+      expect(image.rotationDegrees, equals(expectedImage.rotationDegrees));
+      verify(mockApi
+          .takePictureToMemory(instanceManager.getIdentifier(imageCapture)));
+    });
   });
 }
@@ -5,12 +5,13 @@
 // @dart=2.19
 
 // ignore_for_file: no_leading_underscores_for_library_prefixes
-import 'dart:async' as _i3;
+import 'dart:async' as _i4;
 
-import 'package:camera_android_camerax/src/resolution_selector.dart' as _i4;
+import 'package:camera_android_camerax/src/camerax_library.g.dart' as _i2;
+import 'package:camera_android_camerax/src/resolution_selector.dart' as _i5;
 import 'package:mockito/mockito.dart' as _i1;
 
-import 'test_camerax_library.g.dart' as _i2;
+import 'test_camerax_library.g.dart' as _i3;
 
 // ignore_for_file: type=lint
 // ignore_for_file: avoid_redundant_argument_values
@@ -23,11 +24,33 @@ import 'test_camerax_library.g.dart' as _i2;
 // ignore_for_file: camel_case_types
 // ignore_for_file: subtype_of_sealed_class
 
+class _FakeCapturedImageData_0 extends _i1.SmartFake
+    implements _i2.CapturedImageData {
+  _FakeCapturedImageData_0(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
+class _FakeInstanceManagerStatsData_1 extends _i1.SmartFake
+    implements _i2.InstanceManagerStatsData {
+  _FakeInstanceManagerStatsData_1(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
 /// A class which mocks [TestImageCaptureHostApi].
 ///
 /// See the documentation for Mockito's code generation for more information.
 class MockTestImageCaptureHostApi extends _i1.Mock
-    implements _i2.TestImageCaptureHostApi {
+    implements _i3.TestImageCaptureHostApi {
   MockTestImageCaptureHostApi() {
     _i1.throwOnMissingStub(this);
   }
@@ -37,6 +60,7 @@ class MockTestImageCaptureHostApi extends _i1.Mock
     int? identifier,
     int? flashMode,
     int? resolutionSelectorId,
+    int? captureMode,
   ) =>
       super.noSuchMethod(
         Invocation.method(
@@ -45,6 +69,7 @@ class MockTestImageCaptureHostApi extends _i1.Mock
             identifier,
             flashMode,
             resolutionSelectorId,
+            captureMode,
           ],
         ),
         returnValueForMissingStub: null,
@@ -65,20 +90,36 @@ class MockTestImageCaptureHostApi extends _i1.Mock
         returnValueForMissingStub: null,
       );
   @override
-  _i3.Future<String> takePicture(int? identifier) => (super.noSuchMethod(
+  _i4.Future<String> takePicture(int? identifier) => (super.noSuchMethod(
         Invocation.method(
           #takePicture,
           [identifier],
         ),
-        returnValue: _i3.Future<String>.value(''),
-      ) as _i3.Future<String>);
+        returnValue: _i4.Future<String>.value(''),
+      ) as _i4.Future<String>);
+  @override
+  _i4.Future<_i2.CapturedImageData> takePictureToMemory(int? identifier) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #takePictureToMemory,
+          [identifier],
+        ),
+        returnValue:
+            _i4.Future<_i2.CapturedImageData>.value(_FakeCapturedImageData_0(
+          this,
+          Invocation.method(
+            #takePictureToMemory,
+            [identifier],
+          ),
+        )),
+      ) as _i4.Future<_i2.CapturedImageData>);
 }
 
 /// A class which mocks [TestInstanceManagerHostApi].
 ///
 /// See the documentation for Mockito's code generation for more information.
 class MockTestInstanceManagerHostApi extends _i1.Mock
-    implements _i2.TestInstanceManagerHostApi {
+    implements _i3.TestInstanceManagerHostApi {
   MockTestInstanceManagerHostApi() {
     _i1.throwOnMissingStub(this);
   }
@@ -91,6 +132,28 @@ class MockTestInstanceManagerHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+  @override
+  _i2.InstanceManagerStatsData getStats() => (super.noSuchMethod(
+        Invocation.method(
+          #getStats,
+          [],
+        ),
+        returnValue: _FakeInstanceManagerStatsData_1(
+          this,
+          Invocation.method(
+            #getStats,
+            [],
+          ),
+        ),
+      ) as _i2.InstanceManagerStatsData);
+  @override
+  void setStatsLogInterval(int? intervalMillis) => super.noSuchMethod(
+        Invocation.method(
+          #setStatsLogInterval,
+          [intervalMillis],
+        ),
+        returnValueForMissingStub: null,
+      );
 }
 
 /// A class which mocks [ResolutionSelector].
@@ -98,7 +161,7 @@ class MockTestInstanceManagerHostApi extends _i1.Mock
 /// See the documentation for Mockito's code generation for more information.
 // ignore: must_be_immutable
 class MockResolutionSelector extends _i1.Mock
-    implements _i4.ResolutionSelector {
+    implements _i5.ResolutionSelector {
   MockResolutionSelector() {
     _i1.throwOnMissingStub(this);
   }
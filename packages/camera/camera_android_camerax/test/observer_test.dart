@@ -6,6 +6,7 @@ import 'package:camera_android_camerax/src/camera_state.dart';
 import 'package:camera_android_camerax/src/camerax_library.g.dart';
 import 'package:camera_android_camerax/src/instance_manager.dart';
 import 'package:camera_android_camerax/src/observer.dart';
+import 'package:camera_android_camerax/src/zoom_state.dart';
 import 'package:flutter_test/flutter_test.dart';
 import 'package:mockito/annotations.dart';
 import 'package:mockito/mockito.dart';
@@ -43,6 +44,29 @@ void main() {
       ));
     });
 
+    test(
+        'HostApi createCoalescing makes call to create coalescing Observer instance',
+        () {
+      final MockTestObserverHostApi mockApi = MockTestObserverHostApi();
+      TestObserverHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+
+      final Observer<dynamic> instance = Observer<dynamic>(
+        instanceManager: instanceManager,
+        onChanged: (Object value) {},
+        coalesceIntervalMillis: 0,
+      );
+
+      verify(mockApi.createCoalescing(
+        instanceManager.getIdentifier(instance),
+        0,
+      ));
+      verifyNever(mockApi.create(any));
+    });
+
     test(
         'HostAPI create makes Observer instance that throws assertion error if onChanged receives unexpected parameter type',
         () {
@@ -110,5 +134,87 @@ void main() {
 
       expect(callbackParameter, value);
     });
+
+    test(
+        'FlutterAPI onCameraStateChanged passes plain CameraState to Observer instance onChanged callback',
+        () {
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+
+      const int instanceIdentifier = 0;
+      late final Object? callbackParameter;
+      final Observer<CameraState> instance = Observer<CameraState>.detached(
+        onChanged: (Object value) {
+          callbackParameter = value;
+        },
+        instanceManager: instanceManager,
+      );
+      instanceManager.addHostCreatedInstance(
+        instance,
+        instanceIdentifier,
+        onCopy: (Observer<CameraState> original) =>
+            Observer<CameraState>.detached(
+          onChanged: original.onChanged,
+          instanceManager: instanceManager,
+        ),
+      );
+
+      final ObserverFlutterApiImpl flutterApi = ObserverFlutterApiImpl(
+        instanceManager: instanceManager,
+      );
+
+      flutterApi.onCameraStateChanged(
+        instanceIdentifier,
+        CameraStateData(
+          type: CameraStateType.closed,
+          errorCode: CameraState.errorCameraInUse,
+        ),
+      );
+
+      final CameraState cameraState = callbackParameter! as CameraState;
+      expect(cameraState.type, equals(CameraStateType.closed));
+      expect(cameraState.error!.code, equals(CameraState.errorCameraInUse));
+      expect(instanceManager.getIdentifier(cameraState), isNull);
+    });
+
+    test(
+        'FlutterAPI onZoomStateChanged passes plain ZoomState to Observer instance onChanged callback',
+        () {
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+
+      const int instanceIdentifier = 0;
+      late final Object? callbackParameter;
+      final Observer<ZoomState> instance = Observer<ZoomState>.detached(
+        onChanged: (Object value) {
+          callbackParameter = value;
+        },
+        instanceManager: instanceManager,
+      );
+      instanceManager.addHostCreatedInstance(
+        instance,
+        instanceIdentifier,
+        onCopy: (Observer<ZoomState> original) => Observer<ZoomState>.detached(
+          onChanged: original.onChanged,
+          instanceManager: instanceManager,
+        ),
+      );
+
+      final ObserverFlutterApiImpl flutterApi = ObserverFlutterApiImpl(
+        instanceManager: instanceManager,
+      );
+
+      flutterApi.onZoomStateChanged(
+        instanceIdentifier,
+        ZoomStateData(minZoomRatio: 1, maxZoomRatio: 8),
+      );
+
+      final ZoomState zoomState = callbackParameter! as ZoomState;
+      expect(zoomState.minZoomRatio, equals(1));
+      expect(zoomState.maxZoomRatio, equals(8));
+      expect(instanceManager.getIdentifier(zoomState), isNull);
+    });
   });
 }
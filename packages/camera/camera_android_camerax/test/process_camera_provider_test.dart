@@ -5,6 +5,7 @@
 import 'package:camera_android_camerax/src/camera.dart';
 import 'package:camera_android_camerax/src/camera_info.dart';
 import 'package:camera_android_camerax/src/camera_selector.dart';
+import 'package:camera_android_camerax/src/camerax_library.g.dart';
 import 'package:camera_android_camerax/src/instance_manager.dart';
 import 'package:camera_android_camerax/src/process_camera_provider.dart';
 import 'package:camera_android_camerax/src/use_case.dart';
@@ -133,6 +134,80 @@ void main() {
       verify(mockApi.bindToLifecycle(0, 1, <int>[2]));
     });
 
+    test('openCamera binds use cases and returns instances and timings',
+        () async {
+      final MockTestProcessCameraProviderHostApi mockApi =
+          MockTestProcessCameraProviderHostApi();
+      TestProcessCameraProviderHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+      final ProcessCameraProvider processCameraProvider =
+          ProcessCameraProvider.detached(
+        instanceManager: instanceManager,
+      );
+      final CameraSelector fakeCameraSelector =
+          CameraSelector.detached(instanceManager: instanceManager);
+      final UseCase fakeUseCase =
+          UseCase.detached(instanceManager: instanceManager);
+      final Camera fakeCamera =
+          Camera.detached(instanceManager: instanceManager);
+      final CameraInfo fakeCameraInfo =
+          CameraInfo.detached(instanceManager: instanceManager);
+
+      instanceManager.addHostCreatedInstance(
+        processCameraProvider,
+        0,
+        onCopy: (_) => ProcessCameraProvider.detached(),
+      );
+      instanceManager.addHostCreatedInstance(
+        fakeCameraSelector,
+        1,
+        onCopy: (_) => CameraSelector.detached(),
+      );
+      instanceManager.addHostCreatedInstance(
+        fakeUseCase,
+        2,
+        onCopy: (_) => UseCase.detached(),
+      );
+      instanceManager.addHostCreatedInstance(
+        fakeCamera,
+        3,
+        onCopy: (_) => Camera.detached(),
+      );
+      instanceManager.addHostCreatedInstance(
+        fakeCameraInfo,
+        4,
+        onCopy: (_) => CameraInfo.detached(),
+      );
+
+      when(mockApi.openCamera(1, <int>[2])).thenAnswer((_) async =>
+          OpenCameraResultData(
+              processCameraProviderIdentifier: 0,
+              cameraIdentifier: 3,
+              cameraInfoIdentifier: 4,
+              providerInitializationMillis: 120,
+              providerWaitMillis: 15,
+              bindMillis: 40,
+              totalMillis: 55));
+
+      final OpenCameraResult result = await ProcessCameraProvider.openCamera(
+          fakeCameraSelector, <UseCase>[fakeUseCase],
+          instanceManager: instanceManager);
+
+      expect(result.processCameraProvider, equals(processCameraProvider));
+      expect(result.camera, equals(fakeCamera));
+      expect(result.cameraInfo, equals(fakeCameraInfo));
+      expect(result.providerInitializationDuration,
+          equals(const Duration(milliseconds: 120)));
+      expect(result.providerWaitDuration,
+          equals(const Duration(milliseconds: 15)));
+      expect(result.bindDuration, equals(const Duration(milliseconds: 40)));
+      expect(result.totalDuration, equals(const Duration(milliseconds: 55)));
+      verify(mockApi.openCamera(1, <int>[2]));
+    });
+
     test('isBoundTest', () async {
       final MockTestProcessCameraProviderHostApi mockApi =
           MockTestProcessCameraProviderHostApi();
@@ -5,11 +5,12 @@
 // @dart=2.19
 
 // ignore_for_file: no_leading_underscores_for_library_prefixes
-import 'dart:async' as _i3;
+import 'dart:async' as _i4;
 
+import 'package:camera_android_camerax/src/camerax_library.g.dart' as _i2;
 import 'package:mockito/mockito.dart' as _i1;
 
-import 'test_camerax_library.g.dart' as _i2;
+import 'test_camerax_library.g.dart' as _i3;
 
 // ignore_for_file: type=lint
 // ignore_for_file: avoid_redundant_argument_values
@@ -22,11 +23,33 @@ import 'test_camerax_library.g.dart' as _i2;
 // ignore_for_file: camel_case_types
 // ignore_for_file: subtype_of_sealed_class
 
+class _FakeOpenCameraResultData_0 extends _i1.SmartFake
+    implements _i2.OpenCameraResultData {
+  _FakeOpenCameraResultData_0(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
+class _FakeInstanceManagerStatsData_1 extends _i1.SmartFake
+    implements _i2.InstanceManagerStatsData {
+  _FakeInstanceManagerStatsData_1(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
 /// A class which mocks [TestInstanceManagerHostApi].
 ///
 /// See the documentation for Mockito's code generation for more information.
 class MockTestInstanceManagerHostApi extends _i1.Mock
-    implements _i2.TestInstanceManagerHostApi {
+    implements _i3.TestInstanceManagerHostApi {
   MockTestInstanceManagerHostApi() {
     _i1.throwOnMissingStub(this);
   }
@@ -39,25 +62,47 @@ class MockTestInstanceManagerHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+  @override
+  _i2.InstanceManagerStatsData getStats() => (super.noSuchMethod(
+        Invocation.method(
+          #getStats,
+          [],
+        ),
+        returnValue: _FakeInstanceManagerStatsData_1(
+          this,
+          Invocation.method(
+            #getStats,
+            [],
+          ),
+        ),
+      ) as _i2.InstanceManagerStatsData);
+  @override
+  void setStatsLogInterval(int? intervalMillis) => super.noSuchMethod(
+        Invocation.method(
+          #setStatsLogInterval,
+          [intervalMillis],
+        ),
+        returnValueForMissingStub: null,
+      );
 }
 
 /// A class which mocks [TestProcessCameraProviderHostApi].
 ///
 /// See the documentation for Mockito's code generation for more information.
 class MockTestProcessCameraProviderHostApi extends _i1.Mock
-    implements _i2.TestProcessCameraProviderHostApi {
+    implements _i3.TestProcessCameraProviderHostApi {
   MockTestProcessCameraProviderHostApi() {
     _i1.throwOnMissingStub(this);
   }
 
   @override
-  _i3.Future<int> getInstance() => (super.noSuchMethod(
+  _i4.Future<int> getInstance() => (super.noSuchMethod(
         Invocation.method(
           #getInstance,
           [],
         ),
-        returnValue: _i3.Future<int>.value(0),
-      ) as _i3.Future<int>);
+        returnValue: _i4.Future<int>.value(0),
+      ) as _i4.Future<int>);
   @override
   List<int?> getAvailableCameraInfos(int? identifier) => (super.noSuchMethod(
         Invocation.method(
@@ -121,4 +166,29 @@ class MockTestProcessCameraProviderHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+  @override
+  _i4.Future<_i2.OpenCameraResultData> openCamera(
+    int? cameraSelectorIdentifier,
+    List<int?>? useCaseIds,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #openCamera,
+          [
+            cameraSelectorIdentifier,
+            useCaseIds,
+          ],
+        ),
+        returnValue: _i4.Future<_i2.OpenCameraResultData>.value(
+            _FakeOpenCameraResultData_0(
+          this,
+          Invocation.method(
+            #openCamera,
+            [
+              cameraSelectorIdentifier,
+              useCaseIds,
+            ],
+          ),
+        )),
+      ) as _i4.Future<_i2.OpenCameraResultData>);
 }
@@ -5,11 +5,12 @@
 // @dart=2.19
 
 // ignore_for_file: no_leading_underscores_for_library_prefixes
-import 'package:camera_android_camerax/src/aspect_ratio_strategy.dart' as _i2;
-import 'package:camera_android_camerax/src/resolution_strategy.dart' as _i3;
+import 'package:camera_android_camerax/src/aspect_ratio_strategy.dart' as _i3;
+import 'package:camera_android_camerax/src/camerax_library.g.dart' as _i2;
+import 'package:camera_android_camerax/src/resolution_strategy.dart' as _i4;
 import 'package:mockito/mockito.dart' as _i1;
 
-import 'test_camerax_library.g.dart' as _i4;
+import 'test_camerax_library.g.dart' as _i5;
 
 // ignore_for_file: type=lint
 // ignore_for_file: avoid_redundant_argument_values
@@ -22,12 +23,23 @@ import 'test_camerax_library.g.dart' as _i4;
 // ignore_for_file: camel_case_types
 // ignore_for_file: subtype_of_sealed_class
 
+class _FakeInstanceManagerStatsData_0 extends _i1.SmartFake
+    implements _i2.InstanceManagerStatsData {
+  _FakeInstanceManagerStatsData_0(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
 /// A class which mocks [AspectRatioStrategy].
 ///
 /// See the documentation for Mockito's code generation for more information.
 // ignore: must_be_immutable
 class MockAspectRatioStrategy extends _i1.Mock
-    implements _i2.AspectRatioStrategy {
+    implements _i3.AspectRatioStrategy {
   MockAspectRatioStrategy() {
     _i1.throwOnMissingStub(this);
   }
@@ -49,7 +61,7 @@ class MockAspectRatioStrategy extends _i1.Mock
 /// See the documentation for Mockito's code generation for more information.
 // ignore: must_be_immutable
 class MockResolutionStrategy extends _i1.Mock
-    implements _i3.ResolutionStrategy {
+    implements _i4.ResolutionStrategy {
   MockResolutionStrategy() {
     _i1.throwOnMissingStub(this);
   }
@@ -59,7 +71,7 @@ class MockResolutionStrategy extends _i1.Mock
 ///
 /// See the documentation for Mockito's code generation for more information.
 class MockTestResolutionSelectorHostApi extends _i1.Mock
-    implements _i4.TestResolutionSelectorHostApi {
+    implements _i5.TestResolutionSelectorHostApi {
   MockTestResolutionSelectorHostApi() {
     _i1.throwOnMissingStub(this);
   }
@@ -87,7 +99,7 @@ class MockTestResolutionSelectorHostApi extends _i1.Mock
 ///
 /// See the documentation for Mockito's code generation for more information.
 class MockTestInstanceManagerHostApi extends _i1.Mock
-    implements _i4.TestInstanceManagerHostApi {
+    implements _i5.TestInstanceManagerHostApi {
   MockTestInstanceManagerHostApi() {
     _i1.throwOnMissingStub(this);
   }
@@ -100,4 +112,26 @@ class MockTestInstanceManagerHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+  @override
+  _i2.InstanceManagerStatsData getStats() => (super.noSuchMethod(
+        Invocation.method(
+          #getStats,
+          [],
+        ),
+        returnValue: _FakeInstanceManagerStatsData_0(
+          this,
+          Invocation.method(
+            #getStats,
+            [],
+          ),
+        ),
+      ) as _i2.InstanceManagerStatsData);
+  @override
+  void setStatsLogInterval(int? intervalMillis) => super.noSuchMethod(
+        Invocation.method(
+          #setStatsLogInterval,
+          [intervalMillis],
+        ),
+        returnValueForMissingStub: null,
+      );
 }
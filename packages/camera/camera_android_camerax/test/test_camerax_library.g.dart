@@ -13,16 +13,46 @@ import 'package:flutter_test/flutter_test.dart';
 
 import 'package:camera_android_camerax/src/camerax_library.g.dart';
 
+class _TestInstanceManagerHostApiCodec extends StandardMessageCodec {
+  const _TestInstanceManagerHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is InstanceManagerStatsData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return InstanceManagerStatsData.decode(readValue(buffer)!);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
 abstract class TestInstanceManagerHostApi {
   static TestDefaultBinaryMessengerBinding? get _testBinaryMessengerBinding =>
       TestDefaultBinaryMessengerBinding.instance;
-  static const MessageCodec<Object?> codec = StandardMessageCodec();
+  static const MessageCodec<Object?> codec = _TestInstanceManagerHostApiCodec();
 
   /// Clear the native `InstanceManager`.
   ///
   /// This is typically only used after a hot restart.
   void clear();
 
+  /// Counts the instances held by the native `InstanceManager`.
+  InstanceManagerStatsData getStats();
+
+  /// Logs the stats of the native `InstanceManager` every [intervalMillis]
+  /// milliseconds, or stops logging them when [intervalMillis] is 0.
+  void setStatsLogInterval(int intervalMillis);
+
   static void setup(TestInstanceManagerHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -42,6 +72,46 @@ abstract class TestInstanceManagerHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.InstanceManagerHostApi.getStats', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          // ignore message
+          final InstanceManagerStatsData output = api.getStats();
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.InstanceManagerHostApi.setStatsLogInterval',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.InstanceManagerHostApi.setStatsLogInterval was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_intervalMillis = (args[0] as int?);
+          assert(arg_intervalMillis != null,
+              'Argument for dev.flutter.pigeon.InstanceManagerHostApi.setStatsLogInterval was null, expected non-null int.');
+          api.setStatsLogInterval(arg_intervalMillis!);
+          return <Object?>[];
+        });
+      }
+    }
   }
 }
 
@@ -250,10 +320,34 @@ abstract class TestCameraSelectorHostApi {
   }
 }
 
+class _TestProcessCameraProviderHostApiCodec extends StandardMessageCodec {
+  const _TestProcessCameraProviderHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is OpenCameraResultData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return OpenCameraResultData.decode(readValue(buffer)!);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
 abstract class TestProcessCameraProviderHostApi {
   static TestDefaultBinaryMessengerBinding? get _testBinaryMessengerBinding =>
       TestDefaultBinaryMessengerBinding.instance;
-  static const MessageCodec<Object?> codec = StandardMessageCodec();
+  static const MessageCodec<Object?> codec =
+      _TestProcessCameraProviderHostApiCodec();
 
   Future<int> getInstance();
 
@@ -268,6 +362,9 @@ abstract class TestProcessCameraProviderHostApi {
 
   void unbindAll(int identifier);
 
+  Future<OpenCameraResultData> openCamera(
+      int cameraSelectorIdentifier, List<int?> useCaseIds);
+
   static void setup(TestProcessCameraProviderHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -416,6 +513,33 @@ abstract class TestProcessCameraProviderHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.ProcessCameraProviderHostApi.openCamera', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.ProcessCameraProviderHostApi.openCamera was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_cameraSelectorIdentifier = (args[0] as int?);
+          assert(arg_cameraSelectorIdentifier != null,
+              'Argument for dev.flutter.pigeon.ProcessCameraProviderHostApi.openCamera was null, expected non-null int.');
+          final List<int?>? arg_useCaseIds =
+              (args[1] as List<Object?>?)?.cast<int?>();
+          assert(arg_useCaseIds != null,
+              'Argument for dev.flutter.pigeon.ProcessCameraProviderHostApi.openCamera was null, expected non-null List<int?>.');
+          final OpenCameraResultData output = await api.openCamera(
+              arg_cameraSelectorIdentifier!, arg_useCaseIds!);
+          return <Object?>[output];
+        });
+      }
+    }
   }
 }
 
@@ -1030,17 +1154,43 @@ abstract class TestRecordingHostApi {
   }
 }
 
+class _TestImageCaptureHostApiCodec extends StandardMessageCodec {
+  const _TestImageCaptureHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is CapturedImageData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return CapturedImageData.decode(readValue(buffer)!);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
 abstract class TestImageCaptureHostApi {
   static TestDefaultBinaryMessengerBinding? get _testBinaryMessengerBinding =>
       TestDefaultBinaryMessengerBinding.instance;
-  static const MessageCodec<Object?> codec = StandardMessageCodec();
+  static const MessageCodec<Object?> codec = _TestImageCaptureHostApiCodec();
 
-  void create(int identifier, int? flashMode, int? resolutionSelectorId);
+  void create(int identifier, int? flashMode, int? resolutionSelectorId,
+      int? captureMode);
 
   void setFlashMode(int identifier, int flashMode);
 
   Future<String> takePicture(int identifier);
 
+  Future<CapturedImageData> takePictureToMemory(int identifier);
+
   static void setup(TestImageCaptureHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -1062,7 +1212,9 @@ abstract class TestImageCaptureHostApi {
               'Argument for dev.flutter.pigeon.ImageCaptureHostApi.create was null, expected non-null int.');
           final int? arg_flashMode = (args[1] as int?);
           final int? arg_resolutionSelectorId = (args[2] as int?);
-          api.create(arg_identifier!, arg_flashMode, arg_resolutionSelectorId);
+          final int? arg_captureMode = (args[3] as int?);
+          api.create(arg_identifier!, arg_flashMode, arg_resolutionSelectorId,
+              arg_captureMode);
           return <Object?>[];
         });
       }
@@ -1114,6 +1266,29 @@ abstract class TestImageCaptureHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.ImageCaptureHostApi.takePictureToMemory', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.ImageCaptureHostApi.takePictureToMemory was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.ImageCaptureHostApi.takePictureToMemory was null, expected non-null int.');
+          final CapturedImageData output =
+              await api.takePictureToMemory(arg_identifier!);
+          return <Object?>[output];
+        });
+      }
+    }
   }
 }
 
@@ -1261,7 +1436,14 @@ abstract class TestImageAnalysisHostApi {
       TestDefaultBinaryMessengerBinding.instance;
   static const MessageCodec<Object?> codec = StandardMessageCodec();
 
-  void create(int identifier, int? resolutionSelectorId);
+  void create(
+      int identifier,
+      int? resolutionSelectorId,
+      int? backpressureStrategy,
+      int? imageQueueDepth,
+      int? analyzerThreadCount,
+      int? outputImageFormat,
+      bool? outputImageRotationEnabled);
 
   void setAnalyzer(int identifier, int analyzerIdentifier);
 
@@ -1287,7 +1469,19 @@ abstract class TestImageAnalysisHostApi {
           assert(arg_identifier != null,
               'Argument for dev.flutter.pigeon.ImageAnalysisHostApi.create was null, expected non-null int.');
           final int? arg_resolutionSelectorId = (args[1] as int?);
-          api.create(arg_identifier!, arg_resolutionSelectorId);
+          final int? arg_backpressureStrategy = (args[2] as int?);
+          final int? arg_imageQueueDepth = (args[3] as int?);
+          final int? arg_analyzerThreadCount = (args[4] as int?);
+          final int? arg_outputImageFormat = (args[5] as int?);
+          final bool? arg_outputImageRotationEnabled = (args[6] as bool?);
+          api.create(
+              arg_identifier!,
+              arg_resolutionSelectorId,
+              arg_backpressureStrategy,
+              arg_imageQueueDepth,
+              arg_analyzerThreadCount,
+              arg_outputImageFormat,
+              arg_outputImageRotationEnabled);
           return <Object?>[];
         });
       }
@@ -1347,7 +1541,8 @@ abstract class TestAnalyzerHostApi {
       TestDefaultBinaryMessengerBinding.instance;
   static const MessageCodec<Object?> codec = StandardMessageCodec();
 
-  void create(int identifier);
+  void create(int identifier, bool deliverFrames, bool packNv21,
+      double? targetFrameRate, int? frameStride);
 
   static void setup(TestAnalyzerHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
@@ -1368,7 +1563,16 @@ abstract class TestAnalyzerHostApi {
           final int? arg_identifier = (args[0] as int?);
           assert(arg_identifier != null,
               'Argument for dev.flutter.pigeon.AnalyzerHostApi.create was null, expected non-null int.');
-          api.create(arg_identifier!);
+          final bool? arg_deliverFrames = (args[1] as bool?);
+          assert(arg_deliverFrames != null,
+              'Argument for dev.flutter.pigeon.AnalyzerHostApi.create was null, expected non-null bool.');
+          final bool? arg_packNv21 = (args[2] as bool?);
+          assert(arg_packNv21 != null,
+              'Argument for dev.flutter.pigeon.AnalyzerHostApi.create was null, expected non-null bool.');
+          final double? arg_targetFrameRate = (args[3] as double?);
+          final int? arg_frameStride = (args[4] as int?);
+          api.create(arg_identifier!, arg_deliverFrames!, arg_packNv21!,
+              arg_targetFrameRate, arg_frameStride);
           return <Object?>[];
         });
       }
@@ -1383,6 +1587,8 @@ abstract class TestObserverHostApi {
 
   void create(int identifier);
 
+  void createCoalescing(int identifier, int intervalMillis);
+
   static void setup(TestObserverHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -1407,6 +1613,31 @@ abstract class TestObserverHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.ObserverHostApi.createCoalescing', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.ObserverHostApi.createCoalescing was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.ObserverHostApi.createCoalescing was null, expected non-null int.');
+          final int? arg_intervalMillis = (args[1] as int?);
+          assert(arg_intervalMillis != null,
+              'Argument for dev.flutter.pigeon.ObserverHostApi.createCoalescing was null, expected non-null int.');
+          api.createCoalescing(arg_identifier!, arg_intervalMillis!);
+          return <Object?>[];
+        });
+      }
+    }
   }
 }
 
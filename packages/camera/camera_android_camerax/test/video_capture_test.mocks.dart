@@ -5,13 +5,14 @@
 // @dart=2.19
 
 // ignore_for_file: no_leading_underscores_for_library_prefixes
-import 'dart:async' as _i5;
+import 'dart:async' as _i6;
 
+import 'package:camera_android_camerax/src/camerax_library.g.dart' as _i3;
 import 'package:camera_android_camerax/src/pending_recording.dart' as _i2;
-import 'package:camera_android_camerax/src/recorder.dart' as _i4;
+import 'package:camera_android_camerax/src/recorder.dart' as _i5;
 import 'package:mockito/mockito.dart' as _i1;
 
-import 'test_camerax_library.g.dart' as _i3;
+import 'test_camerax_library.g.dart' as _i4;
 
 // ignore_for_file: type=lint
 // ignore_for_file: avoid_redundant_argument_values
@@ -35,11 +36,22 @@ class _FakePendingRecording_0 extends _i1.SmartFake
         );
 }
 
+class _FakeInstanceManagerStatsData_1 extends _i1.SmartFake
+    implements _i3.InstanceManagerStatsData {
+  _FakeInstanceManagerStatsData_1(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
 /// A class which mocks [TestVideoCaptureHostApi].
 ///
 /// See the documentation for Mockito's code generation for more information.
 class MockTestVideoCaptureHostApi extends _i1.Mock
-    implements _i3.TestVideoCaptureHostApi {
+    implements _i4.TestVideoCaptureHostApi {
   MockTestVideoCaptureHostApi() {
     _i1.throwOnMissingStub(this);
   }
@@ -66,7 +78,7 @@ class MockTestVideoCaptureHostApi extends _i1.Mock
 ///
 /// See the documentation for Mockito's code generation for more information.
 class MockTestInstanceManagerHostApi extends _i1.Mock
-    implements _i3.TestInstanceManagerHostApi {
+    implements _i4.TestInstanceManagerHostApi {
   MockTestInstanceManagerHostApi() {
     _i1.throwOnMissingStub(this);
   }
@@ -79,31 +91,53 @@ class MockTestInstanceManagerHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+  @override
+  _i3.InstanceManagerStatsData getStats() => (super.noSuchMethod(
+        Invocation.method(
+          #getStats,
+          [],
+        ),
+        returnValue: _FakeInstanceManagerStatsData_1(
+          this,
+          Invocation.method(
+            #getStats,
+            [],
+          ),
+        ),
+      ) as _i3.InstanceManagerStatsData);
+  @override
+  void setStatsLogInterval(int? intervalMillis) => super.noSuchMethod(
+        Invocation.method(
+          #setStatsLogInterval,
+          [intervalMillis],
+        ),
+        returnValueForMissingStub: null,
+      );
 }
 
 /// A class which mocks [Recorder].
 ///
 /// See the documentation for Mockito's code generation for more information.
 // ignore: must_be_immutable
-class MockRecorder extends _i1.Mock implements _i4.Recorder {
+class MockRecorder extends _i1.Mock implements _i5.Recorder {
   MockRecorder() {
     _i1.throwOnMissingStub(this);
   }
 
   @override
-  _i5.Future<_i2.PendingRecording> prepareRecording(String? path) =>
+  _i6.Future<_i2.PendingRecording> prepareRecording(String? path) =>
       (super.noSuchMethod(
         Invocation.method(
           #prepareRecording,
           [path],
         ),
         returnValue:
-            _i5.Future<_i2.PendingRecording>.value(_FakePendingRecording_0(
+            _i6.Future<_i2.PendingRecording>.value(_FakePendingRecording_0(
           this,
           Invocation.method(
             #prepareRecording,
             [path],
           ),
         )),
-      ) as _i5.Future<_i2.PendingRecording>);
+      ) as _i6.Future<_i2.PendingRecording>);
 }
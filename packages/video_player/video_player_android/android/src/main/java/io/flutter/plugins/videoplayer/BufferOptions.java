@@ -0,0 +1,65 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.DefaultLoadControl;
+import com.google.android.exoplayer2.LoadControl;
+
+/**
+ * How much media a player buffers. Durations are in milliseconds, and values that are not set keep
+ * the defaults of {@link DefaultLoadControl}.
+ */
+class BufferOptions {
+  @Nullable public Integer minBufferMs;
+  @Nullable public Integer maxBufferMs;
+  @Nullable public Integer bufferForPlaybackMs;
+  @Nullable public Integer bufferForPlaybackAfterRebufferMs;
+  @Nullable public Integer targetBufferBytes;
+  @Nullable public Integer backBufferMs;
+
+  /** Returns whether all values keep their defaults. */
+  boolean isDefault() {
+    return minBufferMs == null
+        && maxBufferMs == null
+        && bufferForPlaybackMs == null
+        && bufferForPlaybackAfterRebufferMs == null
+        && targetBufferBytes == null
+        && backBufferMs == null;
+  }
+
+  /**
+   * Builds a {@link LoadControl} with these options.
+   *
+   * @throws IllegalArgumentException if the durations are inconsistent, e.g. the minimum buffer
+   *     is shorter than the buffer required for playback.
+   */
+  @NonNull
+  LoadControl buildLoadControl() {
+    final DefaultLoadControl.Builder builder =
+        new DefaultLoadControl.Builder()
+            .setBufferDurationsMs(
+                valueOrDefault(minBufferMs, DefaultLoadControl.DEFAULT_MIN_BUFFER_MS),
+                valueOrDefault(maxBufferMs, DefaultLoadControl.DEFAULT_MAX_BUFFER_MS),
+                valueOrDefault(
+                    bufferForPlaybackMs, DefaultLoadControl.DEFAULT_BUFFER_FOR_PLAYBACK_MS),
+                valueOrDefault(
+                    bufferForPlaybackAfterRebufferMs,
+                    DefaultLoadControl.DEFAULT_BUFFER_FOR_PLAYBACK_AFTER_REBUFFER_MS));
+    if (targetBufferBytes != null) {
+      builder.setTargetBufferBytes(targetBufferBytes);
+    }
+    if (backBufferMs != null) {
+      builder.setBackBuffer(
+          backBufferMs, DefaultLoadControl.DEFAULT_RETAIN_BACK_BUFFER_FROM_KEYFRAME);
+    }
+    return builder.build();
+  }
+
+  private static int valueOrDefault(@Nullable Integer value, int defaultValue) {
+    return value == null ? defaultValue : value;
+  }
+}
@@ -0,0 +1,151 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.ExoPlayer;
+import com.google.android.exoplayer2.PlaybackParameters;
+import com.google.android.exoplayer2.Player;
+import java.util.ArrayDeque;
+
+/**
+ * Keeps the players of disposed videos so that they can be reused by new videos.
+ *
+ * <p>Building an {@link ExoPlayer} creates its renderers, codecs and loading threads, so reusing a
+ * player makes creating a video in a feed much cheaper. A returned player is reset to its defaults
+ * and detached from its surface. It is released if the pool is full or once it has been idle for
+ * the idle timeout.
+ *
+ * <p>The pool and its players must only be accessed from the main thread.
+ */
+final class ExoPlayerPool {
+  /** The default time an idle player is kept before it is released. */
+  static final long DEFAULT_IDLE_TIMEOUT_MS = 30000;
+
+  /** Creates the players of the pool. */
+  interface PlayerFactory {
+    @NonNull
+    ExoPlayer create();
+  }
+
+  private static final class IdlePlayer {
+    final ExoPlayer player;
+    final long idleSinceMs;
+
+    IdlePlayer(ExoPlayer player, long idleSinceMs) {
+      this.player = player;
+      this.idleSinceMs = idleSinceMs;
+    }
+  }
+
+  private final PlayerFactory playerFactory;
+  private final Handler handler;
+  private final Runnable releaseExpiredPlayers = this::releaseExpiredPlayers;
+
+  /** The idle players, with the most recently returned one first. */
+  private final ArrayDeque<IdlePlayer> idlePlayers = new ArrayDeque<>();
+
+  private int maxSize;
+  private long idleTimeoutMs = DEFAULT_IDLE_TIMEOUT_MS;
+
+  ExoPlayerPool(@NonNull Context context) {
+    this(() -> new ExoPlayer.Builder(context).build(), new Handler(Looper.getMainLooper()));
+  }
+
+  @VisibleForTesting
+  ExoPlayerPool(@NonNull PlayerFactory playerFactory, @NonNull Handler handler) {
+    this.playerFactory = playerFactory;
+    this.handler = handler;
+  }
+
+  /**
+   * Sets the limits of the pool.
+   *
+   * @param maxSize is the number of idle players kept, or 0 to release every returned player.
+   * @param idleTimeoutMs is the time an idle player is kept before it is released.
+   */
+  void setLimits(int maxSize, long idleTimeoutMs) {
+    if (maxSize < 0 || idleTimeoutMs < 0) {
+      throw new IllegalArgumentException("The limits of the pool must not be negative.");
+    }
+    this.maxSize = maxSize;
+    this.idleTimeoutMs = idleTimeoutMs;
+    while (idlePlayers.size() > maxSize) {
+      idlePlayers.removeLast().player.release();
+    }
+    handler.removeCallbacks(releaseExpiredPlayers);
+    releaseExpiredPlayers();
+  }
+
+  /** Returns an idle player, or a new player if the pool is empty. */
+  @NonNull
+  ExoPlayer acquire() {
+    final IdlePlayer idlePlayer = idlePlayers.pollFirst();
+    if (idlePlayer == null) {
+      return playerFactory.create();
+    }
+    if (idlePlayers.isEmpty()) {
+      handler.removeCallbacks(releaseExpiredPlayers);
+    }
+    return idlePlayer.player;
+  }
+
+  /**
+   * Returns a player that is no longer used, so that it can be reused.
+   *
+   * <p>The caller must have removed its listeners from the player.
+   */
+  void release(@NonNull ExoPlayer player) {
+    if (maxSize == 0) {
+      player.release();
+      return;
+    }
+
+    player.stop();
+    player.clearMediaItems();
+    player.clearVideoSurface();
+    player.setPlayWhenReady(false);
+    player.setRepeatMode(Player.REPEAT_MODE_OFF);
+    player.setVolume(1f);
+    player.setPlaybackParameters(PlaybackParameters.DEFAULT);
+
+    if (idlePlayers.size() == maxSize) {
+      idlePlayers.removeLast().player.release();
+    }
+    idlePlayers.addFirst(new IdlePlayer(player, SystemClock.uptimeMillis()));
+    if (idlePlayers.size() == 1) {
+      handler.postDelayed(releaseExpiredPlayers, idleTimeoutMs);
+    }
+  }
+
+  /** Releases all idle players. */
+  void clear() {
+    handler.removeCallbacks(releaseExpiredPlayers);
+    while (!idlePlayers.isEmpty()) {
+      idlePlayers.removeLast().player.release();
+    }
+  }
+
+  /** Returns the number of idle players. */
+  int getIdleCount() {
+    return idlePlayers.size();
+  }
+
+  private void releaseExpiredPlayers() {
+    final long now = SystemClock.uptimeMillis();
+    while (!idlePlayers.isEmpty() && now - idlePlayers.peekLast().idleSinceMs >= idleTimeoutMs) {
+      idlePlayers.removeLast().player.release();
+    }
+    final IdlePlayer oldest = idlePlayers.peekLast();
+    if (oldest != null) {
+      handler.postDelayed(releaseExpiredPlayers, oldest.idleSinceMs + idleTimeoutMs - now);
+    }
+  }
+}
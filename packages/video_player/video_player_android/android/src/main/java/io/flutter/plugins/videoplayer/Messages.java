@@ -469,6 +469,66 @@ public class Messages {
       this.httpHeaders = setterArg;
     }
 
+    private @Nullable Long minBufferMs;
+
+    public @Nullable Long getMinBufferMs() {
+      return minBufferMs;
+    }
+
+    public void setMinBufferMs(@Nullable Long setterArg) {
+      this.minBufferMs = setterArg;
+    }
+
+    private @Nullable Long maxBufferMs;
+
+    public @Nullable Long getMaxBufferMs() {
+      return maxBufferMs;
+    }
+
+    public void setMaxBufferMs(@Nullable Long setterArg) {
+      this.maxBufferMs = setterArg;
+    }
+
+    private @Nullable Long bufferForPlaybackMs;
+
+    public @Nullable Long getBufferForPlaybackMs() {
+      return bufferForPlaybackMs;
+    }
+
+    public void setBufferForPlaybackMs(@Nullable Long setterArg) {
+      this.bufferForPlaybackMs = setterArg;
+    }
+
+    private @Nullable Long bufferForPlaybackAfterRebufferMs;
+
+    public @Nullable Long getBufferForPlaybackAfterRebufferMs() {
+      return bufferForPlaybackAfterRebufferMs;
+    }
+
+    public void setBufferForPlaybackAfterRebufferMs(@Nullable Long setterArg) {
+      this.bufferForPlaybackAfterRebufferMs = setterArg;
+    }
+
+    private @Nullable Long targetBufferBytes;
+
+    public @Nullable Long getTargetBufferBytes() {
+      return targetBufferBytes;
+    }
+
+    public void setTargetBufferBytes(@Nullable Long setterArg) {
+      this.targetBufferBytes = setterArg;
+    }
+
+    private @Nullable Long backBufferMs;
+
+    public @Nullable Long getBackBufferMs() {
+      return backBufferMs;
+    }
+
+    public void setBackBufferMs(@Nullable Long setterArg) {
+      this.backBufferMs = setterArg;
+    }
+
     /** Constructor is non-public to enforce null safety; use Builder. */
     CreateMessage() {}
 
@@ -488,110 +548,762 @@ public class Messages {
         return this;
       }
 
-      private @Nullable String packageName;
+      private @Nullable String packageName;
+
+      public @NonNull Builder setPackageName(@Nullable String setterArg) {
+        this.packageName = setterArg;
+        return this;
+      }
+
+      private @Nullable String formatHint;
+
+      public @NonNull Builder setFormatHint(@Nullable String setterArg) {
+        this.formatHint = setterArg;
+        return this;
+      }
+
+      private @Nullable Map<String, String> httpHeaders;
+
+      public @NonNull Builder setHttpHeaders(@NonNull Map<String, String> setterArg) {
+        this.httpHeaders = setterArg;
+        return this;
+      }
+
+      private @Nullable Long minBufferMs;
+
+      public @NonNull Builder setMinBufferMs(@Nullable Long setterArg) {
+        this.minBufferMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxBufferMs;
+
+      public @NonNull Builder setMaxBufferMs(@Nullable Long setterArg) {
+        this.maxBufferMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long bufferForPlaybackMs;
+
+      public @NonNull Builder setBufferForPlaybackMs(@Nullable Long setterArg) {
+        this.bufferForPlaybackMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long bufferForPlaybackAfterRebufferMs;
+
+      public @NonNull Builder setBufferForPlaybackAfterRebufferMs(@Nullable Long setterArg) {
+        this.bufferForPlaybackAfterRebufferMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long targetBufferBytes;
+
+      public @NonNull Builder setTargetBufferBytes(@Nullable Long setterArg) {
+        this.targetBufferBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long backBufferMs;
+
+      public @NonNull Builder setBackBufferMs(@Nullable Long setterArg) {
+        this.backBufferMs = setterArg;
+        return this;
+      }
+
+      public @NonNull CreateMessage build() {
+        CreateMessage pigeonReturn = new CreateMessage();
+        pigeonReturn.setAsset(asset);
+        pigeonReturn.setUri(uri);
+        pigeonReturn.setPackageName(packageName);
+        pigeonReturn.setFormatHint(formatHint);
+        pigeonReturn.setHttpHeaders(httpHeaders);
+        pigeonReturn.setMinBufferMs(minBufferMs);
+        pigeonReturn.setMaxBufferMs(maxBufferMs);
+        pigeonReturn.setBufferForPlaybackMs(bufferForPlaybackMs);
+        pigeonReturn.setBufferForPlaybackAfterRebufferMs(bufferForPlaybackAfterRebufferMs);
+        pigeonReturn.setTargetBufferBytes(targetBufferBytes);
+        pigeonReturn.setBackBufferMs(backBufferMs);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(11);
+      toListResult.add(asset);
+      toListResult.add(uri);
+      toListResult.add(packageName);
+      toListResult.add(formatHint);
+      toListResult.add(httpHeaders);
+      toListResult.add(minBufferMs);
+      toListResult.add(maxBufferMs);
+      toListResult.add(bufferForPlaybackMs);
+      toListResult.add(bufferForPlaybackAfterRebufferMs);
+      toListResult.add(targetBufferBytes);
+      toListResult.add(backBufferMs);
+      return toListResult;
+    }
+
+    static @NonNull CreateMessage fromList(@NonNull ArrayList<Object> list) {
+      CreateMessage pigeonResult = new CreateMessage();
+      Object asset = list.get(0);
+      pigeonResult.setAsset((String) asset);
+      Object uri = list.get(1);
+      pigeonResult.setUri((String) uri);
+      Object packageName = list.get(2);
+      pigeonResult.setPackageName((String) packageName);
+      Object formatHint = list.get(3);
+      pigeonResult.setFormatHint((String) formatHint);
+      Object httpHeaders = list.get(4);
+      pigeonResult.setHttpHeaders((Map<String, String>) httpHeaders);
+      Object minBufferMs = list.get(5);
+      pigeonResult.setMinBufferMs(
+          (minBufferMs == null)
+              ? null
+              : ((minBufferMs instanceof Integer) ? (Integer) minBufferMs : (Long) minBufferMs));
+      Object maxBufferMs = list.get(6);
+      pigeonResult.setMaxBufferMs(
+          (maxBufferMs == null)
+              ? null
+              : ((maxBufferMs instanceof Integer) ? (Integer) maxBufferMs : (Long) maxBufferMs));
+      Object bufferForPlaybackMs = list.get(7);
+      pigeonResult.setBufferForPlaybackMs(
+          (bufferForPlaybackMs == null)
+              ? null
+              : ((bufferForPlaybackMs instanceof Integer)
+                  ? (Integer) bufferForPlaybackMs
+                  : (Long) bufferForPlaybackMs));
+      Object bufferForPlaybackAfterRebufferMs = list.get(8);
+      pigeonResult.setBufferForPlaybackAfterRebufferMs(
+          (bufferForPlaybackAfterRebufferMs == null)
+              ? null
+              : ((bufferForPlaybackAfterRebufferMs instanceof Integer)
+                  ? (Integer) bufferForPlaybackAfterRebufferMs
+                  : (Long) bufferForPlaybackAfterRebufferMs));
+      Object targetBufferBytes = list.get(9);
+      pigeonResult.setTargetBufferBytes(
+          (targetBufferBytes == null)
+              ? null
+              : ((targetBufferBytes instanceof Integer)
+                  ? (Integer) targetBufferBytes
+                  : (Long) targetBufferBytes));
+      Object backBufferMs = list.get(10);
+      pigeonResult.setBackBufferMs(
+          (backBufferMs == null)
+              ? null
+              : ((backBufferMs instanceof Integer) ? (Integer) backBufferMs : (Long) backBufferMs));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class MixWithOthersMessage {
+    private @NonNull Boolean mixWithOthers;
+
+    public @NonNull Boolean getMixWithOthers() {
+      return mixWithOthers;
+    }
+
+    public void setMixWithOthers(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"mixWithOthers\" is null.");
+      }
+      this.mixWithOthers = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    MixWithOthersMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Boolean mixWithOthers;
+
+      public @NonNull Builder setMixWithOthers(@NonNull Boolean setterArg) {
+        this.mixWithOthers = setterArg;
+        return this;
+      }
+
+      public @NonNull MixWithOthersMessage build() {
+        MixWithOthersMessage pigeonReturn = new MixWithOthersMessage();
+        pigeonReturn.setMixWithOthers(mixWithOthers);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(1);
+      toListResult.add(mixWithOthers);
+      return toListResult;
+    }
+
+    static @NonNull MixWithOthersMessage fromList(@NonNull ArrayList<Object> list) {
+      MixWithOthersMessage pigeonResult = new MixWithOthersMessage();
+      Object mixWithOthers = list.get(0);
+      pigeonResult.setMixWithOthers((Boolean) mixWithOthers);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class CacheMessage {
+    private @NonNull Long maxCacheBytes;
+
+    public @NonNull Long getMaxCacheBytes() {
+      return maxCacheBytes;
+    }
+
+    public void setMaxCacheBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxCacheBytes\" is null.");
+      }
+      this.maxCacheBytes = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    CacheMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long maxCacheBytes;
+
+      public @NonNull Builder setMaxCacheBytes(@NonNull Long setterArg) {
+        this.maxCacheBytes = setterArg;
+        return this;
+      }
+
+      public @NonNull CacheMessage build() {
+        CacheMessage pigeonReturn = new CacheMessage();
+        pigeonReturn.setMaxCacheBytes(maxCacheBytes);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(1);
+      toListResult.add(maxCacheBytes);
+      return toListResult;
+    }
+
+    static @NonNull CacheMessage fromList(@NonNull ArrayList<Object> list) {
+      CacheMessage pigeonResult = new CacheMessage();
+      Object maxCacheBytes = list.get(0);
+      pigeonResult.setMaxCacheBytes(
+          (maxCacheBytes == null)
+              ? null
+              : ((maxCacheBytes instanceof Integer)
+                  ? (Integer) maxCacheBytes
+                  : (Long) maxCacheBytes));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class CacheStatsMessage {
+    private @NonNull Long cacheHitCount;
+
+    public @NonNull Long getCacheHitCount() {
+      return cacheHitCount;
+    }
+
+    public void setCacheHitCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"cacheHitCount\" is null.");
+      }
+      this.cacheHitCount = setterArg;
+    }
+
+    private @NonNull Long cacheReadBytes;
+
+    public @NonNull Long getCacheReadBytes() {
+      return cacheReadBytes;
+    }
+
+    public void setCacheReadBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"cacheReadBytes\" is null.");
+      }
+      this.cacheReadBytes = setterArg;
+    }
+
+    private @NonNull Long networkReadBytes;
+
+    public @NonNull Long getNetworkReadBytes() {
+      return networkReadBytes;
+    }
+
+    public void setNetworkReadBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"networkReadBytes\" is null.");
+      }
+      this.networkReadBytes = setterArg;
+    }
+
+    private @NonNull Long cacheSizeBytes;
+
+    public @NonNull Long getCacheSizeBytes() {
+      return cacheSizeBytes;
+    }
+
+    public void setCacheSizeBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"cacheSizeBytes\" is null.");
+      }
+      this.cacheSizeBytes = setterArg;
+    }
+
+    private @NonNull Long maxCacheBytes;
+
+    public @NonNull Long getMaxCacheBytes() {
+      return maxCacheBytes;
+    }
+
+    public void setMaxCacheBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxCacheBytes\" is null.");
+      }
+      this.maxCacheBytes = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    CacheStatsMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long cacheHitCount;
+
+      public @NonNull Builder setCacheHitCount(@NonNull Long setterArg) {
+        this.cacheHitCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long cacheReadBytes;
+
+      public @NonNull Builder setCacheReadBytes(@NonNull Long setterArg) {
+        this.cacheReadBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long networkReadBytes;
+
+      public @NonNull Builder setNetworkReadBytes(@NonNull Long setterArg) {
+        this.networkReadBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long cacheSizeBytes;
+
+      public @NonNull Builder setCacheSizeBytes(@NonNull Long setterArg) {
+        this.cacheSizeBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxCacheBytes;
+
+      public @NonNull Builder setMaxCacheBytes(@NonNull Long setterArg) {
+        this.maxCacheBytes = setterArg;
+        return this;
+      }
+
+      public @NonNull CacheStatsMessage build() {
+        CacheStatsMessage pigeonReturn = new CacheStatsMessage();
+        pigeonReturn.setCacheHitCount(cacheHitCount);
+        pigeonReturn.setCacheReadBytes(cacheReadBytes);
+        pigeonReturn.setNetworkReadBytes(networkReadBytes);
+        pigeonReturn.setCacheSizeBytes(cacheSizeBytes);
+        pigeonReturn.setMaxCacheBytes(maxCacheBytes);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(5);
+      toListResult.add(cacheHitCount);
+      toListResult.add(cacheReadBytes);
+      toListResult.add(networkReadBytes);
+      toListResult.add(cacheSizeBytes);
+      toListResult.add(maxCacheBytes);
+      return toListResult;
+    }
+
+    static @NonNull CacheStatsMessage fromList(@NonNull ArrayList<Object> list) {
+      CacheStatsMessage pigeonResult = new CacheStatsMessage();
+      Object cacheHitCount = list.get(0);
+      pigeonResult.setCacheHitCount(
+          (cacheHitCount == null)
+              ? null
+              : ((cacheHitCount instanceof Integer)
+                  ? (Integer) cacheHitCount
+                  : (Long) cacheHitCount));
+      Object cacheReadBytes = list.get(1);
+      pigeonResult.setCacheReadBytes(
+          (cacheReadBytes == null)
+              ? null
+              : ((cacheReadBytes instanceof Integer)
+                  ? (Integer) cacheReadBytes
+                  : (Long) cacheReadBytes));
+      Object networkReadBytes = list.get(2);
+      pigeonResult.setNetworkReadBytes(
+          (networkReadBytes == null)
+              ? null
+              : ((networkReadBytes instanceof Integer)
+                  ? (Integer) networkReadBytes
+                  : (Long) networkReadBytes));
+      Object cacheSizeBytes = list.get(3);
+      pigeonResult.setCacheSizeBytes(
+          (cacheSizeBytes == null)
+              ? null
+              : ((cacheSizeBytes instanceof Integer)
+                  ? (Integer) cacheSizeBytes
+                  : (Long) cacheSizeBytes));
+      Object maxCacheBytes = list.get(4);
+      pigeonResult.setMaxCacheBytes(
+          (maxCacheBytes == null)
+              ? null
+              : ((maxCacheBytes instanceof Integer)
+                  ? (Integer) maxCacheBytes
+                  : (Long) maxCacheBytes));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class PreloadMessage {
+    private @NonNull String uri;
+
+    public @NonNull String getUri() {
+      return uri;
+    }
+
+    public void setUri(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"uri\" is null.");
+      }
+      this.uri = setterArg;
+    }
+
+    private @NonNull Long preloadBytes;
+
+    public @NonNull Long getPreloadBytes() {
+      return preloadBytes;
+    }
+
+    public void setPreloadBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"preloadBytes\" is null.");
+      }
+      this.preloadBytes = setterArg;
+    }
+
+    private @NonNull Map<String, String> httpHeaders;
+
+    public @NonNull Map<String, String> getHttpHeaders() {
+      return httpHeaders;
+    }
+
+    public void setHttpHeaders(@NonNull Map<String, String> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"httpHeaders\" is null.");
+      }
+      this.httpHeaders = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PreloadMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable String uri;
+
+      public @NonNull Builder setUri(@NonNull String setterArg) {
+        this.uri = setterArg;
+        return this;
+      }
+
+      private @Nullable Long preloadBytes;
+
+      public @NonNull Builder setPreloadBytes(@NonNull Long setterArg) {
+        this.preloadBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Map<String, String> httpHeaders;
+
+      public @NonNull Builder setHttpHeaders(@NonNull Map<String, String> setterArg) {
+        this.httpHeaders = setterArg;
+        return this;
+      }
+
+      public @NonNull PreloadMessage build() {
+        PreloadMessage pigeonReturn = new PreloadMessage();
+        pigeonReturn.setUri(uri);
+        pigeonReturn.setPreloadBytes(preloadBytes);
+        pigeonReturn.setHttpHeaders(httpHeaders);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(3);
+      toListResult.add(uri);
+      toListResult.add(preloadBytes);
+      toListResult.add(httpHeaders);
+      return toListResult;
+    }
+
+    static @NonNull PreloadMessage fromList(@NonNull ArrayList<Object> list) {
+      PreloadMessage pigeonResult = new PreloadMessage();
+      Object uri = list.get(0);
+      pigeonResult.setUri((String) uri);
+      Object preloadBytes = list.get(1);
+      pigeonResult.setPreloadBytes(
+          (preloadBytes == null)
+              ? null
+              : ((preloadBytes instanceof Integer) ? (Integer) preloadBytes : (Long) preloadBytes));
+      Object httpHeaders = list.get(2);
+      pigeonResult.setHttpHeaders((Map<String, String>) httpHeaders);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class FirstFrameMessage {
+    private @NonNull Long textureId;
+
+    public @NonNull Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"textureId\" is null.");
+      }
+      this.textureId = setterArg;
+    }
+
+    private @Nullable Long timeToFirstFrame;
+
+    public @Nullable Long getTimeToFirstFrame() {
+      return timeToFirstFrame;
+    }
+
+    public void setTimeToFirstFrame(@Nullable Long setterArg) {
+      this.timeToFirstFrame = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    FirstFrameMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long textureId;
+
+      public @NonNull Builder setTextureId(@NonNull Long setterArg) {
+        this.textureId = setterArg;
+        return this;
+      }
+
+      private @Nullable Long timeToFirstFrame;
+
+      public @NonNull Builder setTimeToFirstFrame(@Nullable Long setterArg) {
+        this.timeToFirstFrame = setterArg;
+        return this;
+      }
+
+      public @NonNull FirstFrameMessage build() {
+        FirstFrameMessage pigeonReturn = new FirstFrameMessage();
+        pigeonReturn.setTextureId(textureId);
+        pigeonReturn.setTimeToFirstFrame(timeToFirstFrame);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      toListResult.add(textureId);
+      toListResult.add(timeToFirstFrame);
+      return toListResult;
+    }
+
+    static @NonNull FirstFrameMessage fromList(@NonNull ArrayList<Object> list) {
+      FirstFrameMessage pigeonResult = new FirstFrameMessage();
+      Object textureId = list.get(0);
+      pigeonResult.setTextureId(
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
+      Object timeToFirstFrame = list.get(1);
+      pigeonResult.setTimeToFirstFrame(
+          (timeToFirstFrame == null)
+              ? null
+              : ((timeToFirstFrame instanceof Integer)
+                  ? (Integer) timeToFirstFrame
+                  : (Long) timeToFirstFrame));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class PlayerPoolMessage {
+    private @NonNull Long maxSize;
+
+    public @NonNull Long getMaxSize() {
+      return maxSize;
+    }
+
+    public void setMaxSize(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxSize\" is null.");
+      }
+      this.maxSize = setterArg;
+    }
+
+    private @NonNull Long idleTimeoutMs;
+
+    public @NonNull Long getIdleTimeoutMs() {
+      return idleTimeoutMs;
+    }
 
-      public @NonNull Builder setPackageName(@Nullable String setterArg) {
-        this.packageName = setterArg;
-        return this;
+    public void setIdleTimeoutMs(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"idleTimeoutMs\" is null.");
       }
+      this.idleTimeoutMs = setterArg;
+    }
 
-      private @Nullable String formatHint;
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlayerPoolMessage() {}
 
-      public @NonNull Builder setFormatHint(@Nullable String setterArg) {
-        this.formatHint = setterArg;
+    public static final class Builder {
+
+      private @Nullable Long maxSize;
+
+      public @NonNull Builder setMaxSize(@NonNull Long setterArg) {
+        this.maxSize = setterArg;
         return this;
       }
 
-      private @Nullable Map<String, String> httpHeaders;
+      private @Nullable Long idleTimeoutMs;
 
-      public @NonNull Builder setHttpHeaders(@NonNull Map<String, String> setterArg) {
-        this.httpHeaders = setterArg;
+      public @NonNull Builder setIdleTimeoutMs(@NonNull Long setterArg) {
+        this.idleTimeoutMs = setterArg;
         return this;
       }
 
-      public @NonNull CreateMessage build() {
-        CreateMessage pigeonReturn = new CreateMessage();
-        pigeonReturn.setAsset(asset);
-        pigeonReturn.setUri(uri);
-        pigeonReturn.setPackageName(packageName);
-        pigeonReturn.setFormatHint(formatHint);
-        pigeonReturn.setHttpHeaders(httpHeaders);
+      public @NonNull PlayerPoolMessage build() {
+        PlayerPoolMessage pigeonReturn = new PlayerPoolMessage();
+        pigeonReturn.setMaxSize(maxSize);
+        pigeonReturn.setIdleTimeoutMs(idleTimeoutMs);
         return pigeonReturn;
       }
     }
 
     @NonNull
     ArrayList<Object> toList() {
-      ArrayList<Object> toListResult = new ArrayList<Object>(5);
-      toListResult.add(asset);
-      toListResult.add(uri);
-      toListResult.add(packageName);
-      toListResult.add(formatHint);
-      toListResult.add(httpHeaders);
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      toListResult.add(maxSize);
+      toListResult.add(idleTimeoutMs);
       return toListResult;
     }
 
-    static @NonNull CreateMessage fromList(@NonNull ArrayList<Object> list) {
-      CreateMessage pigeonResult = new CreateMessage();
-      Object asset = list.get(0);
-      pigeonResult.setAsset((String) asset);
-      Object uri = list.get(1);
-      pigeonResult.setUri((String) uri);
-      Object packageName = list.get(2);
-      pigeonResult.setPackageName((String) packageName);
-      Object formatHint = list.get(3);
-      pigeonResult.setFormatHint((String) formatHint);
-      Object httpHeaders = list.get(4);
-      pigeonResult.setHttpHeaders((Map<String, String>) httpHeaders);
+    static @NonNull PlayerPoolMessage fromList(@NonNull ArrayList<Object> list) {
+      PlayerPoolMessage pigeonResult = new PlayerPoolMessage();
+      Object maxSize = list.get(0);
+      pigeonResult.setMaxSize(
+          (maxSize == null)
+              ? null
+              : ((maxSize instanceof Integer) ? (Integer) maxSize : (Long) maxSize));
+      Object idleTimeoutMs = list.get(1);
+      pigeonResult.setIdleTimeoutMs(
+          (idleTimeoutMs == null)
+              ? null
+              : ((idleTimeoutMs instanceof Integer)
+                  ? (Integer) idleTimeoutMs
+                  : (Long) idleTimeoutMs));
       return pigeonResult;
     }
   }
 
   /** Generated class from Pigeon that represents data sent in messages. */
-  public static final class MixWithOthersMessage {
-    private @NonNull Boolean mixWithOthers;
+  public static final class ProgressMessage {
+    private @NonNull Long textureId;
 
-    public @NonNull Boolean getMixWithOthers() {
-      return mixWithOthers;
+    public @NonNull Long getTextureId() {
+      return textureId;
     }
 
-    public void setMixWithOthers(@NonNull Boolean setterArg) {
+    public void setTextureId(@NonNull Long setterArg) {
       if (setterArg == null) {
-        throw new IllegalStateException("Nonnull field \"mixWithOthers\" is null.");
+        throw new IllegalStateException("Nonnull field \"textureId\" is null.");
       }
-      this.mixWithOthers = setterArg;
+      this.textureId = setterArg;
+    }
+
+    private @NonNull Long intervalMs;
+
+    public @NonNull Long getIntervalMs() {
+      return intervalMs;
+    }
+
+    public void setIntervalMs(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"intervalMs\" is null.");
+      }
+      this.intervalMs = setterArg;
     }
 
     /** Constructor is non-public to enforce null safety; use Builder. */
-    MixWithOthersMessage() {}
+    ProgressMessage() {}
 
     public static final class Builder {
 
-      private @Nullable Boolean mixWithOthers;
+      private @Nullable Long textureId;
 
-      public @NonNull Builder setMixWithOthers(@NonNull Boolean setterArg) {
-        this.mixWithOthers = setterArg;
+      public @NonNull Builder setTextureId(@NonNull Long setterArg) {
+        this.textureId = setterArg;
         return this;
       }
 
-      public @NonNull MixWithOthersMessage build() {
-        MixWithOthersMessage pigeonReturn = new MixWithOthersMessage();
-        pigeonReturn.setMixWithOthers(mixWithOthers);
+      private @Nullable Long intervalMs;
+
+      public @NonNull Builder setIntervalMs(@NonNull Long setterArg) {
+        this.intervalMs = setterArg;
+        return this;
+      }
+
+      public @NonNull ProgressMessage build() {
+        ProgressMessage pigeonReturn = new ProgressMessage();
+        pigeonReturn.setTextureId(textureId);
+        pigeonReturn.setIntervalMs(intervalMs);
         return pigeonReturn;
       }
     }
 
     @NonNull
     ArrayList<Object> toList() {
-      ArrayList<Object> toListResult = new ArrayList<Object>(1);
-      toListResult.add(mixWithOthers);
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      toListResult.add(textureId);
+      toListResult.add(intervalMs);
       return toListResult;
     }
 
-    static @NonNull MixWithOthersMessage fromList(@NonNull ArrayList<Object> list) {
-      MixWithOthersMessage pigeonResult = new MixWithOthersMessage();
-      Object mixWithOthers = list.get(0);
-      pigeonResult.setMixWithOthers((Boolean) mixWithOthers);
+    static @NonNull ProgressMessage fromList(@NonNull ArrayList<Object> list) {
+      ProgressMessage pigeonResult = new ProgressMessage();
+      Object textureId = list.get(0);
+      pigeonResult.setTextureId(
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
+      Object intervalMs = list.get(1);
+      pigeonResult.setIntervalMs(
+          (intervalMs == null)
+              ? null
+              : ((intervalMs instanceof Integer) ? (Integer) intervalMs : (Long) intervalMs));
       return pigeonResult;
     }
   }
@@ -605,18 +1317,30 @@ public class Messages {
     protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
       switch (type) {
         case (byte) 128:
-          return CreateMessage.fromList((ArrayList<Object>) readValue(buffer));
+          return CacheMessage.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 129:
-          return LoopingMessage.fromList((ArrayList<Object>) readValue(buffer));
+          return CacheStatsMessage.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 130:
-          return MixWithOthersMessage.fromList((ArrayList<Object>) readValue(buffer));
+          return CreateMessage.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 131:
-          return PlaybackSpeedMessage.fromList((ArrayList<Object>) readValue(buffer));
+          return FirstFrameMessage.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 132:
-          return PositionMessage.fromList((ArrayList<Object>) readValue(buffer));
+          return LoopingMessage.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 133:
-          return TextureMessage.fromList((ArrayList<Object>) readValue(buffer));
+          return MixWithOthersMessage.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 134:
+          return PlaybackSpeedMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 135:
+          return PlayerPoolMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 136:
+          return PositionMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 137:
+          return PreloadMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 138:
+          return ProgressMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 139:
+          return TextureMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 140:
           return VolumeMessage.fromList((ArrayList<Object>) readValue(buffer));
         default:
           return super.readValueOfType(type, buffer);
@@ -625,26 +1349,44 @@ public class Messages {
 
     @Override
     protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
-      if (value instanceof CreateMessage) {
+      if (value instanceof CacheMessage) {
         stream.write(128);
+        writeValue(stream, ((CacheMessage) value).toList());
+      } else if (value instanceof CacheStatsMessage) {
+        stream.write(129);
+        writeValue(stream, ((CacheStatsMessage) value).toList());
+      } else if (value instanceof CreateMessage) {
+        stream.write(130);
         writeValue(stream, ((CreateMessage) value).toList());
+      } else if (value instanceof FirstFrameMessage) {
+        stream.write(131);
+        writeValue(stream, ((FirstFrameMessage) value).toList());
       } else if (value instanceof LoopingMessage) {
-        stream.write(129);
+        stream.write(132);
         writeValue(stream, ((LoopingMessage) value).toList());
       } else if (value instanceof MixWithOthersMessage) {
-        stream.write(130);
+        stream.write(133);
         writeValue(stream, ((MixWithOthersMessage) value).toList());
       } else if (value instanceof PlaybackSpeedMessage) {
-        stream.write(131);
+        stream.write(134);
         writeValue(stream, ((PlaybackSpeedMessage) value).toList());
+      } else if (value instanceof PlayerPoolMessage) {
+        stream.write(135);
+        writeValue(stream, ((PlayerPoolMessage) value).toList());
       } else if (value instanceof PositionMessage) {
-        stream.write(132);
+        stream.write(136);
         writeValue(stream, ((PositionMessage) value).toList());
+      } else if (value instanceof PreloadMessage) {
+        stream.write(137);
+        writeValue(stream, ((PreloadMessage) value).toList());
+      } else if (value instanceof ProgressMessage) {
+        stream.write(138);
+        writeValue(stream, ((ProgressMessage) value).toList());
       } else if (value instanceof TextureMessage) {
-        stream.write(133);
+        stream.write(139);
         writeValue(stream, ((TextureMessage) value).toList());
       } else if (value instanceof VolumeMessage) {
-        stream.write(134);
+        stream.write(140);
         writeValue(stream, ((VolumeMessage) value).toList());
       } else {
         super.writeValue(stream, value);
@@ -679,6 +1421,20 @@ public class Messages {
 
     void setMixWithOthers(@NonNull MixWithOthersMessage msg);
 
+    void setCacheOptions(@NonNull CacheMessage msg);
+
+    @NonNull
+    CacheStatsMessage getCacheStats();
+
+    void preload(@NonNull PreloadMessage msg);
+
+    @NonNull
+    FirstFrameMessage timeToFirstFrame(@NonNull TextureMessage msg);
+
+    void setPlayerPoolOptions(@NonNull PlayerPoolMessage msg);
+
+    void setProgressInterval(@NonNull ProgressMessage msg);
+
     /** The codec used by AndroidVideoPlayerApi. */
     static @NonNull MessageCodec<Object> getCodec() {
       return AndroidVideoPlayerApiCodec.INSTANCE;
@@ -944,6 +1700,152 @@ public class Messages {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setCacheOptions",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                CacheMessage msgArg = (CacheMessage) args.get(0);
+                try {
+                  api.setCacheOptions(msgArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.getCacheStats",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                try {
+                  CacheStatsMessage output = api.getCacheStats();
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.preload", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                PreloadMessage msgArg = (PreloadMessage) args.get(0);
+                try {
+                  api.preload(msgArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.timeToFirstFrame",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                TextureMessage msgArg = (TextureMessage) args.get(0);
+                try {
+                  FirstFrameMessage output = api.timeToFirstFrame(msgArg);
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setPlayerPoolOptions",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                PlayerPoolMessage msgArg = (PlayerPoolMessage) args.get(0);
+                try {
+                  api.setPlayerPoolOptions(msgArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setProgressInterval",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                ProgressMessage msgArg = (ProgressMessage) args.get(0);
+                try {
+                  api.setProgressInterval(msgArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 }
@@ -0,0 +1,329 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.content.Context;
+import android.net.Uri;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.database.StandaloneDatabaseProvider;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.TransferListener;
+import com.google.android.exoplayer2.upstream.cache.Cache;
+import com.google.android.exoplayer2.upstream.cache.CacheDataSource;
+import com.google.android.exoplayer2.upstream.cache.CacheEvictor;
+import com.google.android.exoplayer2.upstream.cache.CacheSpan;
+import com.google.android.exoplayer2.upstream.cache.CacheWriter;
+import com.google.android.exoplayer2.upstream.cache.SimpleCache;
+import io.flutter.Log;
+import java.io.File;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A disk cache of network media that is shared by all players.
+ *
+ * <p>A {@link SimpleCache} locks its directory for the lifetime of the process, so there is a
+ * single instance per process, even if the plugin is attached to several engines. The least
+ * recently used media is evicted once the cache grows beyond its maximum size.
+ *
+ * <p>Opening a {@link SimpleCache} reads its index from disk, so it is opened on the preload
+ * thread, and data sources wait for it on the player's playback thread.
+ */
+final class VideoCache {
+  private static final String TAG = "VideoCache";
+  @VisibleForTesting static final String CACHE_DIRECTORY = "video_player";
+
+  private static VideoCache instance;
+
+  private final Future<Cache> cache;
+  private final Evictor evictor;
+
+  private final AtomicLong cacheHitCount = new AtomicLong();
+  private final AtomicLong cacheReadBytes = new AtomicLong();
+  private final AtomicLong networkReadBytes = new AtomicLong();
+  private final TransferListener networkListener = new NetworkTransferListener();
+
+  private final Set<String> preloadingKeys = new HashSet<>();
+  private final Executor preloadExecutor;
+
+  /**
+   * Returns the cache of the process, starting to open it in the background on first use.
+   *
+   * @param maxBytes is the size the cache is evicted down to. It replaces the size of an existing
+   *     cache.
+   */
+  static synchronized @NonNull VideoCache getInstance(@NonNull Context context, long maxBytes) {
+    if (instance == null) {
+      final Evictor evictor = new Evictor(maxBytes);
+      final Callable<Cache> openCache =
+          () ->
+              new SimpleCache(
+                  new File(context.getCacheDir(), CACHE_DIRECTORY),
+                  evictor,
+                  new StandaloneDatabaseProvider(context));
+      // The cache is opened before any preload, which runs on the same thread.
+      final ExecutorService preloadExecutor = Executors.newSingleThreadExecutor();
+      instance = new VideoCache(preloadExecutor.submit(openCache), evictor, preloadExecutor);
+    } else {
+      instance.setMaxBytes(maxBytes);
+    }
+    return instance;
+  }
+
+  /** Returns the cache of the process, or null if it has not been created. */
+  static synchronized @Nullable VideoCache getExistingInstance() {
+    return instance;
+  }
+
+  @VisibleForTesting
+  VideoCache(@NonNull Cache cache, @NonNull Evictor evictor, @NonNull Executor preloadExecutor) {
+    this(openedCache(cache), evictor, preloadExecutor);
+  }
+
+  @VisibleForTesting
+  VideoCache(
+      @NonNull Future<Cache> cache, @NonNull Evictor evictor, @NonNull Executor preloadExecutor) {
+    this.cache = cache;
+    this.evictor = evictor;
+    this.preloadExecutor = preloadExecutor;
+  }
+
+  private static Future<Cache> openedCache(Cache cache) {
+    final FutureTask<Cache> future = new FutureTask<>(() -> cache);
+    future.run();
+    return future;
+  }
+
+  /** Returns the cache, waiting for it to be opened. Must not be called on the main thread. */
+  private Cache getCache() {
+    try {
+      return cache.get();
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Failed to open the video cache.", e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while opening the video cache.", e);
+    }
+  }
+
+  /**
+   * Sets the size the cache is evicted down to.
+   *
+   * <p>A smaller size takes effect the next time media is written to the cache, because spans can
+   * only be removed from the loading threads without contending for the cache lock.
+   */
+  void setMaxBytes(long maxBytes) {
+    evictor.setMaxBytes(maxBytes);
+  }
+
+  long getMaxBytes() {
+    return evictor.getMaxBytes();
+  }
+
+  /**
+   * Returns a factory of data sources that read from the cache and write the media they load from
+   * {@code upstreamFactory} to it.
+   *
+   * <p>The data sources wait for the cache to be opened, so they must be created off the main
+   * thread, as ExoPlayer does on its playback thread.
+   */
+  @NonNull
+  DataSource.Factory createDataSourceFactory(@NonNull DataSource.Factory upstreamFactory) {
+    return () -> createDataSource(createCacheDataSourceFactory(upstreamFactory));
+  }
+
+  /**
+   * Loads the first {@code length} bytes of {@code uri} into the cache in the background, so that
+   * a player created for it later can start from the cache.
+   *
+   * <p>Bytes that are already cached are not loaded again, and a preload of a URI that is still
+   * being loaded is ignored. Only the requested resource is loaded, so for adaptive streams only
+   * the manifest is cached.
+   */
+  void preload(@NonNull DataSource.Factory upstreamFactory, @NonNull Uri uri, long length) {
+    final String key = uri.toString();
+    synchronized (preloadingKeys) {
+      if (!preloadingKeys.add(key)) {
+        return;
+      }
+    }
+    final DataSpec dataSpec = new DataSpec.Builder().setUri(uri).setLength(length).build();
+    preloadExecutor.execute(
+        () -> {
+          try {
+            final CacheDataSource dataSource =
+                createDataSource(createCacheDataSourceFactory(upstreamFactory));
+            new CacheWriter(dataSource, dataSpec, null, null).cache();
+          } catch (IOException | IllegalStateException e) {
+            Log.w(TAG, "Failed to preload " + key, e);
+          } finally {
+            synchronized (preloadingKeys) {
+              preloadingKeys.remove(key);
+            }
+          }
+        });
+  }
+
+  private CacheDataSource.Factory createCacheDataSourceFactory(
+      DataSource.Factory upstreamFactory) {
+    return new CacheDataSource.Factory()
+        .setCache(getCache())
+        .setUpstreamDataSourceFactory(upstreamFactory)
+        .setFlags(CacheDataSource.FLAG_IGNORE_CACHE_ON_ERROR)
+        .setEventListener(
+            new CacheDataSource.EventListener() {
+              @Override
+              public void onCachedBytesRead(long cacheSizeBytes, long cachedBytesRead) {
+                cacheHitCount.incrementAndGet();
+                cacheReadBytes.addAndGet(cachedBytesRead);
+              }
+
+              @Override
+              public void onCacheIgnored(int reason) {}
+            });
+  }
+
+  private CacheDataSource createDataSource(CacheDataSource.Factory cacheDataSourceFactory) {
+    final CacheDataSource dataSource = cacheDataSourceFactory.createDataSource();
+    dataSource.addTransferListener(networkListener);
+    return dataSource;
+  }
+
+  /** Returns the number of reads that were served from the cache. */
+  long getCacheHitCount() {
+    return cacheHitCount.get();
+  }
+
+  /** Returns the number of bytes that were read from the cache. */
+  long getCacheReadBytes() {
+    return cacheReadBytes.get();
+  }
+
+  /** Returns the number of bytes that were loaded from the network through the cache. */
+  long getNetworkReadBytes() {
+    return networkReadBytes.get();
+  }
+
+  /** Returns the number of bytes the cache takes on disk, or 0 while it is being opened. */
+  long getCacheSizeBytes() {
+    return cache.isDone() ? getCache().getCacheSpace() : 0;
+  }
+
+  private final class NetworkTransferListener implements TransferListener {
+    @Override
+    public void onTransferInitializing(
+        @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork) {}
+
+    @Override
+    public void onTransferStart(
+        @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork) {}
+
+    @Override
+    public void onBytesTransferred(
+        @NonNull DataSource source,
+        @NonNull DataSpec dataSpec,
+        boolean isNetwork,
+        int bytesTransferred) {
+      if (isNetwork) {
+        networkReadBytes.addAndGet(bytesTransferred);
+      }
+    }
+
+    @Override
+    public void onTransferEnd(
+        @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork) {}
+  }
+
+  /**
+   * Evicts the least recently used spans, like {@code LeastRecentlyUsedCacheEvictor}, but with a
+   * maximum size that can be changed after the cache is created.
+   *
+   * <p>The {@link Cache} calls the evictor while holding its lock, so the spans are only accessed
+   * from those calls.
+   */
+  @VisibleForTesting
+  static final class Evictor implements CacheEvictor {
+    private final TreeSet<CacheSpan> leastRecentlyUsed = new TreeSet<>(Evictor::compare);
+    private volatile long maxBytes;
+    private long currentSize;
+
+    Evictor(long maxBytes) {
+      this.maxBytes = maxBytes;
+    }
+
+    void setMaxBytes(long maxBytes) {
+      this.maxBytes = maxBytes;
+    }
+
+    long getMaxBytes() {
+      return maxBytes;
+    }
+
+    @Override
+    public boolean requiresCacheSpanTouches() {
+      return true;
+    }
+
+    @Override
+    public void onCacheInitialized() {}
+
+    @Override
+    public void onStartFile(@NonNull Cache cache, @NonNull String key, long position, long length) {
+      if (length != C.LENGTH_UNSET) {
+        evictCache(cache, length);
+      }
+    }
+
+    @Override
+    public void onSpanAdded(@NonNull Cache cache, @NonNull CacheSpan span) {
+      leastRecentlyUsed.add(span);
+      currentSize += span.length;
+      evictCache(cache, 0);
+    }
+
+    @Override
+    public void onSpanRemoved(@NonNull Cache cache, @NonNull CacheSpan span) {
+      leastRecentlyUsed.remove(span);
+      currentSize -= span.length;
+    }
+
+    @Override
+    public void onSpanTouched(
+        @NonNull Cache cache, @NonNull CacheSpan oldSpan, @NonNull CacheSpan newSpan) {
+      onSpanRemoved(cache, oldSpan);
+      onSpanAdded(cache, newSpan);
+    }
+
+    private void evictCache(Cache cache, long requiredSpace) {
+      while (currentSize + requiredSpace > maxBytes && !leastRecentlyUsed.isEmpty()) {
+        // Removing the span calls onSpanRemoved, which updates the set and the size.
+        cache.removeSpan(leastRecentlyUsed.first());
+      }
+    }
+
+    private static int compare(CacheSpan lhs, CacheSpan rhs) {
+      final long lastTouchTimestampDelta = lhs.lastTouchTimestamp - rhs.lastTouchTimestamp;
+      if (lastTouchTimestampDelta == 0) {
+        // Use the standard compareTo method as a tie-break.
+        return lhs.compareTo(rhs);
+      }
+      return lhs.lastTouchTimestamp < rhs.lastTouchTimestamp ? -1 : 1;
+    }
+  }
+}
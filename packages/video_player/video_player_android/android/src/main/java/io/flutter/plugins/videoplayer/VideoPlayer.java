@@ -9,12 +9,17 @@ import static com.google.android.exoplayer2.Player.REPEAT_MODE_OFF;
 
 import android.content.Context;
 import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 import android.view.Surface;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import com.google.android.exoplayer2.C;
 import com.google.android.exoplayer2.ExoPlayer;
 import com.google.android.exoplayer2.Format;
+import com.google.android.exoplayer2.LoadControl;
 import com.google.android.exoplayer2.MediaItem;
 import com.google.android.exoplayer2.PlaybackException;
 import com.google.android.exoplayer2.PlaybackParameters;
@@ -62,6 +67,32 @@ final class VideoPlayer {
 
   private final VideoPlayerOptions options;
 
+  @Nullable private final ExoPlayerPool playerPool;
+
+  private Listener playerListener;
+
+  private final long createTimeMs = SystemClock.elapsedRealtime();
+
+  private long timeToFirstFrameMs = C.TIME_UNSET;
+
+  private final Handler progressHandler = new Handler(Looper.getMainLooper());
+
+  private final Runnable progressUpdate =
+      new Runnable() {
+        @Override
+        public void run() {
+          sendProgressUpdate();
+          progressHandler.postDelayed(this, progressIntervalMs);
+        }
+      };
+
+  private long progressIntervalMs;
+
+  private boolean isSendingProgress;
+
+  /** Number of seeks so far, sent with progress events so Dart can drop events sent earlier. */
+  private int seekCount;
+
   private DefaultHttpDataSource.Factory httpDataSourceFactory = new DefaultHttpDataSource.Factory();
 
   VideoPlayer(
@@ -71,17 +102,33 @@ final class VideoPlayer {
       String dataSource,
       String formatHint,
       @NonNull Map<String, String> httpHeaders,
-      VideoPlayerOptions options) {
+      VideoPlayerOptions options,
+      @Nullable LoadControl loadControl,
+      @NonNull ExoPlayerPool playerPool) {
     this.eventChannel = eventChannel;
     this.textureEntry = textureEntry;
     this.options = options;
 
-    ExoPlayer exoPlayer = new ExoPlayer.Builder(context).build();
+    ExoPlayer exoPlayer;
+    if (loadControl == null) {
+      this.playerPool = playerPool;
+      exoPlayer = playerPool.acquire();
+    } else {
+      // The load control of a player can't be changed, so a player with custom buffering is not
+      // pooled.
+      this.playerPool = null;
+      exoPlayer = new ExoPlayer.Builder(context).setLoadControl(loadControl).build();
+    }
     Uri uri = Uri.parse(dataSource);
 
     buildHttpDataSourceFactory(httpHeaders);
     DataSource.Factory dataSourceFactory =
         new DefaultDataSource.Factory(context, httpDataSourceFactory);
+    if (options.maxCacheBytes > 0 && isHttpUri(uri)) {
+      dataSourceFactory =
+          VideoCache.getInstance(context, options.maxCacheBytes)
+              .createDataSourceFactory(dataSourceFactory);
+    }
 
     MediaSource mediaSource = buildMediaSource(uri, dataSourceFactory, formatHint);
 
@@ -103,6 +150,7 @@ final class VideoPlayer {
     this.eventChannel = eventChannel;
     this.textureEntry = textureEntry;
     this.options = options;
+    this.playerPool = null;
     this.httpDataSourceFactory = httpDataSourceFactory;
 
     setUpVideoPlayer(exoPlayer, eventSink);
@@ -110,6 +158,12 @@ final class VideoPlayer {
 
   @VisibleForTesting
   public void buildHttpDataSourceFactory(@NonNull Map<String, String> httpHeaders) {
+    configureHttpDataSourceFactory(httpDataSourceFactory, httpHeaders);
+  }
+
+  static void configureHttpDataSourceFactory(
+      @NonNull DefaultHttpDataSource.Factory httpDataSourceFactory,
+      @NonNull Map<String, String> httpHeaders) {
     final boolean httpHeadersNotEmpty = !httpHeaders.isEmpty();
     final String userAgent =
         httpHeadersNotEmpty && httpHeaders.containsKey(USER_AGENT)
@@ -123,6 +177,11 @@ final class VideoPlayer {
     }
   }
 
+  static boolean isHttpUri(@NonNull Uri uri) {
+    final String scheme = uri.getScheme();
+    return "http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme);
+  }
+
   private MediaSource buildMediaSource(
       Uri uri, DataSource.Factory mediaDataSourceFactory, String formatHint) {
     int type;
@@ -190,7 +249,7 @@ final class VideoPlayer {
     exoPlayer.setVideoSurface(surface);
     setAudioAttributes(exoPlayer, options.mixWithOthers);
 
-    exoPlayer.addListener(
+    playerListener =
         new Listener() {
           private boolean isBuffering = false;
 
@@ -224,6 +283,13 @@ final class VideoPlayer {
             }
           }
 
+          @Override
+          public void onRenderedFirstFrame() {
+            if (timeToFirstFrameMs == C.TIME_UNSET) {
+              timeToFirstFrameMs = SystemClock.elapsedRealtime() - createTimeMs;
+            }
+          }
+
           @Override
           public void onPlayerError(@NonNull final PlaybackException error) {
             setBuffering(false);
@@ -240,16 +306,64 @@ final class VideoPlayer {
               event.put("isPlaying", isPlaying);
               eventSink.success(event);
             }
+            updateProgressUpdates(isPlaying);
           }
-        });
+        };
+    exoPlayer.addListener(playerListener);
   }
 
   void sendBufferingUpdate() {
     Map<String, Object> event = new HashMap<>();
     event.put("event", "bufferingUpdate");
+    event.put("values", getBufferedRanges());
+    eventSink.success(event);
+  }
+
+  private List<List<? extends Number>> getBufferedRanges() {
     List<? extends Number> range = Arrays.asList(0, exoPlayer.getBufferedPosition());
     // iOS supports a list of buffered ranges, so here is a list with a single range.
-    event.put("values", Collections.singletonList(range));
+    return Collections.singletonList(range);
+  }
+
+  /**
+   * Sets how often progress events are sent while the video plays.
+   *
+   * @param intervalMs is the time between two events in milliseconds, or 0 to not send progress
+   *     events.
+   */
+  void setProgressInterval(long intervalMs) {
+    if (intervalMs < 0) {
+      throw new IllegalArgumentException("The progress interval must not be negative.");
+    }
+    progressIntervalMs = intervalMs;
+    updateProgressUpdates(exoPlayer.isPlaying());
+  }
+
+  private void updateProgressUpdates(boolean isPlaying) {
+    final boolean wasSendingProgress = isSendingProgress;
+    isSendingProgress = progressIntervalMs > 0 && isPlaying;
+    progressHandler.removeCallbacks(progressUpdate);
+    if (isSendingProgress) {
+      progressHandler.post(progressUpdate);
+    } else if (wasSendingProgress) {
+      // Reports the final position, since the last periodic event may be up to an interval old.
+      sendProgressUpdate();
+    }
+  }
+
+  /** Sends the position, the buffered range and the bitrate of the video. */
+  @VisibleForTesting
+  void sendProgressUpdate() {
+    Map<String, Object> event = new HashMap<>();
+    event.put("event", "progress");
+    event.put("position", exoPlayer.getCurrentPosition());
+    event.put("seekCount", seekCount);
+    // The same range as bufferingUpdate events, since both are delivered as bufferingUpdate.
+    event.put("values", getBufferedRanges());
+    final Format videoFormat = exoPlayer.getVideoFormat();
+    if (videoFormat != null && videoFormat.bitrate != Format.NO_VALUE) {
+      event.put("bitrate", videoFormat.bitrate);
+    }
     eventSink.success(event);
   }
 
@@ -286,12 +400,26 @@ final class VideoPlayer {
 
   void seekTo(int location) {
     exoPlayer.seekTo(location);
+    seekCount++;
+    if (progressIntervalMs > 0) {
+      // Reports the new position right away instead of up to an interval later.
+      sendProgressUpdate();
+    }
   }
 
   long getPosition() {
     return exoPlayer.getCurrentPosition();
   }
 
+  /**
+   * Returns the time in milliseconds from the creation of the player until its first frame was
+   * rendered, or null if no frame has been rendered yet.
+   */
+  @Nullable
+  Long getTimeToFirstFrame() {
+    return timeToFirstFrameMs == C.TIME_UNSET ? null : timeToFirstFrameMs;
+  }
+
   @SuppressWarnings("SuspiciousNameCombination")
   @VisibleForTesting
   void sendInitialized() {
@@ -327,7 +455,13 @@ final class VideoPlayer {
   }
 
   void dispose() {
-    if (isInitialized) {
+    progressHandler.removeCallbacks(progressUpdate);
+    if (playerPool != null) {
+      // The player is detached from its surface before the surface is released, so that another
+      // video can reuse it.
+      exoPlayer.removeListener(playerListener);
+      playerPool.release(exoPlayer);
+    } else if (isInitialized) {
       exoPlayer.stop();
     }
     textureEntry.release();
@@ -335,7 +469,7 @@ final class VideoPlayer {
     if (surface != null) {
       surface.release();
     }
-    if (exoPlayer != null) {
+    if (playerPool == null && exoPlayer != null) {
       exoPlayer.release();
     }
   }
@@ -6,4 +6,7 @@ package io.flutter.plugins.videoplayer;
 
 class VideoPlayerOptions {
   public boolean mixWithOthers;
+
+  /** The size of the disk cache shared by network players, or 0 to not cache media. */
+  public long maxCacheBytes;
 }
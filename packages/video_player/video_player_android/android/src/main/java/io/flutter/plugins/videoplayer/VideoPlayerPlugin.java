@@ -5,20 +5,30 @@
 package io.flutter.plugins.videoplayer;
 
 import android.content.Context;
+import android.net.Uri;
 import android.os.Build;
 import android.util.LongSparseArray;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.LoadControl;
+import com.google.android.exoplayer2.upstream.DefaultHttpDataSource;
 import io.flutter.FlutterInjector;
 import io.flutter.Log;
 import io.flutter.embedding.engine.plugins.FlutterPlugin;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugins.videoplayer.Messages.AndroidVideoPlayerApi;
+import io.flutter.plugins.videoplayer.Messages.CacheMessage;
+import io.flutter.plugins.videoplayer.Messages.CacheStatsMessage;
 import io.flutter.plugins.videoplayer.Messages.CreateMessage;
+import io.flutter.plugins.videoplayer.Messages.FirstFrameMessage;
 import io.flutter.plugins.videoplayer.Messages.LoopingMessage;
 import io.flutter.plugins.videoplayer.Messages.MixWithOthersMessage;
 import io.flutter.plugins.videoplayer.Messages.PlaybackSpeedMessage;
+import io.flutter.plugins.videoplayer.Messages.PlayerPoolMessage;
 import io.flutter.plugins.videoplayer.Messages.PositionMessage;
+import io.flutter.plugins.videoplayer.Messages.PreloadMessage;
+import io.flutter.plugins.videoplayer.Messages.ProgressMessage;
 import io.flutter.plugins.videoplayer.Messages.TextureMessage;
 import io.flutter.plugins.videoplayer.Messages.VolumeMessage;
 import io.flutter.view.TextureRegistry;
@@ -34,6 +44,7 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
   private final LongSparseArray<VideoPlayer> videoPlayers = new LongSparseArray<>();
   private FlutterState flutterState;
   private final VideoPlayerOptions options = new VideoPlayerOptions();
+  private ExoPlayerPool playerPool;
 
   /** Register this with the v2 embedding for the plugin to respond to lifecycle callbacks. */
   public VideoPlayerPlugin() {}
@@ -96,6 +107,7 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
     flutterState.stopListening(binding.getBinaryMessenger());
     flutterState = null;
     initialize();
+    clearPlayerPool();
   }
 
   private void disposeAllPlayers() {
@@ -112,6 +124,20 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
     // be replaced with just asserting that videoPlayers.isEmpty().
     // https://github.com/flutter/flutter/issues/20989 tracks this.
     disposeAllPlayers();
+    clearPlayerPool();
+  }
+
+  private ExoPlayerPool getPlayerPool() {
+    if (playerPool == null) {
+      playerPool = new ExoPlayerPool(flutterState.applicationContext);
+    }
+    return playerPool;
+  }
+
+  private void clearPlayerPool() {
+    if (playerPool != null) {
+      playerPool.clear();
+    }
   }
 
   public void initialize() {
@@ -119,6 +145,18 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
   }
 
   public @NonNull TextureMessage create(@NonNull CreateMessage arg) {
+    BufferOptions bufferOptions = new BufferOptions();
+    bufferOptions.minBufferMs = toInteger(arg.getMinBufferMs());
+    bufferOptions.maxBufferMs = toInteger(arg.getMaxBufferMs());
+    bufferOptions.bufferForPlaybackMs = toInteger(arg.getBufferForPlaybackMs());
+    bufferOptions.bufferForPlaybackAfterRebufferMs =
+        toInteger(arg.getBufferForPlaybackAfterRebufferMs());
+    bufferOptions.targetBufferBytes = toInteger(arg.getTargetBufferBytes());
+    bufferOptions.backBufferMs = toInteger(arg.getBackBufferMs());
+
+    // Inconsistent buffer options fail here, before a texture is created for the player.
+    LoadControl loadControl = bufferOptions.isDefault() ? null : bufferOptions.buildLoadControl();
+
     TextureRegistry.SurfaceTextureEntry handle =
         flutterState.textureRegistry.createSurfaceTexture();
     EventChannel eventChannel =
@@ -142,7 +180,9 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
               "asset:///" + assetLookupKey,
               null,
               new HashMap<>(),
-              options);
+              options,
+              loadControl,
+              getPlayerPool());
     } else {
       Map<String, String> httpHeaders = arg.getHttpHeaders();
       player =
@@ -153,13 +193,19 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
               arg.getUri(),
               arg.getFormatHint(),
               httpHeaders,
-              options);
+              options,
+              loadControl,
+              getPlayerPool());
     }
     videoPlayers.put(handle.id(), player);
 
     return new TextureMessage.Builder().setTextureId(handle.id()).build();
   }
 
+  private static @Nullable Integer toInteger(@Nullable Long value) {
+    return value == null ? null : value.intValue();
+  }
+
   public void dispose(@NonNull TextureMessage arg) {
     VideoPlayer player = videoPlayers.get(arg.getTextureId());
     player.dispose();
@@ -212,6 +258,76 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
     options.mixWithOthers = arg.getMixWithOthers();
   }
 
+  @Override
+  public void setCacheOptions(@NonNull CacheMessage arg) {
+    final long maxCacheBytes = arg.getMaxCacheBytes();
+    if (maxCacheBytes < 0) {
+      throw new IllegalArgumentException("maxCacheBytes must not be negative.");
+    }
+    options.maxCacheBytes = maxCacheBytes;
+    if (maxCacheBytes > 0) {
+      // Starts opening the cache in the background before a player needs it.
+      VideoCache.getInstance(flutterState.applicationContext, maxCacheBytes);
+    }
+  }
+
+  @Override
+  public @NonNull CacheStatsMessage getCacheStats() {
+    final CacheStatsMessage.Builder builder = new CacheStatsMessage.Builder();
+    final VideoCache cache = VideoCache.getExistingInstance();
+    if (cache == null) {
+      return builder
+          .setCacheHitCount(0L)
+          .setCacheReadBytes(0L)
+          .setNetworkReadBytes(0L)
+          .setCacheSizeBytes(0L)
+          .setMaxCacheBytes(options.maxCacheBytes)
+          .build();
+    }
+    return builder
+        .setCacheHitCount(cache.getCacheHitCount())
+        .setCacheReadBytes(cache.getCacheReadBytes())
+        .setNetworkReadBytes(cache.getNetworkReadBytes())
+        .setCacheSizeBytes(cache.getCacheSizeBytes())
+        .setMaxCacheBytes(cache.getMaxBytes())
+        .build();
+  }
+
+  @Override
+  public void setProgressInterval(@NonNull ProgressMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    player.setProgressInterval(arg.getIntervalMs());
+  }
+
+  @Override
+  public void setPlayerPoolOptions(@NonNull PlayerPoolMessage arg) {
+    getPlayerPool().setLimits(arg.getMaxSize().intValue(), arg.getIdleTimeoutMs());
+  }
+
+  @Override
+  public void preload(@NonNull PreloadMessage arg) {
+    if (options.maxCacheBytes <= 0) {
+      throw new IllegalStateException("The cache must be enabled to preload videos.");
+    }
+    final Uri uri = Uri.parse(arg.getUri());
+    if (!VideoPlayer.isHttpUri(uri)) {
+      throw new IllegalArgumentException("Only network videos can be preloaded.");
+    }
+    final DefaultHttpDataSource.Factory httpDataSourceFactory = new DefaultHttpDataSource.Factory();
+    VideoPlayer.configureHttpDataSourceFactory(httpDataSourceFactory, arg.getHttpHeaders());
+    VideoCache.getInstance(flutterState.applicationContext, options.maxCacheBytes)
+        .preload(httpDataSourceFactory, uri, arg.getPreloadBytes());
+  }
+
+  @Override
+  public @NonNull FirstFrameMessage timeToFirstFrame(@NonNull TextureMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    return new FirstFrameMessage.Builder()
+        .setTextureId(arg.getTextureId())
+        .setTimeToFirstFrame(player.getTimeToFirstFrame())
+        .build();
+  }
+
   private interface KeyForAssetFn {
     String get(String asset);
   }
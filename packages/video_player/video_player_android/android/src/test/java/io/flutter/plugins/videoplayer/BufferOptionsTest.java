@@ -0,0 +1,47 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.exoplayer2.DefaultLoadControl;
+import org.junit.Test;
+
+public class BufferOptionsTest {
+  @Test
+  public void isDefault_returnsFalseOnceAnyValueIsSet() {
+    final BufferOptions options = new BufferOptions();
+
+    assertTrue(options.isDefault());
+
+    options.targetBufferBytes = 1024;
+
+    assertFalse(options.isDefault());
+  }
+
+  @Test
+  public void buildLoadControl_appliesBackBuffer() {
+    final BufferOptions options = new BufferOptions();
+    options.minBufferMs = 5000;
+    options.maxBufferMs = 10000;
+    options.backBufferMs = 2000;
+
+    final DefaultLoadControl loadControl = (DefaultLoadControl) options.buildLoadControl();
+
+    assertEquals(2000000, loadControl.getBackBufferDurationUs());
+  }
+
+  @Test
+  public void buildLoadControl_throwsExceptionForMaxBufferShorterThanMinBuffer() {
+    final BufferOptions options = new BufferOptions();
+    options.minBufferMs = 10000;
+    options.maxBufferMs = 5000;
+
+    assertThrows(IllegalArgumentException.class, options::buildLoadControl);
+  }
+}
@@ -0,0 +1,111 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Handler;
+import android.os.Looper;
+import com.google.android.exoplayer2.ExoPlayer;
+import java.time.Duration;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class ExoPlayerPoolTest {
+  private ExoPlayerPool pool;
+
+  @Before
+  public void before() {
+    pool = new ExoPlayerPool(() -> mock(ExoPlayer.class), new Handler(Looper.getMainLooper()));
+  }
+
+  @Test
+  public void acquire_reusesResetPlayer() {
+    pool.setLimits(2, 1000);
+    final ExoPlayer player = pool.acquire();
+
+    pool.release(player);
+
+    verify(player).stop();
+    verify(player).clearMediaItems();
+    verify(player).clearVideoSurface();
+    verify(player, never()).release();
+    assertEquals(1, pool.getIdleCount());
+    assertSame(player, pool.acquire());
+    assertEquals(0, pool.getIdleCount());
+  }
+
+  @Test
+  public void release_releasesPlayerWhenPoolIsDisabled() {
+    final ExoPlayer player = pool.acquire();
+
+    pool.release(player);
+
+    verify(player).release();
+    assertEquals(0, pool.getIdleCount());
+  }
+
+  @Test
+  public void release_releasesLeastRecentlyReturnedPlayerWhenFull() {
+    pool.setLimits(1, 1000);
+    final ExoPlayer first = pool.acquire();
+    final ExoPlayer second = pool.acquire();
+
+    pool.release(first);
+    pool.release(second);
+
+    verify(first).release();
+    assertSame(second, pool.acquire());
+  }
+
+  @Test
+  public void idlePlayersAreReleasedAfterIdleTimeout() {
+    pool.setLimits(2, 1000);
+    final ExoPlayer first = pool.acquire();
+    final ExoPlayer second = pool.acquire();
+
+    pool.release(first);
+    shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(600));
+    pool.release(second);
+    shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(400));
+
+    verify(first).release();
+    verify(second, never()).release();
+    assertEquals(1, pool.getIdleCount());
+
+    shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(600));
+
+    verify(second).release();
+    assertEquals(0, pool.getIdleCount());
+  }
+
+  @Test
+  public void setLimits_releasesPlayersBeyondNewSize() {
+    pool.setLimits(2, 1000);
+    final ExoPlayer first = pool.acquire();
+    final ExoPlayer second = pool.acquire();
+    pool.release(first);
+    pool.release(second);
+
+    pool.setLimits(1, 1000);
+
+    verify(first).release();
+    verify(second, never()).release();
+  }
+
+  @Test
+  public void setLimits_throwsExceptionForNegativeSize() {
+    assertThrows(IllegalArgumentException.class, () -> pool.setLimits(-1, 1000));
+  }
+}
@@ -0,0 +1,135 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.net.Uri;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.upstream.DefaultHttpDataSource;
+import com.google.android.exoplayer2.upstream.cache.Cache;
+import com.google.android.exoplayer2.upstream.cache.CacheSpan;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.FutureTask;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class VideoCacheTest {
+  private Cache fakeCache;
+  private VideoCache.Evictor evictor;
+
+  @Before
+  public void before() {
+    fakeCache = mock(Cache.class);
+    evictor = new VideoCache.Evictor(100);
+    doAnswer(
+            invocation -> {
+              evictor.onSpanRemoved(fakeCache, invocation.getArgument(0));
+              return null;
+            })
+        .when(fakeCache)
+        .removeSpan(any());
+  }
+
+  private static CacheSpan span(String key, long length, long lastTouchTimestamp) {
+    return new CacheSpan(key, 0, length, lastTouchTimestamp, new File(key));
+  }
+
+  @Test
+  public void evictor_removesLeastRecentlyUsedSpansBeyondMaxBytes() {
+    final CacheSpan oldest = span("a", 40, 1);
+    final CacheSpan touched = span("b", 40, 2);
+    final CacheSpan newest = span("c", 40, 3);
+
+    evictor.onSpanAdded(fakeCache, oldest);
+    evictor.onSpanAdded(fakeCache, touched);
+    evictor.onSpanTouched(fakeCache, touched, span("b", 40, 4));
+    evictor.onSpanAdded(fakeCache, newest);
+
+    verify(fakeCache).removeSpan(oldest);
+    verify(fakeCache, never()).removeSpan(newest);
+  }
+
+  @Test
+  public void evictor_makesRoomForStartedFile() {
+    final CacheSpan cached = span("a", 60, 1);
+
+    evictor.onSpanAdded(fakeCache, cached);
+    evictor.onStartFile(fakeCache, "b", 0, C.LENGTH_UNSET);
+
+    verify(fakeCache, never()).removeSpan(any());
+
+    evictor.onStartFile(fakeCache, "b", 0, 50);
+
+    verify(fakeCache).removeSpan(cached);
+  }
+
+  @Test
+  public void evictor_appliesSmallerMaxBytesOnNextWrite() {
+    final CacheSpan first = span("a", 30, 1);
+    final CacheSpan second = span("b", 30, 2);
+
+    evictor.onSpanAdded(fakeCache, first);
+    evictor.onSpanAdded(fakeCache, second);
+    evictor.setMaxBytes(40);
+
+    verify(fakeCache, never()).removeSpan(any());
+
+    evictor.onSpanAdded(fakeCache, span("c", 10, 3));
+
+    verify(fakeCache).removeSpan(first);
+    verify(fakeCache, never()).removeSpan(second);
+    assertEquals(40, evictor.getMaxBytes());
+  }
+
+  @Test
+  public void getCacheSizeBytes_returnsSpaceOfCache() {
+    final VideoCache videoCache = new VideoCache(fakeCache, evictor, Runnable::run);
+
+    when(fakeCache.getCacheSpace()).thenReturn(1234L);
+
+    assertEquals(1234L, videoCache.getCacheSizeBytes());
+    assertEquals(0L, videoCache.getCacheHitCount());
+    assertEquals(0L, videoCache.getNetworkReadBytes());
+  }
+
+  @Test
+  public void getCacheSizeBytes_returnsZeroWhileCacheIsOpening() {
+    final FutureTask<Cache> openCache = new FutureTask<>(() -> fakeCache);
+    final VideoCache videoCache = new VideoCache(openCache, evictor, Runnable::run);
+
+    when(fakeCache.getCacheSpace()).thenReturn(1234L);
+
+    assertEquals(0L, videoCache.getCacheSizeBytes());
+
+    openCache.run();
+
+    assertEquals(1234L, videoCache.getCacheSizeBytes());
+  }
+
+  @Test
+  public void preload_ignoresUriThatIsStillLoading() {
+    final List<Runnable> preloads = new ArrayList<>();
+    final VideoCache videoCache = new VideoCache(fakeCache, evictor, preloads::add);
+    final DefaultHttpDataSource.Factory httpDataSourceFactory = new DefaultHttpDataSource.Factory();
+
+    videoCache.preload(httpDataSourceFactory, Uri.parse("https://example.com/a.mp4"), 1024);
+    videoCache.preload(httpDataSourceFactory, Uri.parse("https://example.com/a.mp4"), 1024);
+    videoCache.preload(httpDataSourceFactory, Uri.parse("https://example.com/b.mp4"), 1024);
+
+    assertEquals(2, preloads.size());
+  }
+}
@@ -5,6 +5,7 @@
 package io.flutter.plugins.videoplayer;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
@@ -14,12 +15,18 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.robolectric.Shadows.shadowOf;
 
+import android.os.Looper;
 import com.google.android.exoplayer2.ExoPlayer;
 import com.google.android.exoplayer2.Format;
+import com.google.android.exoplayer2.Player;
 import com.google.android.exoplayer2.upstream.DefaultHttpDataSource;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.view.TextureRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Before;
@@ -30,6 +37,7 @@ import org.mockito.Captor;
 import org.mockito.MockitoAnnotations;
 import org.mockito.stubbing.Answer;
 import org.robolectric.RobolectricTestRunner;
+import org.robolectric.shadows.ShadowSystemClock;
 
 @RunWith(RobolectricTestRunner.class)
 public class VideoPlayerTest {
@@ -278,4 +286,112 @@ public class VideoPlayerTest {
     assertEquals(event2.get("event"), "isPlayingStateUpdate");
     assertEquals(event2.get("isPlaying"), false);
   }
+
+  @Test
+  public void getTimeToFirstFrameReturnsNullUntilFirstFrameIsRendered() {
+    VideoPlayer videoPlayer =
+        new VideoPlayer(
+            fakeExoPlayer,
+            fakeEventChannel,
+            fakeSurfaceTextureEntry,
+            fakeVideoPlayerOptions,
+            fakeEventSink,
+            httpDataSourceFactorySpy);
+    ArgumentCaptor<Player.Listener> listenerCaptor =
+        ArgumentCaptor.forClass(Player.Listener.class);
+    verify(fakeExoPlayer).addListener(listenerCaptor.capture());
+
+    assertNull(videoPlayer.getTimeToFirstFrame());
+
+    ShadowSystemClock.advanceBy(Duration.ofMillis(250));
+    listenerCaptor.getValue().onRenderedFirstFrame();
+    ShadowSystemClock.advanceBy(Duration.ofMillis(100));
+    listenerCaptor.getValue().onRenderedFirstFrame();
+
+    assertEquals(Long.valueOf(250), videoPlayer.getTimeToFirstFrame());
+  }
+
+  @Test
+  public void sendProgressUpdateSendsExpectedEvent() {
+    VideoPlayer videoPlayer =
+        new VideoPlayer(
+            fakeExoPlayer,
+            fakeEventChannel,
+            fakeSurfaceTextureEntry,
+            fakeVideoPlayerOptions,
+            fakeEventSink,
+            httpDataSourceFactorySpy);
+    Format testFormat = new Format.Builder().setPeakBitrate(800000).build();
+
+    when(fakeExoPlayer.getCurrentPosition()).thenReturn(1000L);
+    when(fakeExoPlayer.getBufferedPosition()).thenReturn(3000L);
+    when(fakeExoPlayer.getVideoFormat()).thenReturn(testFormat);
+
+    videoPlayer.sendProgressUpdate();
+
+    verify(fakeEventSink).success(eventCaptor.capture());
+    HashMap<String, Object> event = eventCaptor.getValue();
+
+    assertEquals(event.get("event"), "progress");
+    assertEquals(event.get("position"), 1000L);
+    assertEquals(event.get("seekCount"), 0);
+    assertEquals(event.get("values"), Collections.singletonList(Arrays.asList(0, 3000L)));
+    assertEquals(event.get("bitrate"), 800000);
+  }
+
+  @Test
+  public void seekToSendsProgressWithSeekCount() {
+    VideoPlayer videoPlayer =
+        new VideoPlayer(
+            fakeExoPlayer,
+            fakeEventChannel,
+            fakeSurfaceTextureEntry,
+            fakeVideoPlayerOptions,
+            fakeEventSink,
+            httpDataSourceFactorySpy);
+
+    videoPlayer.seekTo(1000);
+    verify(fakeEventSink, never()).success(any());
+
+    videoPlayer.setProgressInterval(500);
+    when(fakeExoPlayer.getCurrentPosition()).thenReturn(2000L);
+    videoPlayer.seekTo(2000);
+
+    verify(fakeExoPlayer).seekTo(2000);
+    verify(fakeEventSink).success(eventCaptor.capture());
+    HashMap<String, Object> event = eventCaptor.getValue();
+    assertEquals(event.get("event"), "progress");
+    assertEquals(event.get("position"), 2000L);
+    assertEquals(event.get("seekCount"), 2);
+  }
+
+  @Test
+  public void setProgressIntervalSendsProgressWhilePlaying() {
+    VideoPlayer videoPlayer =
+        new VideoPlayer(
+            fakeExoPlayer,
+            fakeEventChannel,
+            fakeSurfaceTextureEntry,
+            fakeVideoPlayerOptions,
+            fakeEventSink,
+            httpDataSourceFactorySpy);
+    ArgumentCaptor<Player.Listener> listenerCaptor =
+        ArgumentCaptor.forClass(Player.Listener.class);
+    verify(fakeExoPlayer).addListener(listenerCaptor.capture());
+
+    when(fakeExoPlayer.isPlaying()).thenReturn(true);
+    videoPlayer.setProgressInterval(500);
+    shadowOf(Looper.getMainLooper()).idle();
+    shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(500));
+
+    verify(fakeEventSink, times(2)).success(any());
+
+    when(fakeExoPlayer.isPlaying()).thenReturn(false);
+    listenerCaptor.getValue().onIsPlayingChanged(false);
+    shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(1000));
+
+    // The playing state update and the final progress update.
+    verify(fakeEventSink, times(4)).success(eventCaptor.capture());
+    assertEquals(eventCaptor.getValue().get("event"), "progress");
+  }
 }
@@ -14,6 +14,12 @@ import 'messages.g.dart';
 /// Pigeon-generated [VideoPlayerApi].
 class AndroidVideoPlayer extends VideoPlayerPlatform {
   final AndroidVideoPlayerApi _api = AndroidVideoPlayerApi();
+  final Map<int, AndroidVideoProgress> _progress =
+      <int, AndroidVideoProgress>{};
+  // The number of seeks requested per player. Progress events carry the
+  // number of seeks the player had done when it sent them, so events sent
+  // before the latest seek are recognized and dropped.
+  final Map<int, int> _seekCounts = <int, int>{};
 
   /// Registers this class as the default instance of [PathProviderPlatform].
   static void registerWith() {
@@ -27,11 +33,22 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
 
   @override
   Future<void> dispose(int textureId) {
+    _progress.remove(textureId);
+    _seekCounts.remove(textureId);
     return _api.dispose(TextureMessage(textureId: textureId));
   }
 
   @override
-  Future<int?> create(DataSource dataSource) async {
+  Future<int?> create(DataSource dataSource) {
+    return createWithBufferOptions(dataSource, const AndroidBufferOptions());
+  }
+
+  /// Creates an instance of a video player like [create], buffering media as
+  /// set by [bufferOptions].
+  Future<int?> createWithBufferOptions(
+    DataSource dataSource,
+    AndroidBufferOptions bufferOptions,
+  ) async {
     String? asset;
     String? packageName;
     String? uri;
@@ -61,6 +78,13 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
       uri: uri,
       httpHeaders: httpHeaders,
       formatHint: formatHint,
+      minBufferMs: bufferOptions.minBuffer?.inMilliseconds,
+      maxBufferMs: bufferOptions.maxBuffer?.inMilliseconds,
+      bufferForPlaybackMs: bufferOptions.bufferForPlayback?.inMilliseconds,
+      bufferForPlaybackAfterRebufferMs:
+          bufferOptions.bufferForPlaybackAfterRebuffer?.inMilliseconds,
+      targetBufferBytes: bufferOptions.targetBufferBytes,
+      backBufferMs: bufferOptions.backBuffer?.inMilliseconds,
     );
 
     final TextureMessage response = await _api.create(message);
@@ -105,6 +129,8 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
 
   @override
   Future<void> seekTo(int textureId, Duration position) {
+    _progress.remove(textureId);
+    _seekCounts[textureId] = (_seekCounts[textureId] ?? 0) + 1;
     return _api.seekTo(PositionMessage(
       textureId: textureId,
       position: position.inMilliseconds,
@@ -113,6 +139,10 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
 
   @override
   Future<Duration> getPosition(int textureId) async {
+    final AndroidVideoProgress? progress = _progress[textureId];
+    if (progress != null) {
+      return progress.position;
+    }
     final PositionMessage response =
         await _api.position(TextureMessage(textureId: textureId));
     return Duration(milliseconds: response.position);
@@ -144,6 +174,23 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
             buffered: values.map<DurationRange>(_toDurationRange).toList(),
             eventType: VideoEventType.bufferingUpdate,
           );
+        case 'progress':
+          final List<DurationRange> buffered = (map['values'] as List<dynamic>)
+              .map<DurationRange>(_toDurationRange)
+              .toList();
+          final int seekCount = map['seekCount'] as int? ?? 0;
+          if (seekCount >= (_seekCounts[textureId] ?? 0)) {
+            _progress[textureId] = AndroidVideoProgress(
+              position: Duration(milliseconds: map['position'] as int),
+              buffered: buffered,
+              bitrate: map['bitrate'] as int?,
+            );
+          }
+
+          return VideoEvent(
+            buffered: buffered,
+            eventType: VideoEventType.bufferingUpdate,
+          );
         case 'bufferingStart':
           return VideoEvent(eventType: VideoEventType.bufferingStart);
         case 'bufferingEnd':
@@ -170,6 +217,104 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
         .setMixWithOthers(MixWithOthersMessage(mixWithOthers: mixWithOthers));
   }
 
+  /// Sets the size of the disk cache shared by players of network videos.
+  ///
+  /// Media loaded by players created afterwards is cached on disk, and the
+  /// least recently used media is evicted once the cache grows beyond
+  /// [maxCacheBytes]. A value of 0 disables caching for new players.
+  Future<void> setMaxCacheSize(int maxCacheBytes) {
+    assert(maxCacheBytes >= 0);
+
+    return _api.setCacheOptions(CacheMessage(maxCacheBytes: maxCacheBytes));
+  }
+
+  /// Returns the statistics of the disk cache shared by players.
+  Future<VideoCacheStats> getCacheStats() async {
+    final CacheStatsMessage response = await _api.getCacheStats();
+    return VideoCacheStats(
+      cacheHitCount: response.cacheHitCount,
+      cacheReadBytes: response.cacheReadBytes,
+      networkReadBytes: response.networkReadBytes,
+      cacheSizeBytes: response.cacheSizeBytes,
+      maxCacheBytes: response.maxCacheBytes,
+    );
+  }
+
+  /// Sets how often the player sends its position, buffered range and bitrate
+  /// while it plays, or stops the updates if [interval] is null.
+  ///
+  /// Each update is delivered as a [VideoEventType.bufferingUpdate] event, and
+  /// [getPosition] returns the position of the last update instead of querying
+  /// the player.
+  Future<void> setProgressInterval(int textureId, Duration? interval) {
+    assert(interval == null || interval > Duration.zero);
+
+    if (interval == null) {
+      _progress.remove(textureId);
+    }
+    return _api.setProgressInterval(ProgressMessage(
+      textureId: textureId,
+      intervalMs: interval?.inMilliseconds ?? 0,
+    ));
+  }
+
+  /// Returns the last progress update sent by the player, or null if it has
+  /// not sent one since it was created or seeked.
+  ///
+  /// Updates sent before the latest [seekTo] reached the player are ignored.
+  AndroidVideoProgress? progressFor(int textureId) {
+    return _progress[textureId];
+  }
+
+  /// Sets the limits of the pool of native players kept for reuse.
+  ///
+  /// Disposed players are kept and reused by players created afterwards, which
+  /// avoids setting up codecs and renderers again. Up to [maxSize] idle players
+  /// are kept, each for up to [idleTimeout]. A [maxSize] of 0, the default,
+  /// releases every disposed player.
+  Future<void> setPlayerPoolOptions({
+    required int maxSize,
+    Duration idleTimeout = const Duration(seconds: 30),
+  }) {
+    assert(maxSize >= 0);
+    assert(!idleTimeout.isNegative);
+
+    return _api.setPlayerPoolOptions(PlayerPoolMessage(
+      maxSize: maxSize,
+      idleTimeoutMs: idleTimeout.inMilliseconds,
+    ));
+  }
+
+  /// Loads the first [preloadBytes] bytes of the network video at [uri] into
+  /// the disk cache, so that a player created for it later starts faster.
+  ///
+  /// The cache must be enabled with [setMaxCacheSize]. The video is loaded in
+  /// the background, and the returned future completes once it has started.
+  Future<void> preload(
+    String uri, {
+    required int preloadBytes,
+    Map<String, String> httpHeaders = const <String, String>{},
+  }) {
+    assert(preloadBytes > 0);
+
+    return _api.preload(PreloadMessage(
+      uri: uri,
+      preloadBytes: preloadBytes,
+      httpHeaders: httpHeaders,
+    ));
+  }
+
+  /// Returns the time from the creation of the player until its first frame
+  /// was rendered, or null if no frame has been rendered yet.
+  Future<Duration?> getTimeToFirstFrame(int textureId) async {
+    final FirstFrameMessage response =
+        await _api.timeToFirstFrame(TextureMessage(textureId: textureId));
+    final int? timeToFirstFrame = response.timeToFirstFrame;
+    return timeToFirstFrame == null
+        ? null
+        : Duration(milliseconds: timeToFirstFrame);
+  }
+
   EventChannel _eventChannelFor(int textureId) {
     return EventChannel('flutter.io/videoPlayer/videoEvents$textureId');
   }
@@ -190,3 +335,88 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
     );
   }
 }
+
+/// A progress update sent by a playing video player.
+@immutable
+class AndroidVideoProgress {
+  /// Creates a progress update.
+  const AndroidVideoProgress({
+    required this.position,
+    required this.buffered,
+    this.bitrate,
+  });
+
+  /// The playback position.
+  final Duration position;
+
+  /// The ranges of the video that are buffered.
+  final List<DurationRange> buffered;
+
+  /// The bitrate of the video track in bits per second, if it is known.
+  final int? bitrate;
+}
+
+/// How much media a player buffers.
+///
+/// Values that are null keep the defaults of ExoPlayer.
+@immutable
+class AndroidBufferOptions {
+  /// Creates buffer options.
+  const AndroidBufferOptions({
+    this.minBuffer,
+    this.maxBuffer,
+    this.bufferForPlayback,
+    this.bufferForPlaybackAfterRebuffer,
+    this.targetBufferBytes,
+    this.backBuffer,
+  });
+
+  /// The duration of media the player tries to keep buffered.
+  final Duration? minBuffer;
+
+  /// The maximum duration of media the player buffers.
+  final Duration? maxBuffer;
+
+  /// The duration of media that must be buffered to start playback or to
+  /// resume it after a seek.
+  final Duration? bufferForPlayback;
+
+  /// The duration of media that must be buffered to resume playback after it
+  /// ran out of buffered media.
+  final Duration? bufferForPlaybackAfterRebuffer;
+
+  /// The maximum size of the buffer in bytes, which takes precedence over the
+  /// durations.
+  final int? targetBufferBytes;
+
+  /// The duration of played media kept for seeking backwards.
+  final Duration? backBuffer;
+}
+
+/// Statistics of the disk cache shared by players of network videos.
+@immutable
+class VideoCacheStats {
+  /// Creates statistics of the disk cache.
+  const VideoCacheStats({
+    required this.cacheHitCount,
+    required this.cacheReadBytes,
+    required this.networkReadBytes,
+    required this.cacheSizeBytes,
+    required this.maxCacheBytes,
+  });
+
+  /// The number of reads that were served from the cache.
+  final int cacheHitCount;
+
+  /// The number of bytes that were read from the cache.
+  final int cacheReadBytes;
+
+  /// The number of bytes that were loaded from the network through the cache.
+  final int networkReadBytes;
+
+  /// The number of bytes the cache takes on disk.
+  final int cacheSizeBytes;
+
+  /// The size the cache is evicted down to.
+  final int maxCacheBytes;
+}
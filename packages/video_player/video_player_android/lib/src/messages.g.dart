@@ -143,6 +143,12 @@ class CreateMessage {
     this.packageName,
     this.formatHint,
     required this.httpHeaders,
+    this.minBufferMs,
+    this.maxBufferMs,
+    this.bufferForPlaybackMs,
+    this.bufferForPlaybackAfterRebufferMs,
+    this.targetBufferBytes,
+    this.backBufferMs,
   });
 
   String? asset;
@@ -155,6 +161,18 @@ class CreateMessage {
 
   Map<String?, String?> httpHeaders;
 
+  int? minBufferMs;
+
+  int? maxBufferMs;
+
+  int? bufferForPlaybackMs;
+
+  int? bufferForPlaybackAfterRebufferMs;
+
+  int? targetBufferBytes;
+
+  int? backBufferMs;
+
   Object encode() {
     return <Object?>[
       asset,
@@ -162,6 +180,12 @@ class CreateMessage {
       packageName,
       formatHint,
       httpHeaders,
+      minBufferMs,
+      maxBufferMs,
+      bufferForPlaybackMs,
+      bufferForPlaybackAfterRebufferMs,
+      targetBufferBytes,
+      backBufferMs,
     ];
   }
 
@@ -174,6 +198,12 @@ class CreateMessage {
       formatHint: result[3] as String?,
       httpHeaders:
           (result[4] as Map<Object?, Object?>?)!.cast<String?, String?>(),
+      minBufferMs: result[5] as int?,
+      maxBufferMs: result[6] as int?,
+      bufferForPlaybackMs: result[7] as int?,
+      bufferForPlaybackAfterRebufferMs: result[8] as int?,
+      targetBufferBytes: result[9] as int?,
+      backBufferMs: result[10] as int?,
     );
   }
 }
@@ -199,31 +229,221 @@ class MixWithOthersMessage {
   }
 }
 
+class CacheMessage {
+  CacheMessage({
+    required this.maxCacheBytes,
+  });
+
+  int maxCacheBytes;
+
+  Object encode() {
+    return <Object?>[
+      maxCacheBytes,
+    ];
+  }
+
+  static CacheMessage decode(Object result) {
+    result as List<Object?>;
+    return CacheMessage(
+      maxCacheBytes: result[0]! as int,
+    );
+  }
+}
+
+class CacheStatsMessage {
+  CacheStatsMessage({
+    required this.cacheHitCount,
+    required this.cacheReadBytes,
+    required this.networkReadBytes,
+    required this.cacheSizeBytes,
+    required this.maxCacheBytes,
+  });
+
+  int cacheHitCount;
+
+  int cacheReadBytes;
+
+  int networkReadBytes;
+
+  int cacheSizeBytes;
+
+  int maxCacheBytes;
+
+  Object encode() {
+    return <Object?>[
+      cacheHitCount,
+      cacheReadBytes,
+      networkReadBytes,
+      cacheSizeBytes,
+      maxCacheBytes,
+    ];
+  }
+
+  static CacheStatsMessage decode(Object result) {
+    result as List<Object?>;
+    return CacheStatsMessage(
+      cacheHitCount: result[0]! as int,
+      cacheReadBytes: result[1]! as int,
+      networkReadBytes: result[2]! as int,
+      cacheSizeBytes: result[3]! as int,
+      maxCacheBytes: result[4]! as int,
+    );
+  }
+}
+
+class PreloadMessage {
+  PreloadMessage({
+    required this.uri,
+    required this.preloadBytes,
+    required this.httpHeaders,
+  });
+
+  String uri;
+
+  int preloadBytes;
+
+  Map<String?, String?> httpHeaders;
+
+  Object encode() {
+    return <Object?>[
+      uri,
+      preloadBytes,
+      httpHeaders,
+    ];
+  }
+
+  static PreloadMessage decode(Object result) {
+    result as List<Object?>;
+    return PreloadMessage(
+      uri: result[0]! as String,
+      preloadBytes: result[1]! as int,
+      httpHeaders:
+          (result[2] as Map<Object?, Object?>?)!.cast<String?, String?>(),
+    );
+  }
+}
+
+class FirstFrameMessage {
+  FirstFrameMessage({
+    required this.textureId,
+    this.timeToFirstFrame,
+  });
+
+  int textureId;
+
+  int? timeToFirstFrame;
+
+  Object encode() {
+    return <Object?>[
+      textureId,
+      timeToFirstFrame,
+    ];
+  }
+
+  static FirstFrameMessage decode(Object result) {
+    result as List<Object?>;
+    return FirstFrameMessage(
+      textureId: result[0]! as int,
+      timeToFirstFrame: result[1] as int?,
+    );
+  }
+}
+
+class PlayerPoolMessage {
+  PlayerPoolMessage({
+    required this.maxSize,
+    required this.idleTimeoutMs,
+  });
+
+  int maxSize;
+
+  int idleTimeoutMs;
+
+  Object encode() {
+    return <Object?>[
+      maxSize,
+      idleTimeoutMs,
+    ];
+  }
+
+  static PlayerPoolMessage decode(Object result) {
+    result as List<Object?>;
+    return PlayerPoolMessage(
+      maxSize: result[0]! as int,
+      idleTimeoutMs: result[1]! as int,
+    );
+  }
+}
+
+class ProgressMessage {
+  ProgressMessage({
+    required this.textureId,
+    required this.intervalMs,
+  });
+
+  int textureId;
+
+  int intervalMs;
+
+  Object encode() {
+    return <Object?>[
+      textureId,
+      intervalMs,
+    ];
+  }
+
+  static ProgressMessage decode(Object result) {
+    result as List<Object?>;
+    return ProgressMessage(
+      textureId: result[0]! as int,
+      intervalMs: result[1]! as int,
+    );
+  }
+}
+
 class _AndroidVideoPlayerApiCodec extends StandardMessageCodec {
   const _AndroidVideoPlayerApiCodec();
   @override
   void writeValue(WriteBuffer buffer, Object? value) {
-    if (value is CreateMessage) {
+    if (value is CacheMessage) {
       buffer.putUint8(128);
       writeValue(buffer, value.encode());
-    } else if (value is LoopingMessage) {
+    } else if (value is CacheStatsMessage) {
       buffer.putUint8(129);
       writeValue(buffer, value.encode());
-    } else if (value is MixWithOthersMessage) {
+    } else if (value is CreateMessage) {
       buffer.putUint8(130);
       writeValue(buffer, value.encode());
-    } else if (value is PlaybackSpeedMessage) {
+    } else if (value is FirstFrameMessage) {
       buffer.putUint8(131);
       writeValue(buffer, value.encode());
-    } else if (value is PositionMessage) {
+    } else if (value is LoopingMessage) {
       buffer.putUint8(132);
       writeValue(buffer, value.encode());
-    } else if (value is TextureMessage) {
+    } else if (value is MixWithOthersMessage) {
       buffer.putUint8(133);
       writeValue(buffer, value.encode());
-    } else if (value is VolumeMessage) {
+    } else if (value is PlaybackSpeedMessage) {
       buffer.putUint8(134);
       writeValue(buffer, value.encode());
+    } else if (value is PlayerPoolMessage) {
+      buffer.putUint8(135);
+      writeValue(buffer, value.encode());
+    } else if (value is PositionMessage) {
+      buffer.putUint8(136);
+      writeValue(buffer, value.encode());
+    } else if (value is PreloadMessage) {
+      buffer.putUint8(137);
+      writeValue(buffer, value.encode());
+    } else if (value is ProgressMessage) {
+      buffer.putUint8(138);
+      writeValue(buffer, value.encode());
+    } else if (value is TextureMessage) {
+      buffer.putUint8(139);
+      writeValue(buffer, value.encode());
+    } else if (value is VolumeMessage) {
+      buffer.putUint8(140);
+      writeValue(buffer, value.encode());
     } else {
       super.writeValue(buffer, value);
     }
@@ -233,18 +453,30 @@ class _AndroidVideoPlayerApiCodec extends StandardMessageCodec {
   Object? readValueOfType(int type, ReadBuffer buffer) {
     switch (type) {
       case 128:
-        return CreateMessage.decode(readValue(buffer)!);
+        return CacheMessage.decode(readValue(buffer)!);
       case 129:
-        return LoopingMessage.decode(readValue(buffer)!);
+        return CacheStatsMessage.decode(readValue(buffer)!);
       case 130:
-        return MixWithOthersMessage.decode(readValue(buffer)!);
+        return CreateMessage.decode(readValue(buffer)!);
       case 131:
-        return PlaybackSpeedMessage.decode(readValue(buffer)!);
+        return FirstFrameMessage.decode(readValue(buffer)!);
       case 132:
-        return PositionMessage.decode(readValue(buffer)!);
+        return LoopingMessage.decode(readValue(buffer)!);
       case 133:
-        return TextureMessage.decode(readValue(buffer)!);
+        return MixWithOthersMessage.decode(readValue(buffer)!);
       case 134:
+        return PlaybackSpeedMessage.decode(readValue(buffer)!);
+      case 135:
+        return PlayerPoolMessage.decode(readValue(buffer)!);
+      case 136:
+        return PositionMessage.decode(readValue(buffer)!);
+      case 137:
+        return PreloadMessage.decode(readValue(buffer)!);
+      case 138:
+        return ProgressMessage.decode(readValue(buffer)!);
+      case 139:
+        return TextureMessage.decode(readValue(buffer)!);
+      case 140:
         return VolumeMessage.decode(readValue(buffer)!);
       default:
         return super.readValueOfType(type, buffer);
@@ -512,4 +744,145 @@ class AndroidVideoPlayerApi {
       return;
     }
   }
+
+  Future<void> setCacheOptions(CacheMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setCacheOptions', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<CacheStatsMessage> getCacheStats() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.getCacheStats', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(null) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as CacheStatsMessage?)!;
+    }
+  }
+
+  Future<void> preload(PreloadMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.preload', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<FirstFrameMessage> timeToFirstFrame(TextureMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.timeToFirstFrame', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as FirstFrameMessage?)!;
+    }
+  }
+
+  Future<void> setPlayerPoolOptions(PlayerPoolMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setPlayerPoolOptions', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setProgressInterval(ProgressMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setProgressInterval', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
 }
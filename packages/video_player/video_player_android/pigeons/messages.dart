@@ -49,6 +49,12 @@ class CreateMessage {
   String? packageName;
   String? formatHint;
   Map<String?, String?> httpHeaders;
+  int? minBufferMs;
+  int? maxBufferMs;
+  int? bufferForPlaybackMs;
+  int? bufferForPlaybackAfterRebufferMs;
+  int? targetBufferBytes;
+  int? backBufferMs;
 }
 
 class MixWithOthersMessage {
@@ -56,6 +62,46 @@ class MixWithOthersMessage {
   bool mixWithOthers;
 }
 
+class CacheMessage {
+  CacheMessage(this.maxCacheBytes);
+  int maxCacheBytes;
+}
+
+class CacheStatsMessage {
+  CacheStatsMessage(this.cacheHitCount, this.cacheReadBytes,
+      this.networkReadBytes, this.cacheSizeBytes, this.maxCacheBytes);
+  int cacheHitCount;
+  int cacheReadBytes;
+  int networkReadBytes;
+  int cacheSizeBytes;
+  int maxCacheBytes;
+}
+
+class PreloadMessage {
+  PreloadMessage(this.uri, this.preloadBytes, {required this.httpHeaders});
+  String uri;
+  int preloadBytes;
+  Map<String?, String?> httpHeaders;
+}
+
+class FirstFrameMessage {
+  FirstFrameMessage(this.textureId, this.timeToFirstFrame);
+  int textureId;
+  int? timeToFirstFrame;
+}
+
+class PlayerPoolMessage {
+  PlayerPoolMessage(this.maxSize, this.idleTimeoutMs);
+  int maxSize;
+  int idleTimeoutMs;
+}
+
+class ProgressMessage {
+  ProgressMessage(this.textureId, this.intervalMs);
+  int textureId;
+  int intervalMs;
+}
+
 @HostApi(dartHostTestHandler: 'TestHostVideoPlayerApi')
 abstract class AndroidVideoPlayerApi {
   void initialize();
@@ -69,4 +115,10 @@ abstract class AndroidVideoPlayerApi {
   void seekTo(PositionMessage msg);
   void pause(TextureMessage msg);
   void setMixWithOthers(MixWithOthersMessage msg);
+  void setCacheOptions(CacheMessage msg);
+  CacheStatsMessage getCacheStats();
+  void preload(PreloadMessage msg);
+  FirstFrameMessage timeToFirstFrame(TextureMessage msg);
+  void setPlayerPoolOptions(PlayerPoolMessage msg);
+  void setProgressInterval(ProgressMessage msg);
 }
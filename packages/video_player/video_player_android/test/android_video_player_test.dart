@@ -19,6 +19,10 @@ class _ApiLogger implements TestHostVideoPlayerApi {
   VolumeMessage? volumeMessage;
   PlaybackSpeedMessage? playbackSpeedMessage;
   MixWithOthersMessage? mixWithOthersMessage;
+  CacheMessage? cacheMessage;
+  PreloadMessage? preloadMessage;
+  PlayerPoolMessage? playerPoolMessage;
+  ProgressMessage? progressMessage;
 
   @override
   TextureMessage create(CreateMessage arg) {
@@ -56,6 +60,49 @@ class _ApiLogger implements TestHostVideoPlayerApi {
     mixWithOthersMessage = arg;
   }
 
+  @override
+  void setCacheOptions(CacheMessage arg) {
+    log.add('setCacheOptions');
+    cacheMessage = arg;
+  }
+
+  @override
+  CacheStatsMessage getCacheStats() {
+    log.add('getCacheStats');
+    return CacheStatsMessage(
+      cacheHitCount: 2,
+      cacheReadBytes: 1024,
+      networkReadBytes: 4096,
+      cacheSizeBytes: 8192,
+      maxCacheBytes: 65536,
+    );
+  }
+
+  @override
+  void setPlayerPoolOptions(PlayerPoolMessage arg) {
+    log.add('setPlayerPoolOptions');
+    playerPoolMessage = arg;
+  }
+
+  @override
+  void preload(PreloadMessage arg) {
+    log.add('preload');
+    preloadMessage = arg;
+  }
+
+  @override
+  FirstFrameMessage timeToFirstFrame(TextureMessage arg) {
+    log.add('timeToFirstFrame');
+    textureMessage = arg;
+    return FirstFrameMessage(textureId: arg.textureId, timeToFirstFrame: 180);
+  }
+
+  @override
+  void setProgressInterval(ProgressMessage arg) {
+    log.add('setProgressInterval');
+    progressMessage = arg;
+  }
+
   @override
   PositionMessage position(TextureMessage arg) {
     log.add('position');
@@ -184,6 +231,32 @@ void main() {
           <String, String>{'Authorization': 'Bearer token'});
       expect(textureId, 3);
     });
+    test('createWithBufferOptions', () async {
+      final int? textureId = await player.createWithBufferOptions(
+        DataSource(
+          sourceType: DataSourceType.network,
+          uri: 'https://example.com',
+        ),
+        const AndroidBufferOptions(
+          minBuffer: Duration(seconds: 5),
+          maxBuffer: Duration(seconds: 10),
+          bufferForPlayback: Duration(milliseconds: 500),
+          bufferForPlaybackAfterRebuffer: Duration(seconds: 1),
+          targetBufferBytes: 4096,
+          backBuffer: Duration(seconds: 2),
+        ),
+      );
+      expect(log.log.last, 'create');
+      expect(log.createMessage?.uri, 'https://example.com');
+      expect(log.createMessage?.minBufferMs, 5000);
+      expect(log.createMessage?.maxBufferMs, 10000);
+      expect(log.createMessage?.bufferForPlaybackMs, 500);
+      expect(log.createMessage?.bufferForPlaybackAfterRebufferMs, 1000);
+      expect(log.createMessage?.targetBufferBytes, 4096);
+      expect(log.createMessage?.backBufferMs, 2000);
+      expect(textureId, 3);
+    });
+
     test('setLooping', () async {
       await player.setLooping(1, true);
       expect(log.log.last, 'setLooping');
@@ -241,6 +314,66 @@ void main() {
       expect(position, const Duration(milliseconds: 234));
     });
 
+    test('setMaxCacheSize', () async {
+      await player.setMaxCacheSize(65536);
+      expect(log.log.last, 'setCacheOptions');
+      expect(log.cacheMessage?.maxCacheBytes, 65536);
+    });
+
+    test('getCacheStats', () async {
+      final VideoCacheStats stats = await player.getCacheStats();
+      expect(log.log.last, 'getCacheStats');
+      expect(stats.cacheHitCount, 2);
+      expect(stats.cacheReadBytes, 1024);
+      expect(stats.networkReadBytes, 4096);
+      expect(stats.cacheSizeBytes, 8192);
+      expect(stats.maxCacheBytes, 65536);
+    });
+
+    test('setPlayerPoolOptions', () async {
+      await player.setPlayerPoolOptions(
+        maxSize: 3,
+        idleTimeout: const Duration(seconds: 10),
+      );
+      expect(log.log.last, 'setPlayerPoolOptions');
+      expect(log.playerPoolMessage?.maxSize, 3);
+      expect(log.playerPoolMessage?.idleTimeoutMs, 10000);
+    });
+
+    test('preload', () async {
+      await player.preload(
+        'https://example.com',
+        preloadBytes: 1024,
+        httpHeaders: <String, String>{'Authorization': 'Bearer token'},
+      );
+      expect(log.log.last, 'preload');
+      expect(log.preloadMessage?.uri, 'https://example.com');
+      expect(log.preloadMessage?.preloadBytes, 1024);
+      expect(log.preloadMessage?.httpHeaders,
+          <String, String>{'Authorization': 'Bearer token'});
+    });
+
+    test('getTimeToFirstFrame', () async {
+      final Duration? timeToFirstFrame = await player.getTimeToFirstFrame(1);
+      expect(log.log.last, 'timeToFirstFrame');
+      expect(log.textureMessage?.textureId, 1);
+      expect(timeToFirstFrame, const Duration(milliseconds: 180));
+    });
+
+    test('setProgressInterval', () async {
+      await player.setProgressInterval(1, const Duration(milliseconds: 250));
+      expect(log.log.last, 'setProgressInterval');
+      expect(log.progressMessage?.textureId, 1);
+      expect(log.progressMessage?.intervalMs, 250);
+    });
+
+    test('setProgressInterval with null interval stops updates', () async {
+      await player.setProgressInterval(1, null);
+      expect(log.log.last, 'setProgressInterval');
+      expect(log.progressMessage?.textureId, 1);
+      expect(log.progressMessage?.intervalMs, 0);
+    });
+
     test('videoEventsFor', () async {
       const String mockChannel = 'flutter.io/videoPlayer/videoEvents123';
       _ambiguate(TestDefaultBinaryMessengerBinding.instance)!
@@ -302,6 +435,21 @@ void main() {
                     }),
                     (ByteData? data) {});
 
+            await _ambiguate(TestDefaultBinaryMessengerBinding.instance)!
+                .defaultBinaryMessenger
+                .handlePlatformMessage(
+                    mockChannel,
+                    const StandardMethodCodec()
+                        .encodeSuccessEnvelope(<String, dynamic>{
+                      'event': 'progress',
+                      'position': 1500,
+                      'values': <List<dynamic>>[
+                        <int>[0, 6000],
+                      ],
+                      'bitrate': 800000,
+                    }),
+                    (ByteData? data) {});
+
             await _ambiguate(TestDefaultBinaryMessengerBinding.instance)!
                 .defaultBinaryMessenger
                 .handlePlatformMessage(
@@ -352,7 +500,7 @@ void main() {
           }
         },
       );
-      expect(
+      await expectLater(
           player.videoEventsFor(123),
           emitsInOrder(<dynamic>[
             VideoEvent(
@@ -380,6 +528,14 @@ void main() {
                     const Duration(milliseconds: 4000),
                   ),
                 ]),
+            VideoEvent(
+                eventType: VideoEventType.bufferingUpdate,
+                buffered: <DurationRange>[
+                  DurationRange(
+                    Duration.zero,
+                    const Duration(milliseconds: 6000),
+                  ),
+                ]),
             VideoEvent(eventType: VideoEventType.bufferingStart),
             VideoEvent(eventType: VideoEventType.bufferingEnd),
             VideoEvent(
@@ -391,6 +547,62 @@ void main() {
               isPlaying: false,
             ),
           ]));
+
+      final AndroidVideoProgress? progress = player.progressFor(123);
+      expect(progress?.position, const Duration(milliseconds: 1500));
+      expect(progress?.bitrate, 800000);
+      final int callCount = log.log.length;
+      expect(await player.getPosition(123), const Duration(milliseconds: 1500));
+      expect(log.log.length, callCount);
+
+      await player.seekTo(123, Duration.zero);
+      expect(player.progressFor(123), isNull);
+    });
+
+    test('videoEventsFor drops progress sent before a seek', () async {
+      const String mockChannel = 'flutter.io/videoPlayer/videoEvents124';
+      _ambiguate(TestDefaultBinaryMessengerBinding.instance)!
+          .defaultBinaryMessenger
+          .setMockMessageHandler(
+        mockChannel,
+        (ByteData? message) async {
+          final MethodCall methodCall =
+              const StandardMethodCodec().decodeMethodCall(message);
+          if (methodCall.method == 'listen') {
+            // The first event was sent before the player handled the seek.
+            for (final int seekCount in <int>[0, 1]) {
+              await _ambiguate(TestDefaultBinaryMessengerBinding.instance)!
+                  .defaultBinaryMessenger
+                  .handlePlatformMessage(
+                      mockChannel,
+                      const StandardMethodCodec()
+                          .encodeSuccessEnvelope(<String, dynamic>{
+                        'event': 'progress',
+                        'position': seekCount == 0 ? 1500 : 3000,
+                        'seekCount': seekCount,
+                        'values': <List<dynamic>>[
+                          <int>[0, 6000],
+                        ],
+                      }),
+                      (ByteData? data) {});
+            }
+
+            return const StandardMethodCodec().encodeSuccessEnvelope(null);
+          } else if (methodCall.method == 'cancel') {
+            return const StandardMethodCodec().encodeSuccessEnvelope(null);
+          } else {
+            fail('Expected listen or cancel');
+          }
+        },
+      );
+
+      await player.seekTo(124, const Duration(milliseconds: 3000));
+      final List<Duration?> positions = <Duration?>[];
+      await player.videoEventsFor(124).take(2).forEach((VideoEvent event) {
+        positions.add(player.progressFor(124)?.position);
+      });
+
+      expect(positions, <Duration?>[null, const Duration(milliseconds: 3000)]);
     });
   });
 }
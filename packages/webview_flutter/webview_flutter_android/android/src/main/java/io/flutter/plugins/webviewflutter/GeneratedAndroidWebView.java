@@ -595,12 +595,229 @@ public class GeneratedAndroidWebView {
     }
   }
 
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class InstanceManagerStatsData {
+    private @NonNull Long strongInstanceCount;
+
+    public @NonNull Long getStrongInstanceCount() {
+      return strongInstanceCount;
+    }
+
+    public void setStrongInstanceCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"strongInstanceCount\" is null.");
+      }
+      this.strongInstanceCount = setterArg;
+    }
+
+    private @NonNull Long weakInstanceCount;
+
+    public @NonNull Long getWeakInstanceCount() {
+      return weakInstanceCount;
+    }
+
+    public void setWeakInstanceCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"weakInstanceCount\" is null.");
+      }
+      this.weakInstanceCount = setterArg;
+    }
+
+    private @NonNull Long oldestStrongReferenceAgeMillis;
+
+    public @NonNull Long getOldestStrongReferenceAgeMillis() {
+      return oldestStrongReferenceAgeMillis;
+    }
+
+    public void setOldestStrongReferenceAgeMillis(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException(
+            "Nonnull field \"oldestStrongReferenceAgeMillis\" is null.");
+      }
+      this.oldestStrongReferenceAgeMillis = setterArg;
+    }
+
+    private @NonNull Long finalizationBacklog;
+
+    public @NonNull Long getFinalizationBacklog() {
+      return finalizationBacklog;
+    }
+
+    public void setFinalizationBacklog(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"finalizationBacklog\" is null.");
+      }
+      this.finalizationBacklog = setterArg;
+    }
+
+    private @NonNull Map<String, Long> strongInstanceCountsByClass;
+
+    public @NonNull Map<String, Long> getStrongInstanceCountsByClass() {
+      return strongInstanceCountsByClass;
+    }
+
+    public void setStrongInstanceCountsByClass(@NonNull Map<String, Long> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"strongInstanceCountsByClass\" is null.");
+      }
+      this.strongInstanceCountsByClass = setterArg;
+    }
+
+    private @NonNull Map<String, Long> weakInstanceCountsByClass;
+
+    public @NonNull Map<String, Long> getWeakInstanceCountsByClass() {
+      return weakInstanceCountsByClass;
+    }
+
+    public void setWeakInstanceCountsByClass(@NonNull Map<String, Long> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"weakInstanceCountsByClass\" is null.");
+      }
+      this.weakInstanceCountsByClass = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    InstanceManagerStatsData() {}
+
+    public static final class Builder {
+
+      private @Nullable Long strongInstanceCount;
+
+      public @NonNull Builder setStrongInstanceCount(@NonNull Long setterArg) {
+        this.strongInstanceCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long weakInstanceCount;
+
+      public @NonNull Builder setWeakInstanceCount(@NonNull Long setterArg) {
+        this.weakInstanceCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long oldestStrongReferenceAgeMillis;
+
+      public @NonNull Builder setOldestStrongReferenceAgeMillis(@NonNull Long setterArg) {
+        this.oldestStrongReferenceAgeMillis = setterArg;
+        return this;
+      }
+
+      private @Nullable Long finalizationBacklog;
+
+      public @NonNull Builder setFinalizationBacklog(@NonNull Long setterArg) {
+        this.finalizationBacklog = setterArg;
+        return this;
+      }
+
+      private @Nullable Map<String, Long> strongInstanceCountsByClass;
+
+      public @NonNull Builder setStrongInstanceCountsByClass(@NonNull Map<String, Long> setterArg) {
+        this.strongInstanceCountsByClass = setterArg;
+        return this;
+      }
+
+      private @Nullable Map<String, Long> weakInstanceCountsByClass;
+
+      public @NonNull Builder setWeakInstanceCountsByClass(@NonNull Map<String, Long> setterArg) {
+        this.weakInstanceCountsByClass = setterArg;
+        return this;
+      }
+
+      public @NonNull InstanceManagerStatsData build() {
+        InstanceManagerStatsData pigeonReturn = new InstanceManagerStatsData();
+        pigeonReturn.setStrongInstanceCount(strongInstanceCount);
+        pigeonReturn.setWeakInstanceCount(weakInstanceCount);
+        pigeonReturn.setOldestStrongReferenceAgeMillis(oldestStrongReferenceAgeMillis);
+        pigeonReturn.setFinalizationBacklog(finalizationBacklog);
+        pigeonReturn.setStrongInstanceCountsByClass(strongInstanceCountsByClass);
+        pigeonReturn.setWeakInstanceCountsByClass(weakInstanceCountsByClass);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(6);
+      toListResult.add(strongInstanceCount);
+      toListResult.add(weakInstanceCount);
+      toListResult.add(oldestStrongReferenceAgeMillis);
+      toListResult.add(finalizationBacklog);
+      toListResult.add(strongInstanceCountsByClass);
+      toListResult.add(weakInstanceCountsByClass);
+      return toListResult;
+    }
+
+    static @NonNull InstanceManagerStatsData fromList(@NonNull ArrayList<Object> list) {
+      InstanceManagerStatsData pigeonResult = new InstanceManagerStatsData();
+      Object strongInstanceCount = list.get(0);
+      pigeonResult.setStrongInstanceCount(
+          (strongInstanceCount == null)
+              ? null
+              : ((strongInstanceCount instanceof Integer)
+                  ? (Integer) strongInstanceCount
+                  : (Long) strongInstanceCount));
+      Object weakInstanceCount = list.get(1);
+      pigeonResult.setWeakInstanceCount(
+          (weakInstanceCount == null)
+              ? null
+              : ((weakInstanceCount instanceof Integer)
+                  ? (Integer) weakInstanceCount
+                  : (Long) weakInstanceCount));
+      Object oldestStrongReferenceAgeMillis = list.get(2);
+      pigeonResult.setOldestStrongReferenceAgeMillis(
+          (oldestStrongReferenceAgeMillis == null)
+              ? null
+              : ((oldestStrongReferenceAgeMillis instanceof Integer)
+                  ? (Integer) oldestStrongReferenceAgeMillis
+                  : (Long) oldestStrongReferenceAgeMillis));
+      Object finalizationBacklog = list.get(3);
+      pigeonResult.setFinalizationBacklog(
+          (finalizationBacklog == null)
+              ? null
+              : ((finalizationBacklog instanceof Integer)
+                  ? (Integer) finalizationBacklog
+                  : (Long) finalizationBacklog));
+      Object strongInstanceCountsByClass = list.get(4);
+      pigeonResult.setStrongInstanceCountsByClass((Map<String, Long>) strongInstanceCountsByClass);
+      Object weakInstanceCountsByClass = list.get(5);
+      pigeonResult.setWeakInstanceCountsByClass((Map<String, Long>) weakInstanceCountsByClass);
+      return pigeonResult;
+    }
+  }
+
   public interface Result<T> {
     @SuppressWarnings("UnknownNullness")
     void success(T result);
 
     void error(@NonNull Throwable error);
   }
+
+  private static class InstanceManagerHostApiCodec extends StandardMessageCodec {
+    public static final InstanceManagerHostApiCodec INSTANCE = new InstanceManagerHostApiCodec();
+
+    private InstanceManagerHostApiCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return InstanceManagerStatsData.fromList((ArrayList<Object>) readValue(buffer));
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
+      if (value instanceof InstanceManagerStatsData) {
+        stream.write(128);
+        writeValue(stream, ((InstanceManagerStatsData) value).toList());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
+  }
+
   /**
    * Host API for managing the native `InstanceManager`.
    *
@@ -613,10 +830,18 @@ public class GeneratedAndroidWebView {
      * <p>This is typically only used after a hot restart.
      */
     void clear();
+    /** Counts the instances held by the native `InstanceManager`. */
+    @NonNull
+    InstanceManagerStatsData getStats();
+    /**
+     * Logs the stats of the native `InstanceManager` every [intervalMillis] milliseconds, or stops
+     * logging them when [intervalMillis] is 0.
+     */
+    void setStatsLogInterval(@NonNull Long intervalMillis);
 
     /** The codec used by InstanceManagerHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
-      return new StandardMessageCodec();
+      return InstanceManagerHostApiCodec.INSTANCE;
     }
     /**
      * Sets up an instance of `InstanceManagerHostApi` to handle messages through the
@@ -647,6 +872,55 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.InstanceManagerHostApi.getStats",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                try {
+                  InstanceManagerStatsData output = api.getStats();
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.InstanceManagerHostApi.setStatsLogInterval",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number intervalMillisArg = (Number) args.get(0);
+                try {
+                  api.setStatsLogInterval(
+                      (intervalMillisArg == null) ? null : intervalMillisArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
   /**
@@ -6,13 +6,18 @@ package io.flutter.plugins.webviewflutter;
 
 import android.os.Handler;
 import android.os.Looper;
+import android.os.SystemClock;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.WeakHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Maintains instances used to communicate with the corresponding objects in Dart.
@@ -28,6 +33,14 @@ import java.util.WeakHashMap;
  * is removed and then the identifier is retrieved with the intention to pass the identifier to Dart
  * (e.g. calling {@link #getIdentifierForStrongReference(Object)}), the strong reference to the
  * instance is recreated. The strong reference will then need to be removed manually again.
+ *
+ * <p>Identifiers are kept in tables keyed by primitive {@code long}s and instances are compared by
+ * identity, so neither lookups nor insertions box identifiers or call {@code hashCode} and {@code
+ * equals} of the instances. A background thread waits on the reference queue and hands garbage
+ * collected instances to the main thread as soon as they are enqueued.
+ *
+ * <p>{@link #getStats()} and {@link #setStatsListener(StatsListener, long)} report which instances
+ * the manager holds, to find instances that Dart never disposes.
  */
 @SuppressWarnings("unchecked")
 public class InstanceManager {
@@ -36,7 +49,6 @@ public class InstanceManager {
   // Host uses identifiers >= 2^16 and Dart is expected to use values n where,
   // 0 <= n < 2^16.
   private static final long MIN_HOST_CREATED_IDENTIFIER = 65536;
-  private static final long CLEAR_FINALIZED_WEAK_REFERENCES_INTERVAL = 3000;
   private static final String TAG = "InstanceManager";
 
   /** Interface for listening when a weak reference of an instance is removed from the manager. */
@@ -44,19 +56,82 @@ public class InstanceManager {
     void onFinalize(long identifier);
   }
 
-  private final WeakHashMap<Object, Long> identifiers = new WeakHashMap<>();
-  private final HashMap<Long, WeakReference<Object>> weakInstances = new HashMap<>();
-  private final HashMap<Long, Object> strongInstances = new HashMap<>();
+  /** Interface for receiving the {@link Stats} of the manager periodically. */
+  public interface StatsListener {
+    void onStats(@NonNull Stats stats);
+  }
+
+  /** A snapshot of the instances held by an {@link InstanceManager}. */
+  public static final class Stats {
+    /** The number of instances the manager holds a strong reference to. */
+    public final long strongInstanceCount;
+
+    /** The number of instances that have not been garbage collected yet. */
+    public final long weakInstanceCount;
+
+    /** The time since the oldest strong reference was added, or 0 without strong references. */
+    public final long oldestStrongReferenceAgeMillis;
+
+    /** The number of garbage collected instances whose identifiers have not been released yet. */
+    public final long finalizationBacklog;
+
+    /** The number of strongly referenced instances per class name. */
+    @NonNull public final Map<String, Long> strongInstanceCountsByClass;
+
+    /** The number of instances that have not been garbage collected yet per class name. */
+    @NonNull public final Map<String, Long> weakInstanceCountsByClass;
+
+    Stats(
+        long strongInstanceCount,
+        long weakInstanceCount,
+        long oldestStrongReferenceAgeMillis,
+        long finalizationBacklog,
+        @NonNull Map<String, Long> strongInstanceCountsByClass,
+        @NonNull Map<String, Long> weakInstanceCountsByClass) {
+      this.strongInstanceCount = strongInstanceCount;
+      this.weakInstanceCount = weakInstanceCount;
+      this.oldestStrongReferenceAgeMillis = oldestStrongReferenceAgeMillis;
+      this.finalizationBacklog = finalizationBacklog;
+      this.strongInstanceCountsByClass = strongInstanceCountsByClass;
+      this.weakInstanceCountsByClass = weakInstanceCountsByClass;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+      return "strong: "
+          + strongInstanceCount
+          + ", weak: "
+          + weakInstanceCount
+          + ", oldest strong (ms): "
+          + oldestStrongReferenceAgeMillis
+          + ", finalization backlog: "
+          + finalizationBacklog
+          + ", strong by class: "
+          + strongInstanceCountsByClass;
+    }
+  }
+
+  private final LongMap<IdentifierReference> weakInstances = new LongMap<>();
+  private final LongMap<StrongReference> strongInstances = new LongMap<>();
+  private final IdentityMap identifiers = new IdentityMap();
 
   private final ReferenceQueue<Object> referenceQueue = new ReferenceQueue<>();
-  private final HashMap<WeakReference<Object>, Long> weakReferencesToIdentifiers = new HashMap<>();
+  private final ConcurrentLinkedQueue<IdentifierReference> finalizedReferences =
+      new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean releasePending = new AtomicBoolean();
+  private final Thread finalizationThread;
 
   private final Handler handler = new Handler(Looper.getMainLooper());
 
   private final FinalizationListener finalizationListener;
 
+  private final Runnable statsReporter = this::reportStats;
+  @Nullable private StatsListener statsListener;
+  private long statsIntervalMillis;
+
   private long nextIdentifier = MIN_HOST_CREATED_IDENTIFIER;
-  private boolean hasFinalizationListenerStopped = false;
+  private volatile boolean hasFinalizationListenerStopped = false;
 
   /**
    * Instantiate a new manager.
@@ -73,8 +148,9 @@ public class InstanceManager {
 
   private InstanceManager(FinalizationListener finalizationListener) {
     this.finalizationListener = finalizationListener;
-    handler.postDelayed(
-        this::releaseAllFinalizedInstances, CLEAR_FINALIZED_WEAK_REFERENCES_INTERVAL);
+    finalizationThread = new Thread(this::awaitFinalizedInstances, "InstanceManagerFinalizer");
+    finalizationThread.setDaemon(true);
+    finalizationThread.start();
   }
 
   /**
@@ -89,7 +165,8 @@ public class InstanceManager {
   @Nullable
   public <T> T remove(long identifier) {
     logWarningIfFinalizationListenerHasStopped();
-    return (T) strongInstances.remove(identifier);
+    final StrongReference reference = strongInstances.remove(identifier);
+    return reference != null ? (T) reference.instance : null;
   }
 
   /**
@@ -112,11 +189,14 @@ public class InstanceManager {
   public Long getIdentifierForStrongReference(@Nullable Object instance) {
     logWarningIfFinalizationListenerHasStopped();
 
-    final Long identifier = identifiers.get(instance);
-    if (identifier != null) {
-      strongInstances.put(identifier, instance);
+    final IdentifierReference reference = identifiers.get(instance);
+    if (reference == null) {
+      return null;
     }
-    return identifier;
+    if (!strongInstances.containsKey(reference.identifier)) {
+      strongInstances.put(reference.identifier, new StrongReference(instance));
+    }
+    return reference.identifier;
   }
 
   /**
@@ -165,9 +245,9 @@ public class InstanceManager {
   public <T> T getInstance(long identifier) {
     logWarningIfFinalizationListenerHasStopped();
 
-    final WeakReference<T> instance = (WeakReference<T>) weakInstances.get(identifier);
+    final IdentifierReference instance = weakInstances.get(identifier);
     if (instance != null) {
-      return instance.get();
+      return (T) instance.get();
     }
     return null;
   }
@@ -180,19 +260,20 @@ public class InstanceManager {
    */
   public boolean containsInstance(@Nullable Object instance) {
     logWarningIfFinalizationListenerHasStopped();
-    return identifiers.containsKey(instance);
+    return identifiers.get(instance) != null;
   }
 
   /**
-   * Stop the periodic run of the {@link FinalizationListener} for instances that have been garbage
+   * Stop the {@link FinalizationListener} from being called for instances that have been garbage
    * collected.
    *
    * <p>The InstanceManager can continue to be used, but the {@link FinalizationListener} will no
    * longer be called and methods will log a warning.
    */
   public void stopFinalizationListener() {
-    handler.removeCallbacks(this::releaseAllFinalizedInstances);
     hasFinalizationListenerStopped = true;
+    finalizationThread.interrupt();
+    handler.removeCallbacks(statsReporter);
   }
 
   /**
@@ -204,7 +285,70 @@ public class InstanceManager {
     identifiers.clear();
     weakInstances.clear();
     strongInstances.clear();
-    weakReferencesToIdentifiers.clear();
+  }
+
+  /**
+   * Counts the instances held by this manager.
+   *
+   * <p>Instances of a class whose strong count keeps growing, or an old strong reference, usually
+   * mean that the paired Dart objects are never disposed.
+   *
+   * @return a snapshot of the instances held by this manager.
+   */
+  @NonNull
+  public Stats getStats() {
+    final long now = SystemClock.elapsedRealtime();
+
+    final Map<String, Long> strongInstanceCountsByClass = new HashMap<>();
+    long oldestStrongReferenceMillis = now;
+    for (int i = 0; i < strongInstances.capacity(); i++) {
+      final StrongReference reference = strongInstances.valueAt(i);
+      if (reference != null) {
+        incrementClassCount(strongInstanceCountsByClass, reference.instance);
+        oldestStrongReferenceMillis = Math.min(oldestStrongReferenceMillis, reference.addedMillis);
+      }
+    }
+
+    final Map<String, Long> weakInstanceCountsByClass = new HashMap<>();
+    long finalizationBacklog = 0;
+    for (int i = 0; i < weakInstances.capacity(); i++) {
+      final IdentifierReference reference = weakInstances.valueAt(i);
+      if (reference != null) {
+        final Object instance = reference.get();
+        if (instance != null) {
+          incrementClassCount(weakInstanceCountsByClass, instance);
+        } else {
+          finalizationBacklog++;
+        }
+      }
+    }
+
+    return new Stats(
+        strongInstances.size(),
+        weakInstances.size() - finalizationBacklog,
+        now - oldestStrongReferenceMillis,
+        finalizationBacklog,
+        strongInstanceCountsByClass,
+        weakInstanceCountsByClass);
+  }
+
+  /**
+   * Reports the {@link Stats} of this manager periodically on the main thread until {@link
+   * #stopFinalizationListener()} is called.
+   *
+   * @param statsListener the listener to report to, or null to stop reporting.
+   * @param intervalMillis the time between two reports.
+   */
+  public void setStatsListener(@Nullable StatsListener statsListener, long intervalMillis) {
+    if (statsListener != null && intervalMillis <= 0) {
+      throw new IllegalArgumentException(String.format("Interval must be > 0: %d", intervalMillis));
+    }
+    handler.removeCallbacks(statsReporter);
+    this.statsListener = statsListener;
+    this.statsIntervalMillis = intervalMillis;
+    if (statsListener != null) {
+      handler.postDelayed(statsReporter, intervalMillis);
+    }
   }
 
   /**
@@ -217,22 +361,62 @@ public class InstanceManager {
     return hasFinalizationListenerStopped;
   }
 
-  private void releaseAllFinalizedInstances() {
+  /**
+   * Waits on the reference queue and schedules {@link #releaseAllFinalizedInstances()} on the main
+   * thread whenever instances are garbage collected. Runs on {@link #finalizationThread}.
+   */
+  private void awaitFinalizedInstances() {
+    try {
+      while (!hasFinalizationListenerStopped) {
+        finalizedReferences.add((IdentifierReference) referenceQueue.remove());
+        IdentifierReference reference;
+        while ((reference = (IdentifierReference) referenceQueue.poll()) != null) {
+          finalizedReferences.add(reference);
+        }
+        if (releasePending.compareAndSet(false, true)) {
+          handler.post(this::releaseAllFinalizedInstances);
+        }
+      }
+    } catch (InterruptedException e) {
+      // The finalization listener was stopped.
+    }
+  }
+
+  /** Removes the garbage collected instances and notifies the {@link FinalizationListener}. */
+  @VisibleForTesting
+  void releaseAllFinalizedInstances() {
+    releasePending.set(false);
     if (hasFinalizationListenerStopped()) {
       return;
     }
 
-    WeakReference<Object> reference;
-    while ((reference = (WeakReference<Object>) referenceQueue.poll()) != null) {
-      final Long identifier = weakReferencesToIdentifiers.remove(reference);
-      if (identifier != null) {
-        weakInstances.remove(identifier);
-        strongInstances.remove(identifier);
-        finalizationListener.onFinalize(identifier);
+    IdentifierReference reference;
+    while ((reference = finalizedReferences.poll()) != null) {
+      // The identifier may have been cleared, or cleared and reused, since the reference was
+      // enqueued.
+      if (weakInstances.get(reference.identifier) != reference) {
+        continue;
       }
+      weakInstances.remove(reference.identifier);
+      strongInstances.remove(reference.identifier);
+      identifiers.remove(reference);
+      finalizationListener.onFinalize(reference.identifier);
+    }
+  }
+
+  /**
+   * Treats the instance paired with `identifier` as garbage collected, the way {@link
+   * #awaitFinalizedInstances()} does once its reference is enqueued.
+   *
+   * <p>{@link #releaseAllFinalizedInstances()} must be called afterwards to release it.
+   */
+  @VisibleForTesting
+  void enqueueFinalizedInstance(long identifier) {
+    final IdentifierReference reference = weakInstances.get(identifier);
+    if (reference != null) {
+      reference.clear();
+      finalizedReferences.add(reference);
     }
-    handler.postDelayed(
-        this::releaseAllFinalizedInstances, CLEAR_FINALIZED_WEAK_REFERENCES_INTERVAL);
   }
 
   private void addInstance(Object instance, long identifier) {
@@ -243,11 +427,26 @@ public class InstanceManager {
       throw new IllegalArgumentException(
           String.format("Identifier has already been added: %d", identifier));
     }
-    final WeakReference<Object> weakReference = new WeakReference<>(instance, referenceQueue);
-    identifiers.put(instance, identifier);
+    final IdentifierReference weakReference =
+        new IdentifierReference(instance, identifier, referenceQueue);
+    identifiers.put(weakReference);
     weakInstances.put(identifier, weakReference);
-    weakReferencesToIdentifiers.put(weakReference, identifier);
-    strongInstances.put(identifier, instance);
+    strongInstances.put(identifier, new StrongReference(instance));
+  }
+
+  private void reportStats() {
+    final StatsListener listener = statsListener;
+    if (listener == null || hasFinalizationListenerStopped()) {
+      return;
+    }
+    listener.onStats(getStats());
+    handler.postDelayed(statsReporter, statsIntervalMillis);
+  }
+
+  private static void incrementClassCount(Map<String, Long> counts, Object instance) {
+    final String className = instance.getClass().getName();
+    final Long count = counts.get(className);
+    counts.put(className, count == null ? 1L : count + 1);
   }
 
   private void logWarningIfFinalizationListenerHasStopped() {
@@ -255,4 +454,263 @@ public class InstanceManager {
       Log.w(TAG, "The manager was used after calls to the FinalizationListener have been stopped.");
     }
   }
+
+  /** A strong reference that remembers when it was added. */
+  private static final class StrongReference {
+    final Object instance;
+    final long addedMillis = SystemClock.elapsedRealtime();
+
+    StrongReference(Object instance) {
+      this.instance = instance;
+    }
+  }
+
+  /** A weak reference that remembers the identifier and identity hash code of its instance. */
+  private static final class IdentifierReference extends WeakReference<Object> {
+    final long identifier;
+    final int identityHash;
+
+    IdentifierReference(Object instance, long identifier, ReferenceQueue<Object> queue) {
+      super(instance, queue);
+      this.identifier = identifier;
+      this.identityHash = System.identityHashCode(instance);
+    }
+  }
+
+  /**
+   * Maps non-negative {@code long} keys to values with open addressing and linear probing.
+   *
+   * <p>Removed entries are filled by shifting back the following entries of the probe sequence, so
+   * the table never accumulates tombstones.
+   */
+  @VisibleForTesting
+  static final class LongMap<V> {
+    private static final long EMPTY = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] keys;
+    private Object[] values;
+    private int size;
+
+    LongMap() {
+      allocate(INITIAL_CAPACITY);
+    }
+
+    int size() {
+      return size;
+    }
+
+    /** Returns the number of slots, to iterate over with {@link #valueAt(int)}. */
+    int capacity() {
+      return keys.length;
+    }
+
+    /** Returns the value in a slot, or null if the slot is empty. */
+    @Nullable
+    V valueAt(int index) {
+      return (V) values[index];
+    }
+
+    boolean containsKey(long key) {
+      return indexOf(key) >= 0;
+    }
+
+    @Nullable
+    V get(long key) {
+      final int index = indexOf(key);
+      return index < 0 ? null : (V) values[index];
+    }
+
+    @Nullable
+    V put(long key, @NonNull V value) {
+      final int mask = keys.length - 1;
+      int index = slot(key, mask);
+      while (keys[index] != EMPTY) {
+        if (keys[index] == key) {
+          final V previous = (V) values[index];
+          values[index] = value;
+          return previous;
+        }
+        index = (index + 1) & mask;
+      }
+      keys[index] = key;
+      values[index] = value;
+      if (++size * 4 > keys.length * 3) {
+        resize(keys.length * 2);
+      }
+      return null;
+    }
+
+    @Nullable
+    V remove(long key) {
+      int hole = indexOf(key);
+      if (hole < 0) {
+        return null;
+      }
+      final V previous = (V) values[hole];
+      final int mask = keys.length - 1;
+      int index = hole;
+      while (true) {
+        index = (index + 1) & mask;
+        final long current = keys[index];
+        if (current == EMPTY) {
+          break;
+        }
+        // Move the entry into the hole unless its home slot lies after the hole.
+        final int home = slot(current, mask);
+        if (((index - home) & mask) >= ((index - hole) & mask)) {
+          keys[hole] = current;
+          values[hole] = values[index];
+          hole = index;
+        }
+      }
+      keys[hole] = EMPTY;
+      values[hole] = null;
+      size--;
+      return previous;
+    }
+
+    void clear() {
+      Arrays.fill(keys, EMPTY);
+      Arrays.fill(values, null);
+      size = 0;
+    }
+
+    private int indexOf(long key) {
+      if (key < 0) {
+        return -1;
+      }
+      final int mask = keys.length - 1;
+      int index = slot(key, mask);
+      while (true) {
+        final long current = keys[index];
+        if (current == key) {
+          return index;
+        }
+        if (current == EMPTY) {
+          return -1;
+        }
+        index = (index + 1) & mask;
+      }
+    }
+
+    private void allocate(int capacity) {
+      keys = new long[capacity];
+      Arrays.fill(keys, EMPTY);
+      values = new Object[capacity];
+    }
+
+    private void resize(int capacity) {
+      final long[] oldKeys = keys;
+      final Object[] oldValues = values;
+      allocate(capacity);
+      size = 0;
+      for (int i = 0; i < oldKeys.length; i++) {
+        if (oldKeys[i] != EMPTY) {
+          put(oldKeys[i], (V) oldValues[i]);
+        }
+      }
+    }
+
+    private static int slot(long key, int mask) {
+      final long hash = key * 0x9E3779B97F4A7C15L;
+      return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+  }
+
+  /**
+   * Maps instances, compared by identity, to the latest {@link IdentifierReference} added for them.
+   *
+   * <p>Uses open addressing on the identity hash code stored in each reference, so entries whose
+   * instance was garbage collected can still be found and removed.
+   */
+  private static final class IdentityMap {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private IdentifierReference[] references = new IdentifierReference[INITIAL_CAPACITY];
+    private int size;
+
+    @Nullable
+    IdentifierReference get(@Nullable Object instance) {
+      if (instance == null) {
+        return null;
+      }
+      final int identityHash = System.identityHashCode(instance);
+      final int mask = references.length - 1;
+      int index = identityHash & mask;
+      IdentifierReference current;
+      while ((current = references[index]) != null) {
+        if (current.identityHash == identityHash && current.get() == instance) {
+          return current;
+        }
+        index = (index + 1) & mask;
+      }
+      return null;
+    }
+
+    void put(@NonNull IdentifierReference reference) {
+      final Object instance = reference.get();
+      final int mask = references.length - 1;
+      int index = reference.identityHash & mask;
+      IdentifierReference current;
+      while ((current = references[index]) != null) {
+        if (current.identityHash == reference.identityHash && current.get() == instance) {
+          references[index] = reference;
+          return;
+        }
+        index = (index + 1) & mask;
+      }
+      references[index] = reference;
+      if (++size * 4 > references.length * 3) {
+        resize(references.length * 2);
+      }
+    }
+
+    void remove(@NonNull IdentifierReference reference) {
+      final int mask = references.length - 1;
+      int hole = reference.identityHash & mask;
+      IdentifierReference current;
+      while ((current = references[hole]) != reference) {
+        if (current == null) {
+          return;
+        }
+        hole = (hole + 1) & mask;
+      }
+      int index = hole;
+      while (true) {
+        index = (index + 1) & mask;
+        current = references[index];
+        if (current == null) {
+          break;
+        }
+        final int home = current.identityHash & mask;
+        if (((index - home) & mask) >= ((index - hole) & mask)) {
+          references[hole] = current;
+          hole = index;
+        }
+      }
+      references[hole] = null;
+      size--;
+    }
+
+    void clear() {
+      Arrays.fill(references, null);
+      size = 0;
+    }
+
+    private void resize(int capacity) {
+      final IdentifierReference[] oldReferences = references;
+      references = new IdentifierReference[capacity];
+      final int mask = capacity - 1;
+      for (IdentifierReference reference : oldReferences) {
+        if (reference != null) {
+          int index = reference.identityHash & mask;
+          while (references[index] != null) {
+            index = (index + 1) & mask;
+          }
+          references[index] = reference;
+        }
+      }
+    }
+  }
 }
@@ -0,0 +1,57 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.util.Log;
+import androidx.annotation.NonNull;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.InstanceManagerHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.InstanceManagerStatsData;
+
+/**
+ * A pigeon Host API implementation that lets Dart clear and inspect the native {@link
+ * InstanceManager}.
+ */
+public class InstanceManagerHostApiImpl implements InstanceManagerHostApi {
+  private static final String TAG = "InstanceManager";
+
+  private final InstanceManager instanceManager;
+
+  /**
+   * Constructs a {@link InstanceManagerHostApiImpl}.
+   *
+   * @param instanceManager maintains instances stored to communicate with Dart objects
+   */
+  public InstanceManagerHostApiImpl(@NonNull InstanceManager instanceManager) {
+    this.instanceManager = instanceManager;
+  }
+
+  @Override
+  public void clear() {
+    instanceManager.clear();
+  }
+
+  @NonNull
+  @Override
+  public InstanceManagerStatsData getStats() {
+    final InstanceManager.Stats stats = instanceManager.getStats();
+    return new InstanceManagerStatsData.Builder()
+        .setStrongInstanceCount(stats.strongInstanceCount)
+        .setWeakInstanceCount(stats.weakInstanceCount)
+        .setOldestStrongReferenceAgeMillis(stats.oldestStrongReferenceAgeMillis)
+        .setFinalizationBacklog(stats.finalizationBacklog)
+        .setStrongInstanceCountsByClass(stats.strongInstanceCountsByClass)
+        .setWeakInstanceCountsByClass(stats.weakInstanceCountsByClass)
+        .build();
+  }
+
+  @Override
+  public void setStatsLogInterval(@NonNull Long intervalMillis) {
+    if (intervalMillis == 0) {
+      instanceManager.setStatsListener(null, 0);
+    } else {
+      instanceManager.setStatsListener(stats -> Log.i(TAG, "Stats | " + stats), intervalMillis);
+    }
+  }
+}
@@ -88,7 +88,7 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
                 new GeneratedAndroidWebView.JavaObjectFlutterApi(binaryMessenger)
                     .dispose(identifier, reply -> {}));
 
-    InstanceManagerHostApi.setup(binaryMessenger, () -> instanceManager.clear());
+    InstanceManagerHostApi.setup(binaryMessenger, new InstanceManagerHostApiImpl(instanceManager));
 
     viewRegistry.registerViewFactory(
         "plugins.flutter.io/webview", new FlutterWebViewFactory(instanceManager));
@@ -8,8 +8,13 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import org.junit.Test;
 
 public class InstanceManagerTest {
@@ -137,4 +142,127 @@ public class InstanceManagerTest {
     assertEquals(instanceManager.getIdentifierForStrongReference(instance), (Long) identifier);
     assertTrue(instanceManager.containsInstance(instance));
   }
+
+  @Test
+  public void equalInstancesAreTrackedByIdentity() {
+    final InstanceManager instanceManager = InstanceManager.create(identifier -> {});
+
+    final Object first = new AlwaysEqual();
+    final Object second = new AlwaysEqual();
+
+    instanceManager.addDartCreatedInstance(first, 0);
+    assertFalse(instanceManager.containsInstance(second));
+
+    instanceManager.addDartCreatedInstance(second, 1);
+    assertEquals((Long) 0L, instanceManager.getIdentifierForStrongReference(first));
+    assertEquals((Long) 1L, instanceManager.getIdentifierForStrongReference(second));
+    assertSame(first, instanceManager.getInstance(0));
+    assertSame(second, instanceManager.getInstance(1));
+
+    instanceManager.stopFinalizationListener();
+  }
+
+  @Test
+  public void getStatsCountsInstancesByClass() {
+    final InstanceManager instanceManager = InstanceManager.create(identifier -> {});
+
+    final Object object = new Object();
+    final String string = "instance";
+    instanceManager.addDartCreatedInstance(object, 0);
+    instanceManager.addDartCreatedInstance(string, 1);
+    instanceManager.addHostCreatedInstance(new StringBuilder());
+    instanceManager.remove(1);
+
+    final InstanceManager.Stats stats = instanceManager.getStats();
+
+    assertEquals(2, stats.strongInstanceCount);
+    assertEquals(2, stats.strongInstanceCountsByClass.size());
+    assertEquals((Long) 1L, stats.strongInstanceCountsByClass.get(Object.class.getName()));
+    assertEquals((Long) 1L, stats.strongInstanceCountsByClass.get(StringBuilder.class.getName()));
+    assertEquals(3, stats.weakInstanceCount);
+    assertEquals((Long) 1L, stats.weakInstanceCountsByClass.get(String.class.getName()));
+    assertTrue(stats.oldestStrongReferenceAgeMillis >= 0);
+    assertEquals(0, stats.finalizationBacklog);
+
+    instanceManager.stopFinalizationListener();
+  }
+
+  @Test
+  public void setStatsListenerRequiresPositiveInterval() {
+    final InstanceManager instanceManager = InstanceManager.create(identifier -> {});
+
+    assertThrows(
+        IllegalArgumentException.class, () -> instanceManager.setStatsListener(stats -> {}, 0));
+
+    instanceManager.stopFinalizationListener();
+  }
+
+  @Test
+  public void longMapKeepsEntriesReachableAfterRemovals() {
+    final InstanceManager.LongMap<Long> map = new InstanceManager.LongMap<>();
+
+    for (long key = 0; key < 10000; key++) {
+      map.put(key, key);
+    }
+    for (long key = 0; key < 10000; key += 3) {
+      assertEquals((Long) key, map.remove(key));
+    }
+
+    assertEquals(10000 - 3334, map.size());
+    for (long key = 0; key < 10000; key++) {
+      if (key % 3 == 0) {
+        assertFalse(map.containsKey(key));
+      } else {
+        assertEquals((Long) key, map.get(key));
+      }
+    }
+    assertNull(map.get(-1));
+  }
+
+  @Test
+  public void releaseAllFinalizedInstancesCallsFinalizationListener() {
+    final List<Long> finalizedIdentifiers = new ArrayList<>();
+    final InstanceManager instanceManager = InstanceManager.create(finalizedIdentifiers::add);
+
+    instanceManager.addDartCreatedInstance(new Object(), 0);
+    instanceManager.remove(0);
+    instanceManager.enqueueFinalizedInstance(0);
+    instanceManager.releaseAllFinalizedInstances();
+
+    assertEquals(Collections.singletonList(0L), finalizedIdentifiers);
+    assertNull(instanceManager.getInstance(0));
+    assertEquals(0, instanceManager.getStats().weakInstanceCount);
+
+    instanceManager.stopFinalizationListener();
+  }
+
+  @Test
+  public void releaseAllFinalizedInstancesSkipsReusedIdentifier() {
+    final List<Long> finalizedIdentifiers = new ArrayList<>();
+    final InstanceManager instanceManager = InstanceManager.create(finalizedIdentifiers::add);
+
+    instanceManager.addDartCreatedInstance(new Object(), 0);
+    instanceManager.enqueueFinalizedInstance(0);
+    instanceManager.clear();
+    final Object instance = new Object();
+    instanceManager.addDartCreatedInstance(instance, 0);
+    instanceManager.releaseAllFinalizedInstances();
+
+    assertTrue(finalizedIdentifiers.isEmpty());
+    assertSame(instance, instanceManager.getInstance(0));
+
+    instanceManager.stopFinalizationListener();
+  }
+
+  private static class AlwaysEqual {
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof AlwaysEqual;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+  }
 }
@@ -206,6 +206,78 @@ class ConsoleMessage {
   }
 }
 
+/// The instances held by the native `InstanceManager`.
+class InstanceManagerStatsData {
+  InstanceManagerStatsData({
+    required this.strongInstanceCount,
+    required this.weakInstanceCount,
+    required this.oldestStrongReferenceAgeMillis,
+    required this.finalizationBacklog,
+    required this.strongInstanceCountsByClass,
+    required this.weakInstanceCountsByClass,
+  });
+
+  int strongInstanceCount;
+
+  int weakInstanceCount;
+
+  int oldestStrongReferenceAgeMillis;
+
+  int finalizationBacklog;
+
+  Map<String?, int?> strongInstanceCountsByClass;
+
+  Map<String?, int?> weakInstanceCountsByClass;
+
+  Object encode() {
+    return <Object?>[
+      strongInstanceCount,
+      weakInstanceCount,
+      oldestStrongReferenceAgeMillis,
+      finalizationBacklog,
+      strongInstanceCountsByClass,
+      weakInstanceCountsByClass,
+    ];
+  }
+
+  static InstanceManagerStatsData decode(Object result) {
+    result as List<Object?>;
+    return InstanceManagerStatsData(
+      strongInstanceCount: result[0]! as int,
+      weakInstanceCount: result[1]! as int,
+      oldestStrongReferenceAgeMillis: result[2]! as int,
+      finalizationBacklog: result[3]! as int,
+      strongInstanceCountsByClass:
+          (result[4] as Map<Object?, Object?>?)!.cast<String?, int?>(),
+      weakInstanceCountsByClass:
+          (result[5] as Map<Object?, Object?>?)!.cast<String?, int?>(),
+    );
+  }
+}
+
+class _InstanceManagerHostApiCodec extends StandardMessageCodec {
+  const _InstanceManagerHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is InstanceManagerStatsData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return InstanceManagerStatsData.decode(readValue(buffer)!);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
 /// Host API for managing the native `InstanceManager`.
 class InstanceManagerHostApi {
   /// Constructor for [InstanceManagerHostApi].  The [binaryMessenger] named argument is
@@ -215,7 +287,7 @@ class InstanceManagerHostApi {
       : _binaryMessenger = binaryMessenger;
   final BinaryMessenger? _binaryMessenger;
 
-  static const MessageCodec<Object?> codec = StandardMessageCodec();
+  static const MessageCodec<Object?> codec = _InstanceManagerHostApiCodec();
 
   /// Clear the native `InstanceManager`.
   ///
@@ -241,6 +313,59 @@ class InstanceManagerHostApi {
       return;
     }
   }
+
+  /// Counts the instances held by the native `InstanceManager`.
+  Future<InstanceManagerStatsData> getStats() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.webview_flutter_android.InstanceManagerHostApi.getStats',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(null) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as InstanceManagerStatsData?)!;
+    }
+  }
+
+  /// Logs the stats of the native `InstanceManager` every [intervalMillis]
+  /// milliseconds, or stops logging them when [intervalMillis] is 0.
+  Future<void> setStatsLogInterval(int arg_intervalMillis) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.webview_flutter_android.InstanceManagerHostApi.setStatsLogInterval',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_intervalMillis]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
 }
 
 /// Handles methods calls to the native Java Object class.
@@ -34,6 +34,13 @@ abstract class InstanceManagerHostApi {
   ///
   /// This is typically only used after a hot restart.
   void clear();
+
+  /// Counts the instances held by the native `InstanceManager`.
+  InstanceManagerStatsData getStats();
+
+  /// Logs the stats of the native `InstanceManager` every [intervalMillis]
+  /// milliseconds, or stops logging them when [intervalMillis] is 0.
+  void setStatsLogInterval(int intervalMillis);
 }
 
 /// Mode of how to select files for a file chooser.
@@ -135,6 +142,16 @@ class ConsoleMessage {
   late String sourceId;
 }
 
+/// The instances held by the native `InstanceManager`.
+class InstanceManagerStatsData {
+  late int strongInstanceCount;
+  late int weakInstanceCount;
+  late int oldestStrongReferenceAgeMillis;
+  late int finalizationBacklog;
+  late Map<String?, int?> strongInstanceCountsByClass;
+  late Map<String?, int?> weakInstanceCountsByClass;
+}
+
 /// Handles methods calls to the native Java Object class.
 ///
 /// Also handles calls to remove the reference to an instance with `dispose`.
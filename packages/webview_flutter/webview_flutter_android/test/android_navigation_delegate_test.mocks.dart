@@ -3,12 +3,13 @@
 // Do not manually edit this file.
 
 // ignore_for_file: no_leading_underscores_for_library_prefixes
-import 'dart:async' as _i4;
+import 'dart:async' as _i5;
 
 import 'package:mockito/mockito.dart' as _i1;
 import 'package:webview_flutter_android/src/android_webview.dart' as _i2;
+import 'package:webview_flutter_android/src/android_webview.g.dart' as _i3;
 
-import 'test_android_webview.g.dart' as _i3;
+import 'test_android_webview.g.dart' as _i4;
 
 // ignore_for_file: type=lint
 // ignore_for_file: avoid_redundant_argument_values
@@ -33,11 +34,22 @@ class _FakeJavaObject_0 extends _i1.SmartFake implements _i2.JavaObject {
         );
 }
 
+class _FakeInstanceManagerStatsData_1 extends _i1.SmartFake
+    implements _i3.InstanceManagerStatsData {
+  _FakeInstanceManagerStatsData_1(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
 /// A class which mocks [TestInstanceManagerHostApi].
 ///
 /// See the documentation for Mockito's code generation for more information.
 class MockTestInstanceManagerHostApi extends _i1.Mock
-    implements _i3.TestInstanceManagerHostApi {
+    implements _i4.TestInstanceManagerHostApi {
   MockTestInstanceManagerHostApi() {
     _i1.throwOnMissingStub(this);
   }
@@ -50,6 +62,30 @@ class MockTestInstanceManagerHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+
+  @override
+  _i3.InstanceManagerStatsData getStats() => (super.noSuchMethod(
+        Invocation.method(
+          #getStats,
+          [],
+        ),
+        returnValue: _FakeInstanceManagerStatsData_1(
+          this,
+          Invocation.method(
+            #getStats,
+            [],
+          ),
+        ),
+      ) as _i3.InstanceManagerStatsData);
+
+  @override
+  void setStatsLogInterval(int? intervalMillis) => super.noSuchMethod(
+        Invocation.method(
+          #setStatsLogInterval,
+          [intervalMillis],
+        ),
+        returnValueForMissingStub: null,
+      );
 }
 
 /// A class which mocks [HttpAuthHandler].
@@ -61,17 +97,17 @@ class MockHttpAuthHandler extends _i1.Mock implements _i2.HttpAuthHandler {
   }
 
   @override
-  _i4.Future<void> cancel() => (super.noSuchMethod(
+  _i5.Future<void> cancel() => (super.noSuchMethod(
         Invocation.method(
           #cancel,
           [],
         ),
-        returnValue: _i4.Future<void>.value(),
-        returnValueForMissingStub: _i4.Future<void>.value(),
-      ) as _i4.Future<void>);
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
 
   @override
-  _i4.Future<void> proceed(
+  _i5.Future<void> proceed(
     String? username,
     String? password,
   ) =>
@@ -83,18 +119,18 @@ class MockHttpAuthHandler extends _i1.Mock implements _i2.HttpAuthHandler {
             password,
           ],
         ),
-        returnValue: _i4.Future<void>.value(),
-        returnValueForMissingStub: _i4.Future<void>.value(),
-      ) as _i4.Future<void>);
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
 
   @override
-  _i4.Future<bool> useHttpAuthUsernamePassword() => (super.noSuchMethod(
+  _i5.Future<bool> useHttpAuthUsernamePassword() => (super.noSuchMethod(
         Invocation.method(
           #useHttpAuthUsernamePassword,
           [],
         ),
-        returnValue: _i4.Future<bool>.value(false),
-      ) as _i4.Future<bool>);
+        returnValue: _i5.Future<bool>.value(false),
+      ) as _i5.Future<bool>);
 
   @override
   _i2.JavaObject copy() => (super.noSuchMethod(
@@ -3,26 +3,27 @@
 // Do not manually edit this file.
 
 // ignore_for_file: no_leading_underscores_for_library_prefixes
-import 'dart:async' as _i9;
-import 'dart:typed_data' as _i14;
+import 'dart:async' as _i10;
+import 'dart:typed_data' as _i15;
 import 'dart:ui' as _i4;
 
-import 'package:flutter/foundation.dart' as _i11;
-import 'package:flutter/gestures.dart' as _i12;
+import 'package:flutter/foundation.dart' as _i12;
+import 'package:flutter/gestures.dart' as _i13;
 import 'package:flutter/services.dart' as _i7;
 import 'package:mockito/mockito.dart' as _i1;
-import 'package:mockito/src/dummies.dart' as _i13;
-import 'package:webview_flutter_android/src/android_proxy.dart' as _i10;
+import 'package:mockito/src/dummies.dart' as _i14;
+import 'package:webview_flutter_android/src/android_proxy.dart' as _i11;
 import 'package:webview_flutter_android/src/android_webview.dart' as _i2;
+import 'package:webview_flutter_android/src/android_webview.g.dart' as _i8;
 import 'package:webview_flutter_android/src/android_webview_controller.dart'
-    as _i8;
+    as _i9;
 import 'package:webview_flutter_android/src/instance_manager.dart' as _i5;
 import 'package:webview_flutter_android/src/platform_views_service_proxy.dart'
     as _i6;
 import 'package:webview_flutter_platform_interface/webview_flutter_platform_interface.dart'
     as _i3;
 
-import 'test_android_webview.g.dart' as _i15;
+import 'test_android_webview.g.dart' as _i16;
 
 // ignore_for_file: type=lint
 // ignore_for_file: avoid_redundant_argument_values
@@ -239,11 +240,22 @@ class _FakeWebStorage_18 extends _i1.SmartFake implements _i2.WebStorage {
         );
 }
 
+class _FakeInstanceManagerStatsData_19 extends _i1.SmartFake
+    implements _i8.InstanceManagerStatsData {
+  _FakeInstanceManagerStatsData_19(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
 /// A class which mocks [AndroidNavigationDelegate].
 ///
 /// See the documentation for Mockito's code generation for more information.
 class MockAndroidNavigationDelegate extends _i1.Mock
-    implements _i8.AndroidNavigationDelegate {
+    implements _i9.AndroidNavigationDelegate {
   @override
   _i2.WebChromeClient get androidWebChromeClient => (super.noSuchMethod(
         Invocation.getter(#androidWebChromeClient),
@@ -299,113 +311,114 @@ class MockAndroidNavigationDelegate extends _i1.Mock
       ) as _i3.PlatformNavigationDelegateCreationParams);
 
   @override
-  _i9.Future<void> setOnLoadRequest(_i8.LoadRequestCallback? onLoadRequest) =>
+  _i10.Future<void> setOnLoadRequest(_i9.LoadRequestCallback? onLoadRequest) =>
       (super.noSuchMethod(
         Invocation.method(
           #setOnLoadRequest,
           [onLoadRequest],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setOnNavigationRequest(
+  _i10.Future<void> setOnNavigationRequest(
           _i3.NavigationRequestCallback? onNavigationRequest) =>
       (super.noSuchMethod(
         Invocation.method(
           #setOnNavigationRequest,
           [onNavigationRequest],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setOnPageStarted(_i3.PageEventCallback? onPageStarted) =>
+  _i10.Future<void> setOnPageStarted(_i3.PageEventCallback? onPageStarted) =>
       (super.noSuchMethod(
         Invocation.method(
           #setOnPageStarted,
           [onPageStarted],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setOnPageFinished(_i3.PageEventCallback? onPageFinished) =>
+  _i10.Future<void> setOnPageFinished(_i3.PageEventCallback? onPageFinished) =>
       (super.noSuchMethod(
         Invocation.method(
           #setOnPageFinished,
           [onPageFinished],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setOnProgress(_i3.ProgressCallback? onProgress) =>
+  _i10.Future<void> setOnProgress(_i3.ProgressCallback? onProgress) =>
       (super.noSuchMethod(
         Invocation.method(
           #setOnProgress,
           [onProgress],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setOnWebResourceError(
+  _i10.Future<void> setOnWebResourceError(
           _i3.WebResourceErrorCallback? onWebResourceError) =>
       (super.noSuchMethod(
         Invocation.method(
           #setOnWebResourceError,
           [onWebResourceError],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setOnUrlChange(_i3.UrlChangeCallback? onUrlChange) =>
+  _i10.Future<void> setOnUrlChange(_i3.UrlChangeCallback? onUrlChange) =>
       (super.noSuchMethod(
         Invocation.method(
           #setOnUrlChange,
           [onUrlChange],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setOnHttpAuthRequest(
+  _i10.Future<void> setOnHttpAuthRequest(
           _i3.HttpAuthRequestCallback? onHttpAuthRequest) =>
       (super.noSuchMethod(
         Invocation.method(
           #setOnHttpAuthRequest,
           [onHttpAuthRequest],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setOnHttpError(_i3.HttpResponseErrorCallback? onHttpError) =>
+  _i10.Future<void> setOnHttpError(
+          _i3.HttpResponseErrorCallback? onHttpError) =>
       (super.noSuchMethod(
         Invocation.method(
           #setOnHttpError,
           [onHttpError],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 }
 
 /// A class which mocks [AndroidWebViewController].
 ///
 /// See the documentation for Mockito's code generation for more information.
 class MockAndroidWebViewController extends _i1.Mock
-    implements _i8.AndroidWebViewController {
+    implements _i9.AndroidWebViewController {
   @override
   int get webViewIdentifier => (super.noSuchMethod(
         Invocation.getter(#webViewIdentifier),
@@ -428,27 +441,27 @@ class MockAndroidWebViewController extends _i1.Mock
       ) as _i3.PlatformWebViewControllerCreationParams);
 
   @override
-  _i9.Future<void> loadFile(String? absoluteFilePath) => (super.noSuchMethod(
+  _i10.Future<void> loadFile(String? absoluteFilePath) => (super.noSuchMethod(
         Invocation.method(
           #loadFile,
           [absoluteFilePath],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> loadFlutterAsset(String? key) => (super.noSuchMethod(
+  _i10.Future<void> loadFlutterAsset(String? key) => (super.noSuchMethod(
         Invocation.method(
           #loadFlutterAsset,
           [key],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> loadHtmlString(
+  _i10.Future<void> loadHtmlString(
     String? html, {
     String? baseUrl,
   }) =>
@@ -458,181 +471,181 @@ class MockAndroidWebViewController extends _i1.Mock
           [html],
           {#baseUrl: baseUrl},
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> loadRequest(_i3.LoadRequestParams? params) =>
+  _i10.Future<void> loadRequest(_i3.LoadRequestParams? params) =>
       (super.noSuchMethod(
         Invocation.method(
           #loadRequest,
           [params],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<String?> currentUrl() => (super.noSuchMethod(
+  _i10.Future<String?> currentUrl() => (super.noSuchMethod(
         Invocation.method(
           #currentUrl,
           [],
         ),
-        returnValue: _i9.Future<String?>.value(),
-        returnValueForMissingStub: _i9.Future<String?>.value(),
-      ) as _i9.Future<String?>);
+        returnValue: _i10.Future<String?>.value(),
+        returnValueForMissingStub: _i10.Future<String?>.value(),
+      ) as _i10.Future<String?>);
 
   @override
-  _i9.Future<bool> canGoBack() => (super.noSuchMethod(
+  _i10.Future<bool> canGoBack() => (super.noSuchMethod(
         Invocation.method(
           #canGoBack,
           [],
         ),
-        returnValue: _i9.Future<bool>.value(false),
-        returnValueForMissingStub: _i9.Future<bool>.value(false),
-      ) as _i9.Future<bool>);
+        returnValue: _i10.Future<bool>.value(false),
+        returnValueForMissingStub: _i10.Future<bool>.value(false),
+      ) as _i10.Future<bool>);
 
   @override
-  _i9.Future<bool> canGoForward() => (super.noSuchMethod(
+  _i10.Future<bool> canGoForward() => (super.noSuchMethod(
         Invocation.method(
           #canGoForward,
           [],
         ),
-        returnValue: _i9.Future<bool>.value(false),
-        returnValueForMissingStub: _i9.Future<bool>.value(false),
-      ) as _i9.Future<bool>);
+        returnValue: _i10.Future<bool>.value(false),
+        returnValueForMissingStub: _i10.Future<bool>.value(false),
+      ) as _i10.Future<bool>);
 
   @override
-  _i9.Future<void> goBack() => (super.noSuchMethod(
+  _i10.Future<void> goBack() => (super.noSuchMethod(
         Invocation.method(
           #goBack,
           [],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> goForward() => (super.noSuchMethod(
+  _i10.Future<void> goForward() => (super.noSuchMethod(
         Invocation.method(
           #goForward,
           [],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> reload() => (super.noSuchMethod(
+  _i10.Future<void> reload() => (super.noSuchMethod(
         Invocation.method(
           #reload,
           [],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> clearCache() => (super.noSuchMethod(
+  _i10.Future<void> clearCache() => (super.noSuchMethod(
         Invocation.method(
           #clearCache,
           [],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> clearLocalStorage() => (super.noSuchMethod(
+  _i10.Future<void> clearLocalStorage() => (super.noSuchMethod(
         Invocation.method(
           #clearLocalStorage,
           [],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setPlatformNavigationDelegate(
+  _i10.Future<void> setPlatformNavigationDelegate(
           _i3.PlatformNavigationDelegate? handler) =>
       (super.noSuchMethod(
         Invocation.method(
           #setPlatformNavigationDelegate,
           [handler],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> runJavaScript(String? javaScript) => (super.noSuchMethod(
+  _i10.Future<void> runJavaScript(String? javaScript) => (super.noSuchMethod(
         Invocation.method(
           #runJavaScript,
           [javaScript],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<Object> runJavaScriptReturningResult(String? javaScript) =>
+  _i10.Future<Object> runJavaScriptReturningResult(String? javaScript) =>
       (super.noSuchMethod(
         Invocation.method(
           #runJavaScriptReturningResult,
           [javaScript],
         ),
-        returnValue: _i9.Future<Object>.value(_FakeObject_5(
+        returnValue: _i10.Future<Object>.value(_FakeObject_5(
           this,
           Invocation.method(
             #runJavaScriptReturningResult,
             [javaScript],
           ),
         )),
-        returnValueForMissingStub: _i9.Future<Object>.value(_FakeObject_5(
+        returnValueForMissingStub: _i10.Future<Object>.value(_FakeObject_5(
           this,
           Invocation.method(
             #runJavaScriptReturningResult,
             [javaScript],
           ),
         )),
-      ) as _i9.Future<Object>);
+      ) as _i10.Future<Object>);
 
   @override
-  _i9.Future<void> addJavaScriptChannel(
+  _i10.Future<void> addJavaScriptChannel(
           _i3.JavaScriptChannelParams? javaScriptChannelParams) =>
       (super.noSuchMethod(
         Invocation.method(
           #addJavaScriptChannel,
           [javaScriptChannelParams],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> removeJavaScriptChannel(String? javaScriptChannelName) =>
+  _i10.Future<void> removeJavaScriptChannel(String? javaScriptChannelName) =>
       (super.noSuchMethod(
         Invocation.method(
           #removeJavaScriptChannel,
           [javaScriptChannelName],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<String?> getTitle() => (super.noSuchMethod(
+  _i10.Future<String?> getTitle() => (super.noSuchMethod(
         Invocation.method(
           #getTitle,
           [],
         ),
-        returnValue: _i9.Future<String?>.value(),
-        returnValueForMissingStub: _i9.Future<String?>.value(),
-      ) as _i9.Future<String?>);
+        returnValue: _i10.Future<String?>.value(),
+        returnValueForMissingStub: _i10.Future<String?>.value(),
+      ) as _i10.Future<String?>);
 
   @override
-  _i9.Future<void> scrollTo(
+  _i10.Future<void> scrollTo(
     int? x,
     int? y,
   ) =>
@@ -644,12 +657,12 @@ class MockAndroidWebViewController extends _i1.Mock
             y,
           ],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> scrollBy(
+  _i10.Future<void> scrollBy(
     int? x,
     int? y,
   ) =>
@@ -661,121 +674,121 @@ class MockAndroidWebViewController extends _i1.Mock
             y,
           ],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<_i4.Offset> getScrollPosition() => (super.noSuchMethod(
+  _i10.Future<_i4.Offset> getScrollPosition() => (super.noSuchMethod(
         Invocation.method(
           #getScrollPosition,
           [],
         ),
-        returnValue: _i9.Future<_i4.Offset>.value(_FakeOffset_6(
+        returnValue: _i10.Future<_i4.Offset>.value(_FakeOffset_6(
           this,
           Invocation.method(
             #getScrollPosition,
             [],
           ),
         )),
-        returnValueForMissingStub: _i9.Future<_i4.Offset>.value(_FakeOffset_6(
+        returnValueForMissingStub: _i10.Future<_i4.Offset>.value(_FakeOffset_6(
           this,
           Invocation.method(
             #getScrollPosition,
             [],
           ),
         )),
-      ) as _i9.Future<_i4.Offset>);
+      ) as _i10.Future<_i4.Offset>);
 
   @override
-  _i9.Future<void> enableZoom(bool? enabled) => (super.noSuchMethod(
+  _i10.Future<void> enableZoom(bool? enabled) => (super.noSuchMethod(
         Invocation.method(
           #enableZoom,
           [enabled],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setBackgroundColor(_i4.Color? color) => (super.noSuchMethod(
+  _i10.Future<void> setBackgroundColor(_i4.Color? color) => (super.noSuchMethod(
         Invocation.method(
           #setBackgroundColor,
           [color],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setJavaScriptMode(_i3.JavaScriptMode? javaScriptMode) =>
+  _i10.Future<void> setJavaScriptMode(_i3.JavaScriptMode? javaScriptMode) =>
       (super.noSuchMethod(
         Invocation.method(
           #setJavaScriptMode,
           [javaScriptMode],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setUserAgent(String? userAgent) => (super.noSuchMethod(
+  _i10.Future<void> setUserAgent(String? userAgent) => (super.noSuchMethod(
         Invocation.method(
           #setUserAgent,
           [userAgent],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setOnScrollPositionChange(
+  _i10.Future<void> setOnScrollPositionChange(
           void Function(_i3.ScrollPositionChange)? onScrollPositionChange) =>
       (super.noSuchMethod(
         Invocation.method(
           #setOnScrollPositionChange,
           [onScrollPositionChange],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setMediaPlaybackRequiresUserGesture(bool? require) =>
+  _i10.Future<void> setMediaPlaybackRequiresUserGesture(bool? require) =>
       (super.noSuchMethod(
         Invocation.method(
           #setMediaPlaybackRequiresUserGesture,
           [require],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setTextZoom(int? textZoom) => (super.noSuchMethod(
+  _i10.Future<void> setTextZoom(int? textZoom) => (super.noSuchMethod(
         Invocation.method(
           #setTextZoom,
           [textZoom],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setOnShowFileSelector(
-          _i9.Future<List<String>> Function(_i8.FileSelectorParams)?
+  _i10.Future<void> setOnShowFileSelector(
+          _i10.Future<List<String>> Function(_i9.FileSelectorParams)?
               onShowFileSelector) =>
       (super.noSuchMethod(
         Invocation.method(
           #setOnShowFileSelector,
           [onShowFileSelector],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setOnPlatformPermissionRequest(
+  _i10.Future<void> setOnPlatformPermissionRequest(
           void Function(_i3.PlatformWebViewPermissionRequest)?
               onPermissionRequest) =>
       (super.noSuchMethod(
@@ -783,14 +796,14 @@ class MockAndroidWebViewController extends _i1.Mock
           #setOnPlatformPermissionRequest,
           [onPermissionRequest],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setGeolocationPermissionsPromptCallbacks({
-    _i8.OnGeolocationPermissionsShowPrompt? onShowPrompt,
-    _i8.OnGeolocationPermissionsHidePrompt? onHidePrompt,
+  _i10.Future<void> setGeolocationPermissionsPromptCallbacks({
+    _i9.OnGeolocationPermissionsShowPrompt? onShowPrompt,
+    _i9.OnGeolocationPermissionsHidePrompt? onHidePrompt,
   }) =>
       (super.noSuchMethod(
         Invocation.method(
@@ -801,14 +814,14 @@ class MockAndroidWebViewController extends _i1.Mock
             #onHidePrompt: onHidePrompt,
           },
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setCustomWidgetCallbacks({
-    required _i8.OnShowCustomWidgetCallback? onShowCustomWidget,
-    required _i8.OnHideCustomWidgetCallback? onHideCustomWidget,
+  _i10.Future<void> setCustomWidgetCallbacks({
+    required _i9.OnShowCustomWidgetCallback? onShowCustomWidget,
+    required _i9.OnHideCustomWidgetCallback? onHideCustomWidget,
   }) =>
       (super.noSuchMethod(
         Invocation.method(
@@ -819,77 +832,77 @@ class MockAndroidWebViewController extends _i1.Mock
             #onHideCustomWidget: onHideCustomWidget,
           },
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setOnConsoleMessage(
+  _i10.Future<void> setOnConsoleMessage(
           void Function(_i3.JavaScriptConsoleMessage)? onConsoleMessage) =>
       (super.noSuchMethod(
         Invocation.method(
           #setOnConsoleMessage,
           [onConsoleMessage],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<String?> getUserAgent() => (super.noSuchMethod(
+  _i10.Future<String?> getUserAgent() => (super.noSuchMethod(
         Invocation.method(
           #getUserAgent,
           [],
         ),
-        returnValue: _i9.Future<String?>.value(),
-        returnValueForMissingStub: _i9.Future<String?>.value(),
-      ) as _i9.Future<String?>);
+        returnValue: _i10.Future<String?>.value(),
+        returnValueForMissingStub: _i10.Future<String?>.value(),
+      ) as _i10.Future<String?>);
 
   @override
-  _i9.Future<void> setOnJavaScriptAlertDialog(
-          _i9.Future<void> Function(_i3.JavaScriptAlertDialogRequest)?
+  _i10.Future<void> setOnJavaScriptAlertDialog(
+          _i10.Future<void> Function(_i3.JavaScriptAlertDialogRequest)?
               onJavaScriptAlertDialog) =>
       (super.noSuchMethod(
         Invocation.method(
           #setOnJavaScriptAlertDialog,
           [onJavaScriptAlertDialog],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setOnJavaScriptConfirmDialog(
-          _i9.Future<bool> Function(_i3.JavaScriptConfirmDialogRequest)?
+  _i10.Future<void> setOnJavaScriptConfirmDialog(
+          _i10.Future<bool> Function(_i3.JavaScriptConfirmDialogRequest)?
               onJavaScriptConfirmDialog) =>
       (super.noSuchMethod(
         Invocation.method(
           #setOnJavaScriptConfirmDialog,
           [onJavaScriptConfirmDialog],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setOnJavaScriptTextInputDialog(
-          _i9.Future<String> Function(_i3.JavaScriptTextInputDialogRequest)?
+  _i10.Future<void> setOnJavaScriptTextInputDialog(
+          _i10.Future<String> Function(_i3.JavaScriptTextInputDialogRequest)?
               onJavaScriptTextInputDialog) =>
       (super.noSuchMethod(
         Invocation.method(
           #setOnJavaScriptTextInputDialog,
           [onJavaScriptTextInputDialog],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 }
 
 /// A class which mocks [AndroidWebViewProxy].
 ///
 /// See the documentation for Mockito's code generation for more information.
 class MockAndroidWebViewProxy extends _i1.Mock
-    implements _i10.AndroidWebViewProxy {
+    implements _i11.AndroidWebViewProxy {
   @override
   _i2.WebView Function(
       {dynamic Function(
@@ -936,20 +949,20 @@ class MockAndroidWebViewProxy extends _i1.Mock
       _i2.ConsoleMessage,
     )? onConsoleMessage,
     void Function(_i2.WebChromeClient)? onGeolocationPermissionsHidePrompt,
-    _i9.Future<void> Function(
+    _i10.Future<void> Function(
       String,
       _i2.GeolocationPermissionsCallback,
     )? onGeolocationPermissionsShowPrompt,
     void Function(_i2.WebChromeClient)? onHideCustomView,
-    _i9.Future<void> Function(
+    _i10.Future<void> Function(
       String,
       String,
     )? onJsAlert,
-    _i9.Future<bool> Function(
+    _i10.Future<bool> Function(
       String,
       String,
     )? onJsConfirm,
-    _i9.Future<String> Function(
+    _i10.Future<String> Function(
       String,
       String,
       String,
@@ -967,7 +980,7 @@ class MockAndroidWebViewProxy extends _i1.Mock
       _i2.View,
       _i2.CustomViewCallback,
     )? onShowCustomView,
-    _i9.Future<List<String>> Function(
+    _i10.Future<List<String>> Function(
       _i2.WebView,
       _i2.FileChooserParams,
     )? onShowFileChooser,
@@ -980,20 +993,20 @@ class MockAndroidWebViewProxy extends _i1.Mock
           )? onConsoleMessage,
           void Function(_i2.WebChromeClient)?
               onGeolocationPermissionsHidePrompt,
-          _i9.Future<void> Function(
+          _i10.Future<void> Function(
             String,
             _i2.GeolocationPermissionsCallback,
           )? onGeolocationPermissionsShowPrompt,
           void Function(_i2.WebChromeClient)? onHideCustomView,
-          _i9.Future<void> Function(
+          _i10.Future<void> Function(
             String,
             String,
           )? onJsAlert,
-          _i9.Future<bool> Function(
+          _i10.Future<bool> Function(
             String,
             String,
           )? onJsConfirm,
-          _i9.Future<String> Function(
+          _i10.Future<String> Function(
             String,
             String,
             String,
@@ -1011,7 +1024,7 @@ class MockAndroidWebViewProxy extends _i1.Mock
             _i2.View,
             _i2.CustomViewCallback,
           )? onShowCustomView,
-          _i9.Future<List<String>> Function(
+          _i10.Future<List<String>> Function(
             _i2.WebView,
             _i2.FileChooserParams,
           )? onShowFileChooser,
@@ -1027,20 +1040,20 @@ class MockAndroidWebViewProxy extends _i1.Mock
           )? onConsoleMessage,
           void Function(_i2.WebChromeClient)?
               onGeolocationPermissionsHidePrompt,
-          _i9.Future<void> Function(
+          _i10.Future<void> Function(
             String,
             _i2.GeolocationPermissionsCallback,
           )? onGeolocationPermissionsShowPrompt,
           void Function(_i2.WebChromeClient)? onHideCustomView,
-          _i9.Future<void> Function(
+          _i10.Future<void> Function(
             String,
             String,
           )? onJsAlert,
-          _i9.Future<bool> Function(
+          _i10.Future<bool> Function(
             String,
             String,
           )? onJsConfirm,
-          _i9.Future<String> Function(
+          _i10.Future<String> Function(
             String,
             String,
             String,
@@ -1058,7 +1071,7 @@ class MockAndroidWebViewProxy extends _i1.Mock
             _i2.View,
             _i2.CustomViewCallback,
           )? onShowCustomView,
-          _i9.Future<List<String>> Function(
+          _i10.Future<List<String>> Function(
             _i2.WebView,
             _i2.FileChooserParams,
           )? onShowFileChooser,
@@ -1073,20 +1086,20 @@ class MockAndroidWebViewProxy extends _i1.Mock
           _i2.ConsoleMessage,
         )? onConsoleMessage,
         void Function(_i2.WebChromeClient)? onGeolocationPermissionsHidePrompt,
-        _i9.Future<void> Function(
+        _i10.Future<void> Function(
           String,
           _i2.GeolocationPermissionsCallback,
         )? onGeolocationPermissionsShowPrompt,
         void Function(_i2.WebChromeClient)? onHideCustomView,
-        _i9.Future<void> Function(
+        _i10.Future<void> Function(
           String,
           String,
         )? onJsAlert,
-        _i9.Future<bool> Function(
+        _i10.Future<bool> Function(
           String,
           String,
         )? onJsConfirm,
-        _i9.Future<String> Function(
+        _i10.Future<String> Function(
           String,
           String,
           String,
@@ -1104,7 +1117,7 @@ class MockAndroidWebViewProxy extends _i1.Mock
           _i2.View,
           _i2.CustomViewCallback,
         )? onShowCustomView,
-        _i9.Future<List<String>> Function(
+        _i10.Future<List<String>> Function(
           _i2.WebView,
           _i2.FileChooserParams,
         )? onShowFileChooser,
@@ -1366,15 +1379,15 @@ class MockAndroidWebViewProxy extends _i1.Mock
           ) onDownloadStart}));
 
   @override
-  _i9.Future<void> setWebContentsDebuggingEnabled(bool? enabled) =>
+  _i10.Future<void> setWebContentsDebuggingEnabled(bool? enabled) =>
       (super.noSuchMethod(
         Invocation.method(
           #setWebContentsDebuggingEnabled,
           [enabled],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 }
 
 /// A class which mocks [AndroidWebViewWidgetCreationParams].
@@ -1382,7 +1395,7 @@ class MockAndroidWebViewProxy extends _i1.Mock
 /// See the documentation for Mockito's code generation for more information.
 // ignore: must_be_immutable
 class MockAndroidWebViewWidgetCreationParams extends _i1.Mock
-    implements _i8.AndroidWebViewWidgetCreationParams {
+    implements _i9.AndroidWebViewWidgetCreationParams {
   @override
   _i5.InstanceManager get instanceManager => (super.noSuchMethod(
         Invocation.getter(#instanceManager),
@@ -1438,13 +1451,13 @@ class MockAndroidWebViewWidgetCreationParams extends _i1.Mock
       ) as _i4.TextDirection);
 
   @override
-  Set<_i11.Factory<_i12.OneSequenceGestureRecognizer>> get gestureRecognizers =>
+  Set<_i12.Factory<_i13.OneSequenceGestureRecognizer>> get gestureRecognizers =>
       (super.noSuchMethod(
         Invocation.getter(#gestureRecognizers),
-        returnValue: <_i11.Factory<_i12.OneSequenceGestureRecognizer>>{},
+        returnValue: <_i12.Factory<_i13.OneSequenceGestureRecognizer>>{},
         returnValueForMissingStub: <_i11
-            .Factory<_i12.OneSequenceGestureRecognizer>>{},
-      ) as Set<_i11.Factory<_i12.OneSequenceGestureRecognizer>>);
+            .Factory<_i13.OneSequenceGestureRecognizer>>{},
+      ) as Set<_i12.Factory<_i13.OneSequenceGestureRecognizer>>);
 }
 
 /// A class which mocks [ExpensiveAndroidViewController].
@@ -1511,17 +1524,17 @@ class MockExpensiveAndroidViewController extends _i1.Mock
       ) as List<_i7.PlatformViewCreatedCallback>);
 
   @override
-  _i9.Future<void> setOffset(_i4.Offset? off) => (super.noSuchMethod(
+  _i10.Future<void> setOffset(_i4.Offset? off) => (super.noSuchMethod(
         Invocation.method(
           #setOffset,
           [off],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> create({
+  _i10.Future<void> create({
     _i4.Size? size,
     _i4.Offset? position,
   }) =>
@@ -1534,42 +1547,42 @@ class MockExpensiveAndroidViewController extends _i1.Mock
             #position: position,
           },
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<_i4.Size> setSize(_i4.Size? size) => (super.noSuchMethod(
+  _i10.Future<_i4.Size> setSize(_i4.Size? size) => (super.noSuchMethod(
         Invocation.method(
           #setSize,
           [size],
         ),
-        returnValue: _i9.Future<_i4.Size>.value(_FakeSize_13(
+        returnValue: _i10.Future<_i4.Size>.value(_FakeSize_13(
           this,
           Invocation.method(
             #setSize,
             [size],
           ),
         )),
-        returnValueForMissingStub: _i9.Future<_i4.Size>.value(_FakeSize_13(
+        returnValueForMissingStub: _i10.Future<_i4.Size>.value(_FakeSize_13(
           this,
           Invocation.method(
             #setSize,
             [size],
           ),
         )),
-      ) as _i9.Future<_i4.Size>);
+      ) as _i10.Future<_i4.Size>);
 
   @override
-  _i9.Future<void> sendMotionEvent(_i7.AndroidMotionEvent? event) =>
+  _i10.Future<void> sendMotionEvent(_i7.AndroidMotionEvent? event) =>
       (super.noSuchMethod(
         Invocation.method(
           #sendMotionEvent,
           [event],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
   void addOnPlatformViewCreatedListener(
@@ -1594,46 +1607,46 @@ class MockExpensiveAndroidViewController extends _i1.Mock
       );
 
   @override
-  _i9.Future<void> setLayoutDirection(_i4.TextDirection? layoutDirection) =>
+  _i10.Future<void> setLayoutDirection(_i4.TextDirection? layoutDirection) =>
       (super.noSuchMethod(
         Invocation.method(
           #setLayoutDirection,
           [layoutDirection],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> dispatchPointerEvent(_i12.PointerEvent? event) =>
+  _i10.Future<void> dispatchPointerEvent(_i13.PointerEvent? event) =>
       (super.noSuchMethod(
         Invocation.method(
           #dispatchPointerEvent,
           [event],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> clearFocus() => (super.noSuchMethod(
+  _i10.Future<void> clearFocus() => (super.noSuchMethod(
         Invocation.method(
           #clearFocus,
           [],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> dispose() => (super.noSuchMethod(
+  _i10.Future<void> dispose() => (super.noSuchMethod(
         Invocation.method(
           #dispose,
           [],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 }
 
 /// A class which mocks [FlutterAssetManager].
@@ -1642,23 +1655,24 @@ class MockExpensiveAndroidViewController extends _i1.Mock
 class MockFlutterAssetManager extends _i1.Mock
     implements _i2.FlutterAssetManager {
   @override
-  _i9.Future<List<String?>> list(String? path) => (super.noSuchMethod(
+  _i10.Future<List<String?>> list(String? path) => (super.noSuchMethod(
         Invocation.method(
           #list,
           [path],
         ),
-        returnValue: _i9.Future<List<String?>>.value(<String?>[]),
-        returnValueForMissingStub: _i9.Future<List<String?>>.value(<String?>[]),
-      ) as _i9.Future<List<String?>>);
+        returnValue: _i10.Future<List<String?>>.value(<String?>[]),
+        returnValueForMissingStub:
+            _i10.Future<List<String?>>.value(<String?>[]),
+      ) as _i10.Future<List<String?>>);
 
   @override
-  _i9.Future<String> getAssetFilePathByName(String? name) =>
+  _i10.Future<String> getAssetFilePathByName(String? name) =>
       (super.noSuchMethod(
         Invocation.method(
           #getAssetFilePathByName,
           [name],
         ),
-        returnValue: _i9.Future<String>.value(_i13.dummyValue<String>(
+        returnValue: _i10.Future<String>.value(_i14.dummyValue<String>(
           this,
           Invocation.method(
             #getAssetFilePathByName,
@@ -1666,14 +1680,14 @@ class MockFlutterAssetManager extends _i1.Mock
           ),
         )),
         returnValueForMissingStub:
-            _i9.Future<String>.value(_i13.dummyValue<String>(
+            _i10.Future<String>.value(_i14.dummyValue<String>(
           this,
           Invocation.method(
             #getAssetFilePathByName,
             [name],
           ),
         )),
-      ) as _i9.Future<String>);
+      ) as _i10.Future<String>);
 }
 
 /// A class which mocks [JavaScriptChannel].
@@ -1683,11 +1697,11 @@ class MockJavaScriptChannel extends _i1.Mock implements _i2.JavaScriptChannel {
   @override
   String get channelName => (super.noSuchMethod(
         Invocation.getter(#channelName),
-        returnValue: _i13.dummyValue<String>(
+        returnValue: _i14.dummyValue<String>(
           this,
           Invocation.getter(#channelName),
         ),
-        returnValueForMissingStub: _i13.dummyValue<String>(
+        returnValueForMissingStub: _i14.dummyValue<String>(
           this,
           Invocation.getter(#channelName),
         ),
@@ -1735,24 +1749,24 @@ class MockPermissionRequest extends _i1.Mock implements _i2.PermissionRequest {
       ) as List<String>);
 
   @override
-  _i9.Future<void> grant(List<String>? resources) => (super.noSuchMethod(
+  _i10.Future<void> grant(List<String>? resources) => (super.noSuchMethod(
         Invocation.method(
           #grant,
           [resources],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> deny() => (super.noSuchMethod(
+  _i10.Future<void> deny() => (super.noSuchMethod(
         Invocation.method(
           #deny,
           [],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
   _i2.PermissionRequest copy() => (super.noSuchMethod(
@@ -1956,17 +1970,17 @@ class MockSurfaceAndroidViewController extends _i1.Mock
       ) as List<_i7.PlatformViewCreatedCallback>);
 
   @override
-  _i9.Future<void> setOffset(_i4.Offset? off) => (super.noSuchMethod(
+  _i10.Future<void> setOffset(_i4.Offset? off) => (super.noSuchMethod(
         Invocation.method(
           #setOffset,
           [off],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> create({
+  _i10.Future<void> create({
     _i4.Size? size,
     _i4.Offset? position,
   }) =>
@@ -1979,42 +1993,42 @@ class MockSurfaceAndroidViewController extends _i1.Mock
             #position: position,
           },
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<_i4.Size> setSize(_i4.Size? size) => (super.noSuchMethod(
+  _i10.Future<_i4.Size> setSize(_i4.Size? size) => (super.noSuchMethod(
         Invocation.method(
           #setSize,
           [size],
         ),
-        returnValue: _i9.Future<_i4.Size>.value(_FakeSize_13(
+        returnValue: _i10.Future<_i4.Size>.value(_FakeSize_13(
           this,
           Invocation.method(
             #setSize,
             [size],
           ),
         )),
-        returnValueForMissingStub: _i9.Future<_i4.Size>.value(_FakeSize_13(
+        returnValueForMissingStub: _i10.Future<_i4.Size>.value(_FakeSize_13(
           this,
           Invocation.method(
             #setSize,
             [size],
           ),
         )),
-      ) as _i9.Future<_i4.Size>);
+      ) as _i10.Future<_i4.Size>);
 
   @override
-  _i9.Future<void> sendMotionEvent(_i7.AndroidMotionEvent? event) =>
+  _i10.Future<void> sendMotionEvent(_i7.AndroidMotionEvent? event) =>
       (super.noSuchMethod(
         Invocation.method(
           #sendMotionEvent,
           [event],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
   void addOnPlatformViewCreatedListener(
@@ -2039,46 +2053,46 @@ class MockSurfaceAndroidViewController extends _i1.Mock
       );
 
   @override
-  _i9.Future<void> setLayoutDirection(_i4.TextDirection? layoutDirection) =>
+  _i10.Future<void> setLayoutDirection(_i4.TextDirection? layoutDirection) =>
       (super.noSuchMethod(
         Invocation.method(
           #setLayoutDirection,
           [layoutDirection],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> dispatchPointerEvent(_i12.PointerEvent? event) =>
+  _i10.Future<void> dispatchPointerEvent(_i13.PointerEvent? event) =>
       (super.noSuchMethod(
         Invocation.method(
           #dispatchPointerEvent,
           [event],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> clearFocus() => (super.noSuchMethod(
+  _i10.Future<void> clearFocus() => (super.noSuchMethod(
         Invocation.method(
           #clearFocus,
           [],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> dispose() => (super.noSuchMethod(
+  _i10.Future<void> dispose() => (super.noSuchMethod(
         Invocation.method(
           #dispose,
           [],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 }
 
 /// A class which mocks [WebChromeClient].
@@ -2086,57 +2100,58 @@ class MockSurfaceAndroidViewController extends _i1.Mock
 /// See the documentation for Mockito's code generation for more information.
 class MockWebChromeClient extends _i1.Mock implements _i2.WebChromeClient {
   @override
-  _i9.Future<void> setSynchronousReturnValueForOnShowFileChooser(bool? value) =>
+  _i10.Future<void> setSynchronousReturnValueForOnShowFileChooser(
+          bool? value) =>
       (super.noSuchMethod(
         Invocation.method(
           #setSynchronousReturnValueForOnShowFileChooser,
           [value],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setSynchronousReturnValueForOnConsoleMessage(bool? value) =>
+  _i10.Future<void> setSynchronousReturnValueForOnConsoleMessage(bool? value) =>
       (super.noSuchMethod(
         Invocation.method(
           #setSynchronousReturnValueForOnConsoleMessage,
           [value],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setSynchronousReturnValueForOnJsAlert(bool? value) =>
+  _i10.Future<void> setSynchronousReturnValueForOnJsAlert(bool? value) =>
       (super.noSuchMethod(
         Invocation.method(
           #setSynchronousReturnValueForOnJsAlert,
           [value],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
   @override
-  _i9.Future<void> setSynchronousReturnValueForOnJsConfirm(bool? value) =>
+  _i10.Future<void> setSynchronousReturnValueForOnJsConfirm(bool? value) =>
       (super.noSuchMethod(
         Invocation.method(
           #setSynchronousReturnValueForOnJsConfirm,
           [value],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
   @override
-  _i9.Future<void> setSynchronousReturnValueForOnJsPrompt(bool? value) =>
+  _i10.Future<void> setSynchronousReturnValueForOnJsPrompt(bool? value) =>
       (super.noSuchMethod(
         Invocation.method(
           #setSynchronousReturnValueForOnJsPrompt,
           [value],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
   @override
   _i2.WebChromeClient copy() => (super.noSuchMethod(
         Invocation.method(
@@ -2165,147 +2180,149 @@ class MockWebChromeClient extends _i1.Mock implements _i2.WebChromeClient {
 /// See the documentation for Mockito's code generation for more information.
 class MockWebSettings extends _i1.Mock implements _i2.WebSettings {
   @override
-  _i9.Future<void> setDomStorageEnabled(bool? flag) => (super.noSuchMethod(
+  _i10.Future<void> setDomStorageEnabled(bool? flag) => (super.noSuchMethod(
         Invocation.method(
           #setDomStorageEnabled,
           [flag],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setJavaScriptCanOpenWindowsAutomatically(bool? flag) =>
+  _i10.Future<void> setJavaScriptCanOpenWindowsAutomatically(bool? flag) =>
       (super.noSuchMethod(
         Invocation.method(
           #setJavaScriptCanOpenWindowsAutomatically,
           [flag],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setSupportMultipleWindows(bool? support) =>
+  _i10.Future<void> setSupportMultipleWindows(bool? support) =>
       (super.noSuchMethod(
         Invocation.method(
           #setSupportMultipleWindows,
           [support],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setJavaScriptEnabled(bool? flag) => (super.noSuchMethod(
+  _i10.Future<void> setJavaScriptEnabled(bool? flag) => (super.noSuchMethod(
         Invocation.method(
           #setJavaScriptEnabled,
           [flag],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setUserAgentString(String? userAgentString) =>
+  _i10.Future<void> setUserAgentString(String? userAgentString) =>
       (super.noSuchMethod(
         Invocation.method(
           #setUserAgentString,
           [userAgentString],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setMediaPlaybackRequiresUserGesture(bool? require) =>
+  _i10.Future<void> setMediaPlaybackRequiresUserGesture(bool? require) =>
       (super.noSuchMethod(
         Invocation.method(
           #setMediaPlaybackRequiresUserGesture,
           [require],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setSupportZoom(bool? support) => (super.noSuchMethod(
+  _i10.Future<void> setSupportZoom(bool? support) => (super.noSuchMethod(
         Invocation.method(
           #setSupportZoom,
           [support],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setLoadWithOverviewMode(bool? overview) =>
+  _i10.Future<void> setLoadWithOverviewMode(bool? overview) =>
       (super.noSuchMethod(
         Invocation.method(
           #setLoadWithOverviewMode,
           [overview],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setUseWideViewPort(bool? use) => (super.noSuchMethod(
+  _i10.Future<void> setUseWideViewPort(bool? use) => (super.noSuchMethod(
         Invocation.method(
           #setUseWideViewPort,
           [use],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setDisplayZoomControls(bool? enabled) => (super.noSuchMethod(
+  _i10.Future<void> setDisplayZoomControls(bool? enabled) =>
+      (super.noSuchMethod(
         Invocation.method(
           #setDisplayZoomControls,
           [enabled],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setBuiltInZoomControls(bool? enabled) => (super.noSuchMethod(
+  _i10.Future<void> setBuiltInZoomControls(bool? enabled) =>
+      (super.noSuchMethod(
         Invocation.method(
           #setBuiltInZoomControls,
           [enabled],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setAllowFileAccess(bool? enabled) => (super.noSuchMethod(
+  _i10.Future<void> setAllowFileAccess(bool? enabled) => (super.noSuchMethod(
         Invocation.method(
           #setAllowFileAccess,
           [enabled],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setTextZoom(int? textZoom) => (super.noSuchMethod(
+  _i10.Future<void> setTextZoom(int? textZoom) => (super.noSuchMethod(
         Invocation.method(
           #setTextZoom,
           [textZoom],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<String> getUserAgentString() => (super.noSuchMethod(
+  _i10.Future<String> getUserAgentString() => (super.noSuchMethod(
         Invocation.method(
           #getUserAgentString,
           [],
         ),
-        returnValue: _i9.Future<String>.value(_i13.dummyValue<String>(
+        returnValue: _i10.Future<String>.value(_i14.dummyValue<String>(
           this,
           Invocation.method(
             #getUserAgentString,
@@ -2313,14 +2330,14 @@ class MockWebSettings extends _i1.Mock implements _i2.WebSettings {
           ),
         )),
         returnValueForMissingStub:
-            _i9.Future<String>.value(_i13.dummyValue<String>(
+            _i10.Future<String>.value(_i14.dummyValue<String>(
           this,
           Invocation.method(
             #getUserAgentString,
             [],
           ),
         )),
-      ) as _i9.Future<String>);
+      ) as _i10.Future<String>);
 
   @override
   _i2.WebSettings copy() => (super.noSuchMethod(
@@ -2363,7 +2380,7 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
       ) as _i2.WebSettings);
 
   @override
-  _i9.Future<void> loadData({
+  _i10.Future<void> loadData({
     required String? data,
     String? mimeType,
     String? encoding,
@@ -2378,12 +2395,12 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
             #encoding: encoding,
           },
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> loadDataWithBaseUrl({
+  _i10.Future<void> loadDataWithBaseUrl({
     String? baseUrl,
     required String? data,
     String? mimeType,
@@ -2402,12 +2419,12 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
             #historyUrl: historyUrl,
           },
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> loadUrl(
+  _i10.Future<void> loadUrl(
     String? url,
     Map<String, String>? headers,
   ) =>
@@ -2419,14 +2436,14 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
             headers,
           ],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> postUrl(
+  _i10.Future<void> postUrl(
     String? url,
-    _i14.Uint8List? data,
+    _i15.Uint8List? data,
   ) =>
       (super.noSuchMethod(
         Invocation.method(
@@ -2436,103 +2453,103 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
             data,
           ],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<String?> getUrl() => (super.noSuchMethod(
+  _i10.Future<String?> getUrl() => (super.noSuchMethod(
         Invocation.method(
           #getUrl,
           [],
         ),
-        returnValue: _i9.Future<String?>.value(),
-        returnValueForMissingStub: _i9.Future<String?>.value(),
-      ) as _i9.Future<String?>);
+        returnValue: _i10.Future<String?>.value(),
+        returnValueForMissingStub: _i10.Future<String?>.value(),
+      ) as _i10.Future<String?>);
 
   @override
-  _i9.Future<bool> canGoBack() => (super.noSuchMethod(
+  _i10.Future<bool> canGoBack() => (super.noSuchMethod(
         Invocation.method(
           #canGoBack,
           [],
         ),
-        returnValue: _i9.Future<bool>.value(false),
-        returnValueForMissingStub: _i9.Future<bool>.value(false),
-      ) as _i9.Future<bool>);
+        returnValue: _i10.Future<bool>.value(false),
+        returnValueForMissingStub: _i10.Future<bool>.value(false),
+      ) as _i10.Future<bool>);
 
   @override
-  _i9.Future<bool> canGoForward() => (super.noSuchMethod(
+  _i10.Future<bool> canGoForward() => (super.noSuchMethod(
         Invocation.method(
           #canGoForward,
           [],
         ),
-        returnValue: _i9.Future<bool>.value(false),
-        returnValueForMissingStub: _i9.Future<bool>.value(false),
-      ) as _i9.Future<bool>);
+        returnValue: _i10.Future<bool>.value(false),
+        returnValueForMissingStub: _i10.Future<bool>.value(false),
+      ) as _i10.Future<bool>);
 
   @override
-  _i9.Future<void> goBack() => (super.noSuchMethod(
+  _i10.Future<void> goBack() => (super.noSuchMethod(
         Invocation.method(
           #goBack,
           [],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> goForward() => (super.noSuchMethod(
+  _i10.Future<void> goForward() => (super.noSuchMethod(
         Invocation.method(
           #goForward,
           [],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> reload() => (super.noSuchMethod(
+  _i10.Future<void> reload() => (super.noSuchMethod(
         Invocation.method(
           #reload,
           [],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> clearCache(bool? includeDiskFiles) => (super.noSuchMethod(
+  _i10.Future<void> clearCache(bool? includeDiskFiles) => (super.noSuchMethod(
         Invocation.method(
           #clearCache,
           [includeDiskFiles],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<String?> evaluateJavascript(String? javascriptString) =>
+  _i10.Future<String?> evaluateJavascript(String? javascriptString) =>
       (super.noSuchMethod(
         Invocation.method(
           #evaluateJavascript,
           [javascriptString],
         ),
-        returnValue: _i9.Future<String?>.value(),
-        returnValueForMissingStub: _i9.Future<String?>.value(),
-      ) as _i9.Future<String?>);
+        returnValue: _i10.Future<String?>.value(),
+        returnValueForMissingStub: _i10.Future<String?>.value(),
+      ) as _i10.Future<String?>);
 
   @override
-  _i9.Future<String?> getTitle() => (super.noSuchMethod(
+  _i10.Future<String?> getTitle() => (super.noSuchMethod(
         Invocation.method(
           #getTitle,
           [],
         ),
-        returnValue: _i9.Future<String?>.value(),
-        returnValueForMissingStub: _i9.Future<String?>.value(),
-      ) as _i9.Future<String?>);
+        returnValue: _i10.Future<String?>.value(),
+        returnValueForMissingStub: _i10.Future<String?>.value(),
+      ) as _i10.Future<String?>);
 
   @override
-  _i9.Future<void> scrollTo(
+  _i10.Future<void> scrollTo(
     int? x,
     int? y,
   ) =>
@@ -2544,12 +2561,12 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
             y,
           ],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> scrollBy(
+  _i10.Future<void> scrollBy(
     int? x,
     int? y,
   ) =>
@@ -2561,118 +2578,118 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
             y,
           ],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<int> getScrollX() => (super.noSuchMethod(
+  _i10.Future<int> getScrollX() => (super.noSuchMethod(
         Invocation.method(
           #getScrollX,
           [],
         ),
-        returnValue: _i9.Future<int>.value(0),
-        returnValueForMissingStub: _i9.Future<int>.value(0),
-      ) as _i9.Future<int>);
+        returnValue: _i10.Future<int>.value(0),
+        returnValueForMissingStub: _i10.Future<int>.value(0),
+      ) as _i10.Future<int>);
 
   @override
-  _i9.Future<int> getScrollY() => (super.noSuchMethod(
+  _i10.Future<int> getScrollY() => (super.noSuchMethod(
         Invocation.method(
           #getScrollY,
           [],
         ),
-        returnValue: _i9.Future<int>.value(0),
-        returnValueForMissingStub: _i9.Future<int>.value(0),
-      ) as _i9.Future<int>);
+        returnValue: _i10.Future<int>.value(0),
+        returnValueForMissingStub: _i10.Future<int>.value(0),
+      ) as _i10.Future<int>);
 
   @override
-  _i9.Future<_i4.Offset> getScrollPosition() => (super.noSuchMethod(
+  _i10.Future<_i4.Offset> getScrollPosition() => (super.noSuchMethod(
         Invocation.method(
           #getScrollPosition,
           [],
         ),
-        returnValue: _i9.Future<_i4.Offset>.value(_FakeOffset_6(
+        returnValue: _i10.Future<_i4.Offset>.value(_FakeOffset_6(
           this,
           Invocation.method(
             #getScrollPosition,
             [],
           ),
         )),
-        returnValueForMissingStub: _i9.Future<_i4.Offset>.value(_FakeOffset_6(
+        returnValueForMissingStub: _i10.Future<_i4.Offset>.value(_FakeOffset_6(
           this,
           Invocation.method(
             #getScrollPosition,
             [],
           ),
         )),
-      ) as _i9.Future<_i4.Offset>);
+      ) as _i10.Future<_i4.Offset>);
 
   @override
-  _i9.Future<void> setWebViewClient(_i2.WebViewClient? webViewClient) =>
+  _i10.Future<void> setWebViewClient(_i2.WebViewClient? webViewClient) =>
       (super.noSuchMethod(
         Invocation.method(
           #setWebViewClient,
           [webViewClient],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> addJavaScriptChannel(
+  _i10.Future<void> addJavaScriptChannel(
           _i2.JavaScriptChannel? javaScriptChannel) =>
       (super.noSuchMethod(
         Invocation.method(
           #addJavaScriptChannel,
           [javaScriptChannel],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> removeJavaScriptChannel(
+  _i10.Future<void> removeJavaScriptChannel(
           _i2.JavaScriptChannel? javaScriptChannel) =>
       (super.noSuchMethod(
         Invocation.method(
           #removeJavaScriptChannel,
           [javaScriptChannel],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setDownloadListener(_i2.DownloadListener? listener) =>
+  _i10.Future<void> setDownloadListener(_i2.DownloadListener? listener) =>
       (super.noSuchMethod(
         Invocation.method(
           #setDownloadListener,
           [listener],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setWebChromeClient(_i2.WebChromeClient? client) =>
+  _i10.Future<void> setWebChromeClient(_i2.WebChromeClient? client) =>
       (super.noSuchMethod(
         Invocation.method(
           #setWebChromeClient,
           [client],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
-  _i9.Future<void> setBackgroundColor(_i4.Color? color) => (super.noSuchMethod(
+  _i10.Future<void> setBackgroundColor(_i4.Color? color) => (super.noSuchMethod(
         Invocation.method(
           #setBackgroundColor,
           [color],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
   _i2.WebView copy() => (super.noSuchMethod(
@@ -2702,16 +2719,16 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
 /// See the documentation for Mockito's code generation for more information.
 class MockWebViewClient extends _i1.Mock implements _i2.WebViewClient {
   @override
-  _i9.Future<void> setSynchronousReturnValueForShouldOverrideUrlLoading(
+  _i10.Future<void> setSynchronousReturnValueForShouldOverrideUrlLoading(
           bool? value) =>
       (super.noSuchMethod(
         Invocation.method(
           #setSynchronousReturnValueForShouldOverrideUrlLoading,
           [value],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
   _i2.WebViewClient copy() => (super.noSuchMethod(
@@ -2741,14 +2758,14 @@ class MockWebViewClient extends _i1.Mock implements _i2.WebViewClient {
 /// See the documentation for Mockito's code generation for more information.
 class MockWebStorage extends _i1.Mock implements _i2.WebStorage {
   @override
-  _i9.Future<void> deleteAllData() => (super.noSuchMethod(
+  _i10.Future<void> deleteAllData() => (super.noSuchMethod(
         Invocation.method(
           #deleteAllData,
           [],
         ),
-        returnValue: _i9.Future<void>.value(),
-        returnValueForMissingStub: _i9.Future<void>.value(),
-      ) as _i9.Future<void>);
+        returnValue: _i10.Future<void>.value(),
+        returnValueForMissingStub: _i10.Future<void>.value(),
+      ) as _i10.Future<void>);
 
   @override
   _i2.WebStorage copy() => (super.noSuchMethod(
@@ -2872,7 +2889,7 @@ class MockInstanceManager extends _i1.Mock implements _i5.InstanceManager {
 ///
 /// See the documentation for Mockito's code generation for more information.
 class MockTestInstanceManagerHostApi extends _i1.Mock
-    implements _i15.TestInstanceManagerHostApi {
+    implements _i16.TestInstanceManagerHostApi {
   @override
   void clear() => super.noSuchMethod(
         Invocation.method(
@@ -2881,4 +2898,28 @@ class MockTestInstanceManagerHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+
+  @override
+  _i8.InstanceManagerStatsData getStats() => (super.noSuchMethod(
+        Invocation.method(
+          #getStats,
+          [],
+        ),
+        returnValue: _FakeInstanceManagerStatsData_19(
+          this,
+          Invocation.method(
+            #getStats,
+            [],
+          ),
+        ),
+      ) as _i8.InstanceManagerStatsData);
+
+  @override
+  void setStatsLogInterval(int? intervalMillis) => super.noSuchMethod(
+        Invocation.method(
+          #setStatsLogInterval,
+          [intervalMillis],
+        ),
+        returnValueForMissingStub: null,
+      );
 }
@@ -3,17 +3,18 @@
 // Do not manually edit this file.
 
 // ignore_for_file: no_leading_underscores_for_library_prefixes
-import 'dart:async' as _i5;
+import 'dart:async' as _i6;
 import 'dart:ui' as _i4;
 
 import 'package:mockito/mockito.dart' as _i1;
 import 'package:webview_flutter_android/src/android_webview.dart' as _i2;
+import 'package:webview_flutter_android/src/android_webview.g.dart' as _i5;
 import 'package:webview_flutter_android/src/android_webview_controller.dart'
-    as _i6;
+    as _i7;
 import 'package:webview_flutter_platform_interface/webview_flutter_platform_interface.dart'
     as _i3;
 
-import 'test_android_webview.g.dart' as _i7;
+import 'test_android_webview.g.dart' as _i8;
 
 // ignore_for_file: type=lint
 // ignore_for_file: avoid_redundant_argument_values
@@ -69,6 +70,17 @@ class _FakeOffset_3 extends _i1.SmartFake implements _i4.Offset {
         );
 }
 
+class _FakeInstanceManagerStatsData_4 extends _i1.SmartFake
+    implements _i5.InstanceManagerStatsData {
+  _FakeInstanceManagerStatsData_4(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
 /// A class which mocks [CookieManager].
 ///
 /// See the documentation for Mockito's code generation for more information.
@@ -78,7 +90,7 @@ class MockCookieManager extends _i1.Mock implements _i2.CookieManager {
   }
 
   @override
-  _i5.Future<void> setCookie(
+  _i6.Future<void> setCookie(
     String? url,
     String? value,
   ) =>
@@ -90,21 +102,21 @@ class MockCookieManager extends _i1.Mock implements _i2.CookieManager {
             value,
           ],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
-  _i5.Future<bool> removeAllCookies() => (super.noSuchMethod(
+  _i6.Future<bool> removeAllCookies() => (super.noSuchMethod(
         Invocation.method(
           #removeAllCookies,
           [],
         ),
-        returnValue: _i5.Future<bool>.value(false),
-      ) as _i5.Future<bool>);
+        returnValue: _i6.Future<bool>.value(false),
+      ) as _i6.Future<bool>);
 
   @override
-  _i5.Future<void> setAcceptThirdPartyCookies(
+  _i6.Future<void> setAcceptThirdPartyCookies(
     _i2.WebView? webView,
     bool? accept,
   ) =>
@@ -116,9 +128,9 @@ class MockCookieManager extends _i1.Mock implements _i2.CookieManager {
             accept,
           ],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
   _i2.CookieManager copy() => (super.noSuchMethod(
@@ -140,7 +152,7 @@ class MockCookieManager extends _i1.Mock implements _i2.CookieManager {
 ///
 /// See the documentation for Mockito's code generation for more information.
 class MockAndroidWebViewController extends _i1.Mock
-    implements _i6.AndroidWebViewController {
+    implements _i7.AndroidWebViewController {
   MockAndroidWebViewController() {
     _i1.throwOnMissingStub(this);
   }
@@ -161,27 +173,27 @@ class MockAndroidWebViewController extends _i1.Mock
       ) as _i3.PlatformWebViewControllerCreationParams);
 
   @override
-  _i5.Future<void> loadFile(String? absoluteFilePath) => (super.noSuchMethod(
+  _i6.Future<void> loadFile(String? absoluteFilePath) => (super.noSuchMethod(
         Invocation.method(
           #loadFile,
           [absoluteFilePath],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
-  _i5.Future<void> loadFlutterAsset(String? key) => (super.noSuchMethod(
+  _i6.Future<void> loadFlutterAsset(String? key) => (super.noSuchMethod(
         Invocation.method(
           #loadFlutterAsset,
           [key],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
-  _i5.Future<void> loadHtmlString(
+  _i6.Future<void> loadHtmlString(
     String? html, {
     String? baseUrl,
   }) =>
@@ -191,170 +203,170 @@ class MockAndroidWebViewController extends _i1.Mock
           [html],
           {#baseUrl: baseUrl},
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
-  _i5.Future<void> loadRequest(_i3.LoadRequestParams? params) =>
+  _i6.Future<void> loadRequest(_i3.LoadRequestParams? params) =>
       (super.noSuchMethod(
         Invocation.method(
           #loadRequest,
           [params],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
-  _i5.Future<String?> currentUrl() => (super.noSuchMethod(
+  _i6.Future<String?> currentUrl() => (super.noSuchMethod(
         Invocation.method(
           #currentUrl,
           [],
         ),
-        returnValue: _i5.Future<String?>.value(),
-      ) as _i5.Future<String?>);
+        returnValue: _i6.Future<String?>.value(),
+      ) as _i6.Future<String?>);
 
   @override
-  _i5.Future<bool> canGoBack() => (super.noSuchMethod(
+  _i6.Future<bool> canGoBack() => (super.noSuchMethod(
         Invocation.method(
           #canGoBack,
           [],
         ),
-        returnValue: _i5.Future<bool>.value(false),
-      ) as _i5.Future<bool>);
+        returnValue: _i6.Future<bool>.value(false),
+      ) as _i6.Future<bool>);
 
   @override
-  _i5.Future<bool> canGoForward() => (super.noSuchMethod(
+  _i6.Future<bool> canGoForward() => (super.noSuchMethod(
         Invocation.method(
           #canGoForward,
           [],
         ),
-        returnValue: _i5.Future<bool>.value(false),
-      ) as _i5.Future<bool>);
+        returnValue: _i6.Future<bool>.value(false),
+      ) as _i6.Future<bool>);
 
   @override
-  _i5.Future<void> goBack() => (super.noSuchMethod(
+  _i6.Future<void> goBack() => (super.noSuchMethod(
         Invocation.method(
           #goBack,
           [],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
-  _i5.Future<void> goForward() => (super.noSuchMethod(
+  _i6.Future<void> goForward() => (super.noSuchMethod(
         Invocation.method(
           #goForward,
           [],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
-  _i5.Future<void> reload() => (super.noSuchMethod(
+  _i6.Future<void> reload() => (super.noSuchMethod(
         Invocation.method(
           #reload,
           [],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
-  _i5.Future<void> clearCache() => (super.noSuchMethod(
+  _i6.Future<void> clearCache() => (super.noSuchMethod(
         Invocation.method(
           #clearCache,
           [],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
-  _i5.Future<void> clearLocalStorage() => (super.noSuchMethod(
+  _i6.Future<void> clearLocalStorage() => (super.noSuchMethod(
         Invocation.method(
           #clearLocalStorage,
           [],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
-  _i5.Future<void> setPlatformNavigationDelegate(
+  _i6.Future<void> setPlatformNavigationDelegate(
           _i3.PlatformNavigationDelegate? handler) =>
       (super.noSuchMethod(
         Invocation.method(
           #setPlatformNavigationDelegate,
           [handler],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
-  _i5.Future<void> runJavaScript(String? javaScript) => (super.noSuchMethod(
+  _i6.Future<void> runJavaScript(String? javaScript) => (super.noSuchMethod(
         Invocation.method(
           #runJavaScript,
           [javaScript],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
-  _i5.Future<Object> runJavaScriptReturningResult(String? javaScript) =>
+  _i6.Future<Object> runJavaScriptReturningResult(String? javaScript) =>
       (super.noSuchMethod(
         Invocation.method(
           #runJavaScriptReturningResult,
           [javaScript],
         ),
-        returnValue: _i5.Future<Object>.value(_FakeObject_2(
+        returnValue: _i6.Future<Object>.value(_FakeObject_2(
           this,
           Invocation.method(
             #runJavaScriptReturningResult,
             [javaScript],
           ),
         )),
-      ) as _i5.Future<Object>);
+      ) as _i6.Future<Object>);
 
   @override
-  _i5.Future<void> addJavaScriptChannel(
+  _i6.Future<void> addJavaScriptChannel(
           _i3.JavaScriptChannelParams? javaScriptChannelParams) =>
       (super.noSuchMethod(
         Invocation.method(
           #addJavaScriptChannel,
           [javaScriptChannelParams],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
-  _i5.Future<void> removeJavaScriptChannel(String? javaScriptChannelName) =>
+  _i6.Future<void> removeJavaScriptChannel(String? javaScriptChannelName) =>
       (super.noSuchMethod(
         Invocation.method(
           #removeJavaScriptChannel,
           [javaScriptChannelName],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
-  _i5.Future<String?> getTitle() => (super.noSuchMethod(
+  _i6.Future<String?> getTitle() => (super.noSuchMethod(
         Invocation.method(
           #getTitle,
           [],
         ),
-        returnValue: _i5.Future<String?>.value(),
-      ) as _i5.Future<String?>);
+        returnValue: _i6.Future<String?>.value(),
+      ) as _i6.Future<String?>);
 
   @override
-  _i5.Future<void> scrollTo(
+  _i6.Future<void> scrollTo(
     int? x,
     int? y,
   ) =>
@@ -366,12 +378,12 @@ class MockAndroidWebViewController extends _i1.Mock
             y,
           ],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
-  _i5.Future<void> scrollBy(
+  _i6.Future<void> scrollBy(
     int? x,
     int? y,
   ) =>
@@ -383,114 +395,114 @@ class MockAndroidWebViewController extends _i1.Mock
             y,
           ],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
-  _i5.Future<_i4.Offset> getScrollPosition() => (super.noSuchMethod(
+  _i6.Future<_i4.Offset> getScrollPosition() => (super.noSuchMethod(
         Invocation.method(
           #getScrollPosition,
           [],
         ),
-        returnValue: _i5.Future<_i4.Offset>.value(_FakeOffset_3(
+        returnValue: _i6.Future<_i4.Offset>.value(_FakeOffset_3(
           this,
           Invocation.method(
             #getScrollPosition,
             [],
           ),
         )),
-      ) as _i5.Future<_i4.Offset>);
+      ) as _i6.Future<_i4.Offset>);
 
   @override
-  _i5.Future<void> enableZoom(bool? enabled) => (super.noSuchMethod(
+  _i6.Future<void> enableZoom(bool? enabled) => (super.noSuchMethod(
         Invocation.method(
           #enableZoom,
           [enabled],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
-  _i5.Future<void> setBackgroundColor(_i4.Color? color) => (super.noSuchMethod(
+  _i6.Future<void> setBackgroundColor(_i4.Color? color) => (super.noSuchMethod(
         Invocation.method(
           #setBackgroundColor,
           [color],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
-  _i5.Future<void> setJavaScriptMode(_i3.JavaScriptMode? javaScriptMode) =>
+  _i6.Future<void> setJavaScriptMode(_i3.JavaScriptMode? javaScriptMode) =>
       (super.noSuchMethod(
         Invocation.method(
           #setJavaScriptMode,
           [javaScriptMode],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
-  _i5.Future<void> setUserAgent(String? userAgent) => (super.noSuchMethod(
+  _i6.Future<void> setUserAgent(String? userAgent) => (super.noSuchMethod(
         Invocation.method(
           #setUserAgent,
           [userAgent],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
-  _i5.Future<void> setOnScrollPositionChange(
+  _i6.Future<void> setOnScrollPositionChange(
           void Function(_i3.ScrollPositionChange)? onScrollPositionChange) =>
       (super.noSuchMethod(
         Invocation.method(
           #setOnScrollPositionChange,
           [onScrollPositionChange],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
-  _i5.Future<void> setMediaPlaybackRequiresUserGesture(bool? require) =>
+  _i6.Future<void> setMediaPlaybackRequiresUserGesture(bool? require) =>
       (super.noSuchMethod(
         Invocation.method(
           #setMediaPlaybackRequiresUserGesture,
           [require],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
-  _i5.Future<void> setTextZoom(int? textZoom) => (super.noSuchMethod(
+  _i6.Future<void> setTextZoom(int? textZoom) => (super.noSuchMethod(
         Invocation.method(
           #setTextZoom,
           [textZoom],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
-  _i5.Future<void> setOnShowFileSelector(
-          _i5.Future<List<String>> Function(_i6.FileSelectorParams)?
+  _i6.Future<void> setOnShowFileSelector(
+          _i6.Future<List<String>> Function(_i7.FileSelectorParams)?
               onShowFileSelector) =>
       (super.noSuchMethod(
         Invocation.method(
           #setOnShowFileSelector,
           [onShowFileSelector],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
-  _i5.Future<void> setOnPlatformPermissionRequest(
+  _i6.Future<void> setOnPlatformPermissionRequest(
           void Function(_i3.PlatformWebViewPermissionRequest)?
               onPermissionRequest) =>
       (super.noSuchMethod(
@@ -498,14 +510,14 @@ class MockAndroidWebViewController extends _i1.Mock
           #setOnPlatformPermissionRequest,
           [onPermissionRequest],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
-  _i5.Future<void> setGeolocationPermissionsPromptCallbacks({
-    _i6.OnGeolocationPermissionsShowPrompt? onShowPrompt,
-    _i6.OnGeolocationPermissionsHidePrompt? onHidePrompt,
+  _i6.Future<void> setGeolocationPermissionsPromptCallbacks({
+    _i7.OnGeolocationPermissionsShowPrompt? onShowPrompt,
+    _i7.OnGeolocationPermissionsHidePrompt? onHidePrompt,
   }) =>
       (super.noSuchMethod(
         Invocation.method(
@@ -516,14 +528,14 @@ class MockAndroidWebViewController extends _i1.Mock
             #onHidePrompt: onHidePrompt,
           },
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
-  _i5.Future<void> setCustomWidgetCallbacks({
-    required _i6.OnShowCustomWidgetCallback? onShowCustomWidget,
-    required _i6.OnHideCustomWidgetCallback? onHideCustomWidget,
+  _i6.Future<void> setCustomWidgetCallbacks({
+    required _i7.OnShowCustomWidgetCallback? onShowCustomWidget,
+    required _i7.OnHideCustomWidgetCallback? onHideCustomWidget,
   }) =>
       (super.noSuchMethod(
         Invocation.method(
@@ -534,76 +546,76 @@ class MockAndroidWebViewController extends _i1.Mock
             #onHideCustomWidget: onHideCustomWidget,
           },
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
-  _i5.Future<void> setOnConsoleMessage(
+  _i6.Future<void> setOnConsoleMessage(
           void Function(_i3.JavaScriptConsoleMessage)? onConsoleMessage) =>
       (super.noSuchMethod(
         Invocation.method(
           #setOnConsoleMessage,
           [onConsoleMessage],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
-  _i5.Future<String?> getUserAgent() => (super.noSuchMethod(
+  _i6.Future<String?> getUserAgent() => (super.noSuchMethod(
         Invocation.method(
           #getUserAgent,
           [],
         ),
-        returnValue: _i5.Future<String?>.value(),
-      ) as _i5.Future<String?>);
+        returnValue: _i6.Future<String?>.value(),
+      ) as _i6.Future<String?>);
 
   @override
-  _i5.Future<void> setOnJavaScriptAlertDialog(
-          _i5.Future<void> Function(_i3.JavaScriptAlertDialogRequest)?
+  _i6.Future<void> setOnJavaScriptAlertDialog(
+          _i6.Future<void> Function(_i3.JavaScriptAlertDialogRequest)?
               onJavaScriptAlertDialog) =>
       (super.noSuchMethod(
         Invocation.method(
           #setOnJavaScriptAlertDialog,
           [onJavaScriptAlertDialog],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
-  _i5.Future<void> setOnJavaScriptConfirmDialog(
-          _i5.Future<bool> Function(_i3.JavaScriptConfirmDialogRequest)?
+  _i6.Future<void> setOnJavaScriptConfirmDialog(
+          _i6.Future<bool> Function(_i3.JavaScriptConfirmDialogRequest)?
               onJavaScriptConfirmDialog) =>
       (super.noSuchMethod(
         Invocation.method(
           #setOnJavaScriptConfirmDialog,
           [onJavaScriptConfirmDialog],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 
   @override
-  _i5.Future<void> setOnJavaScriptTextInputDialog(
-          _i5.Future<String> Function(_i3.JavaScriptTextInputDialogRequest)?
+  _i6.Future<void> setOnJavaScriptTextInputDialog(
+          _i6.Future<String> Function(_i3.JavaScriptTextInputDialogRequest)?
               onJavaScriptTextInputDialog) =>
       (super.noSuchMethod(
         Invocation.method(
           #setOnJavaScriptTextInputDialog,
           [onJavaScriptTextInputDialog],
         ),
-        returnValue: _i5.Future<void>.value(),
-        returnValueForMissingStub: _i5.Future<void>.value(),
-      ) as _i5.Future<void>);
+        returnValue: _i6.Future<void>.value(),
+        returnValueForMissingStub: _i6.Future<void>.value(),
+      ) as _i6.Future<void>);
 }
 
 /// A class which mocks [TestInstanceManagerHostApi].
 ///
 /// See the documentation for Mockito's code generation for more information.
 class MockTestInstanceManagerHostApi extends _i1.Mock
-    implements _i7.TestInstanceManagerHostApi {
+    implements _i8.TestInstanceManagerHostApi {
   MockTestInstanceManagerHostApi() {
     _i1.throwOnMissingStub(this);
   }
@@ -616,4 +628,28 @@ class MockTestInstanceManagerHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+
+  @override
+  _i5.InstanceManagerStatsData getStats() => (super.noSuchMethod(
+        Invocation.method(
+          #getStats,
+          [],
+        ),
+        returnValue: _FakeInstanceManagerStatsData_4(
+          this,
+          Invocation.method(
+            #getStats,
+            [],
+          ),
+        ),
+      ) as _i5.InstanceManagerStatsData);
+
+  @override
+  void setStatsLogInterval(int? intervalMillis) => super.noSuchMethod(
+        Invocation.method(
+          #setStatsLogInterval,
+          [intervalMillis],
+        ),
+        returnValueForMissingStub: null,
+      );
 }
@@ -110,6 +110,17 @@ class _FakeWebViewClient_7 extends _i1.SmartFake implements _i2.WebViewClient {
         );
 }
 
+class _FakeInstanceManagerStatsData_8 extends _i1.SmartFake
+    implements _i3.InstanceManagerStatsData {
+  _FakeInstanceManagerStatsData_8(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
 /// A class which mocks [CookieManagerHostApi].
 ///
 /// See the documentation for Mockito's code generation for more information.
@@ -414,6 +425,30 @@ class MockTestInstanceManagerHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+
+  @override
+  _i3.InstanceManagerStatsData getStats() => (super.noSuchMethod(
+        Invocation.method(
+          #getStats,
+          [],
+        ),
+        returnValue: _FakeInstanceManagerStatsData_8(
+          this,
+          Invocation.method(
+            #getStats,
+            [],
+          ),
+        ),
+      ) as _i3.InstanceManagerStatsData);
+
+  @override
+  void setStatsLogInterval(int? intervalMillis) => super.noSuchMethod(
+        Invocation.method(
+          #setStatsLogInterval,
+          [intervalMillis],
+        ),
+        returnValueForMissingStub: null,
+      );
 }
 
 /// A class which mocks [TestJavaObjectHostApi].
@@ -13,17 +13,47 @@ import 'package:flutter_test/flutter_test.dart';
 
 import 'package:webview_flutter_android/src/android_webview.g.dart';
 
+class _TestInstanceManagerHostApiCodec extends StandardMessageCodec {
+  const _TestInstanceManagerHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is InstanceManagerStatsData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return InstanceManagerStatsData.decode(readValue(buffer)!);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
 /// Host API for managing the native `InstanceManager`.
 abstract class TestInstanceManagerHostApi {
   static TestDefaultBinaryMessengerBinding? get _testBinaryMessengerBinding =>
       TestDefaultBinaryMessengerBinding.instance;
-  static const MessageCodec<Object?> codec = StandardMessageCodec();
+  static const MessageCodec<Object?> codec = _TestInstanceManagerHostApiCodec();
 
   /// Clear the native `InstanceManager`.
   ///
   /// This is typically only used after a hot restart.
   void clear();
 
+  /// Counts the instances held by the native `InstanceManager`.
+  InstanceManagerStatsData getStats();
+
+  /// Logs the stats of the native `InstanceManager` every [intervalMillis]
+  /// milliseconds, or stops logging them when [intervalMillis] is 0.
+  void setStatsLogInterval(int intervalMillis);
+
   static void setup(TestInstanceManagerHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -44,6 +74,47 @@ abstract class TestInstanceManagerHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.InstanceManagerHostApi.getStats',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          // ignore message
+          final InstanceManagerStatsData output = api.getStats();
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.InstanceManagerHostApi.setStatsLogInterval',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.InstanceManagerHostApi.setStatsLogInterval was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_intervalMillis = (args[0] as int?);
+          assert(arg_intervalMillis != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.InstanceManagerHostApi.setStatsLogInterval was null, expected non-null int.');
+          api.setStatsLogInterval(arg_intervalMillis!);
+          return <Object?>[];
+        });
+      }
+    }
   }
 }
 